@@ -19,6 +19,10 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
   private static final org.apache.thrift.protocol.TField POS_DELETE_FILES_FIELD_DESC = new org.apache.thrift.protocol.TField("posDeleteFiles", org.apache.thrift.protocol.TType.LIST, (short)6);
   private static final org.apache.thrift.protocol.TField SOURCE_NODES_FIELD_DESC = new org.apache.thrift.protocol.TField("sourceNodes", org.apache.thrift.protocol.TType.LIST, (short)7);
   private static final org.apache.thrift.protocol.TField PROPERTIES_FIELD_DESC = new org.apache.thrift.protocol.TField("properties", org.apache.thrift.protocol.TType.MAP, (short)8);
+  private static final org.apache.thrift.protocol.TField INSERT_FILE_LIST_FIELD_DESC = new org.apache.thrift.protocol.TField("insertFileList", org.apache.thrift.protocol.TType.STRING, (short)9);
+  private static final org.apache.thrift.protocol.TField DELETE_FILE_LIST_FIELD_DESC = new org.apache.thrift.protocol.TField("deleteFileList", org.apache.thrift.protocol.TType.STRING, (short)10);
+  private static final org.apache.thrift.protocol.TField BASE_FILE_LIST_FIELD_DESC = new org.apache.thrift.protocol.TField("baseFileList", org.apache.thrift.protocol.TType.STRING, (short)11);
+  private static final org.apache.thrift.protocol.TField POS_DELETE_FILE_LIST_FIELD_DESC = new org.apache.thrift.protocol.TField("posDeleteFileList", org.apache.thrift.protocol.TType.STRING, (short)12);
 
   private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new OptimizeTaskStandardSchemeFactory();
   private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new OptimizeTaskTupleSchemeFactory();
@@ -31,6 +35,10 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
   public @org.apache.thrift.annotation.Nullable java.util.List<java.nio.ByteBuffer> posDeleteFiles; // optional
   public @org.apache.thrift.annotation.Nullable java.util.List<TreeNode> sourceNodes; // optional
   public @org.apache.thrift.annotation.Nullable java.util.Map<String, String> properties; // optional
+  public @org.apache.thrift.annotation.Nullable java.nio.ByteBuffer insertFileList; // optional
+  public @org.apache.thrift.annotation.Nullable java.nio.ByteBuffer deleteFileList; // optional
+  public @org.apache.thrift.annotation.Nullable java.nio.ByteBuffer baseFileList; // optional
+  public @org.apache.thrift.annotation.Nullable java.nio.ByteBuffer posDeleteFileList; // optional
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -41,7 +49,11 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
     BASE_FILES((short)5, "baseFiles"),
     POS_DELETE_FILES((short)6, "posDeleteFiles"),
     SOURCE_NODES((short)7, "sourceNodes"),
-    PROPERTIES((short)8, "properties");
+    PROPERTIES((short)8, "properties"),
+    INSERT_FILE_LIST((short)9, "insertFileList"),
+    DELETE_FILE_LIST((short)10, "deleteFileList"),
+    BASE_FILE_LIST((short)11, "baseFileList"),
+    POS_DELETE_FILE_LIST((short)12, "posDeleteFileList");
 
     private static final java.util.Map<String, _Fields> byName = new java.util.HashMap<String, _Fields>();
 
@@ -73,6 +85,14 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
           return SOURCE_NODES;
         case 8: // PROPERTIES
           return PROPERTIES;
+        case 9: // INSERT_FILE_LIST
+          return INSERT_FILE_LIST;
+        case 10: // DELETE_FILE_LIST
+          return DELETE_FILE_LIST;
+        case 11: // BASE_FILE_LIST
+          return BASE_FILE_LIST;
+        case 12: // POS_DELETE_FILE_LIST
+          return POS_DELETE_FILE_LIST;
         default:
           return null;
       }
@@ -114,7 +134,7 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
   }
 
   // isset id assignments
-  private static final _Fields optionals[] = {_Fields.INSERT_FILES,_Fields.DELETE_FILES,_Fields.BASE_FILES,_Fields.POS_DELETE_FILES,_Fields.SOURCE_NODES,_Fields.PROPERTIES};
+  private static final _Fields optionals[] = {_Fields.INSERT_FILES,_Fields.DELETE_FILES,_Fields.BASE_FILES,_Fields.POS_DELETE_FILES,_Fields.SOURCE_NODES,_Fields.PROPERTIES,_Fields.INSERT_FILE_LIST,_Fields.DELETE_FILE_LIST,_Fields.BASE_FILE_LIST,_Fields.POS_DELETE_FILE_LIST};
   public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
@@ -141,6 +161,14 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
         new org.apache.thrift.meta_data.MapMetaData(org.apache.thrift.protocol.TType.MAP, 
             new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING), 
             new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING))));
+    tmpMap.put(_Fields.INSERT_FILE_LIST, new org.apache.thrift.meta_data.FieldMetaData("insertFileList", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING        , true)));
+    tmpMap.put(_Fields.DELETE_FILE_LIST, new org.apache.thrift.meta_data.FieldMetaData("deleteFileList", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING        , true)));
+    tmpMap.put(_Fields.BASE_FILE_LIST, new org.apache.thrift.meta_data.FieldMetaData("baseFileList", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING        , true)));
+    tmpMap.put(_Fields.POS_DELETE_FILE_LIST, new org.apache.thrift.meta_data.FieldMetaData("posDeleteFileList", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING        , true)));
     metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(OptimizeTask.class, metaDataMap);
   }
@@ -194,6 +222,18 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
       java.util.Map<String, String> __this__properties = new java.util.HashMap<String, String>(other.properties);
       this.properties = __this__properties;
     }
+    if (other.isSetInsertFileList()) {
+      this.insertFileList = org.apache.thrift.TBaseHelper.copyBinary(other.insertFileList);
+    }
+    if (other.isSetDeleteFileList()) {
+      this.deleteFileList = org.apache.thrift.TBaseHelper.copyBinary(other.deleteFileList);
+    }
+    if (other.isSetBaseFileList()) {
+      this.baseFileList = org.apache.thrift.TBaseHelper.copyBinary(other.baseFileList);
+    }
+    if (other.isSetPosDeleteFileList()) {
+      this.posDeleteFileList = org.apache.thrift.TBaseHelper.copyBinary(other.posDeleteFileList);
+    }
   }
 
   public OptimizeTask deepCopy() {
@@ -210,6 +250,10 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
     this.posDeleteFiles = null;
     this.sourceNodes = null;
     this.properties = null;
+    this.insertFileList = null;
+    this.deleteFileList = null;
+    this.baseFileList = null;
+    this.posDeleteFileList = null;
   }
 
   @org.apache.thrift.annotation.Nullable
@@ -503,6 +547,142 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
     }
   }
 
+  public byte[] getInsertFileList() {
+    setInsertFileList(org.apache.thrift.TBaseHelper.rightSize(insertFileList));
+    return insertFileList == null ? null : insertFileList.array();
+  }
+
+  public java.nio.ByteBuffer bufferForInsertFileList() {
+    return org.apache.thrift.TBaseHelper.copyBinary(insertFileList);
+  }
+
+  public OptimizeTask setInsertFileList(byte[] insertFileList) {
+    this.insertFileList = insertFileList == null ? (java.nio.ByteBuffer)null : java.nio.ByteBuffer.wrap(insertFileList.clone());
+    return this;
+  }
+
+  public OptimizeTask setInsertFileList(@org.apache.thrift.annotation.Nullable java.nio.ByteBuffer insertFileList) {
+    this.insertFileList = org.apache.thrift.TBaseHelper.copyBinary(insertFileList);
+    return this;
+  }
+
+  public void unsetInsertFileList() {
+    this.insertFileList = null;
+  }
+
+  /** Returns true if field insertFileList is set (has been assigned a value) and false otherwise */
+  public boolean isSetInsertFileList() {
+    return this.insertFileList != null;
+  }
+
+  public void setInsertFileListIsSet(boolean value) {
+    if (!value) {
+      this.insertFileList = null;
+    }
+  }
+
+  public byte[] getDeleteFileList() {
+    setDeleteFileList(org.apache.thrift.TBaseHelper.rightSize(deleteFileList));
+    return deleteFileList == null ? null : deleteFileList.array();
+  }
+
+  public java.nio.ByteBuffer bufferForDeleteFileList() {
+    return org.apache.thrift.TBaseHelper.copyBinary(deleteFileList);
+  }
+
+  public OptimizeTask setDeleteFileList(byte[] deleteFileList) {
+    this.deleteFileList = deleteFileList == null ? (java.nio.ByteBuffer)null : java.nio.ByteBuffer.wrap(deleteFileList.clone());
+    return this;
+  }
+
+  public OptimizeTask setDeleteFileList(@org.apache.thrift.annotation.Nullable java.nio.ByteBuffer deleteFileList) {
+    this.deleteFileList = org.apache.thrift.TBaseHelper.copyBinary(deleteFileList);
+    return this;
+  }
+
+  public void unsetDeleteFileList() {
+    this.deleteFileList = null;
+  }
+
+  /** Returns true if field deleteFileList is set (has been assigned a value) and false otherwise */
+  public boolean isSetDeleteFileList() {
+    return this.deleteFileList != null;
+  }
+
+  public void setDeleteFileListIsSet(boolean value) {
+    if (!value) {
+      this.deleteFileList = null;
+    }
+  }
+
+  public byte[] getBaseFileList() {
+    setBaseFileList(org.apache.thrift.TBaseHelper.rightSize(baseFileList));
+    return baseFileList == null ? null : baseFileList.array();
+  }
+
+  public java.nio.ByteBuffer bufferForBaseFileList() {
+    return org.apache.thrift.TBaseHelper.copyBinary(baseFileList);
+  }
+
+  public OptimizeTask setBaseFileList(byte[] baseFileList) {
+    this.baseFileList = baseFileList == null ? (java.nio.ByteBuffer)null : java.nio.ByteBuffer.wrap(baseFileList.clone());
+    return this;
+  }
+
+  public OptimizeTask setBaseFileList(@org.apache.thrift.annotation.Nullable java.nio.ByteBuffer baseFileList) {
+    this.baseFileList = org.apache.thrift.TBaseHelper.copyBinary(baseFileList);
+    return this;
+  }
+
+  public void unsetBaseFileList() {
+    this.baseFileList = null;
+  }
+
+  /** Returns true if field baseFileList is set (has been assigned a value) and false otherwise */
+  public boolean isSetBaseFileList() {
+    return this.baseFileList != null;
+  }
+
+  public void setBaseFileListIsSet(boolean value) {
+    if (!value) {
+      this.baseFileList = null;
+    }
+  }
+
+  public byte[] getPosDeleteFileList() {
+    setPosDeleteFileList(org.apache.thrift.TBaseHelper.rightSize(posDeleteFileList));
+    return posDeleteFileList == null ? null : posDeleteFileList.array();
+  }
+
+  public java.nio.ByteBuffer bufferForPosDeleteFileList() {
+    return org.apache.thrift.TBaseHelper.copyBinary(posDeleteFileList);
+  }
+
+  public OptimizeTask setPosDeleteFileList(byte[] posDeleteFileList) {
+    this.posDeleteFileList = posDeleteFileList == null ? (java.nio.ByteBuffer)null : java.nio.ByteBuffer.wrap(posDeleteFileList.clone());
+    return this;
+  }
+
+  public OptimizeTask setPosDeleteFileList(@org.apache.thrift.annotation.Nullable java.nio.ByteBuffer posDeleteFileList) {
+    this.posDeleteFileList = org.apache.thrift.TBaseHelper.copyBinary(posDeleteFileList);
+    return this;
+  }
+
+  public void unsetPosDeleteFileList() {
+    this.posDeleteFileList = null;
+  }
+
+  /** Returns true if field posDeleteFileList is set (has been assigned a value) and false otherwise */
+  public boolean isSetPosDeleteFileList() {
+    return this.posDeleteFileList != null;
+  }
+
+  public void setPosDeleteFileListIsSet(boolean value) {
+    if (!value) {
+      this.posDeleteFileList = null;
+    }
+  }
+
   public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable Object value) {
     switch (field) {
     case TASK_ID:
@@ -569,6 +749,54 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
       }
       break;
 
+    case INSERT_FILE_LIST:
+      if (value == null) {
+        unsetInsertFileList();
+      } else {
+        if (value instanceof byte[]) {
+          setInsertFileList((byte[])value);
+        } else {
+          setInsertFileList((java.nio.ByteBuffer)value);
+        }
+      }
+      break;
+
+    case DELETE_FILE_LIST:
+      if (value == null) {
+        unsetDeleteFileList();
+      } else {
+        if (value instanceof byte[]) {
+          setDeleteFileList((byte[])value);
+        } else {
+          setDeleteFileList((java.nio.ByteBuffer)value);
+        }
+      }
+      break;
+
+    case BASE_FILE_LIST:
+      if (value == null) {
+        unsetBaseFileList();
+      } else {
+        if (value instanceof byte[]) {
+          setBaseFileList((byte[])value);
+        } else {
+          setBaseFileList((java.nio.ByteBuffer)value);
+        }
+      }
+      break;
+
+    case POS_DELETE_FILE_LIST:
+      if (value == null) {
+        unsetPosDeleteFileList();
+      } else {
+        if (value instanceof byte[]) {
+          setPosDeleteFileList((byte[])value);
+        } else {
+          setPosDeleteFileList((java.nio.ByteBuffer)value);
+        }
+      }
+      break;
+
     }
   }
 
@@ -599,6 +827,18 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
     case PROPERTIES:
       return getProperties();
 
+    case INSERT_FILE_LIST:
+      return getInsertFileList();
+
+    case DELETE_FILE_LIST:
+      return getDeleteFileList();
+
+    case BASE_FILE_LIST:
+      return getBaseFileList();
+
+    case POS_DELETE_FILE_LIST:
+      return getPosDeleteFileList();
+
     }
     throw new IllegalStateException();
   }
@@ -626,6 +866,14 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
       return isSetSourceNodes();
     case PROPERTIES:
       return isSetProperties();
+    case INSERT_FILE_LIST:
+      return isSetInsertFileList();
+    case DELETE_FILE_LIST:
+      return isSetDeleteFileList();
+    case BASE_FILE_LIST:
+      return isSetBaseFileList();
+    case POS_DELETE_FILE_LIST:
+      return isSetPosDeleteFileList();
     }
     throw new IllegalStateException();
   }
@@ -717,6 +965,42 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
         return false;
     }
 
+    boolean this_present_insertFileList = true && this.isSetInsertFileList();
+    boolean that_present_insertFileList = true && that.isSetInsertFileList();
+    if (this_present_insertFileList || that_present_insertFileList) {
+      if (!(this_present_insertFileList && that_present_insertFileList))
+        return false;
+      if (!this.insertFileList.equals(that.insertFileList))
+        return false;
+    }
+
+    boolean this_present_deleteFileList = true && this.isSetDeleteFileList();
+    boolean that_present_deleteFileList = true && that.isSetDeleteFileList();
+    if (this_present_deleteFileList || that_present_deleteFileList) {
+      if (!(this_present_deleteFileList && that_present_deleteFileList))
+        return false;
+      if (!this.deleteFileList.equals(that.deleteFileList))
+        return false;
+    }
+
+    boolean this_present_baseFileList = true && this.isSetBaseFileList();
+    boolean that_present_baseFileList = true && that.isSetBaseFileList();
+    if (this_present_baseFileList || that_present_baseFileList) {
+      if (!(this_present_baseFileList && that_present_baseFileList))
+        return false;
+      if (!this.baseFileList.equals(that.baseFileList))
+        return false;
+    }
+
+    boolean this_present_posDeleteFileList = true && this.isSetPosDeleteFileList();
+    boolean that_present_posDeleteFileList = true && that.isSetPosDeleteFileList();
+    if (this_present_posDeleteFileList || that_present_posDeleteFileList) {
+      if (!(this_present_posDeleteFileList && that_present_posDeleteFileList))
+        return false;
+      if (!this.posDeleteFileList.equals(that.posDeleteFileList))
+        return false;
+    }
+
     return true;
   }
 
@@ -756,6 +1040,22 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
     if (isSetProperties())
       hashCode = hashCode * 8191 + properties.hashCode();
 
+    hashCode = hashCode * 8191 + ((isSetInsertFileList()) ? 131071 : 524287);
+    if (isSetInsertFileList())
+      hashCode = hashCode * 8191 + insertFileList.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetDeleteFileList()) ? 131071 : 524287);
+    if (isSetDeleteFileList())
+      hashCode = hashCode * 8191 + deleteFileList.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetBaseFileList()) ? 131071 : 524287);
+    if (isSetBaseFileList())
+      hashCode = hashCode * 8191 + baseFileList.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetPosDeleteFileList()) ? 131071 : 524287);
+    if (isSetPosDeleteFileList())
+      hashCode = hashCode * 8191 + posDeleteFileList.hashCode();
+
     return hashCode;
   }
 
@@ -847,6 +1147,46 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
         return lastComparison;
       }
     }
+    lastComparison = Boolean.valueOf(isSetInsertFileList()).compareTo(other.isSetInsertFileList());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetInsertFileList()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.insertFileList, other.insertFileList);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetDeleteFileList()).compareTo(other.isSetDeleteFileList());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetDeleteFileList()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.deleteFileList, other.deleteFileList);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetBaseFileList()).compareTo(other.isSetBaseFileList());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetBaseFileList()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.baseFileList, other.baseFileList);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetPosDeleteFileList()).compareTo(other.isSetPosDeleteFileList());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetPosDeleteFileList()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.posDeleteFileList, other.posDeleteFileList);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -943,6 +1283,46 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
       }
       first = false;
     }
+    if (isSetInsertFileList()) {
+      if (!first) sb.append(", ");
+      sb.append("insertFileList:");
+      if (this.insertFileList == null) {
+        sb.append("null");
+      } else {
+        org.apache.thrift.TBaseHelper.toString(this.insertFileList, sb);
+      }
+      first = false;
+    }
+    if (isSetDeleteFileList()) {
+      if (!first) sb.append(", ");
+      sb.append("deleteFileList:");
+      if (this.deleteFileList == null) {
+        sb.append("null");
+      } else {
+        org.apache.thrift.TBaseHelper.toString(this.deleteFileList, sb);
+      }
+      first = false;
+    }
+    if (isSetBaseFileList()) {
+      if (!first) sb.append(", ");
+      sb.append("baseFileList:");
+      if (this.baseFileList == null) {
+        sb.append("null");
+      } else {
+        org.apache.thrift.TBaseHelper.toString(this.baseFileList, sb);
+      }
+      first = false;
+    }
+    if (isSetPosDeleteFileList()) {
+      if (!first) sb.append(", ");
+      sb.append("posDeleteFileList:");
+      if (this.posDeleteFileList == null) {
+        sb.append("null");
+      } else {
+        org.apache.thrift.TBaseHelper.toString(this.posDeleteFileList, sb);
+      }
+      first = false;
+    }
     sb.append(")");
     return sb.toString();
   }
@@ -1118,6 +1498,38 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 9: // INSERT_FILE_LIST
+            if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+              struct.insertFileList = iprot.readBinary();
+              struct.setInsertFileListIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 10: // DELETE_FILE_LIST
+            if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+              struct.deleteFileList = iprot.readBinary();
+              struct.setDeleteFileListIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 11: // BASE_FILE_LIST
+            if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+              struct.baseFileList = iprot.readBinary();
+              struct.setBaseFileListIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 12: // POS_DELETE_FILE_LIST
+            if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+              struct.posDeleteFileList = iprot.readBinary();
+              struct.setPosDeleteFileListIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -1228,6 +1640,34 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
           oprot.writeFieldEnd();
         }
       }
+      if (struct.insertFileList != null) {
+        if (struct.isSetInsertFileList()) {
+          oprot.writeFieldBegin(INSERT_FILE_LIST_FIELD_DESC);
+          oprot.writeBinary(struct.insertFileList);
+          oprot.writeFieldEnd();
+        }
+      }
+      if (struct.deleteFileList != null) {
+        if (struct.isSetDeleteFileList()) {
+          oprot.writeFieldBegin(DELETE_FILE_LIST_FIELD_DESC);
+          oprot.writeBinary(struct.deleteFileList);
+          oprot.writeFieldEnd();
+        }
+      }
+      if (struct.baseFileList != null) {
+        if (struct.isSetBaseFileList()) {
+          oprot.writeFieldBegin(BASE_FILE_LIST_FIELD_DESC);
+          oprot.writeBinary(struct.baseFileList);
+          oprot.writeFieldEnd();
+        }
+      }
+      if (struct.posDeleteFileList != null) {
+        if (struct.isSetPosDeleteFileList()) {
+          oprot.writeFieldBegin(POS_DELETE_FILE_LIST_FIELD_DESC);
+          oprot.writeBinary(struct.posDeleteFileList);
+          oprot.writeFieldEnd();
+        }
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -1270,7 +1710,19 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
       if (struct.isSetProperties()) {
         optionals.set(7);
       }
-      oprot.writeBitSet(optionals, 8);
+      if (struct.isSetInsertFileList()) {
+        optionals.set(8);
+      }
+      if (struct.isSetDeleteFileList()) {
+        optionals.set(9);
+      }
+      if (struct.isSetBaseFileList()) {
+        optionals.set(10);
+      }
+      if (struct.isSetPosDeleteFileList()) {
+        optionals.set(11);
+      }
+      oprot.writeBitSet(optionals, 12);
       if (struct.isSetTaskId()) {
         struct.taskId.write(oprot);
       }
@@ -1332,12 +1784,24 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
           }
         }
       }
+      if (struct.isSetInsertFileList()) {
+        oprot.writeBinary(struct.insertFileList);
+      }
+      if (struct.isSetDeleteFileList()) {
+        oprot.writeBinary(struct.deleteFileList);
+      }
+      if (struct.isSetBaseFileList()) {
+        oprot.writeBinary(struct.baseFileList);
+      }
+      if (struct.isSetPosDeleteFileList()) {
+        oprot.writeBinary(struct.posDeleteFileList);
+      }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, OptimizeTask struct) throws org.apache.thrift.TException {
       org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-      java.util.BitSet incoming = iprot.readBitSet(8);
+      java.util.BitSet incoming = iprot.readBitSet(12);
       if (incoming.get(0)) {
         struct.taskId = new OptimizeTaskId();
         struct.taskId.read(iprot);
@@ -1429,6 +1893,22 @@ public class OptimizeTask implements org.apache.thrift.TBase<OptimizeTask, Optim
         }
         struct.setPropertiesIsSet(true);
       }
+      if (incoming.get(8)) {
+        struct.insertFileList = iprot.readBinary();
+        struct.setInsertFileListIsSet(true);
+      }
+      if (incoming.get(9)) {
+        struct.deleteFileList = iprot.readBinary();
+        struct.setDeleteFileListIsSet(true);
+      }
+      if (incoming.get(10)) {
+        struct.baseFileList = iprot.readBinary();
+        struct.setBaseFileListIsSet(true);
+      }
+      if (incoming.get(11)) {
+        struct.posDeleteFileList = iprot.readBinary();
+        struct.setPosDeleteFileListIsSet(true);
+      }
     }
   }
 
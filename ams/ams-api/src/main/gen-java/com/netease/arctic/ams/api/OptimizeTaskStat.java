@@ -21,6 +21,8 @@ public class OptimizeTaskStat implements org.apache.thrift.TBase<OptimizeTaskSta
   private static final org.apache.thrift.protocol.TField NEW_FILE_SIZE_FIELD_DESC = new org.apache.thrift.protocol.TField("newFileSize", org.apache.thrift.protocol.TType.I64, (short)8);
   private static final org.apache.thrift.protocol.TField REPORT_TIME_FIELD_DESC = new org.apache.thrift.protocol.TField("reportTime", org.apache.thrift.protocol.TType.I64, (short)9);
   private static final org.apache.thrift.protocol.TField COST_TIME_FIELD_DESC = new org.apache.thrift.protocol.TField("costTime", org.apache.thrift.protocol.TType.I64, (short)10);
+  private static final org.apache.thrift.protocol.TField FILE_LIST_FIELD_DESC = new org.apache.thrift.protocol.TField("fileList", org.apache.thrift.protocol.TType.STRING, (short)11);
+  private static final org.apache.thrift.protocol.TField METRICS_FIELD_DESC = new org.apache.thrift.protocol.TField("metrics", org.apache.thrift.protocol.TType.MAP, (short)12);
 
   private static final org.apache.thrift.scheme.SchemeFactory STANDARD_SCHEME_FACTORY = new OptimizeTaskStatStandardSchemeFactory();
   private static final org.apache.thrift.scheme.SchemeFactory TUPLE_SCHEME_FACTORY = new OptimizeTaskStatTupleSchemeFactory();
@@ -35,6 +37,8 @@ public class OptimizeTaskStat implements org.apache.thrift.TBase<OptimizeTaskSta
   public long newFileSize; // optional
   public long reportTime; // required
   public long costTime; // required
+  public @org.apache.thrift.annotation.Nullable java.nio.ByteBuffer fileList; // optional
+  public @org.apache.thrift.annotation.Nullable java.util.Map<java.lang.String,java.lang.Long> metrics; // optional
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -47,7 +51,9 @@ public class OptimizeTaskStat implements org.apache.thrift.TBase<OptimizeTaskSta
     ERROR_MESSAGE((short)7, "errorMessage"),
     NEW_FILE_SIZE((short)8, "newFileSize"),
     REPORT_TIME((short)9, "reportTime"),
-    COST_TIME((short)10, "costTime");
+    COST_TIME((short)10, "costTime"),
+    FILE_LIST((short)11, "fileList"),
+    METRICS((short)12, "metrics");
 
     private static final java.util.Map<java.lang.String, _Fields> byName = new java.util.HashMap<java.lang.String, _Fields>();
 
@@ -83,6 +89,10 @@ public class OptimizeTaskStat implements org.apache.thrift.TBase<OptimizeTaskSta
           return REPORT_TIME;
         case 10: // COST_TIME
           return COST_TIME;
+        case 11: // FILE_LIST
+          return FILE_LIST;
+        case 12: // METRICS
+          return METRICS;
         default:
           return null;
       }
@@ -128,7 +138,7 @@ public class OptimizeTaskStat implements org.apache.thrift.TBase<OptimizeTaskSta
   private static final int __REPORTTIME_ISSET_ID = 1;
   private static final int __COSTTIME_ISSET_ID = 2;
   private byte __isset_bitfield = 0;
-  private static final _Fields optionals[] = {_Fields.ATTEMPT_ID,_Fields.TASK_ID,_Fields.STATUS,_Fields.FILES,_Fields.ERROR_MESSAGE,_Fields.NEW_FILE_SIZE};
+  private static final _Fields optionals[] = {_Fields.ATTEMPT_ID,_Fields.TASK_ID,_Fields.STATUS,_Fields.FILES,_Fields.ERROR_MESSAGE,_Fields.NEW_FILE_SIZE,_Fields.FILE_LIST,_Fields.METRICS};
   public static final java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     java.util.Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new java.util.EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
@@ -153,6 +163,12 @@ public class OptimizeTaskStat implements org.apache.thrift.TBase<OptimizeTaskSta
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
     tmpMap.put(_Fields.COST_TIME, new org.apache.thrift.meta_data.FieldMetaData("costTime", org.apache.thrift.TFieldRequirementType.DEFAULT, 
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+    tmpMap.put(_Fields.FILE_LIST, new org.apache.thrift.meta_data.FieldMetaData("fileList", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING        , true)));
+    tmpMap.put(_Fields.METRICS, new org.apache.thrift.meta_data.FieldMetaData("metrics", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.MapMetaData(org.apache.thrift.protocol.TType.MAP, 
+            new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING), 
+            new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64))));
     metaDataMap = java.util.Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(OptimizeTaskStat.class, metaDataMap);
   }
@@ -205,6 +221,13 @@ public class OptimizeTaskStat implements org.apache.thrift.TBase<OptimizeTaskSta
     this.newFileSize = other.newFileSize;
     this.reportTime = other.reportTime;
     this.costTime = other.costTime;
+    if (other.isSetFileList()) {
+      this.fileList = org.apache.thrift.TBaseHelper.copyBinary(other.fileList);
+    }
+    if (other.isSetMetrics()) {
+      java.util.Map<java.lang.String,java.lang.Long> __this__metrics = new java.util.HashMap<java.lang.String,java.lang.Long>(other.metrics);
+      this.metrics = __this__metrics;
+    }
   }
 
   public OptimizeTaskStat deepCopy() {
@@ -226,6 +249,8 @@ public class OptimizeTaskStat implements org.apache.thrift.TBase<OptimizeTaskSta
     this.reportTime = 0;
     setCostTimeIsSet(false);
     this.costTime = 0;
+    this.fileList = null;
+    this.metrics = null;
   }
 
   @org.apache.thrift.annotation.Nullable
@@ -488,6 +513,76 @@ public class OptimizeTaskStat implements org.apache.thrift.TBase<OptimizeTaskSta
     __isset_bitfield = org.apache.thrift.EncodingUtils.setBit(__isset_bitfield, __COSTTIME_ISSET_ID, value);
   }
 
+  public byte[] getFileList() {
+    setFileList(org.apache.thrift.TBaseHelper.rightSize(fileList));
+    return fileList == null ? null : fileList.array();
+  }
+
+  public java.nio.ByteBuffer bufferForFileList() {
+    return org.apache.thrift.TBaseHelper.copyBinary(fileList);
+  }
+
+  public OptimizeTaskStat setFileList(byte[] fileList) {
+    this.fileList = fileList == null ? (java.nio.ByteBuffer)null : java.nio.ByteBuffer.wrap(fileList.clone());
+    return this;
+  }
+
+  public OptimizeTaskStat setFileList(@org.apache.thrift.annotation.Nullable java.nio.ByteBuffer fileList) {
+    this.fileList = org.apache.thrift.TBaseHelper.copyBinary(fileList);
+    return this;
+  }
+
+  public void unsetFileList() {
+    this.fileList = null;
+  }
+
+  /** Returns true if field fileList is set (has been assigned a value) and false otherwise */
+  public boolean isSetFileList() {
+    return this.fileList != null;
+  }
+
+  public void setFileListIsSet(boolean value) {
+    if (!value) {
+      this.fileList = null;
+    }
+  }
+
+  public int getMetricsSize() {
+    return (this.metrics == null) ? 0 : this.metrics.size();
+  }
+
+  public void putToMetrics(java.lang.String key, long val) {
+    if (this.metrics == null) {
+      this.metrics = new java.util.HashMap<java.lang.String,java.lang.Long>();
+    }
+    this.metrics.put(key, val);
+  }
+
+  @org.apache.thrift.annotation.Nullable
+  public java.util.Map<java.lang.String,java.lang.Long> getMetrics() {
+    return this.metrics;
+  }
+
+  public OptimizeTaskStat setMetrics(@org.apache.thrift.annotation.Nullable java.util.Map<java.lang.String,java.lang.Long> metrics) {
+    this.metrics = metrics;
+    return this;
+  }
+
+  public void unsetMetrics() {
+    this.metrics = null;
+  }
+
+  /** Returns true if field metrics is set (has been assigned a value) and false otherwise */
+  public boolean isSetMetrics() {
+    return this.metrics != null;
+  }
+
+  public void setMetricsIsSet(boolean value) {
+    if (!value) {
+      this.metrics = null;
+    }
+  }
+
   public void setFieldValue(_Fields field, @org.apache.thrift.annotation.Nullable java.lang.Object value) {
     switch (field) {
     case JOB_ID:
@@ -570,6 +665,26 @@ public class OptimizeTaskStat implements org.apache.thrift.TBase<OptimizeTaskSta
       }
       break;
 
+    case FILE_LIST:
+      if (value == null) {
+        unsetFileList();
+      } else {
+        if (value instanceof byte[]) {
+          setFileList((byte[])value);
+        } else {
+          setFileList((java.nio.ByteBuffer)value);
+        }
+      }
+      break;
+
+    case METRICS:
+      if (value == null) {
+        unsetMetrics();
+      } else {
+        setMetrics((java.util.Map<java.lang.String,java.lang.Long>)value);
+      }
+      break;
+
     }
   }
 
@@ -606,6 +721,12 @@ public class OptimizeTaskStat implements org.apache.thrift.TBase<OptimizeTaskSta
     case COST_TIME:
       return getCostTime();
 
+    case FILE_LIST:
+      return getFileList();
+
+    case METRICS:
+      return getMetrics();
+
     }
     throw new java.lang.IllegalStateException();
   }
@@ -637,6 +758,10 @@ public class OptimizeTaskStat implements org.apache.thrift.TBase<OptimizeTaskSta
       return isSetReportTime();
     case COST_TIME:
       return isSetCostTime();
+    case FILE_LIST:
+      return isSetFileList();
+    case METRICS:
+      return isSetMetrics();
     }
     throw new java.lang.IllegalStateException();
   }
@@ -746,6 +871,24 @@ public class OptimizeTaskStat implements org.apache.thrift.TBase<OptimizeTaskSta
         return false;
     }
 
+    boolean this_present_fileList = true && this.isSetFileList();
+    boolean that_present_fileList = true && that.isSetFileList();
+    if (this_present_fileList || that_present_fileList) {
+      if (!(this_present_fileList && that_present_fileList))
+        return false;
+      if (!this.fileList.equals(that.fileList))
+        return false;
+    }
+
+    boolean this_present_metrics = true && this.isSetMetrics();
+    boolean that_present_metrics = true && that.isSetMetrics();
+    if (this_present_metrics || that_present_metrics) {
+      if (!(this_present_metrics && that_present_metrics))
+        return false;
+      if (!this.metrics.equals(that.metrics))
+        return false;
+    }
+
     return true;
   }
 
@@ -789,6 +932,14 @@ public class OptimizeTaskStat implements org.apache.thrift.TBase<OptimizeTaskSta
 
     hashCode = hashCode * 8191 + org.apache.thrift.TBaseHelper.hashCode(costTime);
 
+    hashCode = hashCode * 8191 + ((isSetFileList()) ? 131071 : 524287);
+    if (isSetFileList())
+      hashCode = hashCode * 8191 + fileList.hashCode();
+
+    hashCode = hashCode * 8191 + ((isSetMetrics()) ? 131071 : 524287);
+    if (isSetMetrics())
+      hashCode = hashCode * 8191 + metrics.hashCode();
+
     return hashCode;
   }
 
@@ -900,6 +1051,26 @@ public class OptimizeTaskStat implements org.apache.thrift.TBase<OptimizeTaskSta
         return lastComparison;
       }
     }
+    lastComparison = java.lang.Boolean.valueOf(isSetFileList()).compareTo(other.isSetFileList());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetFileList()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.fileList, other.fileList);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = java.lang.Boolean.valueOf(isSetMetrics()).compareTo(other.isSetMetrics());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetMetrics()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.metrics, other.metrics);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -1000,6 +1171,26 @@ public class OptimizeTaskStat implements org.apache.thrift.TBase<OptimizeTaskSta
     sb.append("costTime:");
     sb.append(this.costTime);
     first = false;
+    if (isSetFileList()) {
+      if (!first) sb.append(", ");
+      sb.append("fileList:");
+      if (this.fileList == null) {
+        sb.append("null");
+      } else {
+        org.apache.thrift.TBaseHelper.toString(this.fileList, sb);
+      }
+      first = false;
+    }
+    if (isSetMetrics()) {
+      if (!first) sb.append(", ");
+      sb.append("metrics:");
+      if (this.metrics == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.metrics);
+      }
+      first = false;
+    }
     sb.append(")");
     return sb.toString();
   }
@@ -1148,6 +1339,34 @@ public class OptimizeTaskStat implements org.apache.thrift.TBase<OptimizeTaskSta
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 11: // FILE_LIST
+            if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+              struct.fileList = iprot.readBinary();
+              struct.setFileListIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 12: // METRICS
+            if (schemeField.type == org.apache.thrift.protocol.TType.MAP) {
+              {
+                org.apache.thrift.protocol.TMap _map58 = iprot.readMapBegin();
+                struct.metrics = new java.util.HashMap<java.lang.String,java.lang.Long>(2*_map58.size);
+                @org.apache.thrift.annotation.Nullable java.lang.String _key59;
+                long _val60;
+                for (int _i61 = 0; _i61 < _map58.size; ++_i61)
+                {
+                  _key59 = iprot.readString();
+                  _val60 = iprot.readI64();
+                  struct.metrics.put(_key59, _val60);
+                }
+                iprot.readMapEnd();
+              }
+              struct.setMetricsIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -1226,6 +1445,28 @@ public class OptimizeTaskStat implements org.apache.thrift.TBase<OptimizeTaskSta
       oprot.writeFieldBegin(COST_TIME_FIELD_DESC);
       oprot.writeI64(struct.costTime);
       oprot.writeFieldEnd();
+      if (struct.fileList != null) {
+        if (struct.isSetFileList()) {
+          oprot.writeFieldBegin(FILE_LIST_FIELD_DESC);
+          oprot.writeBinary(struct.fileList);
+          oprot.writeFieldEnd();
+        }
+      }
+      if (struct.metrics != null) {
+        if (struct.isSetMetrics()) {
+          oprot.writeFieldBegin(METRICS_FIELD_DESC);
+          {
+            oprot.writeMapBegin(new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.I64, struct.metrics.size()));
+            for (java.util.Map.Entry<java.lang.String, java.lang.Long> _iter62 : struct.metrics.entrySet())
+            {
+              oprot.writeString(_iter62.getKey());
+              oprot.writeI64(_iter62.getValue());
+            }
+            oprot.writeMapEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -1274,7 +1515,13 @@ public class OptimizeTaskStat implements org.apache.thrift.TBase<OptimizeTaskSta
       if (struct.isSetCostTime()) {
         optionals.set(9);
       }
-      oprot.writeBitSet(optionals, 10);
+      if (struct.isSetFileList()) {
+        optionals.set(10);
+      }
+      if (struct.isSetMetrics()) {
+        optionals.set(11);
+      }
+      oprot.writeBitSet(optionals, 12);
       if (struct.isSetJobId()) {
         struct.jobId.write(oprot);
       }
@@ -1311,12 +1558,25 @@ public class OptimizeTaskStat implements org.apache.thrift.TBase<OptimizeTaskSta
       if (struct.isSetCostTime()) {
         oprot.writeI64(struct.costTime);
       }
+      if (struct.isSetFileList()) {
+        oprot.writeBinary(struct.fileList);
+      }
+      if (struct.isSetMetrics()) {
+        {
+          oprot.writeI32(struct.metrics.size());
+          for (java.util.Map.Entry<java.lang.String, java.lang.Long> _iter63 : struct.metrics.entrySet())
+          {
+            oprot.writeString(_iter63.getKey());
+            oprot.writeI64(_iter63.getValue());
+          }
+        }
+      }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, OptimizeTaskStat struct) throws org.apache.thrift.TException {
       org.apache.thrift.protocol.TTupleProtocol iprot = (org.apache.thrift.protocol.TTupleProtocol) prot;
-      java.util.BitSet incoming = iprot.readBitSet(10);
+      java.util.BitSet incoming = iprot.readBitSet(12);
       if (incoming.get(0)) {
         struct.jobId = new JobId();
         struct.jobId.read(iprot);
@@ -1370,6 +1630,25 @@ public class OptimizeTaskStat implements org.apache.thrift.TBase<OptimizeTaskSta
         struct.costTime = iprot.readI64();
         struct.setCostTimeIsSet(true);
       }
+      if (incoming.get(10)) {
+        struct.fileList = iprot.readBinary();
+        struct.setFileListIsSet(true);
+      }
+      if (incoming.get(11)) {
+        {
+          org.apache.thrift.protocol.TMap _map64 = new org.apache.thrift.protocol.TMap(org.apache.thrift.protocol.TType.STRING, org.apache.thrift.protocol.TType.I64, iprot.readI32());
+          struct.metrics = new java.util.HashMap<java.lang.String,java.lang.Long>(2*_map64.size);
+          @org.apache.thrift.annotation.Nullable java.lang.String _key65;
+          long _val66;
+          for (int _i67 = 0; _i67 < _map64.size; ++_i67)
+          {
+            _key65 = iprot.readString();
+            _val66 = iprot.readI64();
+            struct.metrics.put(_key65, _val66);
+          }
+        }
+        struct.setMetricsIsSet(true);
+      }
     }
   }
 
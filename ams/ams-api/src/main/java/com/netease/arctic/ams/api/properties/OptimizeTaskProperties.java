@@ -6,4 +6,21 @@ public class OptimizeTaskProperties {
   public static final String CUSTOM_HIVE_SUB_DIRECTORY = "custom-hive-sub-directory";
   public static final String MAX_EXECUTE_TIME = "max-execute-time";
   public static final String MOVE_FILES_TO_HIVE_LOCATION = "move-files-to-hive-location";
+  public static final String PREDICTED_COST_TIME = "predicted-cost-time";
+
+  // keys of metrics of the executor reported with OptimizeTaskStat
+  public static final String METRICS_ROWS_READ = "rows-read";
+  public static final String METRICS_ROWS_WRITTEN = "rows-written";
+  public static final String METRICS_EQ_DELETED_ROWS = "eq-deleted-rows";
+  public static final String METRICS_POS_DELETED_ROWS = "pos-deleted-rows";
+  public static final String METRICS_DELETE_MAP_KEYS = "delete-map-keys";
+  public static final String METRICS_DELETE_MAP_SPILLED_BYTES = "delete-map-spilled-bytes";
+  public static final String METRICS_DELETE_MAP_BUILD_TIME = "delete-map-build-time-ms";
+  public static final String METRICS_POS_DELETES = "pos-deletes";
+  public static final String METRICS_FILES_READ = "files-read";
+  public static final String METRICS_FILES_WRITTEN = "files-written";
+  public static final String METRICS_READ_BYTES = "read-bytes";
+  public static final String METRICS_WRITE_BYTES = "write-bytes";
+  public static final String METRICS_READ_TIME = "read-time-ms";
+  public static final String METRICS_WRITE_TIME = "write-time-ms";
 }
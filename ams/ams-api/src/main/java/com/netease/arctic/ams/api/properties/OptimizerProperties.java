@@ -51,4 +51,17 @@ public class OptimizerProperties {
   public static final String SPILLABLE_MAP_ENABLE = "spillable.map.enabled";
   public static final String SPILLABLE_MAP_DIR = "spillable.map.dir";
   public static final String SPILLABLE_MEMORY_LIMIT = "spillable.memory.limit";
+
+  // local optimizer work-stealing properties
+  public static final String WORK_STEALING_ENABLE = "work-stealing.enabled";
+  public static final String WORK_STEALING_MEMORY_LIMIT = "work-stealing.memory.limit";
+
+  // flink optimizer elastic parallelism properties
+  public static final String ELASTIC_MIN_PARALLELISM = "elastic.min-parallelism";
+  public static final String ELASTIC_BACKLOG_INTERVAL = "elastic.backlog.interval";
+
+  // keys of the optimize queue backlog
+  public static final String QUEUE_BACKLOG_PENDING_TASKS = "pending-tasks";
+  public static final String QUEUE_BACKLOG_PENDING_BYTES = "pending-bytes";
+  public static final String QUEUE_BACKLOG_WAITING_POLLERS = "waiting-pollers";
 }
@@ -22,6 +22,12 @@ struct OptimizeTask {
     6:optional list<binary> posDeleteFiles;
     7:optional list<TreeNode> sourceNodes;
     8:optional map<string, string> properties;
+    // files encoded by ContentFileListCodec, used in place of the lists of serialized files when set,
+    // only set for tasks polled by pollTasks, tasks polled by pollTask carry the lists of serialized files
+    9:optional binary insertFileList;
+    10:optional binary deleteFileList;
+    11:optional binary baseFileList;
+    12:optional binary posDeleteFileList;
 }
 
 
@@ -47,6 +53,10 @@ struct OptimizeTaskStat {
     8:optional i64 newFileSize;
     9:i64 reportTime;
     10:i64 costTime;
+    // files encoded by ContentFileListCodec, used in place of files when set
+    11:optional binary fileList;
+    // counters and timers of the executor, keys are defined in OptimizeTaskProperties
+    12:optional map<string, i64> metrics;
 }
 
 struct JobId {
@@ -127,4 +137,17 @@ service OptimizeManager {
     void reportOptimizerState(1: OptimizerStateReport reportData)
 
     OptimizerDescriptor registerOptimizer(1: OptimizerRegisterInfo registerInfo)
+
+    // poll at most maxTasks tasks (or maxBytes of input files) in one call, optimizerState is the heartbeat if set
+    list<OptimizeTask> pollTasks(1:i32 queueId, 2:JobId jobId, 3:string attemptId, 4:i32 maxTasks, 5:i64 maxBytes,
+        6:i64 waitTime, 7:OptimizerStateReport optimizerState)
+        throws (1: arctic_commons.NoSuchObjectException e1)
+
+    // report results of several tasks in one call, optimizerState is the heartbeat if set, returns ids of the tasks
+    // whose results failed to be handled, they should be reported again
+    list<OptimizeTaskId> reportOptimizeResults(1:list<OptimizeTaskStat> optimizeTaskStats, 2:OptimizerStateReport optimizerState)
+
+    // backlog of the queue for optimizers to scale with, keys are in OptimizerProperties.QUEUE_BACKLOG_*
+    map<string, i64> getQueueBacklog(1:i32 queueId)
+        throws (1: arctic_commons.NoSuchObjectException e1)
 }
\ No newline at end of file
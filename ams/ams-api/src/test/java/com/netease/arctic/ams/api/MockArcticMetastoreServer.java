@@ -137,6 +137,7 @@ public class MockArcticMetastoreServer implements Runnable {
       server.stop();
     }
     amsHandler.cleanUp();
+    optimizeManagerHandler.cleanUp();
     started = false;
   }
 
@@ -148,6 +149,10 @@ public class MockArcticMetastoreServer implements Runnable {
     return amsHandler;
   }
 
+  public OptimizeManagerHandler optimizeManagerHandler() {
+    return optimizeManagerHandler;
+  }
+
   public int port() {
     return port;
   }
@@ -368,8 +373,20 @@ public class MockArcticMetastoreServer implements Runnable {
   }
 
   public class OptimizeManagerHandler implements OptimizeManager.Iface {
+    private final ConcurrentLinkedQueue<OptimizeTask> pendingTasks = new ConcurrentLinkedQueue<>();
+    private volatile Map<String, Long> queueBacklog = Collections.emptyMap();
 
     public void cleanUp() {
+      pendingTasks.clear();
+      queueBacklog = Collections.emptyMap();
+    }
+
+    public void offerTask(OptimizeTask task) {
+      pendingTasks.offer(task);
+    }
+
+    public void setQueueBacklog(Map<String, Long> queueBacklog) {
+      this.queueBacklog = queueBacklog;
     }
 
     @Override
@@ -397,5 +414,27 @@ public class MockArcticMetastoreServer implements Runnable {
     public OptimizerDescriptor registerOptimizer(OptimizerRegisterInfo registerInfo) throws TException {
       return new OptimizerDescriptor();
     }
+
+    @Override
+    public List<OptimizeTask> pollTasks(int queueId, JobId jobId, String attemptId, int maxTasks, long maxBytes,
+        long waitTime, OptimizerStateReport optimizerState) throws NoSuchObjectException, TException {
+      List<OptimizeTask> tasks = new ArrayList<>();
+      OptimizeTask task;
+      while (tasks.size() < maxTasks && (task = pendingTasks.poll()) != null) {
+        tasks.add(task);
+      }
+      return tasks;
+    }
+
+    @Override
+    public List<OptimizeTaskId> reportOptimizeResults(List<OptimizeTaskStat> optimizeTaskStats,
+        OptimizerStateReport optimizerState) throws TException {
+      return Collections.emptyList();
+    }
+
+    @Override
+    public Map<String, Long> getQueueBacklog(int queueId) throws NoSuchObjectException, TException {
+      return queueBacklog;
+    }
   }
 }
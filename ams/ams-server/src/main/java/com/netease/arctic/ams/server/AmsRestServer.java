@@ -156,6 +156,10 @@ public class AmsRestServer {
         get("/tables/catalogs/{catalog}/dbs/{db}/tables/{table}/upgrade/status", TableController::getUpgradeStatus);
         get("/upgrade/properties", TableController::getUpgradeHiveTableProperties);
         get("/tables/catalogs/{catalog}/dbs/{db}/tables/{table}/optimize", TableController::getOptimizeInfo);
+        get("/tables/catalogs/{catalog}/dbs/{db}/tables/{table}/optimize/costModel",
+            TableController::getOptimizeCostModel);
+        get("/tables/catalogs/{catalog}/dbs/{db}/tables/{table}/optimize/executeMetrics",
+            TableController::getOptimizeExecuteMetrics);
         get("/tables/catalogs/{catalog}/dbs/{db}/tables/{table}/transactions",
                 TableController::getTableTransactions);
         get("/tables/catalogs/{catalog}/dbs/{db}/tables/{table}/transactions/{transactionId}/detail",
@@ -183,6 +187,9 @@ public class AmsRestServer {
         get("/optimize/optimizerGroups/{optimizerGroup}/optimizers", OptimizerController::getOptimizers);
         get("/optimize/optimizerGroups", OptimizerController::getOptimizerGroups);
         get("/optimize/optimizerGroups/{optimizerGroup}/info", OptimizerController::getOptimizerGroupInfo);
+        get("/optimize/optimizerGroups/{optimizerGroup}/metrics", OptimizerController::getOptimizerGroupMetrics);
+        get("/optimize/commitMetrics", OptimizerController::getCommitMetrics);
+        get("/optimize/metrics/prometheus", OptimizerController::getPrometheusMetrics);
         delete("/optimize/optimizerGroups/{optimizerGroup}/optimizers/{jobId}", OptimizerController::releaseOptimizer);
         post("/optimize/optimizerGroups/{optimizerGroup}/optimizers", OptimizerController::scaleOutOptimizer);
 
@@ -221,6 +228,10 @@ public class AmsRestServer {
         get("/tables/catalogs/{catalog}/dbs/{db}/tables/{table}/upgrade/status", TableController::getUpgradeStatus);
         get("/upgrade/properties", TableController::getUpgradeHiveTableProperties);
         get("/tables/catalogs/{catalog}/dbs/{db}/tables/{table}/optimize", TableController::getOptimizeInfo);
+        get("/tables/catalogs/{catalog}/dbs/{db}/tables/{table}/optimize/costModel",
+            TableController::getOptimizeCostModel);
+        get("/tables/catalogs/{catalog}/dbs/{db}/tables/{table}/optimize/executeMetrics",
+            TableController::getOptimizeExecuteMetrics);
         get("/tables/catalogs/{catalog}/dbs/{db}/tables/{table}/transactions",
                 TableController::getTableTransactions);
         get("/tables/catalogs/{catalog}/dbs/{db}/tables/{table}/transactions/{transactionId}/detail",
@@ -238,6 +249,9 @@ public class AmsRestServer {
         get("/optimize/optimizerGroups/{optimizerGroup}/optimizers", OptimizerController::getOptimizers);
         get("/optimize/optimizerGroups", OptimizerController::getOptimizerGroups);
         get("/optimize/optimizerGroups/{optimizerGroup}/info", OptimizerController::getOptimizerGroupInfo);
+        get("/optimize/optimizerGroups/{optimizerGroup}/metrics", OptimizerController::getOptimizerGroupMetrics);
+        get("/optimize/commitMetrics", OptimizerController::getCommitMetrics);
+        get("/optimize/metrics/prometheus", OptimizerController::getPrometheusMetrics);
         delete("/optimize/optimizerGroups/{optimizerGroup}/optimizers/{jobId}", OptimizerController::releaseOptimizer);
         post("/optimize/optimizerGroups/{optimizerGroup}/optimizers", OptimizerController::scaleOutOptimizer);
 
@@ -302,6 +316,8 @@ public class AmsRestServer {
 
   private static final String[] urlWhiteList = {
     "/ams/v1/versionInfo",
+    // scraped by Prometheus without login
+    "/ams/v1/optimize/metrics/prometheus",
     "/ams/v1/login",
     "/",
     "/overview",
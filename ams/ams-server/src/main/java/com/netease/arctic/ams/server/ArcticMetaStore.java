@@ -38,6 +38,7 @@ import com.netease.arctic.ams.server.handler.impl.ArcticTableMetastoreHandler;
 import com.netease.arctic.ams.server.handler.impl.OptimizeManagerHandler;
 import com.netease.arctic.ams.server.model.Container;
 import com.netease.arctic.ams.server.model.OptimizeQueueMeta;
+import com.netease.arctic.ams.server.optimize.OptimizeCommitPrepareWorker;
 import com.netease.arctic.ams.server.optimize.OptimizeCommitWorker;
 import com.netease.arctic.ams.server.service.ServiceContainer;
 import com.netease.arctic.ams.server.service.impl.DDLTracerService;
@@ -46,6 +47,7 @@ import com.netease.arctic.ams.server.service.impl.FileInfoCacheService;
 import com.netease.arctic.ams.server.service.impl.OptimizeExecuteService;
 import com.netease.arctic.ams.server.service.impl.RuntimeDataExpireService;
 import com.netease.arctic.ams.server.utils.AmsUtils;
+import com.netease.arctic.ams.server.utils.MetadataCache;
 import com.netease.arctic.ams.server.utils.SecurityUtils;
 import com.netease.arctic.ams.server.utils.ThreadPool;
 import com.netease.arctic.ams.server.utils.UpdateTool;
@@ -197,6 +199,8 @@ public class ArcticMetaStore {
         DerbyService derbyService = new DerbyService();
         derbyService.createTable();
       }
+      // metadata may have been modified by another AMS, when this one was not the leader
+      MetadataCache.invalidateAll();
 
       LOG.info("Starting arctic metastore on port " + port);
 
@@ -293,10 +297,14 @@ public class ArcticMetaStore {
         }
 
         startOptimizeCheck(conf.getLong(ArcticMetaStoreConf.OPTIMIZE_CHECK_STATUS_INTERVAL));
-        startOptimizeCommit(conf.getInteger(ArcticMetaStoreConf.OPTIMIZE_COMMIT_THREAD_POOL_SIZE));
+        startOptimizeCommit(conf.getInteger(ArcticMetaStoreConf.OPTIMIZE_COMMIT_PREPARE_THREAD_POOL_SIZE),
+            conf.getInteger(ArcticMetaStoreConf.OPTIMIZE_COMMIT_THREAD_POOL_SIZE),
+            conf.getInteger(ArcticMetaStoreConf.OPTIMIZE_COMMIT_MAX_RETRIES));
         startExpiredClean();
         startOrphanClean();
         startSupportHiveSync();
+        startFileInfoCacheCommit(conf.getInteger(ArcticMetaStoreConf.FILE_CACHE_COMMIT_QUEUE_SIZE),
+            conf.getInteger(ArcticMetaStoreConf.FILE_CACHE_COMMIT_BATCH_SIZE));
         monitorOptimizerStatus();
         tableRuntimeDataExpire();
         AmsRestServer.startRestServer(httpPort);
@@ -355,7 +363,10 @@ public class ArcticMetaStore {
         TimeUnit.MILLISECONDS);
   }
 
-  private static void startOptimizeCommit(int parallel) {
+  private static void startOptimizeCommit(int prepareParallel, int parallel, int maxRetries) {
+    for (int i = 0; i < prepareParallel; i++) {
+      ThreadPool.getPool(ThreadPool.Type.COMMIT_PREPARE).execute(new OptimizeCommitPrepareWorker(i, maxRetries));
+    }
     for (int i = 0; i < parallel; i++) {
       ThreadPool.getPool(ThreadPool.Type.COMMIT).execute(new OptimizeCommitWorker(i));
     }
@@ -403,6 +414,29 @@ public class ArcticMetaStore {
         TimeUnit.MILLISECONDS);
   }
 
+  private static void startFileInfoCacheCommit(int queueSize, int batchSize) {
+    if (queueSize <= 0) {
+      return;
+    }
+    FileInfoCacheService fileInfoCacheService = ServiceContainer.getFileInfoCacheService();
+    fileInfoCacheService.enableAsyncCommit(queueSize);
+    Thread t = new Thread(() -> {
+      while (true) {
+        try {
+          fileInfoCacheService.writeQueuedCommits(batchSize);
+        } catch (InterruptedException e) {
+          LOG.warn("file info cache commit thread was interrupted: " + e.getMessage());
+          return;
+        } catch (Exception e) {
+          LOG.error("write file info cache error", e);
+        }
+      }
+    });
+    t.setName("File info cache commit thread");
+    t.start();
+    residentThreads.add(t);
+  }
+
   private static void syncAndExpiredFileInfoCache() {
     Thread t = new Thread(() -> {
       while (server.isServing()) {
@@ -85,6 +85,17 @@ public class ArcticMetaStoreConf {
           .defaultValue(10)
           .withDescription("Number of threads in the thread pool.  " +
               "These will be used to execute all optimize commit processes.");
+  public static final ConfigOption<Integer> OPTIMIZE_COMMIT_PREPARE_THREAD_POOL_SIZE =
+      ConfigOptions.key("arctic.ams.optimize.commit.prepare.thread.pool-size")
+          .intType()
+          .defaultValue(4)
+          .withDescription("Number of threads in the thread pool.  " +
+              "These will be used to prepare optimize commits before table metadata is written.");
+  public static final ConfigOption<Integer> OPTIMIZE_COMMIT_MAX_RETRIES =
+      ConfigOptions.key("arctic.ams.optimize.commit.max-retries")
+          .intType()
+          .defaultValue(3)
+          .withDescription("Max times to retry an optimize commit failed by concurrent commits.");
   public static final ConfigOption<Integer> EXPIRE_THREAD_POOL_SIZE =
       ConfigOptions.key("arctic.ams.expire.thread.pool-size")
           .intType()
@@ -136,7 +147,7 @@ public class ArcticMetaStoreConf {
           .stringType()
           .defaultValue("jdbc:mysql://127.0.0.1:3306/metadata?" +
               "serverTimezone=Asia/Shanghai&useUnicode=true&characterEncoding=UTF8" +
-              "&autoReconnect=true&useAffectedRows=true")
+              "&autoReconnect=true&useAffectedRows=true&rewriteBatchedStatements=true")
           .withDescription("The connection URL which to restore metadata.");
   public static final ConfigOption<String> MYBATIS_CONNECTION_DRIVER_CLASS_NAME =
       ConfigOptions.key("arctic.ams.mybatis.ConnectionDriverClassName")
@@ -183,6 +194,17 @@ public class ArcticMetaStoreConf {
           .longType()
           .defaultValue(5 * 60 * 1000L)
           .withDescription("table file info will be sync-cache when there is long time no cache data.");
+  public static final ConfigOption<Integer> FILE_CACHE_COMMIT_QUEUE_SIZE =
+      ConfigOptions.key("file.cache.commit.queue-size")
+          .intType()
+          .defaultValue(10000)
+          .withDescription("Max number of table commits waiting to be written into file cache, " +
+              "table commits are written synchronously when it is 0.");
+  public static final ConfigOption<Integer> FILE_CACHE_COMMIT_BATCH_SIZE =
+      ConfigOptions.key("file.cache.commit.batch-size")
+          .intType()
+          .defaultValue(100)
+          .withDescription("Max number of table commits written into file cache in one transaction.");
   public static final ConfigOption<String> SYSTEM_EXTENSION_PROPERTIES =
       ConfigOptions.key("system.extension.properties")
           .stringType()
@@ -18,6 +18,7 @@
 
 package com.netease.arctic.ams.server.controller;
 
+import com.netease.arctic.ams.api.NoSuchObjectException;
 import com.netease.arctic.ams.server.controller.response.ErrorResponse;
 import com.netease.arctic.ams.server.controller.response.OkResponse;
 import com.netease.arctic.ams.server.controller.response.PageResult;
@@ -27,6 +28,7 @@ import com.netease.arctic.ams.server.model.OptimizerResourceInfo;
 import com.netease.arctic.ams.server.model.TableOptimizeInfo;
 import com.netease.arctic.ams.server.model.TableTaskStatus;
 import com.netease.arctic.ams.server.optimize.IOptimizeService;
+import com.netease.arctic.ams.server.optimize.OptimizeExecuteMetrics;
 import com.netease.arctic.ams.server.optimize.TableOptimizeItem;
 import com.netease.arctic.ams.server.service.ServiceContainer;
 import com.netease.arctic.ams.server.service.impl.ContainerMetaService;
@@ -42,6 +44,7 @@ import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -166,6 +169,59 @@ public class OptimizerController extends RestBaseController {
     }
   }
 
+  /**
+   * get metrics of optimize commits: queue size, latency of each stage and count of commits
+   * url = /optimize/commitMetrics.
+   */
+  public static void getCommitMetrics(Context ctx) {
+    try {
+      ctx.json(OkResponse.of(ServiceContainer.getOptimizeService().getCommitMetrics()));
+    } catch (Exception e) {
+      LOG.error("Failed to get optimize commit metrics", e);
+      ctx.json(new ErrorResponse(HttpCode.BAD_REQUEST,
+          "Failed to get optimize commit metrics", ""));
+    }
+  }
+
+  /**
+   * export metrics of optimize tasks of all tables in the Prometheus text format
+   * url = /optimize/metrics/prometheus.
+   */
+  public static void getPrometheusMetrics(Context ctx) {
+    try {
+      IOptimizeService optimizeService = ServiceContainer.getOptimizeService();
+      Map<TableIdentifier, OptimizeExecuteMetrics> tableMetrics = new HashMap<>();
+      for (TableIdentifier tableIdentifier : optimizeService.listCachedTables()) {
+        try {
+          tableMetrics.put(tableIdentifier,
+              optimizeService.getTableOptimizeItem(tableIdentifier).getExecuteMetrics());
+        } catch (NoSuchObjectException e) {
+          // table removed after listed
+        }
+      }
+      ctx.contentType("text/plain; version=0.0.4; charset=utf-8");
+      ctx.result(OptimizeExecuteMetrics.toPrometheusText(tableMetrics));
+    } catch (Exception e) {
+      LOG.error("Failed to export optimize metrics", e);
+      ctx.status(HttpCode.INTERNAL_SERVER_ERROR);
+      ctx.result("Failed to export optimize metrics");
+    }
+  }
+
+  /**
+   * get metrics of optimizerGroup queue: queue size, waiting optimizers, poll wait time and dispatch latency
+   * url = /optimize/optimizerGroups/{optimizerGroup}/metrics.
+   */
+  public static void getOptimizerGroupMetrics(Context ctx) {
+    String optimizerGroup = ctx.pathParam("optimizerGroup");
+    try {
+      ctx.json(OkResponse.of(ServiceContainer.getOptimizeQueueService().getQueueMetrics(optimizerGroup)));
+    } catch (Exception e) {
+      LOG.error("Failed to get optimizerGroup metrics", e);
+      ctx.json(new ErrorResponse(HttpCode.BAD_REQUEST, "Failed to get optimizerGroup metrics", ""));
+    }
+  }
+
   /**
    * get optimizer info: occupationCore, occupationMemory
    */
@@ -301,6 +301,45 @@ public class TableController extends RestBaseController {
     ctx.json(OkResponse.of(PageResult.of(result, total)));
   }
 
+  /**
+   * get the model estimating the cost time of optimize tasks.
+   */
+  public static void getOptimizeCostModel(Context ctx) {
+    String catalog = ctx.pathParam("catalog");
+    String db = ctx.pathParam("db");
+    String table = ctx.pathParam("table");
+    try {
+      ctx.json(OkResponse.of(optimizeService.getTableOptimizeItem(TableIdentifier.of(catalog, db, table))
+          .getCostModel()));
+    } catch (NoSuchObjectException e) {
+      ctx.json(new ErrorResponse(HttpCode.BAD_REQUEST, "Table is not optimized by AMS", ""));
+    } catch (Exception e) {
+      LOG.error("Failed to get optimize cost model", e);
+      ctx.json(new ErrorResponse(HttpCode.BAD_REQUEST,
+          "Failed to get optimize cost model", ""));
+    }
+  }
+
+  /**
+   * get metrics of optimize tasks reported by optimizers: rows read and deleted, delete map, read and write.
+   * url = /tables/catalogs/{catalog}/dbs/{db}/tables/{table}/optimize/executeMetrics.
+   */
+  public static void getOptimizeExecuteMetrics(Context ctx) {
+    String catalog = ctx.pathParam("catalog");
+    String db = ctx.pathParam("db");
+    String table = ctx.pathParam("table");
+    try {
+      ctx.json(OkResponse.of(optimizeService.getTableOptimizeItem(TableIdentifier.of(catalog, db, table))
+          .getExecuteMetrics()));
+    } catch (NoSuchObjectException e) {
+      ctx.json(new ErrorResponse(HttpCode.BAD_REQUEST, "Table is not optimized by AMS", ""));
+    } catch (Exception e) {
+      LOG.error("Failed to get optimize execute metrics", e);
+      ctx.json(new ErrorResponse(HttpCode.BAD_REQUEST,
+          "Failed to get optimize execute metrics", ""));
+    }
+  }
+
   /**
    * get list of transactions.
    */
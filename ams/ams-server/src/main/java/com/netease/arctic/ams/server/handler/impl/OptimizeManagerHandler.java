@@ -22,14 +22,22 @@ import com.netease.arctic.ams.api.JobId;
 import com.netease.arctic.ams.api.NoSuchObjectException;
 import com.netease.arctic.ams.api.OptimizeManager;
 import com.netease.arctic.ams.api.OptimizeTask;
+import com.netease.arctic.ams.api.OptimizeTaskId;
 import com.netease.arctic.ams.api.OptimizeTaskStat;
 import com.netease.arctic.ams.api.OptimizerDescriptor;
 import com.netease.arctic.ams.api.OptimizerRegisterInfo;
 import com.netease.arctic.ams.api.OptimizerStateReport;
 import com.netease.arctic.ams.server.service.ServiceContainer;
 import org.apache.thrift.TException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 public class OptimizeManagerHandler implements OptimizeManager.Iface {
+  private static final Logger LOG = LoggerFactory.getLogger(OptimizeManagerHandler.class);
 
   @Override
   public void ping() throws TException {
@@ -56,4 +64,50 @@ public class OptimizeManagerHandler implements OptimizeManager.Iface {
   public OptimizerDescriptor registerOptimizer(OptimizerRegisterInfo registerInfo) throws TException {
     return ServiceContainer.getOptimizerService().registerOptimizer(registerInfo);
   }
+
+  @Override
+  public List<OptimizeTask> pollTasks(int queueId, JobId jobId, String attemptId, int maxTasks, long maxBytes,
+      long waitTime, OptimizerStateReport optimizerState) throws TException {
+    updateOptimizerState(optimizerState);
+    return ServiceContainer.getOptimizeQueueService().pollTasks(queueId, jobId, attemptId, maxTasks, maxBytes,
+        waitTime);
+  }
+
+  @Override
+  public List<OptimizeTaskId> reportOptimizeResults(List<OptimizeTaskStat> optimizeTaskStats,
+      OptimizerStateReport optimizerState) throws TException {
+    updateOptimizerState(optimizerState);
+    List<OptimizeTaskId> failedTasks = new ArrayList<>();
+    if (optimizeTaskStats == null) {
+      return failedTasks;
+    }
+    // a failed result should not prevent the others in the same batch from being handled, ids of the failed ones are
+    // returned for the optimizer to report them again
+    for (OptimizeTaskStat optimizeTaskStat : optimizeTaskStats) {
+      try {
+        ServiceContainer.getOptimizeService().handleOptimizeResult(optimizeTaskStat);
+      } catch (Exception e) {
+        LOG.error("failed to handle optimize result {}", optimizeTaskStat.getTaskId(), e);
+        failedTasks.add(optimizeTaskStat.getTaskId());
+      }
+    }
+    return failedTasks;
+  }
+
+  @Override
+  public Map<String, Long> getQueueBacklog(int queueId) throws TException {
+    return ServiceContainer.getOptimizeQueueService().getQueueBacklog(queueId);
+  }
+
+  private void updateOptimizerState(OptimizerStateReport optimizerState) {
+    if (optimizerState == null) {
+      return;
+    }
+    // heartbeat carried by poll or report, the call itself should go on even if the heartbeat failed
+    try {
+      ServiceContainer.getOptimizerService().updateOptimizerState(optimizerState);
+    } catch (Exception e) {
+      LOG.error("failed to update optimizer state {}", optimizerState.getOptimizerId(), e);
+    }
+  }
 }
@@ -48,6 +48,16 @@ public interface InternalTableFilesMapper {
                               @Param("isTarget") int isTarget,
                               @Param("content") byte[] content);
 
+  @Insert("<script>" +
+      "insert into " + TABLE_NAME + " (optimize_type, trace_id, content_type, is_target, file_content) values " +
+      "<foreach collection='contents' item='content' separator=','>" +
+      "(#{optimizeTaskId.type}, #{optimizeTaskId.traceId}, #{contentType}, #{isTarget}, #{content})" +
+      "</foreach></script>")
+  void insertOptimizeTaskFiles(@Param("optimizeTaskId") OptimizeTaskId optimizeTaskId,
+                               @Param("contentType") String contentType,
+                               @Param("isTarget") int isTarget,
+                               @Param("contents") List<byte[]> contents);
+
   @Delete("delete from " + TABLE_NAME + " where" +
       " optimize_type = #{optimizeTaskId.type} and " +
       " trace_id = #{optimizeTaskId.traceId}"
@@ -87,7 +87,7 @@ public class TableBlocker {
   }
 
   public com.netease.arctic.ams.api.Blocker buildBlocker() {
-    Map<String, String> properties = this.properties == null ? Maps.newHashMap() : this.properties;
+    Map<String, String> properties = this.properties == null ? Maps.newHashMap() : Maps.newHashMap(this.properties);
     properties.put(RenewableBlocker.CREATE_TIME_PROPERTY, createTime + "");
     properties.put(RenewableBlocker.EXPIRATION_TIME_PROPERTY, expirationTime + "");
     List<BlockableOperation> operations =
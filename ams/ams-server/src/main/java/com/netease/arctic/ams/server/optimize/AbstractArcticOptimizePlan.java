@@ -35,7 +35,9 @@ import com.netease.arctic.data.file.FileNameGenerator;
 import com.netease.arctic.data.file.WrapFileWithSequenceNumberHelper;
 import com.netease.arctic.table.ArcticTable;
 import com.netease.arctic.table.ChangeTable;
+import com.netease.arctic.table.TableProperties;
 import com.netease.arctic.table.UnkeyedTable;
+import com.netease.arctic.utils.CompatiblePropertyUtil;
 import com.netease.arctic.utils.SerializationUtils;
 import org.apache.iceberg.ContentFile;
 import org.apache.iceberg.DataFile;
@@ -63,6 +65,8 @@ import java.util.stream.Collectors;
 
 public abstract class AbstractArcticOptimizePlan extends AbstractOptimizePlan {
   private static final Logger LOG = LoggerFactory.getLogger(AbstractArcticOptimizePlan.class);
+  // max times of target-size a task could be merged to by the cost model
+  private static final int MAX_TASK_SIZE_FACTOR = 16;
 
   private final List<ContentFileWithSequence<?>> changeFiles;
   protected final List<FileScanTask> baseFileScanTasks;
@@ -80,6 +84,9 @@ public abstract class AbstractArcticOptimizePlan extends AbstractOptimizePlan {
   protected Long changeStoreToSequence;
   protected final Map<String, Long> changeStoreFromSequence = new HashMap<>();
 
+  // estimate the cost time of tasks, null if not set
+  protected OptimizeCostModel costModel;
+
   public AbstractArcticOptimizePlan(ArcticTable arcticTable, TableOptimizeRuntime tableOptimizeRuntime,
                                     List<ContentFileWithSequence<?>> changeFiles,
                                 List<FileScanTask> baseFileScanTasks,
@@ -92,6 +99,38 @@ public abstract class AbstractArcticOptimizePlan extends AbstractOptimizePlan {
     this.currentBaseSnapshotId = baseSnapshotId;
   }
 
+  public void setCostModel(OptimizeCostModel costModel) {
+    this.costModel = costModel;
+  }
+
+  /**
+   * Size of base files to pack into a task of the partition. If the table sets a target duration of tasks and the
+   * cost model is trained, tasks are split or merged to be predicted to finish in it, otherwise the default size.
+   *
+   * @param partition       partition
+   * @param defaultTaskSize default task size in bytes
+   * @param posDeleteFiles  pos-delete files read by each task
+   * @return task size in bytes
+   */
+  protected long getTaskSize(String partition, long defaultTaskSize, List<DeleteFile> posDeleteFiles) {
+    long targetDuration = CompatiblePropertyUtil.propertyAsLong(arcticTable.properties(),
+        TableProperties.SELF_OPTIMIZING_TASK_TARGET_DURATION,
+        TableProperties.SELF_OPTIMIZING_TASK_TARGET_DURATION_DEFAULT);
+    if (targetDuration <= 0 || costModel == null || !costModel.isTrained()) {
+      return defaultTaskSize;
+    }
+    long posDeleteSize = posDeleteFiles.stream().mapToLong(DeleteFile::fileSizeInBytes).sum();
+    long taskSize = costModel.baseSizeForDuration(targetDuration, posDeleteSize);
+    taskSize = Math.max(getSmallFileSize(arcticTable.properties()),
+        Math.min(taskSize, defaultTaskSize * MAX_TASK_SIZE_FACTOR));
+    long predictedCostTime = costModel.predict(taskSize, 0, 0, posDeleteSize);
+    costModel.recordSizing(new OptimizeCostModel.TaskSizing(partition, targetDuration, defaultTaskSize, taskSize,
+        predictedCostTime));
+    LOG.debug("{} partition {} ==== {} task size {} predicted to cost {} ms, target duration {} ms", tableId(),
+        partition, getOptimizeType(), taskSize, predictedCostTime, targetDuration);
+    return taskSize;
+  }
+
   protected BasicOptimizeTask buildOptimizeTask(@Nullable List<DataTreeNode> sourceNodes,
                                                 List<DataFile> insertFiles,
                                                 List<DataFile> deleteFiles,
@@ -187,6 +226,9 @@ public abstract class AbstractArcticOptimizePlan extends AbstractOptimizePlan {
     if (taskConfig.isMoveFilesToHiveLocation()) {
       properties.put(OptimizeTaskProperties.MOVE_FILES_TO_HIVE_LOCATION, true + "");
     }
+    if (costModel != null && costModel.isTrained()) {
+      properties.put(OptimizeTaskProperties.PREDICTED_COST_TIME, costModel.predict(optimizeTask) + "");
+    }
     optimizeTask.setProperties(properties);
     return optimizeTask;
   }
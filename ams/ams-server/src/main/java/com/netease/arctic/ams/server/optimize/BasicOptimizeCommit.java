@@ -45,7 +45,7 @@ import org.apache.iceberg.FileContent;
 import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.RewriteFiles;
 import org.apache.iceberg.Snapshot;
-import org.apache.iceberg.exceptions.ValidationException;
+import org.apache.iceberg.exceptions.CommitFailedException;
 import org.apache.iceberg.expressions.Expressions;
 import org.apache.iceberg.util.SnapshotUtil;
 import org.apache.iceberg.util.StructLikeMap;
@@ -68,106 +68,202 @@ public class BasicOptimizeCommit {
   protected final Map<String, List<OptimizeTaskItem>> optimizeTasksToCommit;
   protected final Map<String, OptimizeType> partitionOptimizeType = new HashMap<>();
 
+  private final Set<ContentFile<?>> minorAddFiles = new HashSet<>();
+  private final Set<ContentFile<?>> minorDeleteFiles = new HashSet<>();
+  private final Set<ContentFile<?>> majorAddFiles = new HashSet<>();
+  private final Set<ContentFile<?>> majorDeleteFiles = new HashSet<>();
+  // delete files replaced by the committed content, removed by separate rewrites after all content committed
+  private final Set<DeleteFile> minorReplacedDeleteFiles = new HashSet<>();
+  private final Set<DeleteFile> majorReplacedDeleteFiles = new HashSet<>();
+  private final StructLikeMap<Long> toSequenceOfPartitions;
+  private final StructLikeMap<Long> fromSequenceOfPartitions;
+  private boolean prepared = false;
+  private RuntimeException prepareFailure;
+  // minor and major content are committed separately, committed content is skipped when retried
+  private boolean minorCommitted = false;
+  private boolean majorCommitted = false;
+  private int retriesLeft = 0;
+  private boolean retryable = false;
+
   public BasicOptimizeCommit(ArcticTable arcticTable,
                              Map<String, List<OptimizeTaskItem>> optimizeTasksToCommit) {
     this.arcticTable = arcticTable;
     this.optimizeTasksToCommit = optimizeTasksToCommit;
+    this.toSequenceOfPartitions = StructLikeMap.create(arcticTable.spec().partitionType());
+    this.fromSequenceOfPartitions = StructLikeMap.create(arcticTable.spec().partitionType());
   }
 
   public Map<String, List<OptimizeTaskItem>> getCommittedTasks() {
     return optimizeTasksToCommit;
   }
 
-  public boolean commit(long baseSnapshotId) throws Exception {
-    Set<ContentFile<?>> minorAddFiles = new HashSet<>();
-    Set<ContentFile<?>> minorDeleteFiles = new HashSet<>();
-    Set<ContentFile<?>> majorAddFiles = new HashSet<>();
-    Set<ContentFile<?>> majorDeleteFiles = new HashSet<>();
+  /**
+   * Set the times a commit failed by a concurrent commit could be retried, the minor/major content already
+   * committed is skipped when retried.
+   *
+   * @param retries - max retry times
+   * @return this for method chaining
+   */
+  public BasicOptimizeCommit withRetries(int retries) {
+    this.retriesLeft = retries;
+    return this;
+  }
+
+  /**
+   * Whether the last failed commit could be retried, the files produced by tasks are kept for retry.
+   */
+  public boolean canRetry() {
+    return retryable;
+  }
+
+  public boolean isMinorCommitted() {
+    return minorCommitted;
+  }
+
+  /**
+   * Check the tasks and collect the files to commit without writing any table metadata, so it could be done
+   * ahead of the commit, in parallel with the commits of other tables. Failure is reported by the commit.
+   */
+  public void prepare() {
+    if (prepared) {
+      return;
+    }
     try {
-      if (optimizeTasksToCommit.isEmpty()) {
-        LOG.info("{} get no tasks to commit", arcticTable.id());
-        return true;
-      }
-      LOG.info("{} get tasks to commit for partitions {}", arcticTable.id(),
-          optimizeTasksToCommit.keySet());
-
-      // collect files
-      PartitionSpec spec = arcticTable.spec();
-      StructLikeMap<Long> toSequenceOfPartitions = StructLikeMap.create(spec.partitionType());
-      StructLikeMap<Long> fromSequenceOfPartitions = StructLikeMap.create(spec.partitionType());
-      for (Map.Entry<String, List<OptimizeTaskItem>> entry : optimizeTasksToCommit.entrySet()) {
-        for (OptimizeTaskItem task : entry.getValue()) {
-          if (checkFileCount(task)) {
-            LOG.error("table {} file count not match", arcticTable.id());
-            throw new IllegalArgumentException("file count not match, can't commit");
-          }
-          // tasks in partition
-          if (task.getOptimizeTask().getTaskId().getType() == OptimizeType.Minor) {
-            task.getOptimizeRuntime().getTargetFiles().stream()
-                .map(SerializationUtils::toContentFile)
-                .forEach(minorAddFiles::add);
-
-            minorDeleteFiles.addAll(selectDeletedFiles(task, minorAddFiles));
-
-            long toSequence = task.getOptimizeTask().getToSequence();
-            if (toSequence != BasicOptimizeTask.INVALID_SEQUENCE) {
-              if (arcticTable.asKeyedTable().baseTable().spec().isUnpartitioned()) {
-                toSequenceOfPartitions.put(TablePropertyUtil.EMPTY_STRUCT, toSequence);
-              } else {
-                toSequenceOfPartitions.putIfAbsent(ArcticDataFiles.data(spec, entry.getKey()), toSequence);
-              }
+      collectFiles();
+    } catch (RuntimeException e) {
+      prepareFailure = e;
+    }
+    prepared = true;
+  }
+
+  protected void prepareOrThrow() {
+    prepare();
+    if (prepareFailure != null) {
+      throw prepareFailure;
+    }
+  }
+
+  protected void collectFiles() {
+    LOG.info("{} get tasks to commit for partitions {}", arcticTable.id(),
+        optimizeTasksToCommit.keySet());
+    PartitionSpec spec = arcticTable.spec();
+    for (Map.Entry<String, List<OptimizeTaskItem>> entry : optimizeTasksToCommit.entrySet()) {
+      for (OptimizeTaskItem task : entry.getValue()) {
+        if (checkFileCount(task)) {
+          LOG.error("table {} file count not match", arcticTable.id());
+          throw new IllegalArgumentException("file count not match, can't commit");
+        }
+        // tasks in partition
+        if (task.getOptimizeTask().getTaskId().getType() == OptimizeType.Minor) {
+          task.getOptimizeRuntime().getTargetFiles().stream()
+              .map(SerializationUtils::toContentFile)
+              .forEach(minorAddFiles::add);
+
+          minorDeleteFiles.addAll(selectDeletedFiles(task, minorAddFiles));
+
+          long toSequence = task.getOptimizeTask().getToSequence();
+          if (toSequence != BasicOptimizeTask.INVALID_SEQUENCE) {
+            if (arcticTable.asKeyedTable().baseTable().spec().isUnpartitioned()) {
+              toSequenceOfPartitions.put(TablePropertyUtil.EMPTY_STRUCT, toSequence);
+            } else {
+              toSequenceOfPartitions.putIfAbsent(ArcticDataFiles.data(spec, entry.getKey()), toSequence);
             }
+          }
 
-            long fromSequence = task.getOptimizeTask().getFromSequence();
-            if (fromSequence != BasicOptimizeTask.INVALID_SEQUENCE) {
-              if (arcticTable.asKeyedTable().baseTable().spec().isUnpartitioned()) {
-                fromSequenceOfPartitions.put(TablePropertyUtil.EMPTY_STRUCT, fromSequence);
-              } else {
-                fromSequenceOfPartitions.putIfAbsent(ArcticDataFiles.data(spec, entry.getKey()), fromSequence);
-              }
+          long fromSequence = task.getOptimizeTask().getFromSequence();
+          if (fromSequence != BasicOptimizeTask.INVALID_SEQUENCE) {
+            if (arcticTable.asKeyedTable().baseTable().spec().isUnpartitioned()) {
+              fromSequenceOfPartitions.put(TablePropertyUtil.EMPTY_STRUCT, fromSequence);
+            } else {
+              fromSequenceOfPartitions.putIfAbsent(ArcticDataFiles.data(spec, entry.getKey()), fromSequence);
             }
-            
-            partitionOptimizeType.put(entry.getKey(), OptimizeType.Minor);
-          } else {
-            task.getOptimizeRuntime().getTargetFiles().stream()
-                .map(SerializationUtils::toContentFile)
-                .forEach(majorAddFiles::add);
-            majorDeleteFiles.addAll(selectDeletedFiles(task, new HashSet<>()));
-            partitionOptimizeType.put(entry.getKey(), task.getOptimizeTask().getTaskId().getType());
           }
+
+          partitionOptimizeType.put(entry.getKey(), OptimizeType.Minor);
+        } else {
+          task.getOptimizeRuntime().getTargetFiles().stream()
+              .map(SerializationUtils::toContentFile)
+              .forEach(majorAddFiles::add);
+          majorDeleteFiles.addAll(selectDeletedFiles(task, new HashSet<>()));
+          partitionOptimizeType.put(entry.getKey(), task.getOptimizeTask().getTaskId().getType());
         }
       }
+    }
+  }
+
+  public boolean commit(long baseSnapshotId) throws Exception {
+    retryable = false;
+    try {
+      if (optimizeTasksToCommit.isEmpty()) {
+        LOG.info("{} get no tasks to commit", arcticTable.id());
+        return true;
+      }
+      prepareOrThrow();
 
       // commit minor optimize content
-      minorCommit(arcticTable, minorAddFiles, minorDeleteFiles, toSequenceOfPartitions, fromSequenceOfPartitions);
+      if (!minorCommitted) {
+        minorCommit(arcticTable, minorAddFiles, minorDeleteFiles, toSequenceOfPartitions, fromSequenceOfPartitions);
+        minorCommitted = true;
+      }
 
       // commit major optimize content
-      majorCommit(arcticTable, majorAddFiles, majorDeleteFiles, baseSnapshotId);
+      if (!majorCommitted) {
+        majorCommit(arcticTable, majorAddFiles, majorDeleteFiles, baseSnapshotId);
+        majorCommitted = true;
+      }
 
+      removeReplacedDeleteFiles();
       return true;
     } catch (Exception e) {
-      UnkeyedTable baseArcticTable;
-      if (arcticTable.isKeyedTable()) {
-        baseArcticTable = arcticTable.asKeyedTable().baseTable();
-      } else {
-        baseArcticTable = arcticTable.asUnkeyedTable();
+      if (e instanceof CommitFailedException && retriesLeft > 0) {
+        retriesLeft--;
+        retryable = true;
+        LOG.warn("Optimize commit table {} failed by concurrent commit, keep files to retry, minor committed {}, " +
+            "major committed {}", arcticTable.id(), minorCommitted, majorCommitted, e);
+        return false;
       }
-      LOG.warn("Optimize commit table {} failed, give up commit and clear files in location.", arcticTable.id(), e);
-      // only delete data files are produced by major optimize, because the major optimize maybe support hive
-      // and produce redundant data files in hive location.(don't produce DeleteFile)
-      // minor produced files will be clean by orphan file clean
-      Set<String> committedFilePath = getCommittedDataFilesFromSnapshotId(baseArcticTable, baseSnapshotId);
-      for (ContentFile<?> majorAddFile : majorAddFiles) {
-        String filePath = TableFileUtils.getUriPath(majorAddFile.path().toString());
-        if (!committedFilePath.contains(filePath) && arcticTable.io().exists(filePath)) {
-          arcticTable.io().deleteFile(filePath);
-          LOG.warn("Delete orphan file {} when optimize commit failed", filePath);
-        }
+      if (minorCommitted && majorCommitted) {
+        // all content is committed, the replaced delete files left are redundant and do not change the table data,
+        // so the tasks must not be cleared as failed
+        LOG.warn("Optimize commit table {} failed to remove replaced delete files {} {}, leave them",
+            arcticTable.id(), minorReplacedDeleteFiles, majorReplacedDeleteFiles, e);
+        return true;
       }
+      LOG.warn("Optimize commit table {} failed, give up commit and clear files in location.", arcticTable.id(), e);
+      cleanUncommittedFiles(baseSnapshotId);
       return false;
     }
   }
 
+  /**
+   * Delete the files produced by major optimize which are not committed since the base snapshot, called when the
+   * commit is given up, since the files could be moved to hive location and never cleaned by orphan file clean.
+   *
+   * @param baseSnapshotId - snapshot id of the base table when optimize planned
+   */
+  public void cleanUncommittedFiles(long baseSnapshotId) {
+    if (majorAddFiles.isEmpty()) {
+      return;
+    }
+    UnkeyedTable baseArcticTable;
+    if (arcticTable.isKeyedTable()) {
+      baseArcticTable = arcticTable.asKeyedTable().baseTable();
+    } else {
+      baseArcticTable = arcticTable.asUnkeyedTable();
+    }
+    // only delete data files are produced by major optimize, because the major optimize maybe support hive
+    // and produce redundant data files in hive location.(don't produce DeleteFile)
+    // minor produced files will be clean by orphan file clean
+    Set<String> committedFilePath = getCommittedDataFilesFromSnapshotId(baseArcticTable, baseSnapshotId);
+    for (ContentFile<?> majorAddFile : majorAddFiles) {
+      String filePath = TableFileUtils.getUriPath(majorAddFile.path().toString());
+      if (!committedFilePath.contains(filePath) && arcticTable.io().exists(filePath)) {
+        arcticTable.io().deleteFile(filePath);
+        LOG.warn("Delete orphan file {} when optimize commit failed", filePath);
+      }
+    }
+  }
+
   public Map<String, OptimizeType> getPartitionOptimizeType() {
     return partitionOptimizeType;
   }
@@ -234,7 +330,6 @@ public class BasicOptimizeCommit {
         }
       });
       AtomicInteger deletedPosDeleteFile = new AtomicInteger(0);
-      Set<DeleteFile> deletedPosDeleteFiles = new HashSet<>();
       minorDeleteFiles.forEach(contentFile -> {
         // if partition from sequence isn't bigger than optimized sequence in partitionProperty,
         // the partition files is expired
@@ -248,7 +343,8 @@ public class BasicOptimizeCommit {
         if (contentFile.content() == FileContent.DATA) {
           overwriteBaseFiles.deleteFile((DataFile) contentFile);
         } else {
-          deletedPosDeleteFiles.add((DeleteFile) contentFile);
+          minorReplacedDeleteFiles.add((DeleteFile) contentFile);
+          deletedPosDeleteFile.incrementAndGet();
         }
       });
 
@@ -264,18 +360,6 @@ public class BasicOptimizeCommit {
       }
       overwriteBaseFiles.skipEmptyCommit().commit();
 
-      if (CollectionUtils.isNotEmpty(deletedPosDeleteFiles)) {
-        RewriteFiles rewriteFiles = baseArcticTable.newRewrite();
-        rewriteFiles.set(SnapshotSummary.SNAPSHOT_PRODUCER, CommitMetaProducer.OPTIMIZE.name());
-        rewriteFiles.rewriteFiles(Collections.emptySet(), deletedPosDeleteFiles,
-            Collections.emptySet(), Collections.emptySet());
-        try {
-          rewriteFiles.commit();
-        } catch (ValidationException e) {
-          LOG.warn("Iceberg RewriteFiles commit failed, but ignore", e);
-        }
-      }
-
       LOG.info("{} minor optimize committed, delete {} files [{} posDelete files], " +
               "add {} new files [{} posDelete files]",
           arcticTable.id(), minorDeleteFiles.size(), deletedPosDeleteFile.get(), minorAddFiles.size(),
@@ -361,17 +445,8 @@ public class BasicOptimizeCommit {
       dataFilesRewrite.commit();
 
       // if add DataFiles is not empty, should remove DeleteFiles additional, because DeleteFiles maybe aren't existed
-      if (CollectionUtils.isNotEmpty(addDataFiles) && CollectionUtils.isNotEmpty(deleteDeleteFiles)) {
-        RewriteFiles removeDeleteFiles = baseArcticTable.newRewrite()
-            .validateFromSnapshot(baseArcticTable.currentSnapshot().snapshotId());
-        removeDeleteFiles.set(SnapshotSummary.SNAPSHOT_PRODUCER, CommitMetaProducer.OPTIMIZE.name());
-        removeDeleteFiles
-            .rewriteFiles(Collections.emptySet(), deleteDeleteFiles, Collections.emptySet(), addDeleteFiles);
-        try {
-          removeDeleteFiles.commit();
-        } catch (ValidationException e) {
-          LOG.warn("Iceberg RewriteFiles commit failed, but ignore", e);
-        }
+      if (CollectionUtils.isNotEmpty(addDataFiles)) {
+        majorReplacedDeleteFiles.addAll(deleteDeleteFiles);
       }
 
       LOG.info("{} major optimize committed, delete {} files [{} posDelete files], " +
@@ -383,6 +458,38 @@ public class BasicOptimizeCommit {
     }
   }
 
+  /**
+   * Remove the delete files replaced by the committed content in separate rewrites, since they may have been removed
+   * by others. Failure is thrown for the commit to be retried, the removed ones are skipped by the retry.
+   */
+  private void removeReplacedDeleteFiles() {
+    UnkeyedTable baseArcticTable;
+    if (arcticTable.isKeyedTable()) {
+      baseArcticTable = arcticTable.asKeyedTable().baseTable();
+    } else {
+      baseArcticTable = arcticTable.asUnkeyedTable();
+    }
+
+    if (!minorReplacedDeleteFiles.isEmpty()) {
+      RewriteFiles rewriteFiles = baseArcticTable.newRewrite();
+      rewriteFiles.set(SnapshotSummary.SNAPSHOT_PRODUCER, CommitMetaProducer.OPTIMIZE.name());
+      rewriteFiles.rewriteFiles(Collections.emptySet(), minorReplacedDeleteFiles,
+          Collections.emptySet(), Collections.emptySet());
+      rewriteFiles.commit();
+      minorReplacedDeleteFiles.clear();
+    }
+
+    if (!majorReplacedDeleteFiles.isEmpty()) {
+      RewriteFiles removeDeleteFiles = baseArcticTable.newRewrite()
+          .validateFromSnapshot(baseArcticTable.currentSnapshot().snapshotId());
+      removeDeleteFiles.set(SnapshotSummary.SNAPSHOT_PRODUCER, CommitMetaProducer.OPTIMIZE.name());
+      removeDeleteFiles.rewriteFiles(Collections.emptySet(), majorReplacedDeleteFiles,
+          Collections.emptySet(), Collections.emptySet());
+      removeDeleteFiles.commit();
+      majorReplacedDeleteFiles.clear();
+    }
+  }
+
   private static Set<ContentFile<?>> selectDeletedFiles(OptimizeTaskItem taskItem,
                                                         Set<ContentFile<?>> addPosDeleteFiles) {
     BasicOptimizeTask optimizeTask = taskItem.getOptimizeTask();
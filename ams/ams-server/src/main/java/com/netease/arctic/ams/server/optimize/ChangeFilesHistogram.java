@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.ams.server.optimize;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.netease.arctic.ams.server.model.TableOptimizeRuntime;
+import com.netease.arctic.data.file.ContentFileWithSequence;
+import com.netease.arctic.data.file.FileNameGenerator;
+import com.netease.arctic.table.ChangeTable;
+import org.apache.iceberg.ContentFile;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DataOperations;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Snapshot;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.util.StructLikeMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Count of change files grouped by partition and sequence, with the transaction id of each group.
+ * <p>
+ * The histogram is built by scanning the change store once, then it is updated with the files added by new append
+ * snapshots only, so the files to optimize can be limited by sequence without scanning all change files again.
+ * It is rebuilt if a snapshot between the cached one and the current one removes files, is expired or the
+ * partition spec of the change store changes.
+ */
+public class ChangeFilesHistogram {
+  private static final Logger LOG = LoggerFactory.getLogger(ChangeFilesHistogram.class);
+
+  private PartitionSpec spec;
+  private long snapshotId = TableOptimizeRuntime.INVALID_SNAPSHOT_ID;
+  private StructLikeMap<Map<Long, TableOptimizeItem.SnapshotFileGroup>> partitionFileGroups;
+
+  /**
+   * Get change files grouped by sequence of the given change snapshot.
+   *
+   * @param changeTable                     - change table
+   * @param changeSnapshot                  - change snapshot to plan
+   * @param partitionOptimizedSequence      - files with sequence not bigger than it are skipped
+   * @param legacyPartitionMaxTransactionId - files with transaction id not bigger than it are skipped
+   * @return file groups, one for each sequence
+   */
+  public synchronized List<TableOptimizeItem.SnapshotFileGroup> fileGroups(
+      ChangeTable changeTable, Snapshot changeSnapshot,
+      StructLikeMap<Long> partitionOptimizedSequence, StructLikeMap<Long> legacyPartitionMaxTransactionId) {
+    refresh(changeTable, changeSnapshot);
+    return fileGroups(partitionOptimizedSequence, legacyPartitionMaxTransactionId);
+  }
+
+  synchronized List<TableOptimizeItem.SnapshotFileGroup> fileGroups(
+      StructLikeMap<Long> partitionOptimizedSequence, StructLikeMap<Long> legacyPartitionMaxTransactionId) {
+    Map<Long, TableOptimizeItem.SnapshotFileGroup> fileGroupBySequence = new HashMap<>();
+    for (Map.Entry<StructLike, Map<Long, TableOptimizeItem.SnapshotFileGroup>> partitionEntry :
+        partitionFileGroups.entrySet()) {
+      StructLike partition = partitionEntry.getKey();
+      Long fromSequence = valueOfPartition(partitionOptimizedSequence, partition);
+      Long fromTransactionId = fromSequence == null ?
+          valueOfPartition(legacyPartitionMaxTransactionId, partition) : null;
+      for (TableOptimizeItem.SnapshotFileGroup group : partitionEntry.getValue().values()) {
+        if (fromSequence != null && group.getSequence() <= fromSequence) {
+          continue;
+        }
+        if (fromTransactionId != null && group.getTransactionId() <= fromTransactionId) {
+          continue;
+        }
+        TableOptimizeItem.SnapshotFileGroup merged = fileGroupBySequence.get(group.getSequence());
+        if (merged == null) {
+          fileGroupBySequence.put(group.getSequence(), new TableOptimizeItem.SnapshotFileGroup(
+              group.getSequence(), group.getTransactionId(), group.getFileCnt()));
+        } else {
+          fileGroupBySequence.put(group.getSequence(), new TableOptimizeItem.SnapshotFileGroup(
+              merged.getSequence(), merged.getTransactionId(), merged.getFileCnt() + group.getFileCnt()));
+        }
+      }
+    }
+    return new ArrayList<>(fileGroupBySequence.values());
+  }
+
+  private Long valueOfPartition(StructLikeMap<Long> partitionValues, StructLike partition) {
+    if (partitionValues == null || partitionValues.isEmpty()) {
+      return null;
+    }
+    if (spec.isUnpartitioned()) {
+      return partitionValues.values().iterator().next();
+    }
+    return partitionValues.get(partition);
+  }
+
+  private void refresh(ChangeTable changeTable, Snapshot changeSnapshot) {
+    if (partitionFileGroups != null && changeSnapshot.snapshotId() == snapshotId &&
+        changeTable.spec().specId() == spec.specId()) {
+      return;
+    }
+    List<Snapshot> newSnapshots = partitionFileGroups == null || changeTable.spec().specId() != spec.specId() ?
+        null : appendedSnapshots(changeTable, changeSnapshot);
+    if (newSnapshots == null) {
+      rebuild(changeTable, changeSnapshot);
+    } else {
+      try {
+        for (Snapshot snapshot : newSnapshots) {
+          for (DataFile file : snapshot.addedFiles()) {
+            if (file.specId() != spec.specId()) {
+              rebuild(changeTable, changeSnapshot);
+              return;
+            }
+            addFile(file, snapshot.sequenceNumber());
+          }
+        }
+      } catch (RuntimeException e) {
+        // files may be partially added, rebuild next time
+        this.partitionFileGroups = null;
+        throw e;
+      }
+      LOG.debug("{} update change files histogram from snapshot {} to {} with {} snapshots", changeTable.name(),
+          snapshotId, changeSnapshot.snapshotId(), newSnapshots.size());
+      this.snapshotId = changeSnapshot.snapshotId();
+    }
+  }
+
+  /**
+   * Get the append snapshots after the cached snapshot until the given snapshot, from old to new.
+   *
+   * @return null if the cached snapshot is not an ancestor or some snapshot between them is not an append
+   */
+  private List<Snapshot> appendedSnapshots(ChangeTable changeTable, Snapshot changeSnapshot) {
+    LinkedList<Snapshot> snapshots = new LinkedList<>();
+    Snapshot current = changeSnapshot;
+    while (current != null && current.snapshotId() != snapshotId) {
+      if (!DataOperations.APPEND.equals(current.operation())) {
+        return null;
+      }
+      snapshots.addFirst(current);
+      current = current.parentId() == null ? null : changeTable.snapshot(current.parentId());
+    }
+    return current == null ? null : snapshots;
+  }
+
+  private void rebuild(ChangeTable changeTable, Snapshot changeSnapshot) {
+    this.spec = changeTable.spec();
+    this.partitionFileGroups = null;
+    StructLikeMap<Map<Long, TableOptimizeItem.SnapshotFileGroup>> fileGroups =
+        StructLikeMap.create(spec.partitionType());
+    try (CloseableIterable<ContentFileWithSequence<?>> files = changeTable.newChangeScan()
+        .useSnapshot(changeSnapshot.snapshotId())
+        .planFilesWithSequence()) {
+      for (ContentFileWithSequence<?> file : files) {
+        addFile(fileGroups, file, file.getSequenceNumber());
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to close table scan of " + changeTable.name(), e);
+    }
+    this.partitionFileGroups = fileGroups;
+    LOG.info("{} rebuild change files histogram of snapshot {}", changeTable.name(), changeSnapshot.snapshotId());
+    this.snapshotId = changeSnapshot.snapshotId();
+  }
+
+  private void addFile(ContentFile<?> file, long sequence) {
+    addFile(partitionFileGroups, file, sequence);
+  }
+
+  private static void addFile(StructLikeMap<Map<Long, TableOptimizeItem.SnapshotFileGroup>> partitionFileGroups,
+                              ContentFile<?> file, long sequence) {
+    Map<Long, TableOptimizeItem.SnapshotFileGroup> fileGroups =
+        partitionFileGroups.computeIfAbsent(file.partition(), partition -> new HashMap<>());
+    fileGroups.computeIfAbsent(sequence, key -> new TableOptimizeItem.SnapshotFileGroup(sequence,
+        FileNameGenerator.parseChangeTransactionId(file.path().toString(), sequence))).addFile();
+  }
+
+  @VisibleForTesting
+  void reset(PartitionSpec spec) {
+    this.spec = spec;
+    this.partitionFileGroups = StructLikeMap.create(spec.partitionType());
+    this.snapshotId = TableOptimizeRuntime.INVALID_SNAPSHOT_ID;
+  }
+
+  @VisibleForTesting
+  void addFile(StructLike partition, long sequence, long transactionId) {
+    partitionFileGroups.computeIfAbsent(partition, key -> new HashMap<>())
+        .computeIfAbsent(sequence, key -> new TableOptimizeItem.SnapshotFileGroup(sequence, transactionId))
+        .addFile();
+  }
+}
@@ -99,6 +99,24 @@ public interface IOptimizeService {
    */
   TableOptimizeItem takeTableToCommit() throws InterruptedException;
 
+  /**
+   * Put a prepared commit to write table metadata.
+   * @param preparedCommit -
+   */
+  void putPreparedCommit(PreparedOptimizeCommit preparedCommit);
+
+  /**
+   * Take prepared commit to write table metadata, wait if no commit is ready.
+   * @return PreparedOptimizeCommit -
+   */
+  PreparedOptimizeCommit takePreparedCommit() throws InterruptedException;
+
+  /**
+   * Get metrics of optimize commits.
+   * @return OptimizeCommitMetrics -
+   */
+  OptimizeCommitMetrics getCommitMetrics();
+
   /**
    * Expire and clean optimize history record
    * @param tableIdentifier -
@@ -49,48 +49,53 @@ import java.util.stream.Collectors;
 public class IcebergOptimizeCommit extends BasicOptimizeCommit {
   private static final Logger LOG = LoggerFactory.getLogger(IcebergOptimizeCommit.class);
 
+  private final Set<ContentFile<?>> minorAddFiles = new HashSet<>();
+  private final Set<ContentFile<?>> minorDeleteFiles = new HashSet<>();
+  private final Set<ContentFile<?>> majorAddFiles = new HashSet<>();
+  private final Set<ContentFile<?>> majorDeleteFiles = new HashSet<>();
+
   public IcebergOptimizeCommit(ArcticTable arcticTable,
                                Map<String, List<OptimizeTaskItem>> optimizeTasksToCommit) {
     super(arcticTable, optimizeTasksToCommit);
   }
 
+  @Override
+  protected void collectFiles() {
+    LOG.info("{} get tasks to commit for partitions {}", arcticTable.id(),
+        optimizeTasksToCommit.keySet());
+    for (Map.Entry<String, List<OptimizeTaskItem>> entry : optimizeTasksToCommit.entrySet()) {
+      for (OptimizeTaskItem task : entry.getValue()) {
+        if (checkFileCount(task)) {
+          LOG.error("table {} file count not match", arcticTable.id());
+          throw new IllegalArgumentException("file count not match, can't commit");
+        }
+        // tasks in partition
+        if (task.getOptimizeTask().getTaskId().getType() == OptimizeType.Minor) {
+          task.getOptimizeRuntime().getTargetFiles().stream()
+              .map(SerializationUtils::toContentFile)
+              .forEach(minorAddFiles::add);
+
+          minorDeleteFiles.addAll(selectDeletedFiles(task));
+          partitionOptimizeType.put(entry.getKey(), OptimizeType.Minor);
+        } else {
+          task.getOptimizeRuntime().getTargetFiles().stream()
+              .map(SerializationUtils::toContentFile)
+              .forEach(majorAddFiles::add);
+          majorDeleteFiles.addAll(selectDeletedFiles(task));
+          partitionOptimizeType.put(entry.getKey(), task.getOptimizeTask().getTaskId().getType());
+        }
+      }
+    }
+  }
+
   public boolean commit(long baseSnapshotId) throws Exception {
     try {
       if (optimizeTasksToCommit.isEmpty()) {
         LOG.info("{} get no tasks to commit", arcticTable.id());
         return true;
       }
-      LOG.info("{} get tasks to commit for partitions {}", arcticTable.id(),
-          optimizeTasksToCommit.keySet());
-
       // collect files
-      Set<ContentFile<?>> minorAddFiles = new HashSet<>();
-      Set<ContentFile<?>> minorDeleteFiles = new HashSet<>();
-      Set<ContentFile<?>> majorAddFiles = new HashSet<>();
-      Set<ContentFile<?>> majorDeleteFiles = new HashSet<>();
-      for (Map.Entry<String, List<OptimizeTaskItem>> entry : optimizeTasksToCommit.entrySet()) {
-        for (OptimizeTaskItem task : entry.getValue()) {
-          if (checkFileCount(task)) {
-            LOG.error("table {} file count not match", arcticTable.id());
-            throw new IllegalArgumentException("file count not match, can't commit");
-          }
-          // tasks in partition
-          if (task.getOptimizeTask().getTaskId().getType() == OptimizeType.Minor) {
-            task.getOptimizeRuntime().getTargetFiles().stream()
-                .map(SerializationUtils::toContentFile)
-                .forEach(minorAddFiles::add);
-
-            minorDeleteFiles.addAll(selectDeletedFiles(task));
-            partitionOptimizeType.put(entry.getKey(), OptimizeType.Minor);
-          } else {
-            task.getOptimizeRuntime().getTargetFiles().stream()
-                .map(SerializationUtils::toContentFile)
-                .forEach(majorAddFiles::add);
-            majorDeleteFiles.addAll(selectDeletedFiles(task));
-            partitionOptimizeType.put(entry.getKey(), task.getOptimizeTask().getTaskId().getType());
-          }
-        }
-      }
+      prepareOrThrow();
 
       // commit minor optimize content
       minorCommit(arcticTable, minorAddFiles, minorDeleteFiles, baseSnapshotId);
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.ams.server.optimize;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+
+/**
+ * Metrics of the optimize commit pipeline: depth of the queues and latency of each stage.
+ */
+public class OptimizeCommitMetrics {
+
+  public enum Stage {
+    // from commit triggered to prepare started
+    WAIT_PREPARE,
+    // collect files and move files to hive location
+    PREPARE,
+    // from prepared to commit started
+    WAIT_COMMIT,
+    // write table metadata
+    COMMIT
+  }
+
+  private final IntSupplier prepareQueueSize;
+  private final IntSupplier commitQueueSize;
+  private final Map<Stage, StageMetrics> stages = new LinkedHashMap<>();
+  private final AtomicLong committed = new AtomicLong();
+  private final AtomicLong failed = new AtomicLong();
+  private final AtomicLong retried = new AtomicLong();
+
+  public OptimizeCommitMetrics(IntSupplier prepareQueueSize, IntSupplier commitQueueSize) {
+    this.prepareQueueSize = prepareQueueSize;
+    this.commitQueueSize = commitQueueSize;
+    for (Stage stage : Stage.values()) {
+      stages.put(stage, new StageMetrics());
+    }
+  }
+
+  public void record(Stage stage, long costTime) {
+    stages.get(stage).record(costTime);
+  }
+
+  public void committed() {
+    committed.incrementAndGet();
+  }
+
+  public void failed() {
+    failed.incrementAndGet();
+  }
+
+  public void retried() {
+    retried.incrementAndGet();
+  }
+
+  /**
+   * Tables triggered to commit and waiting for prepare.
+   */
+  public int getPrepareQueueSize() {
+    return prepareQueueSize.getAsInt();
+  }
+
+  /**
+   * Prepared commits waiting for table metadata to be written, including those waiting for retry.
+   */
+  public int getCommitQueueSize() {
+    return commitQueueSize.getAsInt();
+  }
+
+  public Map<Stage, StageMetrics> getStages() {
+    return stages;
+  }
+
+  public long getCommitted() {
+    return committed.get();
+  }
+
+  public long getFailed() {
+    return failed.get();
+  }
+
+  public long getRetried() {
+    return retried.get();
+  }
+
+  public static class StageMetrics {
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong totalTime = new AtomicLong();
+    private final AtomicLong maxTime = new AtomicLong();
+
+    void record(long costTime) {
+      count.incrementAndGet();
+      totalTime.addAndGet(costTime);
+      maxTime.accumulateAndGet(costTime, Math::max);
+    }
+
+    public long getCount() {
+      return count.get();
+    }
+
+    public long getTotalTime() {
+      return totalTime.get();
+    }
+
+    public long getMaxTime() {
+      return maxTime.get();
+    }
+
+    public long getAverageTime() {
+      long count = this.count.get();
+      return count == 0 ? 0 : totalTime.get() / count;
+    }
+  }
+}
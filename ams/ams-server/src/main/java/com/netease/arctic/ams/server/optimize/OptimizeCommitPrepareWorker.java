@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.ams.server.optimize;
+
+import com.netease.arctic.ams.api.NoSuchObjectException;
+import com.netease.arctic.ams.server.ArcticMetaStore;
+import com.netease.arctic.ams.server.service.ServiceContainer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Prepare the commits of tables whose tasks are all prepared: check and collect the files and move files to hive
+ * location, then pass them to {@link OptimizeCommitWorker} to write table metadata, so the slow preparation of
+ * some tables does not hold back the metadata writes of others.
+ */
+public class OptimizeCommitPrepareWorker implements Runnable {
+  private static final Logger LOG = LoggerFactory.getLogger(OptimizeCommitPrepareWorker.class);
+  private final String workerName;
+  private final int maxRetries;
+
+  public OptimizeCommitPrepareWorker(int index, int maxRetries) {
+    this.workerName = "Optimize Commit Prepare Worker-" + index;
+    this.maxRetries = maxRetries;
+  }
+
+  @Override
+  public void run() {
+    LOG.info("{} start work", workerName);
+    TableOptimizeItem currentTable = null;
+    try {
+      while (!ArcticMetaStore.isStarted()) {
+        Thread.sleep(1000);
+      }
+      OptimizeCommitMetrics metrics = ServiceContainer.getOptimizeService().getCommitMetrics();
+      while (true) {
+        boolean prepared = false;
+        try {
+          TableOptimizeItem tableOptimizeItem = ServiceContainer.getOptimizeService().takeTableToCommit();
+          currentTable = tableOptimizeItem;
+          long startTime = System.currentTimeMillis();
+          metrics.record(OptimizeCommitMetrics.Stage.WAIT_PREPARE,
+              startTime - tableOptimizeItem.getCommitTriggerTime());
+          LOG.info("{} start prepare commit", tableOptimizeItem.getTableIdentifier());
+          tableOptimizeItem.checkTaskExecuteTimeout();
+          BasicOptimizeCommit optimizeCommit = tableOptimizeItem.prepareCommit(maxRetries);
+          long preparedTime = System.currentTimeMillis();
+          metrics.record(OptimizeCommitMetrics.Stage.PREPARE, preparedTime - startTime);
+          if (optimizeCommit != null) {
+            ServiceContainer.getOptimizeService().putPreparedCommit(
+                new PreparedOptimizeCommit(tableOptimizeItem, optimizeCommit, preparedTime));
+            prepared = true;
+          }
+        } catch (InterruptedException e) {
+          throw e;
+        } catch (NoSuchObjectException e) {
+          LOG.error("{} can't find table, ignore and continue", workerName, e);
+        } catch (Throwable t) {
+          metrics.failed();
+          LOG.error("{} {} unexpected prepare commit error ", workerName, currentTable, t);
+        } finally {
+          // the table could be triggered to commit again once its prepared commit is done
+          if (currentTable != null && !prepared) {
+            currentTable.setTableCanCommit();
+          }
+          currentTable = null;
+        }
+      }
+    } catch (InterruptedException e) {
+      LOG.info("{} was interrupted", workerName);
+    } catch (Throwable t) {
+      LOG.error("{} {} unexpected prepare commit error ", workerName, currentTable, t);
+    } finally {
+      LOG.info("{} exit, current table {}", workerName, currentTable);
+    }
+  }
+}
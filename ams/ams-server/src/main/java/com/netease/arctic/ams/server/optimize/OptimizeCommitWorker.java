@@ -18,14 +18,17 @@
 
 package com.netease.arctic.ams.server.optimize;
 
-import com.netease.arctic.ams.api.NoSuchObjectException;
 import com.netease.arctic.ams.server.ArcticMetaStore;
 import com.netease.arctic.ams.server.service.ServiceContainer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Write table metadata of the prepared optimize commits, see {@link OptimizeCommitPrepareWorker}.
+ */
 public class OptimizeCommitWorker implements Runnable {
   private static final Logger LOG = LoggerFactory.getLogger(OptimizeCommitWorker.class);
+  private static final long RETRY_DELAY = 1000; // 1s
   private final String workerName;
 
   public OptimizeCommitWorker(int index) {
@@ -40,21 +43,32 @@ public class OptimizeCommitWorker implements Runnable {
       while (!ArcticMetaStore.isStarted()) {
         Thread.sleep(1000);
       }
+      OptimizeCommitMetrics metrics = ServiceContainer.getOptimizeService().getCommitMetrics();
       while (true) {
+        boolean retry = false;
         try {
-          TableOptimizeItem tableOptimizeItem = ServiceContainer.getOptimizeService().takeTableToCommit();
+          PreparedOptimizeCommit preparedCommit = ServiceContainer.getOptimizeService().takePreparedCommit();
+          TableOptimizeItem tableOptimizeItem = preparedCommit.getTableOptimizeItem();
           currentTable = tableOptimizeItem;
+          long startTime = System.currentTimeMillis();
+          metrics.record(OptimizeCommitMetrics.Stage.WAIT_COMMIT, startTime - preparedCommit.getReadyTime());
           LOG.info("{} start commit", tableOptimizeItem.getTableIdentifier());
-          tableOptimizeItem.checkTaskExecuteTimeout();
-          tableOptimizeItem.commitOptimizeTasks();
+          retry = tableOptimizeItem.commitPrepared(preparedCommit.getOptimizeCommit());
+          metrics.record(OptimizeCommitMetrics.Stage.COMMIT, System.currentTimeMillis() - startTime);
+          if (retry) {
+            metrics.retried();
+            ServiceContainer.getOptimizeService().putPreparedCommit(new PreparedOptimizeCommit(tableOptimizeItem,
+                preparedCommit.getOptimizeCommit(), System.currentTimeMillis() + RETRY_DELAY));
+          } else {
+            metrics.committed();
+          }
         } catch (InterruptedException e) {
           throw e;
-        } catch (NoSuchObjectException e) {
-          LOG.error("{} can't find table, ignore and continue", workerName, e);
         } catch (Throwable t) {
+          metrics.failed();
           LOG.error("{} {} unexpected commit error ", workerName, currentTable, t);
         } finally {
-          if (currentTable != null) {
+          if (currentTable != null && !retry) {
             currentTable.setTableCanCommit();
           }
           currentTable = null;
@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.ams.server.optimize;
+
+import com.netease.arctic.ams.server.model.BasicOptimizeTask;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Estimate the execution time of optimize tasks of a table from the size of their input files.
+ * <p>
+ * The cost is modeled as a fixed overhead plus a cost per MB of base, insert, equality-delete and pos-delete files,
+ * since reading deletes costs more than reading data of the same size. Column count and compression of the table
+ * only scale these costs, so they are learned per table. The model is fitted by ridge regression towards default
+ * costs from the cost time reported by finished tasks, with old samples decayed to follow changes of the table.
+ * <p>
+ * The model is only kept in memory. Task history has no input sizes of tasks, so after AMS restarts the model starts
+ * from the default costs again, and learns from tasks reloaded in prepared state and tasks reported afterwards.
+ */
+public class OptimizeCostModel {
+  // overhead, base, insert, equality-delete and pos-delete
+  private static final int FEATURES = 5;
+  private static final String[] FEATURE_NAMES =
+      {"overheadMs", "baseMsPerMb", "insertMsPerMb", "eqDeleteMsPerMb", "posDeleteMsPerMb"};
+  // default costs in ms, before any task is reported
+  private static final double[] DEFAULT_COEFFICIENTS = {10_000, 100, 100, 400, 50};
+  // ridge weight pulling the costs towards the defaults, a hundredth of one sample, which only keeps the model
+  // solvable before tasks of different sizes are reported; a heavier prior would bias the learned overhead
+  private static final double REGULARIZATION = 0.01;
+  // weight of previous samples kept on each new sample
+  private static final double DECAY = 0.98;
+  private static final double MB = 1024 * 1024;
+  static final int MIN_TRAINED_TASKS = 10;
+
+  private final double[][] xtx = new double[FEATURES][FEATURES];
+  private final double[] xty = new double[FEATURES];
+  private volatile double[] coefficients = DEFAULT_COEFFICIENTS.clone();
+  private volatile long trainedTasks;
+  // moving average of |predicted - actual| / actual, of predictions made before each sample learned
+  private volatile double relativeError;
+  private volatile TaskSizing lastSizing;
+
+  /**
+   * Learn the cost time of a finished task.
+   *
+   * @param task     the task
+   * @param costTime execution time of the task in ms
+   */
+  public synchronized void train(BasicOptimizeTask task, long costTime) {
+    if (costTime <= 0) {
+      return;
+    }
+    double[] x = features(task.getBaseFileSize(), task.getInsertFileSize(), task.getDeleteFileSize(),
+        task.getPosDeleteFileSize());
+    double error = Math.abs(predict(x) - costTime) / costTime;
+    relativeError = trainedTasks == 0 ? error : relativeError * 0.9 + error * 0.1;
+    for (int i = 0; i < FEATURES; i++) {
+      xty[i] = xty[i] * DECAY + x[i] * costTime;
+      for (int j = 0; j < FEATURES; j++) {
+        xtx[i][j] = xtx[i][j] * DECAY + x[i] * x[j];
+      }
+    }
+    coefficients = solve();
+    trainedTasks++;
+  }
+
+  public boolean isTrained() {
+    return trainedTasks >= MIN_TRAINED_TASKS;
+  }
+
+  /**
+   * Predict the execution time in ms of a task with input files of given sizes in bytes.
+   */
+  public long predict(long baseSize, long insertSize, long eqDeleteSize, long posDeleteSize) {
+    return (long) predict(features(baseSize, insertSize, eqDeleteSize, posDeleteSize));
+  }
+
+  public long predict(BasicOptimizeTask task) {
+    return predict(task.getBaseFileSize(), task.getInsertFileSize(), task.getDeleteFileSize(),
+        task.getPosDeleteFileSize());
+  }
+
+  /**
+   * Size of base files in a task predicted to finish in the target duration, with the pos-delete files of the given
+   * size read by each task.
+   *
+   * @return size in bytes, or Long.MAX_VALUE if base files cost nothing
+   */
+  public long baseSizeForDuration(long targetDuration, long posDeleteSize) {
+    double[] c = coefficients;
+    if (c[1] <= 0) {
+      return Long.MAX_VALUE;
+    }
+    double fixedCost = c[0] + c[4] * posDeleteSize / MB;
+    return (long) (Math.max(0, targetDuration - fixedCost) / c[1] * MB);
+  }
+
+  public void recordSizing(TaskSizing sizing) {
+    this.lastSizing = sizing;
+  }
+
+  public long getTrainedTasks() {
+    return trainedTasks;
+  }
+
+  public double getRelativeError() {
+    return relativeError;
+  }
+
+  public Map<String, Double> getCoefficients() {
+    double[] c = coefficients;
+    Map<String, Double> result = new LinkedHashMap<>();
+    for (int i = 0; i < FEATURES; i++) {
+      result.put(FEATURE_NAMES[i], c[i]);
+    }
+    return result;
+  }
+
+  /**
+   * The latest decision of task size made by planners with this model, null if never sized by duration.
+   */
+  public TaskSizing getLastSizing() {
+    return lastSizing;
+  }
+
+  private double predict(double[] x) {
+    double[] c = coefficients;
+    double result = 0;
+    for (int i = 0; i < FEATURES; i++) {
+      result += c[i] * x[i];
+    }
+    return result;
+  }
+
+  private static double[] features(long baseSize, long insertSize, long eqDeleteSize, long posDeleteSize) {
+    return new double[] {1, baseSize / MB, insertSize / MB, eqDeleteSize / MB, posDeleteSize / MB};
+  }
+
+  /**
+   * Solve (XtX + λI) c = Xty + λ c0 by gaussian elimination, the costs are never negative.
+   */
+  private double[] solve() {
+    double[][] a = new double[FEATURES][FEATURES + 1];
+    for (int i = 0; i < FEATURES; i++) {
+      System.arraycopy(xtx[i], 0, a[i], 0, FEATURES);
+      a[i][i] += REGULARIZATION;
+      a[i][FEATURES] = xty[i] + REGULARIZATION * DEFAULT_COEFFICIENTS[i];
+    }
+    for (int col = 0; col < FEATURES; col++) {
+      int pivot = col;
+      for (int row = col + 1; row < FEATURES; row++) {
+        if (Math.abs(a[row][col]) > Math.abs(a[pivot][col])) {
+          pivot = row;
+        }
+      }
+      double[] tmp = a[col];
+      a[col] = a[pivot];
+      a[pivot] = tmp;
+      for (int row = col + 1; row < FEATURES; row++) {
+        double factor = a[row][col] / a[col][col];
+        for (int k = col; k <= FEATURES; k++) {
+          a[row][k] -= factor * a[col][k];
+        }
+      }
+    }
+    double[] result = new double[FEATURES];
+    for (int row = FEATURES - 1; row >= 0; row--) {
+      double sum = a[row][FEATURES];
+      for (int k = row + 1; k < FEATURES; k++) {
+        sum -= a[row][k] * result[k];
+      }
+      result[row] = sum / a[row][row];
+    }
+    for (int i = 0; i < FEATURES; i++) {
+      result[i] = Math.max(0, result[i]);
+    }
+    return result;
+  }
+
+  /**
+   * Task size chosen by a planner for a partition, to show why tasks were sized that way.
+   */
+  public static class TaskSizing {
+    private final String partition;
+    private final long targetDuration;
+    private final long defaultTaskSize;
+    private final long taskSize;
+    private final long predictedCostTime;
+
+    public TaskSizing(String partition, long targetDuration, long defaultTaskSize, long taskSize,
+                      long predictedCostTime) {
+      this.partition = partition;
+      this.targetDuration = targetDuration;
+      this.defaultTaskSize = defaultTaskSize;
+      this.taskSize = taskSize;
+      this.predictedCostTime = predictedCostTime;
+    }
+
+    public String getPartition() {
+      return partition;
+    }
+
+    public long getTargetDuration() {
+      return targetDuration;
+    }
+
+    public long getDefaultTaskSize() {
+      return defaultTaskSize;
+    }
+
+    public long getTaskSize() {
+      return taskSize;
+    }
+
+    public long getPredictedCostTime() {
+      return predictedCostTime;
+    }
+  }
+}
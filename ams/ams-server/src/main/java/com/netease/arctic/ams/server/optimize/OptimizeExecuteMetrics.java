@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.ams.server.optimize;
+
+import com.netease.arctic.table.TableIdentifier;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics of optimize tasks of a table reported by optimizers: totals of the counters and timers of all prepared tasks
+ * since AMS started, and those of the latest task.
+ */
+public class OptimizeExecuteMetrics {
+
+  private final Map<String, LongAdder> totals = new ConcurrentHashMap<>();
+  private final AtomicLong tasks = new AtomicLong();
+  private volatile Map<String, Long> latestTask = Collections.emptyMap();
+  private volatile long latestReportTime;
+
+  public void record(Map<String, Long> taskMetrics, long reportTime) {
+    if (taskMetrics == null || taskMetrics.isEmpty()) {
+      return;
+    }
+    taskMetrics.forEach((key, value) -> totals.computeIfAbsent(key, k -> new LongAdder()).add(value));
+    tasks.incrementAndGet();
+    latestTask = Collections.unmodifiableMap(new TreeMap<>(taskMetrics));
+    latestReportTime = reportTime;
+  }
+
+  /**
+   * Tasks reported metrics.
+   */
+  public long getTasks() {
+    return tasks.get();
+  }
+
+  public Map<String, Long> getTotals() {
+    Map<String, Long> result = new TreeMap<>();
+    totals.forEach((key, value) -> result.put(key, value.sum()));
+    return result;
+  }
+
+  public Map<String, Long> getLatestTask() {
+    return latestTask;
+  }
+
+  public long getLatestReportTime() {
+    return latestReportTime;
+  }
+
+  /**
+   * Format totals of tables in the Prometheus text exposition format, a counter named
+   * arctic_optimize_{key}_total labeled by table is exported for every key.
+   *
+   * @param tableMetrics metrics of tables
+   * @return text of all metrics
+   */
+  public static String toPrometheusText(Map<TableIdentifier, OptimizeExecuteMetrics> tableMetrics) {
+    Map<TableIdentifier, Map<String, Long>> tableTotals = new TreeMap<>(
+        (t1, t2) -> t1.toString().compareTo(t2.toString()));
+    Set<String> keys = new TreeSet<>();
+    tableMetrics.forEach((identifier, metrics) -> {
+      Map<String, Long> totals = metrics.getTotals();
+      totals.put("tasks", metrics.getTasks());
+      tableTotals.put(identifier, totals);
+      keys.addAll(totals.keySet());
+    });
+
+    StringBuilder sb = new StringBuilder();
+    for (String key : keys) {
+      String name = "arctic_optimize_" + key.replaceAll("[^a-zA-Z0-9_]", "_") + "_total";
+      sb.append("# TYPE ").append(name).append(" counter\n");
+      tableTotals.forEach((identifier, totals) -> {
+        Long value = totals.get(key);
+        if (value == null) {
+          return;
+        }
+        sb.append(name)
+            .append("{catalog=\"").append(escapeLabel(identifier.getCatalog()))
+            .append("\",database=\"").append(escapeLabel(identifier.getDatabase()))
+            .append("\",table=\"").append(escapeLabel(identifier.getTableName()))
+            .append("\"} ").append(value).append('\n');
+      });
+    }
+    return sb.toString();
+  }
+
+  private static String escapeLabel(String value) {
+    return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+  }
+}
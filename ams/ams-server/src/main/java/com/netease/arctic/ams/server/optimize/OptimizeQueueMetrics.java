@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.ams.server.optimize;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+
+/**
+ * Metrics of an optimize queue: depth of the queue, time optimizers wait for tasks and latency of task dispatch.
+ */
+public class OptimizeQueueMetrics {
+
+  private final IntSupplier queueSize;
+  private final IntSupplier waitingPollers;
+  // from poll started to a task taken, or to poll timeout
+  private final OptimizeCommitMetrics.StageMetrics pollWait = new OptimizeCommitMetrics.StageMetrics();
+  // load files and mark the task executing in sysdb
+  private final OptimizeCommitMetrics.StageMetrics dispatch = new OptimizeCommitMetrics.StageMetrics();
+  private final AtomicLong dispatched = new AtomicLong();
+  private final AtomicLong dispatchFailed = new AtomicLong();
+  private final AtomicLong pollTimeout = new AtomicLong();
+
+  public OptimizeQueueMetrics(IntSupplier queueSize, IntSupplier waitingPollers) {
+    this.queueSize = queueSize;
+    this.waitingPollers = waitingPollers;
+  }
+
+  public void recordPollWait(long costTime) {
+    pollWait.record(costTime);
+  }
+
+  public void recordDispatch(long costTime, boolean success) {
+    dispatch.record(costTime);
+    if (success) {
+      dispatched.incrementAndGet();
+    } else {
+      dispatchFailed.incrementAndGet();
+    }
+  }
+
+  public void pollTimeout() {
+    pollTimeout.incrementAndGet();
+  }
+
+  /**
+   * Tasks planned and waiting for optimizers.
+   */
+  public int getQueueSize() {
+    return queueSize.getAsInt();
+  }
+
+  /**
+   * Optimizer threads waiting for tasks.
+   */
+  public int getWaitingPollers() {
+    return waitingPollers.getAsInt();
+  }
+
+  public OptimizeCommitMetrics.StageMetrics getPollWait() {
+    return pollWait;
+  }
+
+  public OptimizeCommitMetrics.StageMetrics getDispatch() {
+    return dispatch;
+  }
+
+  public long getDispatched() {
+    return dispatched.get();
+  }
+
+  public long getDispatchFailed() {
+    return dispatchFailed.get();
+  }
+
+  public long getPollTimeout() {
+    return pollTimeout.get();
+  }
+}
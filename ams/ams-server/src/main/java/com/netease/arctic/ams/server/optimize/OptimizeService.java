@@ -67,6 +67,7 @@ import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
@@ -76,6 +77,9 @@ public class OptimizeService extends IJDBCService implements IOptimizeService {
   private ScheduledTasks<TableIdentifier, OptimizeCheckTask> checkTasks;
 
   private final BlockingQueue<TableOptimizeItem> toCommitTables = new ArrayBlockingQueue<>(1000);
+  private final DelayQueue<PreparedOptimizeCommit> preparedCommits = new DelayQueue<>();
+  private final OptimizeCommitMetrics commitMetrics =
+      new OptimizeCommitMetrics(toCommitTables::size, preparedCommits::size);
 
   private final ConcurrentHashMap<TableIdentifier, TableOptimizeItem> cachedTables = new ConcurrentHashMap<>();
   private final Set<TableIdentifier> invalidTables = Collections.synchronizedSet(new HashSet<>());
@@ -479,6 +483,21 @@ public class OptimizeService extends IJDBCService implements IOptimizeService {
     return toCommitTables.take();
   }
 
+  @Override
+  public void putPreparedCommit(PreparedOptimizeCommit preparedCommit) {
+    preparedCommits.put(preparedCommit);
+  }
+
+  @Override
+  public PreparedOptimizeCommit takePreparedCommit() throws InterruptedException {
+    return preparedCommits.take();
+  }
+
+  @Override
+  public OptimizeCommitMetrics getCommitMetrics() {
+    return commitMetrics;
+  }
+
   @Override
   public void expireOptimizeHistory(TableIdentifier tableIdentifier, long expireTime) {
     try (SqlSession sqlSession = getSqlSession(true)) {
@@ -19,9 +19,11 @@
 package com.netease.arctic.ams.server.optimize;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
 import com.netease.arctic.ams.api.ErrorMessage;
 import com.netease.arctic.ams.api.JobId;
 import com.netease.arctic.ams.api.OptimizeStatus;
+import com.netease.arctic.ams.api.OptimizeTask;
 import com.netease.arctic.ams.api.OptimizeTaskId;
 import com.netease.arctic.ams.api.properties.OptimizeTaskProperties;
 import com.netease.arctic.ams.server.mapper.InternalTableFilesMapper;
@@ -38,17 +40,21 @@ import com.netease.arctic.table.ArcticTable;
 import com.netease.arctic.table.TableIdentifier;
 import com.netease.arctic.table.TableProperties;
 import com.netease.arctic.utils.CompatiblePropertyUtil;
+import com.netease.arctic.utils.ContentFileListCodec;
 import com.netease.arctic.utils.SerializationUtils;
 import org.apache.ibatis.session.SqlSession;
 import org.apache.iceberg.ContentFile;
 import org.apache.iceberg.FileContent;
+import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.util.PropertyUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -57,6 +63,7 @@ public class OptimizeTaskItem extends IJDBCService {
   private static final Logger LOG = LoggerFactory.getLogger(OptimizeTaskItem.class);
   // interval between failed and retry = (1 + retry) * RETRY_INTERVAL
   private static final long RETRY_INTERVAL = 60000; // 60s
+  private static final int FILE_INSERT_BATCH_SIZE = 100;
 
   private final BasicOptimizeTask optimizeTask;
   private volatile OptimizeTaskRuntime optimizeRuntime;
@@ -258,6 +265,47 @@ public class OptimizeTaskItem extends IJDBCService {
         .map(SerializationUtils::byteArrayToByteBuffer).collect(Collectors.toList()));
   }
 
+  /**
+   * Build the task sent to optimizer, in which files are encoded by {@link ContentFileListCodec} as a whole
+   * instead of java serialized one by one. Files should be loaded by {@link #setFiles()} before.
+   *
+   * @return optimize task to send
+   */
+  public OptimizeTask buildTransferTask() {
+    ArcticTable arcticTable = ServiceContainer.getOptimizeService()
+        .getTableOptimizeItem(getTableIdentifier()).getArcticTable();
+    Map<Integer, PartitionSpec> baseSpecs;
+    Map<Integer, PartitionSpec> changeSpecs;
+    if (arcticTable.isKeyedTable()) {
+      baseSpecs = arcticTable.asKeyedTable().baseTable().specs();
+      changeSpecs = arcticTable.asKeyedTable().changeTable().specs();
+    } else {
+      baseSpecs = arcticTable.asUnkeyedTable().specs();
+      changeSpecs = baseSpecs;
+    }
+
+    OptimizeTask transferTask = new OptimizeTask();
+    transferTask.setTaskId(optimizeTask.getTaskId());
+    transferTask.setTableIdentifier(optimizeTask.getTableIdentifier());
+    transferTask.setSourceNodes(optimizeTask.getSourceNodes());
+    transferTask.setProperties(optimizeTask.getProperties());
+    transferTask.setInsertFiles(Collections.emptyList());
+    transferTask.setDeleteFiles(Collections.emptyList());
+    transferTask.setBaseFiles(Collections.emptyList());
+    transferTask.setPosDeleteFiles(Collections.emptyList());
+    transferTask.setInsertFileList(encodeFiles(changeSpecs, optimizeTask.getInsertFiles()));
+    transferTask.setDeleteFileList(encodeFiles(changeSpecs, optimizeTask.getDeleteFiles()));
+    transferTask.setBaseFileList(encodeFiles(baseSpecs, optimizeTask.getBaseFiles()));
+    transferTask.setPosDeleteFileList(encodeFiles(baseSpecs, optimizeTask.getPosDeleteFiles()));
+    return transferTask;
+  }
+
+  private static ByteBuffer encodeFiles(Map<Integer, PartitionSpec> specs, List<ByteBuffer> files) {
+    List<ContentFile<?>> contentFiles = files == null ? Collections.emptyList() :
+        files.stream().map(SerializationUtils::toContentFile).collect(Collectors.toList());
+    return ContentFileListCodec.encode(specs, contentFiles);
+  }
+
   public void setMaxExecuteTime() {
     // can update max execute time on optimizing
     try {
@@ -291,16 +339,7 @@ public class OptimizeTaskItem extends IJDBCService {
       if (updateTargetFiles) {
         try {
           internalTableFilesMapper.deleteOptimizeTaskTargetFile(optimizeTask.getTaskId());
-          newRuntime.getTargetFiles().forEach(file -> {
-            ContentFile<?> contentFile = SerializationUtils.toContentFile(file);
-            if (contentFile.content() == FileContent.DATA) {
-              internalTableFilesMapper.insertOptimizeTaskFile(optimizeTask.getTaskId(),
-                  DataFileType.BASE_FILE.name(), 1, SerializationUtils.byteBufferToByteArray(file));
-            } else {
-              internalTableFilesMapper.insertOptimizeTaskFile(optimizeTask.getTaskId(),
-                  DataFileType.POS_DELETE_FILE.name(), 1, SerializationUtils.byteBufferToByteArray(file));
-            }
-          });
+          insertTargetFiles(internalTableFilesMapper, newRuntime.getTargetFiles());
         } catch (Exception e) {
           LOG.error("Update the internal table files failed.", e);
           sqlSession.rollback(true);
@@ -318,16 +357,7 @@ public class OptimizeTaskItem extends IJDBCService {
 
       try {
         internalTableFilesMapper.deleteOptimizeTaskTargetFile(optimizeTask.getTaskId());
-        optimizeRuntime.getTargetFiles().forEach(file -> {
-          ContentFile<?> contentFile = SerializationUtils.toContentFile(file);
-          if (contentFile.content() == FileContent.DATA) {
-            internalTableFilesMapper.insertOptimizeTaskFile(optimizeTask.getTaskId(),
-                DataFileType.BASE_FILE.name(), 1, SerializationUtils.byteBufferToByteArray(file));
-          } else {
-            internalTableFilesMapper.insertOptimizeTaskFile(optimizeTask.getTaskId(),
-                DataFileType.POS_DELETE_FILE.name(), 1, SerializationUtils.byteBufferToByteArray(file));
-          }
-        });
+        insertTargetFiles(internalTableFilesMapper, optimizeRuntime.getTargetFiles());
       } catch (Exception e) {
         LOG.error("Update the internal table files failed.", e);
         sqlSession.rollback(true);
@@ -338,6 +368,36 @@ public class OptimizeTaskItem extends IJDBCService {
     }
   }
 
+  private void insertTargetFiles(InternalTableFilesMapper internalTableFilesMapper, List<ByteBuffer> targetFiles) {
+    if (targetFiles == null) {
+      return;
+    }
+    List<ByteBuffer> dataFiles = new ArrayList<>();
+    List<ByteBuffer> deleteFiles = new ArrayList<>();
+    targetFiles.forEach(file -> {
+      ContentFile<?> contentFile = SerializationUtils.toContentFile(file);
+      if (contentFile.content() == FileContent.DATA) {
+        dataFiles.add(file);
+      } else {
+        deleteFiles.add(file);
+      }
+    });
+    insertFiles(internalTableFilesMapper, DataFileType.BASE_FILE, 1, dataFiles);
+    insertFiles(internalTableFilesMapper, DataFileType.POS_DELETE_FILE, 1, deleteFiles);
+  }
+
+  private void insertFiles(InternalTableFilesMapper internalTableFilesMapper, DataFileType contentType,
+                           int isTarget, List<ByteBuffer> files) {
+    if (files == null || files.isEmpty()) {
+      return;
+    }
+    // insert in batches, to avoid one statement per file and also too large statements
+    for (List<ByteBuffer> batch : Lists.partition(files, FILE_INSERT_BATCH_SIZE)) {
+      internalTableFilesMapper.insertOptimizeTaskFiles(optimizeTask.getTaskId(), contentType.name(), isTarget,
+          batch.stream().map(SerializationUtils::byteBufferToByteArray).collect(Collectors.toList()));
+    }
+  }
+
   private TableTaskHistory constructNewTableTaskHistory(long currentTime) {
     TableTaskHistory tableTaskHistory = new TableTaskHistory();
     tableTaskHistory.setTableIdentifier(new TableIdentifier(optimizeTask.getTableIdentifier()));
@@ -384,33 +444,12 @@ public class OptimizeTaskItem extends IJDBCService {
           getMapper(sqlSession, InternalTableFilesMapper.class);
 
       BasicOptimizeTask optimizeTask = getOptimizeTask();
-      OptimizeTaskId optimizeTaskId = optimizeTask.getTaskId();
       try {
         optimizeTasksMapper.insertOptimizeTask(optimizeTask, getOptimizeRuntime());
-        optimizeTask.getInsertFiles()
-            .forEach(f -> internalTableFilesMapper
-                .insertOptimizeTaskFile(optimizeTaskId,
-                    DataFileType.INSERT_FILE.name(),
-                    0,
-                    SerializationUtils.byteBufferToByteArray(f)));
-        optimizeTask.getDeleteFiles()
-            .forEach(f -> internalTableFilesMapper
-                .insertOptimizeTaskFile(optimizeTaskId,
-                    DataFileType.EQ_DELETE_FILE.name(),
-                    0,
-                    SerializationUtils.byteBufferToByteArray(f)));
-        optimizeTask.getBaseFiles()
-            .forEach(f -> internalTableFilesMapper
-                .insertOptimizeTaskFile(optimizeTaskId,
-                    DataFileType.BASE_FILE.name(),
-                    0,
-                    SerializationUtils.byteBufferToByteArray(f)));
-        optimizeTask.getPosDeleteFiles()
-            .forEach(f -> internalTableFilesMapper
-                .insertOptimizeTaskFile(optimizeTaskId,
-                    DataFileType.POS_DELETE_FILE.name(),
-                    0,
-                    SerializationUtils.byteBufferToByteArray(f)));
+        insertFiles(internalTableFilesMapper, DataFileType.INSERT_FILE, 0, optimizeTask.getInsertFiles());
+        insertFiles(internalTableFilesMapper, DataFileType.EQ_DELETE_FILE, 0, optimizeTask.getDeleteFiles());
+        insertFiles(internalTableFilesMapper, DataFileType.BASE_FILE, 0, optimizeTask.getBaseFiles());
+        insertFiles(internalTableFilesMapper, DataFileType.POS_DELETE_FILE, 0, optimizeTask.getPosDeleteFiles());
 
         sqlSession.commit(true);
       } catch (Exception e) {
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.ams.server.optimize;
+
+import com.netease.arctic.ams.api.OptimizeType;
+import com.netease.arctic.ams.server.model.BasicOptimizeTask;
+import com.netease.arctic.ams.server.model.FilesStatistics;
+import org.apache.iceberg.Snapshot;
+
+/**
+ * Summary of the optimize work pending for a table, published by the planner for the snapshots it planned on,
+ * so the status refresh can reuse it until the table changes.
+ */
+public class PendingOptimizeSummary {
+  private final long snapshotId;
+  private final long changeSnapshotId;
+  private final OptimizeType optimizeType;
+  private final int partitionCount;
+  private final int taskCount;
+  private final FilesStatistics filesStatistics;
+  private final long planTime;
+
+  private PendingOptimizeSummary(long snapshotId, long changeSnapshotId, OptimizeType optimizeType,
+                                 int partitionCount, int taskCount, FilesStatistics filesStatistics) {
+    this.snapshotId = snapshotId;
+    this.changeSnapshotId = changeSnapshotId;
+    this.optimizeType = optimizeType;
+    this.partitionCount = partitionCount;
+    this.taskCount = taskCount;
+    this.filesStatistics = filesStatistics;
+    this.planTime = System.currentTimeMillis();
+  }
+
+  /**
+   * Build the summary of a plan result.
+   *
+   * @param planResult - the plan result, may be empty
+   * @param baseSnapshot - base snapshot planned on, null if the table is empty
+   * @param changeSnapshot - change snapshot planned on, null for unkeyed table or empty change store
+   * @return the summary
+   */
+  public static PendingOptimizeSummary of(OptimizePlanResult planResult, Snapshot baseSnapshot,
+                                          Snapshot changeSnapshot) {
+    long snapshotId = snapshotIdOf(baseSnapshot);
+    long changeSnapshotId = snapshotIdOf(changeSnapshot);
+    if (planResult.isEmpty()) {
+      return new PendingOptimizeSummary(snapshotId, changeSnapshotId, null, 0, 0, FilesStatistics.build(0, 0));
+    }
+    FilesStatistics.Builder builder = FilesStatistics.builder();
+    for (BasicOptimizeTask task : planResult.getOptimizeTasks()) {
+      builder.addFiles(task.getBaseFileSize(), task.getBaseFileCnt());
+      builder.addFiles(task.getInsertFileSize(), task.getInsertFileCnt());
+      builder.addFiles(task.getDeleteFileSize(), task.getDeleteFileCnt());
+      builder.addFiles(task.getPosDeleteFileSize(), task.getPosDeleteFileCnt());
+    }
+    return new PendingOptimizeSummary(snapshotId, changeSnapshotId, planResult.getOptimizeType(),
+        planResult.getAffectPartitions().size(), planResult.getOptimizeTasks().size(), builder.build());
+  }
+
+  public static long snapshotIdOf(Snapshot snapshot) {
+    return snapshot == null ? -1 : snapshot.snapshotId();
+  }
+
+  /**
+   * Check whether this summary was planned on the given snapshots.
+   */
+  public boolean plannedOn(Snapshot baseSnapshot, Snapshot changeSnapshot) {
+    return snapshotId == snapshotIdOf(baseSnapshot) && changeSnapshotId == snapshotIdOf(changeSnapshot);
+  }
+
+  public boolean isIdle() {
+    return optimizeType == null;
+  }
+
+  public long getSnapshotId() {
+    return snapshotId;
+  }
+
+  public long getChangeSnapshotId() {
+    return changeSnapshotId;
+  }
+
+  public OptimizeType getOptimizeType() {
+    return optimizeType;
+  }
+
+  public int getPartitionCount() {
+    return partitionCount;
+  }
+
+  /**
+   * Estimated cost of the pending work, in tasks to execute.
+   */
+  public int getTaskCount() {
+    return taskCount;
+  }
+
+  /**
+   * Files to rewrite, the total size is the estimated input bytes of the pending work.
+   */
+  public FilesStatistics getFilesStatistics() {
+    return filesStatistics;
+  }
+
+  public long getPlanTime() {
+    return planTime;
+  }
+
+  @Override
+  public String toString() {
+    return "PendingOptimizeSummary{" +
+        "snapshotId=" + snapshotId +
+        ", changeSnapshotId=" + changeSnapshotId +
+        ", optimizeType=" + optimizeType +
+        ", partitionCount=" + partitionCount +
+        ", taskCount=" + taskCount +
+        ", filesStatistics=" + filesStatistics +
+        ", planTime=" + planTime +
+        '}';
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.ams.server.optimize;
+
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A prepared optimize commit waiting for its table metadata to be written, delayed when retried.
+ */
+public class PreparedOptimizeCommit implements Delayed {
+  private final TableOptimizeItem tableOptimizeItem;
+  private final BasicOptimizeCommit optimizeCommit;
+  private final long readyTime;
+
+  public PreparedOptimizeCommit(TableOptimizeItem tableOptimizeItem, BasicOptimizeCommit optimizeCommit,
+                                long readyTime) {
+    this.tableOptimizeItem = tableOptimizeItem;
+    this.optimizeCommit = optimizeCommit;
+    this.readyTime = readyTime;
+  }
+
+  public TableOptimizeItem getTableOptimizeItem() {
+    return tableOptimizeItem;
+  }
+
+  public BasicOptimizeCommit getOptimizeCommit() {
+    return optimizeCommit;
+  }
+
+  public long getReadyTime() {
+    return readyTime;
+  }
+
+  @Override
+  public long getDelay(TimeUnit unit) {
+    return unit.convert(readyTime - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public int compareTo(Delayed o) {
+    return Long.compare(readyTime, ((PreparedOptimizeCommit) o).readyTime);
+  }
+}
@@ -52,6 +52,7 @@ public class SupportHiveCommit extends BasicOptimizeCommit {
   private static final Logger LOG = LoggerFactory.getLogger(SupportHiveCommit.class);
 
   protected Consumer<OptimizeTaskItem> updateTargetFiles;
+  private boolean targetFilesMoved = false;
 
   public SupportHiveCommit(
       ArcticTable arcticTable,
@@ -62,8 +63,20 @@ public class SupportHiveCommit extends BasicOptimizeCommit {
     this.updateTargetFiles = updateTargetFiles;
   }
 
+  /**
+   * Move the target files of major tasks to hive location before the files are collected, it is done in the
+   * prepare stage of the commit since it's the slowest part of it.
+   */
   @Override
-  public boolean commit(long baseSnapshotId) throws Exception {
+  public void prepare() {
+    if (!targetFilesMoved) {
+      moveTargetFilesToHiveLocation();
+      targetFilesMoved = true;
+    }
+    super.prepare();
+  }
+
+  private void moveTargetFilesToHiveLocation() {
     LOG.info("{} get tasks to support hive commit for partitions {}", arcticTable.id(),
         optimizeTasksToCommit.keySet());
     HMSClientPool hiveClient = ((SupportHive) arcticTable).getHMSClient();
@@ -125,8 +138,6 @@ public class SupportHiveCommit extends BasicOptimizeCommit {
         }
       }
     });
-
-    return super.commit(baseSnapshotId);
   }
 
   protected boolean isPartitionMajorOptimizeSupportHive(String partition, List<OptimizeTaskItem> optimizeTaskItems) {
@@ -51,7 +51,6 @@ import com.netease.arctic.ams.server.utils.UnKeyedTableUtil;
 import com.netease.arctic.catalog.ArcticCatalog;
 import com.netease.arctic.catalog.CatalogLoader;
 import com.netease.arctic.data.file.ContentFileWithSequence;
-import com.netease.arctic.data.file.FileNameGenerator;
 import com.netease.arctic.hive.table.SupportHive;
 import com.netease.arctic.hive.utils.TableTypeUtil;
 import com.netease.arctic.scan.ChangeTableIncrementalScan;
@@ -61,6 +60,8 @@ import com.netease.arctic.table.TableIdentifier;
 import com.netease.arctic.table.TableProperties;
 import com.netease.arctic.table.UnkeyedTable;
 import com.netease.arctic.utils.CompatiblePropertyUtil;
+import com.netease.arctic.utils.ContentFileListCodec;
+import com.netease.arctic.utils.SerializationUtils;
 import com.netease.arctic.utils.TablePropertyUtil;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.collections.MapUtils;
@@ -106,11 +107,16 @@ public class TableOptimizeItem extends IJDBCService {
   private volatile ArcticTable arcticTable;
   private TableOptimizeRuntime tableOptimizeRuntime;
   private FilesStatistics optimizeFileInfo;
+  private volatile PendingOptimizeSummary pendingOptimizeSummary;
+  private final ChangeFilesHistogram changeFilesHistogram = new ChangeFilesHistogram();
+  private final OptimizeCostModel costModel = new OptimizeCostModel();
+  private final OptimizeExecuteMetrics executeMetrics = new OptimizeExecuteMetrics();
 
   private final ReentrantLock tasksLock = new ReentrantLock();
   private final ReentrantLock tableLock = new ReentrantLock();
   private final ReentrantLock tasksCommitLock = new ReentrantLock();
   private final AtomicBoolean waitCommit = new AtomicBoolean(false);
+  private volatile long commitTriggerTime;
   // flag to avoid concurrent plan
   private final AtomicBoolean planning = new AtomicBoolean(false);
 
@@ -169,6 +175,10 @@ public class TableOptimizeItem extends IJDBCService {
     if (CollectionUtils.isNotEmpty(optimizeTasks)) {
       optimizeTasks
           .forEach(task -> this.optimizeTasks.put(task.getOptimizeTask().getTaskId(), task));
+      // learn tasks prepared before restarted
+      optimizeTasks.stream()
+          .filter(task -> task.getOptimizeStatus() == OptimizeStatus.Prepared)
+          .forEach(task -> costModel.train(task.getOptimizeTask(), task.getOptimizeRuntime().getCostTime()));
     }
   }
 
@@ -212,6 +222,7 @@ public class TableOptimizeItem extends IJDBCService {
       if (!allTasksPrepared()) {
         return;
       }
+      commitTriggerTime = System.currentTimeMillis();
       boolean success = ServiceContainer.getOptimizeService().triggerOptimizeCommit(this);
       if (success) {
         waitCommit.set(true);
@@ -344,7 +355,15 @@ public class TableOptimizeItem extends IJDBCService {
         optimizeTaskItem.onFailed(optimizeTaskStat.getErrorMessage(), optimizeTaskStat.getCostTime());
         break;
       case Prepared:
-        List<ByteBuffer> targetFiles = optimizeTaskStat.getFiles();
+        List<ByteBuffer> targetFiles;
+        if (optimizeTaskStat.isSetFileList()) {
+          // files are kept java serialized in ams
+          targetFiles = ContentFileListCodec.decode(optimizeTaskStat.bufferForFileList()).stream()
+              .map(SerializationUtils::toByteBuffer)
+              .collect(Collectors.toCollection(ArrayList::new));
+        } else {
+          targetFiles = optimizeTaskStat.getFiles();
+        }
         long targetFileSize = optimizeTaskStat.getNewFileSize();
         // if minor optimize, insert files as base new files
         if (optimizeTaskItem.getOptimizeTask().getTaskId().getType() == OptimizeType.Minor &&
@@ -368,6 +387,8 @@ public class TableOptimizeItem extends IJDBCService {
         }
         optimizeTaskItem.onPrepared(optimizeTaskStat.getReportTime(),
             targetFiles, targetFileSize, optimizeTaskStat.getCostTime());
+        costModel.train(optimizeTaskItem.getOptimizeTask(), optimizeTaskStat.getCostTime());
+        executeMetrics.record(optimizeTaskStat.getMetrics(), optimizeTaskStat.getReportTime());
         tryTriggerCommit();
         break;
       default:
@@ -453,97 +474,142 @@ public class TableOptimizeItem extends IJDBCService {
       // if the table is planning, should not update the optimizing status 
       return;
     }
-    if (com.netease.arctic.utils.TableTypeUtil.isIcebergTableFormat(getArcticTable())) {
-      Snapshot currentSnapshot = arcticTable.asUnkeyedTable().currentSnapshot();
-      if (currentSnapshot == null) {
+    Snapshot baseCurrentSnapshot;
+    Snapshot changeCurrentSnapshot = null;
+    ArcticTable arcticTable = getArcticTable();
+    boolean icebergTable = com.netease.arctic.utils.TableTypeUtil.isIcebergTableFormat(arcticTable);
+    if (icebergTable) {
+      baseCurrentSnapshot = arcticTable.asUnkeyedTable().currentSnapshot();
+      if (baseCurrentSnapshot == null) {
         tryUpdateOptimizeInfo(TableOptimizeRuntime.OptimizeStatus.Idle, Collections.emptyList(), null);
         return;
       }
-      List<FileScanTask> fileScanTasks;
-      TableScan tableScan = arcticTable.asUnkeyedTable().newScan();
-      tableScan = tableScan.useSnapshot(currentSnapshot.snapshotId());
-      try (CloseableIterable<FileScanTask> filesIterable = tableScan.planFiles()) {
-        fileScanTasks = Lists.newArrayList(filesIterable);
-      } catch (IOException e) {
-        throw new UncheckedIOException("Failed to close table scan of " + tableIdentifier, e);
-      }
-      IcebergFullOptimizePlan fullPlan =
-          getIcebergFullPlan(fileScanTasks, -1, System.currentTimeMillis(), currentSnapshot.snapshotId());
-      OptimizePlanResult optimizePlanResult = fullPlan.plan();
-      // pending for full optimize
-      if (!optimizePlanResult.isEmpty()) {
-        tryUpdateOptimizeInfo(TableOptimizeRuntime.OptimizeStatus.Pending, optimizePlanResult.getOptimizeTasks(),
-            OptimizeType.FullMajor);
-      } else {
-        IcebergMinorOptimizePlan minorPlan =
-            getIcebergMinorPlan(fileScanTasks, -1, System.currentTimeMillis(), currentSnapshot.snapshotId());
-        optimizePlanResult = minorPlan.plan();
-        // pending for minor optimize
-        if (!optimizePlanResult.isEmpty()) {
-          tryUpdateOptimizeInfo(
-              TableOptimizeRuntime.OptimizeStatus.Pending, optimizePlanResult.getOptimizeTasks(), OptimizeType.Minor);
-        } else {
-          // idle state
-          tryUpdateOptimizeInfo(TableOptimizeRuntime.OptimizeStatus.Idle, Collections.emptyList(), null);
-        }
-      }
+    } else if (arcticTable.isKeyedTable()) {
+      baseCurrentSnapshot = UnKeyedTableUtil.getCurrentSnapshot(arcticTable.asKeyedTable().baseTable());
+      changeCurrentSnapshot = UnKeyedTableUtil.getCurrentSnapshot(arcticTable.asKeyedTable().changeTable());
     } else {
-      Snapshot baseCurrentSnapshot;
-      Snapshot changeCurrentSnapshot = null;
-      ArcticTable arcticTable = getArcticTable();
-      StructLikeMap<Long> partitionOptimizedSequence = null;
-      StructLikeMap<Long> legacyPartitionMaxTransactionId = null;
-      if (arcticTable.isKeyedTable()) {
-        baseCurrentSnapshot = UnKeyedTableUtil.getCurrentSnapshot(arcticTable.asKeyedTable().baseTable());
-        partitionOptimizedSequence = TablePropertyUtil.getPartitionOptimizedSequence(arcticTable.asKeyedTable());
-        legacyPartitionMaxTransactionId =
-            TablePropertyUtil.getLegacyPartitionMaxTransactionId(arcticTable.asKeyedTable());
-        changeCurrentSnapshot = UnKeyedTableUtil.getCurrentSnapshot(arcticTable.asKeyedTable().changeTable());
+      baseCurrentSnapshot = UnKeyedTableUtil.getCurrentSnapshot(arcticTable.asUnkeyedTable());
+    }
+
+    // reuse the pending work published by the planner until the table changes or a trigger interval passes
+    PendingOptimizeSummary summary = this.pendingOptimizeSummary;
+    if (summary == null || !summary.plannedOn(baseCurrentSnapshot, changeCurrentSnapshot) ||
+        (!icebergTable && triggerIntervalPassed(summary, arcticTable))) {
+      OptimizePlanResult optimizePlanResult;
+      if (icebergTable) {
+        optimizePlanResult = planIcebergPending(baseCurrentSnapshot);
       } else {
-        baseCurrentSnapshot = UnKeyedTableUtil.getCurrentSnapshot(arcticTable.asUnkeyedTable());
+        optimizePlanResult = planArcticPending(baseCurrentSnapshot, changeCurrentSnapshot);
       }
+      summary = PendingOptimizeSummary.of(optimizePlanResult, baseCurrentSnapshot, changeCurrentSnapshot);
+      publishPendingOptimizeSummary(summary);
+    }
+    if (summary.isIdle()) {
+      // idle state
+      tryUpdateOptimizeInfo(TableOptimizeRuntime.OptimizeStatus.Idle, Collections.emptyList(), null);
+    } else {
+      // pending for optimize
+      tryUpdateOptimizeInfo(TableOptimizeRuntime.OptimizeStatus.Pending, Collections.emptyList(),
+          summary.getOptimizeType());
+      optimizeFileInfo = summary.getFilesStatistics();
+    }
+  }
+
+  /**
+   * Minor, major and full optimizing are also triggered by intervals without any new snapshot, so an idle summary is
+   * not reused once the shortest enabled trigger interval has passed since it was planned.
+   */
+  private boolean triggerIntervalPassed(PendingOptimizeSummary summary, ArcticTable arcticTable) {
+    if (!summary.isIdle()) {
+      return false;
+    }
+    Map<String, String> properties = arcticTable.properties();
+    long minInterval = Long.MAX_VALUE;
+    if (arcticTable.isKeyedTable()) {
+      minInterval = minEnabledInterval(minInterval, CompatiblePropertyUtil.propertyAsLong(properties,
+          TableProperties.SELF_OPTIMIZING_MINOR_TRIGGER_INTERVAL,
+          TableProperties.SELF_OPTIMIZING_MINOR_TRIGGER_INTERVAL_DEFAULT));
+    }
+    minInterval = minEnabledInterval(minInterval, CompatiblePropertyUtil.propertyAsLong(properties,
+        TableProperties.SELF_OPTIMIZING_MAJOR_TRIGGER_INTERVAL,
+        TableProperties.SELF_OPTIMIZING_MAJOR_TRIGGER_INTERVAL_DEFAULT));
+    minInterval = minEnabledInterval(minInterval, CompatiblePropertyUtil.propertyAsLong(properties,
+        TableProperties.SELF_OPTIMIZING_FULL_TRIGGER_INTERVAL,
+        TableProperties.SELF_OPTIMIZING_FULL_TRIGGER_INTERVAL_DEFAULT));
+    return System.currentTimeMillis() - summary.getPlanTime() >= minInterval;
+  }
+
+  private static long minEnabledInterval(long minInterval, long interval) {
+    return interval < 0 ? minInterval : Math.min(minInterval, interval);
+  }
+
+  private OptimizePlanResult planIcebergPending(Snapshot currentSnapshot) {
+    List<FileScanTask> fileScanTasks;
+    TableScan tableScan = arcticTable.asUnkeyedTable().newScan();
+    tableScan = tableScan.useSnapshot(currentSnapshot.snapshotId());
+    try (CloseableIterable<FileScanTask> filesIterable = tableScan.planFiles()) {
+      fileScanTasks = Lists.newArrayList(filesIterable);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to close table scan of " + tableIdentifier, e);
+    }
+    IcebergFullOptimizePlan fullPlan =
+        getIcebergFullPlan(fileScanTasks, -1, System.currentTimeMillis(), currentSnapshot.snapshotId());
+    OptimizePlanResult optimizePlanResult = fullPlan.plan();
+    if (optimizePlanResult.isEmpty()) {
+      IcebergMinorOptimizePlan minorPlan =
+          getIcebergMinorPlan(fileScanTasks, -1, System.currentTimeMillis(), currentSnapshot.snapshotId());
+      optimizePlanResult = minorPlan.plan();
+    }
+    return optimizePlanResult;
+  }
 
-      List<FileScanTask> baseFiles = planBaseFiles(baseCurrentSnapshot);
-      FullOptimizePlan fullPlan =
-          getFullPlan(-1, System.currentTimeMillis(), baseFiles, baseCurrentSnapshot);
-      OptimizePlanResult optimizePlanResult = OptimizePlanResult.EMPTY;
-      if (fullPlan != null) {
-        optimizePlanResult = fullPlan.plan();
+  private OptimizePlanResult planArcticPending(Snapshot baseCurrentSnapshot, Snapshot changeCurrentSnapshot) {
+    ArcticTable arcticTable = getArcticTable();
+    StructLikeMap<Long> partitionOptimizedSequence = null;
+    StructLikeMap<Long> legacyPartitionMaxTransactionId = null;
+    if (arcticTable.isKeyedTable()) {
+      partitionOptimizedSequence = TablePropertyUtil.getPartitionOptimizedSequence(arcticTable.asKeyedTable());
+      legacyPartitionMaxTransactionId =
+          TablePropertyUtil.getLegacyPartitionMaxTransactionId(arcticTable.asKeyedTable());
+    }
+
+    List<FileScanTask> baseFiles = planBaseFiles(baseCurrentSnapshot);
+    FullOptimizePlan fullPlan =
+        getFullPlan(-1, System.currentTimeMillis(), baseFiles, baseCurrentSnapshot);
+    OptimizePlanResult optimizePlanResult = OptimizePlanResult.EMPTY;
+    if (fullPlan != null) {
+      optimizePlanResult = fullPlan.plan();
+    }
+    if (optimizePlanResult.isEmpty()) {
+      MajorOptimizePlan majorPlan =
+          getMajorPlan(-1, System.currentTimeMillis(), baseFiles, baseCurrentSnapshot);
+      if (majorPlan != null) {
+        optimizePlanResult = majorPlan.plan();
       }
-      // pending for full optimize
-      if (!optimizePlanResult.isEmpty()) {
-        tryUpdateOptimizeInfo(TableOptimizeRuntime.OptimizeStatus.Pending, optimizePlanResult.getOptimizeTasks(),
-            OptimizeType.FullMajor);
-      } else {
-        MajorOptimizePlan majorPlan =
-            getMajorPlan(-1, System.currentTimeMillis(), baseFiles, baseCurrentSnapshot);
-        if (majorPlan != null) {
-          optimizePlanResult = majorPlan.plan();
-        }
-        // pending for major optimize
-        if (!optimizePlanResult.isEmpty()) {
-          tryUpdateOptimizeInfo(
-              TableOptimizeRuntime.OptimizeStatus.Pending, optimizePlanResult.getOptimizeTasks(), OptimizeType.Major);
-        } else {
-          if (isKeyedTable()) {
-            MinorOptimizePlan minorPlan =
-                getMinorPlan(-1, System.currentTimeMillis(), baseFiles, baseCurrentSnapshot,
-                    changeCurrentSnapshot, partitionOptimizedSequence, legacyPartitionMaxTransactionId);
-            if (minorPlan != null) {
-              optimizePlanResult = minorPlan.plan();
-            }
-            if (!optimizePlanResult.isEmpty()) {
-              tryUpdateOptimizeInfo(TableOptimizeRuntime.OptimizeStatus.Pending,
-                  optimizePlanResult.getOptimizeTasks(),
-                  OptimizeType.Minor);
-              return;
-            }
-          }
-          // idle state
-          tryUpdateOptimizeInfo(TableOptimizeRuntime.OptimizeStatus.Idle, Collections.emptyList(), null);
-        }
+    }
+    if (optimizePlanResult.isEmpty() && isKeyedTable()) {
+      MinorOptimizePlan minorPlan =
+          getMinorPlan(-1, System.currentTimeMillis(), baseFiles, baseCurrentSnapshot,
+              changeCurrentSnapshot, partitionOptimizedSequence, legacyPartitionMaxTransactionId);
+      if (minorPlan != null) {
+        optimizePlanResult = minorPlan.plan();
       }
     }
+    return optimizePlanResult;
+  }
+
+  /**
+   * Publish the pending optimize work planned on the current snapshots of the table.
+   *
+   * @param summary - summary of the plan result
+   */
+  public void publishPendingOptimizeSummary(PendingOptimizeSummary summary) {
+    LOG.debug("{} publish pending optimize summary {}", tableIdentifier, summary);
+    this.pendingOptimizeSummary = summary;
+  }
+
+  public PendingOptimizeSummary getPendingOptimizeSummary() {
+    return pendingOptimizeSummary;
   }
 
   public List<FileScanTask> planBaseFiles(Snapshot baseCurrentSnapshot) {
@@ -1008,48 +1074,101 @@ public class TableOptimizeItem extends IJDBCService {
    * @throws Exception -
    */
   public void commitOptimizeTasks() throws Exception {
-    tasksCommitLock.lock();
+    BasicOptimizeCommit optimizeCommit = prepareCommit(0);
+    if (optimizeCommit != null) {
+      commitPrepared(optimizeCommit);
+    }
+  }
 
-    // check current base table snapshot whether changed when minor optimize
-    if (isMinorOptimizing() && !com.netease.arctic.utils.TableTypeUtil.isIcebergTableFormat(getArcticTable())) {
-      if (tableOptimizeRuntime.getCurrentSnapshotId() !=
-          UnKeyedTableUtil.getSnapshotId(getArcticTable().asKeyedTable().baseTable())) {
+  /**
+   * Prepare the commit of optimize tasks without writing table metadata.
+   *
+   * @param maxRetries - max times to retry the commit if it failed by concurrent commits
+   * @return the prepared commit, null if no tasks to commit
+   */
+  public BasicOptimizeCommit prepareCommit(int maxRetries) {
+    tasksCommitLock.lock();
+    try {
+      Map<String, List<OptimizeTaskItem>> tasksToCommit = getOptimizeTasksToCommit();
+      if (MapUtils.isEmpty(tasksToCommit)) {
+        LOG.info("{} get no tasks to commit", tableIdentifier);
+        return null;
+      }
+      // give up before preparing, files moved to hive location by the prepare would be left otherwise
+      if (isBaseSnapshotChanged(false)) {
         LOG.info("the latest snapshot has changed in base table {}, give up commit.", tableIdentifier);
         optimizeTasksClear(true);
+        return null;
       }
+      long taskCount = tasksToCommit.values().stream().mapToLong(Collection::size).sum();
+      LOG.info("{} get {} tasks of {} partitions to commit", tableIdentifier, taskCount, tasksToCommit.size());
+      BasicOptimizeCommit optimizeCommit;
+      if (com.netease.arctic.utils.TableTypeUtil.isIcebergTableFormat(getArcticTable())) {
+        optimizeCommit = new IcebergOptimizeCommit(getArcticTable(true), tasksToCommit);
+      } else if (TableTypeUtil.isHive(getArcticTable())) {
+        optimizeCommit = new SupportHiveCommit(getArcticTable(true),
+            tasksToCommit, OptimizeTaskItem::persistTargetFiles);
+      } else {
+        optimizeCommit = new BasicOptimizeCommit(getArcticTable(true), tasksToCommit);
+      }
+      optimizeCommit.withRetries(maxRetries).prepare();
+      return optimizeCommit;
+    } finally {
+      tasksCommitLock.unlock();
     }
+  }
 
+  /**
+   * Write table metadata of the prepared commit.
+   *
+   * @param optimizeCommit - commit prepared by {@link #prepareCommit(int)}
+   * @return true if the commit failed and should be retried later
+   */
+  public boolean commitPrepared(BasicOptimizeCommit optimizeCommit) throws Exception {
+    tasksCommitLock.lock();
     try {
-      Map<String, List<OptimizeTaskItem>> tasksToCommit = getOptimizeTasksToCommit();
-      long taskCount = tasksToCommit.values().stream().mapToLong(Collection::size).sum();
-      if (MapUtils.isNotEmpty(tasksToCommit)) {
-        LOG.info("{} get {} tasks of {} partitions to commit", tableIdentifier, taskCount, tasksToCommit.size());
-        BasicOptimizeCommit optimizeCommit;
-        if (com.netease.arctic.utils.TableTypeUtil.isIcebergTableFormat(getArcticTable())) {
-          optimizeCommit = new IcebergOptimizeCommit(getArcticTable(true), tasksToCommit);
-        } else if (TableTypeUtil.isHive(getArcticTable())) {
-          optimizeCommit = new SupportHiveCommit(getArcticTable(true),
-              tasksToCommit, OptimizeTaskItem::persistTargetFiles);
-        } else {
-          optimizeCommit = new BasicOptimizeCommit(getArcticTable(true), tasksToCommit);
-        }
+      // the base table could be changed while the commit waiting after prepared
+      if (isBaseSnapshotChanged(optimizeCommit.isMinorCommitted())) {
+        LOG.info("the latest snapshot has changed in base table {}, give up commit.", tableIdentifier);
+        optimizeCommit.cleanUncommittedFiles(tableOptimizeRuntime.getCurrentSnapshotId());
+        optimizeTasksClear(true);
+        return false;
+      }
 
-        boolean committed = optimizeCommit.commit(tableOptimizeRuntime.getCurrentSnapshotId());
-        if (committed) {
-          long commitTime = System.currentTimeMillis();
-          optimizeTasksCommitted(optimizeCommit, commitTime);
-        } else {
-          LOG.warn("{} commit failed, clear optimize tasks", tableIdentifier);
-          optimizeTasksClear(true);
-        }
+      boolean committed = optimizeCommit.commit(tableOptimizeRuntime.getCurrentSnapshotId());
+      if (committed) {
+        long commitTime = System.currentTimeMillis();
+        optimizeTasksCommitted(optimizeCommit, commitTime);
+      } else if (optimizeCommit.canRetry()) {
+        LOG.warn("{} commit failed, retry later", tableIdentifier);
+        return true;
       } else {
-        LOG.info("{} get no tasks to commit", tableIdentifier);
+        LOG.warn("{} commit failed, clear optimize tasks", tableIdentifier);
+        optimizeTasksClear(true);
       }
+      return false;
     } finally {
       tasksCommitLock.unlock();
     }
   }
 
+  /**
+   * Check current base table snapshot whether changed when minor optimize,
+   * the base table is changed by the minor commit itself if only the major commit is retried.
+   */
+  private boolean isBaseSnapshotChanged(boolean minorCommitted) {
+    if (isMinorOptimizing() && !minorCommitted &&
+        !com.netease.arctic.utils.TableTypeUtil.isIcebergTableFormat(getArcticTable())) {
+      return tableOptimizeRuntime.getCurrentSnapshotId() !=
+          UnKeyedTableUtil.getSnapshotId(getArcticTable().asKeyedTable().baseTable());
+    }
+    return false;
+  }
+
+  public long getCommitTriggerTime() {
+    return commitTriggerTime;
+  }
+
   /**
    * Get all optimize tasks.
    *
@@ -1072,13 +1191,16 @@ public class TableOptimizeItem extends IJDBCService {
       LOG.debug("{} base table is empty, skip full optimize", tableIdentifier);
       return null;
     }
+    FullOptimizePlan plan;
     if (getArcticTable() instanceof SupportHive) {
-      return new SupportHiveFullOptimizePlan(getArcticTable(), tableOptimizeRuntime,
+      plan = new SupportHiveFullOptimizePlan(getArcticTable(), tableOptimizeRuntime,
           baseFiles, queueId, currentTime, baseSnapshot.snapshotId());
     } else {
-      return new FullOptimizePlan(getArcticTable(), tableOptimizeRuntime,
+      plan = new FullOptimizePlan(getArcticTable(), tableOptimizeRuntime,
           baseFiles, queueId, currentTime, baseSnapshot.snapshotId());
     }
+    plan.setCostModel(costModel);
+    return plan;
   }
 
   /**
@@ -1095,13 +1217,16 @@ public class TableOptimizeItem extends IJDBCService {
       return null;
     }
 
+    MajorOptimizePlan plan;
     if (getArcticTable() instanceof SupportHive) {
-      return new SupportHiveMajorOptimizePlan(getArcticTable(), tableOptimizeRuntime,
+      plan = new SupportHiveMajorOptimizePlan(getArcticTable(), tableOptimizeRuntime,
           baseFiles, queueId, currentTime, baseSnapshot.snapshotId());
     } else {
-      return new MajorOptimizePlan(getArcticTable(), tableOptimizeRuntime,
+      plan = new MajorOptimizePlan(getArcticTable(), tableOptimizeRuntime,
           baseFiles, queueId, currentTime, baseSnapshot.snapshotId());
     }
+    plan.setCostModel(costModel);
+    return plan;
   }
 
   /**
@@ -1142,14 +1267,17 @@ public class TableOptimizeItem extends IJDBCService {
     if (maxSequence != Long.MAX_VALUE) {
       changeSnapshotId = -1;
     }
-    return new MinorOptimizePlan(getArcticTable(), tableOptimizeRuntime, baseFiles, changeFiles,
+    MinorOptimizePlan plan = new MinorOptimizePlan(getArcticTable(), tableOptimizeRuntime, baseFiles, changeFiles,
         queueId, currentTime, changeSnapshotId,
         baseSnapshot == null ? TableOptimizeRuntime.INVALID_SNAPSHOT_ID : baseSnapshot.snapshotId());
+    plan.setCostModel(costModel);
+    return plan;
   }
 
-  private long getMaxSequenceLimit(Snapshot changeSnapshot,
-                                   StructLikeMap<Long> partitionOptimizedSequence,
-                                   StructLikeMap<Long> legacyPartitionMaxTransactionId) {
+  @VisibleForTesting
+  long getMaxSequenceLimit(Snapshot changeSnapshot,
+                           StructLikeMap<Long> partitionOptimizedSequence,
+                           StructLikeMap<Long> legacyPartitionMaxTransactionId) {
     int totalFilesInSummary = PropertyUtil
         .propertyAsInt(changeSnapshot.summary(), SnapshotSummary.TOTAL_DATA_FILES_PROP, 0);
     int maxFileCntLimit = CompatiblePropertyUtil.propertyAsInt(getArcticTable().properties(),
@@ -1158,34 +1286,19 @@ public class TableOptimizeItem extends IJDBCService {
     if (totalFilesInSummary <= maxFileCntLimit) {
       return Long.MAX_VALUE;
     }
-    // scan and get all change files grouped by sequence(snapshot)
-    ChangeTableIncrementalScan changeTableIncrementalScan =
-        getArcticTable().asKeyedTable().changeTable().newChangeScan()
-            .fromSequence(partitionOptimizedSequence)
-            .fromLegacyTransaction(legacyPartitionMaxTransactionId)
-            .useSnapshot(changeSnapshot.snapshotId());
-    Map<Long, SnapshotFileGroup> changeFilesGroupBySequence = new HashMap<>();
-    try (CloseableIterable<ContentFileWithSequence<?>> files = changeTableIncrementalScan.planFilesWithSequence()) {
-      for (ContentFileWithSequence<?> file : files) {
-        SnapshotFileGroup fileGroup =
-            changeFilesGroupBySequence.computeIfAbsent(file.getSequenceNumber(), key -> {
-              long txId = FileNameGenerator.parseChangeTransactionId(file.path().toString(), file.getSequenceNumber());
-              return new SnapshotFileGroup(file.getSequenceNumber(), txId);
-            });
-        fileGroup.addFile();
-      }
-    } catch (IOException e) {
-      throw new UncheckedIOException("Failed to close table scan of " + getArcticTable().name(), e);
-    }
+    // get all change files grouped by sequence(snapshot) from the histogram, which is updated incrementally
+    List<SnapshotFileGroup> changeFileGroups = changeFilesHistogram.fileGroups(
+        getArcticTable().asKeyedTable().changeTable(), changeSnapshot,
+        partitionOptimizedSequence, legacyPartitionMaxTransactionId);
 
-    if (changeFilesGroupBySequence.isEmpty()) {
+    if (changeFileGroups.isEmpty()) {
       LOG.debug("{} get no change files to optimize with partitionOptimizedSequence {}", tableIdentifier,
           partitionOptimizedSequence);
       return Long.MIN_VALUE;
     }
 
     long maxSequence =
-        getMaxSequenceKeepingTxIdInOrder(new ArrayList<>(changeFilesGroupBySequence.values()), maxFileCntLimit);
+        getMaxSequenceKeepingTxIdInOrder(changeFileGroups, maxFileCntLimit);
     if (maxSequence == Long.MIN_VALUE) {
       LOG.warn("{} get no change files with self-optimizing.max-file-count={}, change it to a bigger value",
           tableIdentifier, maxFileCntLimit);
@@ -1307,10 +1420,33 @@ public class TableOptimizeItem extends IJDBCService {
    *
    * @return -
    */
+  @VisibleForTesting
+  FilesStatistics getOptimizeFileInfo() {
+    return optimizeFileInfo;
+  }
+
   public TableOptimizeRuntime getTableOptimizeRuntime() {
     return tableOptimizeRuntime;
   }
 
+  /**
+   * Get the model estimating the cost time of optimize tasks of this table.
+   *
+   * @return OptimizeCostModel
+   */
+  public OptimizeCostModel getCostModel() {
+    return costModel;
+  }
+
+  /**
+   * Get metrics of optimize tasks reported by optimizers.
+   *
+   * @return OptimizeExecuteMetrics
+   */
+  public OptimizeExecuteMetrics getExecuteMetrics() {
+    return executeMetrics;
+  }
+
   /**
    * check whether table has optimize task
    * @return -
@@ -24,6 +24,7 @@ import com.netease.arctic.ams.api.properties.CatalogMetaProperties;
 import com.netease.arctic.ams.server.config.ConfigFileProperties;
 import com.netease.arctic.ams.server.mapper.CatalogMetadataMapper;
 import com.netease.arctic.ams.server.service.IJDBCService;
+import com.netease.arctic.ams.server.utils.MetadataCache;
 import com.netease.arctic.utils.ConfigurationFileUtils;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.commons.lang.StringUtils;
@@ -31,29 +32,48 @@ import org.apache.ibatis.session.SqlSession;
 
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 public class CatalogMetadataService extends IJDBCService {
 
+  // catalogs are copied when returned, as callers may modify them before updating
+  private final MetadataCache<String, CatalogMeta> catalogCache = new MetadataCache<>();
+
   public List<CatalogMeta> getCatalogs() {
+    return catalogCache.values(this::getCatalogsFromDB).stream()
+        .map(CatalogMeta::new)
+        .collect(Collectors.toList());
+  }
+
+  private Map<String, CatalogMeta> getCatalogsFromDB() {
     try (SqlSession sqlSession = getSqlSession(true)) {
       CatalogMetadataMapper catalogMetadataMapper =
               getMapper(sqlSession, CatalogMetadataMapper.class);
-      return catalogMetadataMapper.getCatalogs();
+      Map<String, CatalogMeta> catalogs = new LinkedHashMap<>();
+      for (CatalogMeta catalogMeta : catalogMetadataMapper.getCatalogs()) {
+        catalogs.put(catalogMeta.getCatalogName(), catalogMeta);
+      }
+      return catalogs;
     }
   }
 
   public Optional<CatalogMeta> getCatalog(String catalogName) {
+    return Optional.ofNullable(catalogCache.get(catalogName, this::getCatalogFromDB)).map(CatalogMeta::new);
+  }
+
+  private CatalogMeta getCatalogFromDB(String catalogName) {
     try (SqlSession sqlSession = getSqlSession(true)) {
       CatalogMetadataMapper catalogMetadataMapper =
           getMapper(sqlSession, CatalogMetadataMapper.class);
       List<CatalogMeta> tmpMetadataList = catalogMetadataMapper.getCatalog(catalogName);
       if (CollectionUtils.isNotEmpty(tmpMetadataList)) {
-        return Optional.of(tmpMetadataList.get(0));
+        return tmpMetadataList.get(0);
       } else {
-        return Optional.empty();
+        return null;
       }
     }
   }
@@ -65,16 +85,7 @@ public class CatalogMetadataService extends IJDBCService {
    * @return
    */
   public boolean catalogExist(String catalogName) {
-    try (SqlSession sqlSession = getSqlSession(true)) {
-      CatalogMetadataMapper catalogMetadataMapper =
-              getMapper(sqlSession, CatalogMetadataMapper.class);
-      List<CatalogMeta> tmpMetadataList = catalogMetadataMapper.getCatalog(catalogName);
-      if (CollectionUtils.isNotEmpty(tmpMetadataList)) {
-        return true;
-      } else {
-        return false;
-      }
-    }
+    return catalogCache.get(catalogName, this::getCatalogFromDB) != null;
   }
 
 
@@ -84,8 +95,9 @@ public class CatalogMetadataService extends IJDBCService {
       CatalogMetadataMapper catalogMetadataMapper =
           getMapper(sqlSession, CatalogMetadataMapper.class);
       for (CatalogMeta c : catalogMeta) {
-        if (!getCatalog(c.catalogName).isPresent()) {
+        if (!catalogExist(c.catalogName)) {
           catalogMetadataMapper.insertCatalog(c);
+          catalogCache.put(c.catalogName, new CatalogMeta(c));
         }
       }
     }
@@ -101,6 +113,7 @@ public class CatalogMetadataService extends IJDBCService {
       CatalogMetadataMapper catalogMetadataMapper =
               getMapper(sqlSession, CatalogMetadataMapper.class);
       catalogMetadataMapper.insertCatalog(catalogMeta);
+      catalogCache.put(catalogMeta.catalogName, new CatalogMeta(catalogMeta));
     }
   }
 
@@ -183,6 +196,7 @@ public class CatalogMetadataService extends IJDBCService {
               getMapper(sqlSession, CatalogMetadataMapper.class);
       if (StringUtils.isNotEmpty(catalogName)) {
         catalogMetadataMapper.deleteCatalog(catalogName);
+        catalogCache.remove(catalogName);
       }
     }
   }
@@ -192,6 +206,7 @@ public class CatalogMetadataService extends IJDBCService {
       CatalogMetadataMapper catalogMetadataMapper =
               getMapper(sqlSession, CatalogMetadataMapper.class);
       catalogMetadataMapper.updateCatalog(catalogMeta);
+      catalogCache.put(catalogMeta.catalogName, new CatalogMeta(catalogMeta));
     }
   }
 }
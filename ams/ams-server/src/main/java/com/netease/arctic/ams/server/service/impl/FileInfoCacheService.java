@@ -76,44 +76,115 @@ import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
 import java.util.stream.Collectors;
 
 public class FileInfoCacheService extends IJDBCService {
 
   private static final Logger LOG = LoggerFactory.getLogger(FileInfoCacheService.class);
 
+  // table commits waiting to be written into file cache, null if table commits are written synchronously
+  private volatile BlockingQueue<TableCommitMeta> commitQueue;
+
+  /**
+   * Write table commits into file cache by {@link #writeQueuedCommits} instead of in the commit RPC,
+   * the RPC only waits when there are already queueSize commits waiting.
+   * Queued commits are lost when AMS stops, and will be fixed by the periodical sync from table.
+   */
+  public void enableAsyncCommit(int queueSize) {
+    Preconditions.checkArgument(queueSize > 0, "queue size should be positive");
+    this.commitQueue = new LinkedBlockingQueue<>(queueSize);
+  }
+
   public void commitCacheFileInfo(TableCommitMeta tableCommitMeta) {
-    if (needFixCacheFromTable(tableCommitMeta)) {
-      LOG.warn("should not cache {}", tableCommitMeta);
+    BlockingQueue<TableCommitMeta> queue = commitQueue;
+    if (queue == null) {
+      writeCommits(Collections.singletonList(tableCommitMeta));
       return;
     }
+    if (!queue.offer(tableCommitMeta)) {
+      LOG.warn("file cache commit queue is full, wait for queued commits written");
+      try {
+        queue.put(tableCommitMeta);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        LOG.error("interrupted when queue file cache {}", JSONObject.toJSONString(tableCommitMeta));
+      }
+    }
+  }
+
+  /**
+   * Wait for queued table commits and write at most batchSize of them into file cache in one transaction,
+   * in the order they are committed.
+   */
+  public void writeQueuedCommits(int batchSize) throws InterruptedException {
+    Preconditions.checkState(commitQueue != null, "async commit is not enabled");
+    List<TableCommitMeta> commits = new ArrayList<>();
+    commits.add(commitQueue.take());
+    commitQueue.drainTo(commits, batchSize - 1);
+    writeCommits(commits);
+  }
 
-    List<CacheFileInfo> fileInfoList = genFileInfo(tableCommitMeta);
-    List<CacheSnapshotInfo> cacheSnapInfoList = genSnapInfo(tableCommitMeta);
+  public int getQueuedCommitCount() {
+    BlockingQueue<TableCommitMeta> queue = commitQueue;
+    return queue == null ? 0 : queue.size();
+  }
 
-    try (SqlSession sqlSession = getSqlSession(false)) {
+  private void writeCommits(List<TableCommitMeta> commits) {
+    List<TableCommitMeta> cacheCommits = new ArrayList<>();
+    List<CacheFileInfo> fileInfoList = new ArrayList<>();
+    List<CacheSnapshotInfo> cacheSnapInfoList = new ArrayList<>();
+    // snapshots written in this batch, which are not visible in database yet
+    Set<String> batchSnapshots = new HashSet<>();
+    for (TableCommitMeta tableCommitMeta : commits) {
+      if (needFixCacheFromTable(tableCommitMeta, batchSnapshots)) {
+        LOG.warn("should not cache {}", tableCommitMeta);
+        continue;
+      }
+      List<CacheSnapshotInfo> snapInfos = genSnapInfo(tableCommitMeta);
+      snapInfos.forEach(snapInfo -> batchSnapshots.add(
+          snapshotKey(snapInfo.getTableIdentifier(), snapInfo.getInnerTable(), snapInfo.getSnapshotId())));
+      cacheCommits.add(tableCommitMeta);
+      fileInfoList.addAll(genFileInfo(tableCommitMeta));
+      cacheSnapInfoList.addAll(snapInfos);
+    }
+    if (cacheCommits.isEmpty()) {
+      return;
+    }
+
+    try {
+      insertCache(fileInfoList, cacheSnapInfoList);
+      LOG.info("insert {} files, update {} files and insert {} snapshot of {} commits into file cache",
+          fileInfoList.stream().filter(e -> e.getDeleteSnapshotId() == null).count(),
+          fileInfoList.stream().filter(e -> e.getDeleteSnapshotId() != null).count(),
+          cacheSnapInfoList.size(), cacheCommits.size());
+    } catch (Exception e) {
+      if (cacheCommits.size() > 1) {
+        // write commits one by one, so only the failed commit and those after it in the same table are lost
+        LOG.warn("insert file cache of {} commits error, retry one by one", cacheCommits.size(), e);
+        cacheCommits.forEach(tableCommitMeta -> writeCommits(Collections.singletonList(tableCommitMeta)));
+      } else {
+        LOG.error("insert file cache {} error", JSONObject.toJSONString(cacheCommits.get(0)), e);
+      }
+    }
+  }
+
+  private void insertCache(List<CacheFileInfo> fileInfos, List<CacheSnapshotInfo> snapInfos) {
+    try (SqlSession sqlSession = getBatchSqlSession()) {
       try {
         FileInfoCacheMapper fileInfoCacheMapper = getMapper(sqlSession, FileInfoCacheMapper.class);
-        fileInfoList.stream().filter(e -> e.getDeleteSnapshotId() == null)
-            .forEach(fileInfoCacheMapper::insertCache);
-        LOG.info("insert {} files into file cache", fileInfoList.stream().filter(e -> e.getDeleteSnapshotId() == null)
-            .count());
-
-        fileInfoList.stream().filter(e -> e.getDeleteSnapshotId() != null).forEach(fileInfoCacheMapper::updateCache);
-        LOG.info("update {} files in file cache", fileInfoList.stream().filter(e -> e.getDeleteSnapshotId() != null)
-            .count());
+        // files may be deleted by a later commit in the same batch, so insert all files before updating
+        fileInfos.stream().filter(e -> e.getDeleteSnapshotId() == null).forEach(fileInfoCacheMapper::insertCache);
+        fileInfos.stream().filter(e -> e.getDeleteSnapshotId() != null).forEach(fileInfoCacheMapper::updateCache);
 
         SnapInfoCacheMapper snapInfoCacheMapper = getMapper(sqlSession, SnapInfoCacheMapper.class);
-        cacheSnapInfoList.forEach(snapInfoCacheMapper::insertCache);
-        LOG.info("insert {} snapshot into snapshot cache", cacheSnapInfoList.size());
-
+        snapInfos.forEach(snapInfoCacheMapper::insertCache);
         sqlSession.commit();
       } catch (Exception e) {
         sqlSession.rollback();
-        LOG.error("insert file cache {} error", JSONObject.toJSONString(tableCommitMeta), e);
+        throw e;
       }
-    } catch (Exception e) {
-      LOG.error("insert file cache {} error", JSONObject.toJSONString(tableCommitMeta), e);
     }
   }
 
@@ -284,20 +355,28 @@ public class FileInfoCacheService extends IJDBCService {
     }
   }
 
-  private boolean needFixCacheFromTable(TableCommitMeta tableCommitMeta) {
+  private boolean needFixCacheFromTable(TableCommitMeta tableCommitMeta, Set<String> batchSnapshots) {
     if (CollectionUtils.isNotEmpty(tableCommitMeta.getChanges())) {
       TableChange tableChange = tableCommitMeta.getChanges().get(0);
       if (tableChange.getParentSnapshotId() == -1) {
         return false;
       }
-      return !(snapshotIsCached(tableCommitMeta.getTableIdentifier(), tableChange.getInnerTable(),
-          tableChange.getParentSnapshotId()) &&
-          !snapshotIsCached(tableCommitMeta.getTableIdentifier(), tableChange.getInnerTable(),
-              tableChange.getSnapshotId()));
+      TableIdentifier identifier = tableCommitMeta.getTableIdentifier();
+      String innerTable = tableChange.getInnerTable();
+      boolean parentCached =
+          batchSnapshots.contains(snapshotKey(identifier, innerTable, tableChange.getParentSnapshotId())) ||
+          snapshotIsCached(identifier, innerTable, tableChange.getParentSnapshotId());
+      boolean cached = batchSnapshots.contains(snapshotKey(identifier, innerTable, tableChange.getSnapshotId())) ||
+          snapshotIsCached(identifier, innerTable, tableChange.getSnapshotId());
+      return !(parentCached && !cached);
     }
     return true;
   }
 
+  private static String snapshotKey(TableIdentifier identifier, String innerTable, long snapshotId) {
+    return TableMetadataUtil.getTableAllIdentifyName(identifier) + "." + innerTable + "." + snapshotId;
+  }
+
   private void syncFileInfo(
       Table table,
       TableIdentifier identifier,
@@ -344,23 +423,8 @@ public class FileInfoCacheService extends IJDBCService {
       //remove snapshot to release memory of snapshot, because there is too much cache in BaseSnapshot
       iterator.remove();
 
-      try (SqlSession sqlSession = getSqlSession(false)) {
-        try {
-          FileInfoCacheMapper fileInfoCacheMapper = getMapper(sqlSession, FileInfoCacheMapper.class);
-          fileInfos.stream().filter(e -> e.getDeleteSnapshotId() == null).forEach(fileInfoCacheMapper::insertCache);
-          fileInfos.stream().filter(e -> e.getDeleteSnapshotId() != null).forEach(fileInfoCacheMapper::updateCache);
-
-          SnapInfoCacheMapper snapInfoCacheMapper = getMapper(sqlSession, SnapInfoCacheMapper.class);
-          snapInfoCacheMapper.insertCache(snapshotInfo);
-          sqlSession.commit();
-        } catch (Exception e) {
-          sqlSession.rollback();
-          LOG.error(
-              "insert table {} file {} cache error",
-              identifier,
-              JSONObject.toJSONString(fileInfos),
-              e);
-        }
+      try {
+        insertCache(fileInfos, Collections.singletonList(snapshotInfo));
       } catch (Exception e) {
         LOG.error(
             "insert table {} file {} cache error",
@@ -406,17 +470,8 @@ public class FileInfoCacheService extends IJDBCService {
       fileCount++;
     }
     CacheSnapshotInfo snapshotInfo = syncSnapInfo(identifier, tableType, curr, fileSize, fileCount);
-    try (SqlSession sqlSession = getSqlSession(false)) {
-      try {
-        FileInfoCacheMapper fileInfoCacheMapper = getMapper(sqlSession, FileInfoCacheMapper.class);
-        cacheFileInfos.forEach(fileInfoCacheMapper::insertCache);
-
-        SnapInfoCacheMapper snapInfoCacheMapper = getMapper(sqlSession, SnapInfoCacheMapper.class);
-        snapInfoCacheMapper.insertCache(snapshotInfo);
-        sqlSession.commit();
-      } catch (Exception e) {
-        sqlSession.rollback();
-      }
+    try {
+      insertCache(cacheFileInfos, Collections.singletonList(snapshotInfo));
     } catch (Exception e) {
       LOG.error(
           "insert table {} file {} cache error",
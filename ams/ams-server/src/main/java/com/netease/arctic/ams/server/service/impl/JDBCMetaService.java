@@ -30,6 +30,7 @@ import com.netease.arctic.ams.server.service.IInternalTableService;
 import com.netease.arctic.ams.server.service.IJDBCService;
 import com.netease.arctic.ams.server.service.IMetaService;
 import com.netease.arctic.ams.server.service.ServiceContainer;
+import com.netease.arctic.ams.server.utils.MetadataCache;
 import com.netease.arctic.ams.server.utils.PropertiesUtil;
 import com.netease.arctic.io.ArcticFileIO;
 import com.netease.arctic.io.ArcticHadoopFileIO;
@@ -48,10 +49,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 public class JDBCMetaService extends IJDBCService implements IMetaService {
   public static final Logger LOG = LoggerFactory.getLogger(JDBCMetaService.class);
@@ -61,6 +64,8 @@ public class JDBCMetaService extends IJDBCService implements IMetaService {
 
   private final AdaptHiveService adaptHiveService;
   private final TableBlockerService tableBlockerService;
+  // table metadata returned are shared by all callers, and should not be modified
+  private final MetadataCache<TableIdentifier, TableMetadata> tableMetadataCache = new MetadataCache<>();
 
   public JDBCMetaService() {
     super();
@@ -87,6 +92,7 @@ public class JDBCMetaService extends IJDBCService implements IMetaService {
     buildArcticTable(tableMetadata);
     TABLE_META_STORE_CACHE.put(new Key(tableMetadata.getTableIdentifier(), tableMetadata.getMetaStore()),
         tableMetadata.getMetaStore());
+    tableMetadataCache.put(tableMetadata.getTableIdentifier(), tableMetadata);
     try {
       List<TableIdentifier> toAddTables = new ArrayList<>();
       toAddTables.add(tableMetadata.getTableIdentifier());
@@ -98,24 +104,32 @@ public class JDBCMetaService extends IJDBCService implements IMetaService {
 
   @Override
   public TableMetadata loadTableMetadata(TableIdentifier tableIdentifier) {
+    return tableMetadataCache.get(tableIdentifier, this::loadTableMetadataFromDB);
+  }
+
+  private TableMetadata loadTableMetadataFromDB(TableIdentifier tableIdentifier) {
     try (SqlSession sqlSession = getSqlSession(true)) {
       TableMetadataMapper tableMetadataMapper = getMapper(sqlSession, TableMetadataMapper.class);
       TableMetadata tableMetadata = tableMetadataMapper.loadTableMeta(tableIdentifier);
       if (tableMetadata == null) {
         return null;
       }
-      TableMetaStore existTableMetastore =
-          TABLE_META_STORE_CACHE.putIfAbsent(new Key(tableMetadata.getTableIdentifier(), tableMetadata.getMetaStore()),
-              tableMetadata.getMetaStore());
-      if (existTableMetastore != null) {
-        tableMetadata.setMetaStore(existTableMetastore);
-      } else {
-        LOG.info("{} build new TableMetaStore", tableMetadata.getTableIdentifier());
-      }
-      return tableMetadata;
+      return useCachedMetaStore(tableMetadata);
     }
   }
 
+  private TableMetadata useCachedMetaStore(TableMetadata tableMetadata) {
+    TableMetaStore existTableMetastore =
+        TABLE_META_STORE_CACHE.putIfAbsent(new Key(tableMetadata.getTableIdentifier(), tableMetadata.getMetaStore()),
+            tableMetadata.getMetaStore());
+    if (existTableMetastore != null) {
+      tableMetadata.setMetaStore(existTableMetastore);
+    } else {
+      LOG.info("{} build new TableMetaStore", tableMetadata.getTableIdentifier());
+    }
+    return tableMetadata;
+  }
+
   @Override
   public void dropTableMetadata(TableIdentifier tableIdentifier,
                                 IInternalTableService internalTableService,
@@ -151,6 +165,7 @@ public class JDBCMetaService extends IJDBCService implements IMetaService {
     }
 
     TABLE_META_STORE_CACHE.remove(new Key(tableMetadata.getTableIdentifier(), tableMetadata.getMetaStore()));
+    tableMetadataCache.remove(tableIdentifier);
     try {
       List<TableIdentifier> toRemoveTables = new ArrayList<>();
       toRemoveTables.add(tableMetadata.getTableIdentifier());
@@ -170,6 +185,12 @@ public class JDBCMetaService extends IJDBCService implements IMetaService {
           oldTableMetaData.getProperties(),
           properties);
       tableMetadataMapper.updateTableProperties(tableIdentifier, properties);
+      TableMetadata newTableMetadata = tableMetadataMapper.loadTableMeta(tableIdentifier);
+      if (newTableMetadata != null) {
+        tableMetadataCache.put(tableIdentifier, useCachedMetaStore(newTableMetadata));
+      } else {
+        tableMetadataCache.remove(tableIdentifier);
+      }
       String oldQueueName = CompatiblePropertyUtil.propertyAsString(oldTableMetaData.getProperties(),
           TableProperties.SELF_OPTIMIZING_GROUP, TableProperties.SELF_OPTIMIZING_GROUP_DEFAULT);
       String newQueueName = CompatiblePropertyUtil.propertyAsString(properties,
@@ -216,26 +237,33 @@ public class JDBCMetaService extends IJDBCService implements IMetaService {
 
   @Override
   public List<TableMetadata> listTables() {
+    return tableMetadataCache.values(this::listTablesFromDB);
+  }
+
+  private Map<TableIdentifier, TableMetadata> listTablesFromDB() {
     try (SqlSession sqlSession = getSqlSession(true)) {
       TableMetadataMapper tableMetadataMapper = getMapper(sqlSession, TableMetadataMapper.class);
-      return tableMetadataMapper.listTableMetas();
+      Map<TableIdentifier, TableMetadata> tables = new LinkedHashMap<>();
+      for (TableMetadata tableMetadata : tableMetadataMapper.listTableMetas()) {
+        tables.put(tableMetadata.getTableIdentifier(), useCachedMetaStore(tableMetadata));
+      }
+      return tables;
     }
   }
 
   @Override
   public List<TableMetadata> getTables(String catalogName, String database) {
-    try (SqlSession sqlSession = getSqlSession(true)) {
-      TableMetadataMapper tableMetadataMapper = getMapper(sqlSession, TableMetadataMapper.class);
-      return tableMetadataMapper.getTableMetas(catalogName, database);
-    }
+    return listTables().stream()
+        .filter(tableMetadata -> Objects.equals(catalogName, tableMetadata.getTableIdentifier().getCatalog()) &&
+            Objects.equals(database, tableMetadata.getTableIdentifier().getDatabase()))
+        .collect(Collectors.toList());
   }
 
   @Override
   public Integer getTableCountInCatalog(String catalogName) {
-    try (SqlSession sqlSession = getSqlSession(true)) {
-      TableMetadataMapper tableMetadataMapper = getMapper(sqlSession, TableMetadataMapper.class);
-      return tableMetadataMapper.getTableCountInCatalog(catalogName);
-    }
+    return (int) listTables().stream()
+        .filter(tableMetadata -> Objects.equals(catalogName, tableMetadata.getTableIdentifier().getCatalog()))
+        .count();
   }
 
 
@@ -27,6 +27,7 @@ import com.netease.arctic.ams.api.NoSuchObjectException;
 import com.netease.arctic.ams.api.OptimizeStatus;
 import com.netease.arctic.ams.api.OptimizeTask;
 import com.netease.arctic.ams.api.properties.OptimizeTaskProperties;
+import com.netease.arctic.ams.api.properties.OptimizerProperties;
 import com.netease.arctic.ams.server.config.ConfigFileProperties;
 import com.netease.arctic.ams.server.mapper.ContainerMetadataMapper;
 import com.netease.arctic.ams.server.mapper.OptimizeQueueMapper;
@@ -43,7 +44,9 @@ import com.netease.arctic.ams.server.optimize.IcebergMinorOptimizePlan;
 import com.netease.arctic.ams.server.optimize.MajorOptimizePlan;
 import com.netease.arctic.ams.server.optimize.MinorOptimizePlan;
 import com.netease.arctic.ams.server.optimize.OptimizePlanResult;
+import com.netease.arctic.ams.server.optimize.OptimizeQueueMetrics;
 import com.netease.arctic.ams.server.optimize.OptimizeTaskItem;
+import com.netease.arctic.ams.server.optimize.PendingOptimizeSummary;
 import com.netease.arctic.ams.server.optimize.TableOptimizeItem;
 import com.netease.arctic.ams.server.service.IJDBCService;
 import com.netease.arctic.ams.server.service.ITableTaskHistoryService;
@@ -67,6 +70,7 @@ import org.apache.iceberg.FileScanTask;
 import org.apache.iceberg.Snapshot;
 import org.apache.iceberg.TableScan;
 import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
@@ -83,16 +87,15 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedTransferQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.locks.Condition;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -100,7 +103,8 @@ import java.util.stream.Collectors;
 public class OptimizeQueueService extends IJDBCService {
   private static final Logger LOG = LoggerFactory.getLogger(OptimizeQueueService.class);
 
-  private final Map<Integer, OptimizeQueueWrapper> optimizeQueues = new HashMap<>();
+  // read by optimizers polling tasks without queueOperateLock
+  private final Map<Integer, OptimizeQueueWrapper> optimizeQueues = new ConcurrentHashMap<>();
 
   private final ReentrantLock queueOperateLock = new ReentrantLock();
 
@@ -284,6 +288,17 @@ public class OptimizeQueueService extends IJDBCService {
     }
   }
 
+  /**
+   * Get metrics of optimize queue.
+   *
+   * @param queueName queueName
+   * @return OptimizeQueueMetrics
+   * @throws InvalidObjectException when can't find queue
+   */
+  public OptimizeQueueMetrics getQueueMetrics(String queueName) throws InvalidObjectException {
+    return getQueue(queueName).getMetrics();
+  }
+
   public List<OptimizeQueueMeta> getQueues() throws NoSuchObjectException {
     try (SqlSession sqlSession = getSqlSession(true)) {
       OptimizeQueueMapper optimizeQueueMapper = getMapper(sqlSession, OptimizeQueueMapper.class);
@@ -309,6 +324,39 @@ public class OptimizeQueueService extends IJDBCService {
     }
   }
 
+  public List<OptimizeTask> pollTasks(int queueId, JobId jobId, String attemptId, int maxTasks, long maxBytes,
+      long waitTime) throws NoSuchObjectException, TException {
+    try {
+      List<OptimizeTask> polled = getQueue(queueId).pollTasks(jobId, attemptId, maxTasks, maxBytes, waitTime, true);
+      if (polled.isEmpty()) {
+        throw new NoSuchObjectException("no Optimize task in current queue: " + queueId);
+      }
+      LOG.info("{} pollTasks success, {} tasks: {}", jobId, polled.size(),
+          polled.stream().map(OptimizeTask::getTaskId).collect(Collectors.toList()));
+      return polled;
+    } catch (Throwable t) {
+      if (!(t instanceof NoSuchObjectException)) {
+        LOG.error("failed to poll tasks", t);
+      }
+      throw t;
+    }
+  }
+
+  /**
+   * Get the backlog of optimize queue, for optimizers to scale their parallelism with.
+   *
+   * @param queueId queueId
+   * @return backlog, keys are OptimizerProperties.QUEUE_BACKLOG_*
+   * @throws NoSuchObjectException when can't find queue
+   */
+  public Map<String, Long> getQueueBacklog(int queueId) throws NoSuchObjectException {
+    try {
+      return getQueue(queueId).getBacklog();
+    } catch (InvalidObjectException e) {
+      throw new NoSuchObjectException(e.getMessage());
+    }
+  }
+
   private void validateRemoveQueue(OptimizeQueueWrapper queue) throws InvalidObjectException {
     if (!queue.isEmpty()) {
       throw new InvalidObjectException(
@@ -360,12 +408,15 @@ public class OptimizeQueueService extends IJDBCService {
 
   public static class OptimizeQueueWrapper {
 
+    // guards modifications of the queue, pollers take tasks without it
     private final ReentrantLock lock = new ReentrantLock();
-    private final Condition planThreadCondition = lock.newCondition();
     private final AtomicBoolean planThreadStarted = new AtomicBoolean(false);
+    // optimizer threads waiting for tasks, the plan thread keeps planning while any of them is waiting
+    private final AtomicInteger waitingPollers = new AtomicInteger();
     private final OptimizeQueueItem optimizeQueue;
-    private final Queue<OptimizeTaskItem> tasks;
-    private Set<TableIdentifier> tables = new HashSet<>();
+    private final LinkedTransferQueue<OptimizeTaskItem> tasks;
+    private final Set<TableIdentifier> tables = ConcurrentHashMap.newKeySet();
+    private final OptimizeQueueMetrics metrics;
     // plan retry times
     private final int retryTime = 5;
     // plan retry interval unit ms
@@ -373,17 +424,20 @@ public class OptimizeQueueService extends IJDBCService {
 
     private SchedulePolicy schedulePolicy;
 
-    private OptimizeQueueWrapper(OptimizeQueueMeta optimizeQueue) {
+    @VisibleForTesting
+    OptimizeQueueWrapper(OptimizeQueueMeta optimizeQueue) {
       this.optimizeQueue = new OptimizeQueueItem(optimizeQueue);
       this.tasks = new LinkedTransferQueue<>();
       this.schedulePolicy = SchedulePolicy.getSchedulePolicy(optimizeQueue.getSchedulingPolicy());
+      this.metrics = new OptimizeQueueMetrics(tasks::size, waitingPollers::get);
     }
 
     public static OptimizeQueueWrapper build(OptimizeQueueMeta optimizeQueue) {
       return new OptimizeQueueWrapper(optimizeQueue);
     }
 
-    private void bindTable(TableIdentifier tableIdentifier) {
+    @VisibleForTesting
+    void bindTable(TableIdentifier tableIdentifier) {
       lock();
       try {
         tables.add(tableIdentifier);
@@ -406,7 +460,8 @@ public class OptimizeQueueService extends IJDBCService {
       }
     }
 
-    private void addIntoOptimizeQueue(OptimizeTaskItem task) throws InvalidObjectException {
+    @VisibleForTesting
+    void addIntoOptimizeQueue(OptimizeTaskItem task) throws InvalidObjectException {
       lock();
       try {
         if (!tables.contains(task.getTableIdentifier())) {
@@ -482,122 +537,233 @@ public class OptimizeQueueService extends IJDBCService {
           optimizeQueue.getOptimizeQueueMeta().getQueueId();
     }
 
+    /**
+     * Poll a task for optimizers which may not support {@link com.netease.arctic.utils.ContentFileListCodec}, files
+     * of the task are sent as lists of java serialized files.
+     */
     public OptimizeTask poll(JobId jobId, final String attemptId, long waitTime) {
-      long startTime = System.currentTimeMillis();
-      while (true) {
-        long duration = System.currentTimeMillis() - startTime;
-        if (duration > waitTime) {
-          LOG.warn("pool task cost too much time {} ms, return null", duration);
-          return null;
-        }
-        OptimizeTaskItem task = tasks.poll();
-        if (task == null) {
-          try {
-            if (planThreadStarted.compareAndSet(false, true)) {
-              Thread planThread = new Thread(() -> {
-                int retry = 0;
-                boolean isHaveTask = false;
-
-                long threadStartTime = System.currentTimeMillis();
-                try {
-                  LOG.info("this plan started {}, {}", attemptId, jobId);
-                  while (retry <= retryTime) {
-                    LOG.debug("start get plan task retry {}", retry);
-                    retry++;
-                    long planStartTime = System.currentTimeMillis();
-                    List<OptimizeTaskItem> tasks = plan(planStartTime);
-                    if (CollectionUtils.isNotEmpty(tasks)) {
-                      isHaveTask = true;
-                      break;
-                    }
-
-                    try {
-                      Thread.sleep(retryInterval);
-                    } catch (InterruptedException e) {
-                      LOG.error("Internal Thread Interrupted", e);
-                    }
-                  }
+      List<OptimizeTask> polled = pollTasks(jobId, attemptId, 1, Long.MAX_VALUE, waitTime, false);
+      return polled.isEmpty() ? null : polled.get(0);
+    }
 
-                  // no task have planned
-                  if (!isHaveTask) {
-                    LOG.debug("The queue {} has retry {} times, no task have planned",
-                        optimizeQueue.getOptimizeQueueMeta().getQueueId(),
-                        retryTime);
-                  }
-                } catch (Throwable t) {
-                  LOG.error("failed to plan", t);
-                  throw t;
-                } finally {
-                  LOG.info("this plan end {}, cost {} ms, retry {}",
-                      attemptId, System.currentTimeMillis() - threadStartTime, retry);
-                  if (planThreadStarted.compareAndSet(true, false)) {
-                    lock();
-                    try {
-                      planThreadCondition.signalAll();
-                    } finally {
-                      unlock();
-                    }
-                  }
-                }
-              });
-              planThread.setName(
-                  "Optimize Plan Thread Queue-" + optimizeQueue.getOptimizeQueueMeta().getQueueId());
-              planThread.start();
-            } else {
-              lock();
-              try {
-                // if timeout, return null
-                if (!planThreadCondition.await(waitTime - (System.currentTimeMillis() - startTime),
-                    TimeUnit.MILLISECONDS)) {
-                  LOG.debug("The queue {} has no task have planned", optimizeQueue.getOptimizeQueueMeta().getQueueId());
-                  return null;
-                }
-              } finally {
-                unlock();
-              }
-            }
-          } catch (Exception e) {
-            LOG.error("Failure when starting the plan thread, " + e);
-          }
-        } else {
-          if (tables.contains(task.getTableIdentifier())) {
-            TableTaskHistory tableTaskHistory;
-            try {
-              // load files from sysdb
-              task.setFiles();
-              // update max execute time
-              task.setMaxExecuteTime();
-              tableTaskHistory = task.onExecuting(jobId, attemptId);
-            } catch (Exception e) {
-              task.clearFiles();
-              LOG.error("{} handle sysdb failed, try put task back into queue", task.getTaskId(), e);
-              if (!tasks.offer(task)) {
-                LOG.error("{} failed to put task back into queue", task.getTaskId());
-                task.onFailed(new ErrorMessage(System.currentTimeMillis(), "failed to put task back into queue"), 0);
-              }
+    /**
+     * Poll a batch of tasks, waiting at most waitTime for the first one. The following tasks are only taken if they
+     * are already in the queue, until maxTasks tasks or maxBytes of input files are reached. The first task is always
+     * returned even if its input files exceed maxBytes.
+     * <p>
+     * Files of tasks are encoded by {@link com.netease.arctic.utils.ContentFileListCodec} if encodeFiles, which is
+     * only supported by optimizers polling with pollTasks, or sent as lists of java serialized files otherwise.
+     */
+    public List<OptimizeTask> pollTasks(JobId jobId, final String attemptId, int maxTasks, long maxBytes,
+        long waitTime, boolean encodeFiles) {
+      List<OptimizeTask> polled = new ArrayList<>();
+      OptimizeTaskItem first = takeTask(jobId, attemptId, waitTime, encodeFiles, polled);
+      if (first == null) {
+        return polled;
+      }
+      long polledBytes = inputFileSize(first);
+      while (polled.size() < maxTasks) {
+        // check the size before taking the task, so a task too large stays at the head for the next poll
+        OptimizeTaskItem next = tasks.peek();
+        if (next == null || polledBytes + inputFileSize(next) > maxBytes) {
+          break;
+        }
+        if (!tasks.remove(next)) {
+          // taken by another poller concurrently
+          continue;
+        }
+        if (!tables.contains(next.getTableIdentifier())) {
+          LOG.warn("get task {} from queue {} but table {} not in this queue",
+              next.getTaskId(), queueName(), next.getTableIdentifier());
+          continue;
+        }
+        OptimizeTask transferTask = dispatch(next, jobId, attemptId, encodeFiles);
+        if (transferTask == null) {
+          break;
+        }
+        polled.add(transferTask);
+        polledBytes += inputFileSize(next);
+      }
+      return polled;
+    }
 
-              // sleep 1s, avoid poll task failed use too much cpu
+    /**
+     * Wait for a task and dispatch it to the job, the task to transfer is added into polled.
+     * <p>
+     * Pollers block on the task queue without any lock, and are woken up as soon as the plan thread puts tasks into
+     * it. Planning is started asynchronously once the queue is drained.
+     */
+    private OptimizeTaskItem takeTask(JobId jobId, final String attemptId, long waitTime, boolean encodeFiles,
+        List<OptimizeTask> polled) {
+      long startTime = System.currentTimeMillis();
+      waitingPollers.incrementAndGet();
+      try {
+        while (true) {
+          OptimizeTaskItem task = tasks.poll();
+          if (task == null) {
+            startPlanIfNot(jobId, attemptId);
+            long remaining = waitTime - (System.currentTimeMillis() - startTime);
+            if (remaining > 0) {
               try {
-                Thread.sleep(1000);
-              } catch (InterruptedException ex) {
-                LOG.error("poll task {} failed, sleep thread was interrupted", task.getTaskId(), ex);
+                task = tasks.poll(remaining, TimeUnit.MILLISECONDS);
+              } catch (InterruptedException e) {
+                LOG.warn("poll task from queue {} was interrupted", queueName());
+                Thread.currentThread().interrupt();
+                return null;
               }
-              continue;
             }
-            try {
-              insertTableTaskHistory(tableTaskHistory);
-            } catch (Exception e) {
-              LOG.error("failed to insert tableTaskHistory, {} ignore", tableTaskHistory, e);
+            if (task == null) {
+              long duration = System.currentTimeMillis() - startTime;
+              LOG.warn("pool task cost too much time {} ms, return null", duration);
+              metrics.recordPollWait(duration);
+              metrics.pollTimeout();
+              return null;
             }
-            return task.getOptimizeTask();
-          } else {
+          }
+          if (!tables.contains(task.getTableIdentifier())) {
             LOG.warn("get task {} from queue {} but table {} not in this queue",
                 task.getTaskId(), queueName(), task.getTableIdentifier());
+            continue;
+          }
+          long takenTime = System.currentTimeMillis();
+          OptimizeTask transferTask = dispatch(task, jobId, attemptId, encodeFiles);
+          if (transferTask != null) {
+            metrics.recordPollWait(takenTime - startTime);
+            polled.add(transferTask);
+            // plan the next tasks in advance, so that the following pollers need not wait for planning
+            if (tasks.isEmpty()) {
+              startPlanIfNot(jobId, attemptId);
+            }
+            return task;
+          }
+          // the task is put back into queue, back off to avoid dispatching it in a busy loop while sysdb fails
+          long remaining = waitTime - (System.currentTimeMillis() - startTime);
+          if (remaining <= 0) {
+            metrics.recordPollWait(System.currentTimeMillis() - startTime);
+            metrics.pollTimeout();
+            return null;
+          }
+          try {
+            Thread.sleep(Math.min(retryInterval, remaining));
+          } catch (InterruptedException ex) {
+            LOG.error("poll task {} failed, sleep thread was interrupted", task.getTaskId(), ex);
+            Thread.currentThread().interrupt();
+            return null;
+          }
+        }
+      } finally {
+        waitingPollers.decrementAndGet();
+      }
+    }
+
+    private void startPlanIfNot(JobId jobId, String attemptId) {
+      if (!planThreadStarted.compareAndSet(false, true)) {
+        return;
+      }
+      try {
+        Thread planThread = new Thread(() -> planWhilePolling(jobId, attemptId));
+        planThread.setName(
+            "Optimize Plan Thread Queue-" + optimizeQueue.getOptimizeQueueMeta().getQueueId());
+        planThread.start();
+      } catch (Throwable t) {
+        planThreadStarted.set(false);
+        LOG.error("Failure when starting the plan thread", t);
+      }
+    }
+
+    /**
+     * Plan tasks into the queue, and plan again while pollers are still waiting for tasks.
+     */
+    private void planWhilePolling(JobId jobId, String attemptId) {
+      do {
+        try {
+          planWithRetry(jobId, attemptId);
+        } finally {
+          planThreadStarted.set(false);
+        }
+        // pollers arriving before the flag is reset do not start a plan thread, so check them here
+      } while (waitingPollers.get() > 0 && tasks.isEmpty() && planThreadStarted.compareAndSet(false, true));
+    }
+
+    private void planWithRetry(JobId jobId, String attemptId) {
+      int retry = 0;
+      boolean isHaveTask = false;
+
+      long threadStartTime = System.currentTimeMillis();
+      try {
+        LOG.info("this plan started {}, {}", attemptId, jobId);
+        while (retry <= retryTime) {
+          LOG.debug("start get plan task retry {}", retry);
+          retry++;
+          long planStartTime = System.currentTimeMillis();
+          List<OptimizeTaskItem> tasks = plan(planStartTime);
+          if (CollectionUtils.isNotEmpty(tasks)) {
+            isHaveTask = true;
+            break;
+          }
+
+          try {
+            Thread.sleep(retryInterval);
+          } catch (InterruptedException e) {
+            LOG.error("Internal Thread Interrupted", e);
           }
         }
+
+        // no task have planned
+        if (!isHaveTask) {
+          LOG.debug("The queue {} has retry {} times, no task have planned",
+              optimizeQueue.getOptimizeQueueMeta().getQueueId(),
+              retryTime);
+        }
+      } catch (Throwable t) {
+        LOG.error("failed to plan", t);
+        throw t;
+      } finally {
+        LOG.info("this plan end {}, cost {} ms, retry {}",
+            attemptId, System.currentTimeMillis() - threadStartTime, retry);
       }
     }
 
+    /**
+     * Mark the task executing by the job and build the task to transfer, return null and put the task back into queue
+     * if failed.
+     */
+    private OptimizeTask dispatch(OptimizeTaskItem task, JobId jobId, String attemptId, boolean encodeFiles) {
+      long startTime = System.currentTimeMillis();
+      TableTaskHistory tableTaskHistory;
+      OptimizeTask transferTask;
+      try {
+        // load files from sysdb
+        task.setFiles();
+        // update max execute time
+        task.setMaxExecuteTime();
+        transferTask = encodeFiles ? task.buildTransferTask() : task.getOptimizeTask();
+        tableTaskHistory = task.onExecuting(jobId, attemptId);
+      } catch (Exception e) {
+        task.clearFiles();
+        LOG.error("{} handle sysdb failed, try put task back into queue", task.getTaskId(), e);
+        if (!tasks.offer(task)) {
+          LOG.error("{} failed to put task back into queue", task.getTaskId());
+          task.onFailed(new ErrorMessage(System.currentTimeMillis(), "failed to put task back into queue"), 0);
+        }
+        metrics.recordDispatch(System.currentTimeMillis() - startTime, false);
+        return null;
+      }
+      try {
+        insertTableTaskHistory(tableTaskHistory);
+      } catch (Exception e) {
+        LOG.error("failed to insert tableTaskHistory, {} ignore", tableTaskHistory, e);
+      }
+      metrics.recordDispatch(System.currentTimeMillis() - startTime, true);
+      return transferTask;
+    }
+
+    private static long inputFileSize(OptimizeTaskItem task) {
+      BasicOptimizeTask optimizeTask = task.getOptimizeTask();
+      return optimizeTask.getBaseFileSize() + optimizeTask.getInsertFileSize() + optimizeTask.getDeleteFileSize() +
+          optimizeTask.getPosDeleteFileSize();
+    }
+
     private void insertTableTaskHistory(TableTaskHistory tableTaskHistory) {
       ITableTaskHistoryService tableTaskHistoryService = ServiceContainer.getTableTaskHistoryService();
       tableTaskHistoryService.insertTaskHistory(tableTaskHistory);
@@ -629,16 +795,39 @@ public class OptimizeQueueService extends IJDBCService {
       return tasks.size();
     }
 
+    /**
+     * Tasks and input file size waiting in the queue, and optimizer threads waiting for tasks. Read without the lock,
+     * so it is only an estimate while tasks are planned or polled.
+     */
+    public Map<String, Long> getBacklog() {
+      long pendingTasks = 0;
+      long pendingBytes = 0;
+      for (OptimizeTaskItem task : tasks) {
+        pendingTasks++;
+        pendingBytes += inputFileSize(task);
+      }
+      Map<String, Long> backlog = new HashMap<>();
+      backlog.put(OptimizerProperties.QUEUE_BACKLOG_PENDING_TASKS, pendingTasks);
+      backlog.put(OptimizerProperties.QUEUE_BACKLOG_PENDING_BYTES, pendingBytes);
+      backlog.put(OptimizerProperties.QUEUE_BACKLOG_WAITING_POLLERS, (long) waitingPollers.get());
+      return backlog;
+    }
+
     public Set<TableIdentifier> getTables() {
       return Sets.newHashSet(tables);
     }
 
+    public OptimizeQueueMetrics getMetrics() {
+      return metrics;
+    }
+
     public OptimizeQueueItem getOptimizeQueueItem() {
       optimizeQueue.setSize(size());
       return optimizeQueue;
     }
 
-    private List<OptimizeTaskItem> plan(long currentTime) {
+    @VisibleForTesting
+    List<OptimizeTaskItem> plan(long currentTime) {
       List<TableIdentifier> tableSort = schedulePolicy.schedule(new ArrayList<>(tables));
 
       if (LOG.isDebugEnabled()) {
@@ -746,6 +935,7 @@ public class OptimizeQueueService extends IJDBCService {
             tableItem.getIcebergMinorPlan(fileScanTasks, queueId, currentTime, currentSnapshot.snapshotId());
         optimizePlanResult = minorPlan.plan();
       }
+      tableItem.publishPendingOptimizeSummary(PendingOptimizeSummary.of(optimizePlanResult, currentSnapshot, null));
       return optimizePlanResult;
     }
 
@@ -802,6 +992,8 @@ public class OptimizeQueueService extends IJDBCService {
           optimizePlanResult = minorPlan.plan();
         }
       }
+      tableItem.publishPendingOptimizeSummary(
+          PendingOptimizeSummary.of(optimizePlanResult, baseCurrentSnapshot, changeCurrentSnapshot));
       return optimizePlanResult;
     }
 
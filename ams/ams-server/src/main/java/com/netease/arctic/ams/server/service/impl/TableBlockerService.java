@@ -26,6 +26,7 @@ import com.netease.arctic.ams.server.config.Configuration;
 import com.netease.arctic.ams.server.mapper.TableBlockerMapper;
 import com.netease.arctic.ams.server.model.TableBlocker;
 import com.netease.arctic.ams.server.service.IJDBCService;
+import com.netease.arctic.ams.server.utils.MetadataCache;
 import com.netease.arctic.table.TableIdentifier;
 import com.netease.arctic.table.blocker.RenewableBlocker;
 import org.apache.ibatis.session.SqlSession;
@@ -35,6 +36,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -48,6 +51,8 @@ public class TableBlockerService extends IJDBCService {
   private final long blockerTimeout;
 
   private final ConcurrentHashMap<TableIdentifier, ReentrantLock> tableLockMap = new ConcurrentHashMap<>();
+  // blockers not expired when loaded, updated in the table lock
+  private final MetadataCache<TableIdentifier, List<TableBlocker>> blockerCache = new MetadataCache<>();
 
   public TableBlockerService(Configuration conf) {
     this.blockerTimeout = conf.getLong(ArcticMetaStoreConf.BLOCKER_TIMEOUT);
@@ -63,9 +68,8 @@ public class TableBlockerService extends IJDBCService {
   public List<TableBlocker> getBlockers(TableIdentifier tableIdentifier) {
     Lock lock = getLock(tableIdentifier);
     lock.lock();
-    try (SqlSession sqlSession = getSqlSession(true)) {
-      TableBlockerMapper mapper = getMapper(sqlSession, TableBlockerMapper.class);
-      return mapper.selectBlockers(tableIdentifier, System.currentTimeMillis());
+    try {
+      return getCachedBlockers(tableIdentifier, System.currentTimeMillis());
     } catch (Exception e) {
       LOG.error("failed to get blockers for {}", tableIdentifier, e);
       throw new IllegalStateException("failed to get blockers for " + tableIdentifier, e);
@@ -94,12 +98,14 @@ public class TableBlockerService extends IJDBCService {
       TableBlockerMapper mapper = getMapper(sqlSession, TableBlockerMapper.class);
 
       long now = System.currentTimeMillis();
-      List<TableBlocker> tableBlockers = mapper.selectBlockers(tableIdentifier, now);
+      List<TableBlocker> tableBlockers = getCachedBlockers(tableIdentifier, now);
       if (conflict(operations, tableBlockers)) {
         throw new OperationConflictException(operations + " is conflict with " + tableBlockers);
       }
       TableBlocker tableBlocker = buildTableBlocker(tableIdentifier, operations, properties, now);
       mapper.insertBlocker(tableBlocker);
+      tableBlockers.add(tableBlocker);
+      blockerCache.put(tableIdentifier, tableBlockers);
       return tableBlocker;
     } catch (OperationConflictException operationConflictException) {
       throw operationConflictException;
@@ -122,7 +128,11 @@ public class TableBlockerService extends IJDBCService {
     lock.lock();
     try (SqlSession sqlSession = getSqlSession(true)) {
       TableBlockerMapper mapper = getMapper(sqlSession, TableBlockerMapper.class);
-      mapper.deleteBlocker(Long.parseLong(blockerId));
+      long id = Long.parseLong(blockerId);
+      mapper.deleteBlocker(id);
+      List<TableBlocker> tableBlockers = getCachedBlockers(tableIdentifier, System.currentTimeMillis());
+      tableBlockers.removeIf(blocker -> blocker.getBlockerId() == id);
+      blockerCache.put(tableIdentifier, tableBlockers);
     } catch (Exception e) {
       LOG.error("failed to release blocker {} for {}", blockerId, tableIdentifier, e);
       throw new IllegalStateException("failed to release blocker " + blockerId + " for " + tableIdentifier, e);
@@ -143,14 +153,19 @@ public class TableBlockerService extends IJDBCService {
     lock.lock();
     try (SqlSession sqlSession = getSqlSession(true)) {
       TableBlockerMapper mapper = getMapper(sqlSession, TableBlockerMapper.class);
+      long id = Long.parseLong(blockerId);
       long now = System.currentTimeMillis();
-      TableBlocker tableBlocker = mapper.selectBlocker(Long.parseLong(blockerId), now);
-      if (tableBlocker == null) {
+      List<TableBlocker> tableBlockers = getCachedBlockers(tableIdentifier, now);
+      int index = indexOf(tableBlockers, id);
+      if (index < 0) {
         throw new NoSuchObjectException(
             tableIdentifier + " illegal blockerId " + blockerId + ", it may be released or expired");
       }
       long expirationTime = now + blockerTimeout;
-      mapper.updateBlockerExpirationTime(Long.parseLong(blockerId), expirationTime);
+      mapper.updateBlockerExpirationTime(id, expirationTime);
+      // blockers cached may have been returned, replace with a new one
+      tableBlockers.set(index, renewed(tableBlockers.get(index), expirationTime));
+      blockerCache.put(tableIdentifier, tableBlockers);
       return expirationTime;
     } catch (NoSuchObjectException e1) {
       throw e1;
@@ -172,12 +187,8 @@ public class TableBlockerService extends IJDBCService {
   public boolean isBlocked(TableIdentifier tableIdentifier, BlockableOperation operation) {
     Lock lock = getLock(tableIdentifier);
     lock.lock();
-    try (SqlSession sqlSession = getSqlSession(true)) {
-      TableBlockerMapper mapper = getMapper(sqlSession, TableBlockerMapper.class);
-
-      long now = System.currentTimeMillis();
-      List<TableBlocker> tableBlockers = mapper.selectBlockers(tableIdentifier, now);
-      return conflict(operation, tableBlockers);
+    try {
+      return conflict(operation, getCachedBlockers(tableIdentifier, System.currentTimeMillis()));
     } catch (Exception e) {
       LOG.error("failed to check is blocked for {} {}", tableIdentifier, operation, e);
       throw new IllegalStateException("failed to check blocked for " + tableIdentifier + " " + operation, e);
@@ -196,7 +207,9 @@ public class TableBlockerService extends IJDBCService {
     lock.lock();
     try (SqlSession sqlSession = getSqlSession(true)) {
       TableBlockerMapper mapper = getMapper(sqlSession, TableBlockerMapper.class);
-      int deleted = mapper.deleteExpiredBlockers(tableIdentifier, System.currentTimeMillis());
+      long now = System.currentTimeMillis();
+      int deleted = mapper.deleteExpiredBlockers(tableIdentifier, now);
+      blockerCache.put(tableIdentifier, getCachedBlockers(tableIdentifier, now));
       if (deleted > 0) {
         LOG.info("success to expire table blocker {} {}", deleted, tableIdentifier);
       }
@@ -215,12 +228,18 @@ public class TableBlockerService extends IJDBCService {
    * @param tableIdentifier - table
    */
   public int clearBlockers(TableIdentifier tableIdentifier) {
+    Lock lock = getLock(tableIdentifier);
+    lock.lock();
     try (SqlSession sqlSession = getSqlSession(true)) {
       TableBlockerMapper mapper = getMapper(sqlSession, TableBlockerMapper.class);
-      return mapper.deleteBlockers(tableIdentifier);
+      int deleted = mapper.deleteBlockers(tableIdentifier);
+      blockerCache.remove(tableIdentifier);
+      return deleted;
     } catch (Exception e) {
       LOG.error("failed to clear table blocker {}, ignore", tableIdentifier, e);
       return 0;
+    } finally {
+      lock.unlock();
     }
   }
 
@@ -229,7 +248,45 @@ public class TableBlockerService extends IJDBCService {
     try (SqlSession sqlSession = getSqlSession(true)) {
       TableBlockerMapper mapper = getMapper(sqlSession, TableBlockerMapper.class);
       mapper.insertBlocker(blocker);
+      blockerCache.invalidate(blocker.getTableIdentifier());
+    }
+  }
+
+  /**
+   * Get blockers not expired from cache, should be called in the table lock.
+   *
+   * @return a copy of the blockers, which could be modified and put back to the cache
+   */
+  private List<TableBlocker> getCachedBlockers(TableIdentifier tableIdentifier, long now) {
+    List<TableBlocker> tableBlockers = blockerCache.get(tableIdentifier, identifier -> {
+      try (SqlSession sqlSession = getSqlSession(true)) {
+        TableBlockerMapper mapper = getMapper(sqlSession, TableBlockerMapper.class);
+        return Collections.unmodifiableList(mapper.selectBlockers(identifier, now));
+      }
+    });
+    return tableBlockers.stream()
+        .filter(blocker -> blocker.getExpirationTime() > now)
+        .collect(Collectors.toCollection(ArrayList::new));
+  }
+
+  private int indexOf(List<TableBlocker> blockers, long blockerId) {
+    for (int i = 0; i < blockers.size(); i++) {
+      if (blockers.get(i).getBlockerId() == blockerId) {
+        return i;
+      }
     }
+    return -1;
+  }
+
+  private TableBlocker renewed(TableBlocker blocker, long expirationTime) {
+    TableBlocker tableBlocker = new TableBlocker();
+    tableBlocker.setTableIdentifier(blocker.getTableIdentifier());
+    tableBlocker.setBlockerId(blocker.getBlockerId());
+    tableBlocker.setOperations(blocker.getOperations());
+    tableBlocker.setCreateTime(blocker.getCreateTime());
+    tableBlocker.setExpirationTime(expirationTime);
+    tableBlocker.setProperties(blocker.getProperties());
+    return tableBlocker;
   }
 
   private boolean conflict(List<BlockableOperation> blockableOperations, List<TableBlocker> blockers) {
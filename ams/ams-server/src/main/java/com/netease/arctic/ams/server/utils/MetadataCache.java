@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.ams.server.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Write-through cache of metadata stored in the database.
+ * <p>
+ * Values are loaded from the database on the first read, and the services mutating the metadata must update the cache
+ * with {@link #put} or {@link #remove} after the database is committed, so later reads never touch the database.
+ * <p>
+ * The metadata may be modified by another AMS while this one is not the leader, so all caches are dropped once the
+ * global version is increased by {@link #invalidateAll()}, and checked against it before every read.
+ */
+public class MetadataCache<K, V> {
+  private static final AtomicLong VERSION = new AtomicLong();
+
+  private final Map<K, V> cache = new ConcurrentHashMap<>();
+  // increased on every write, to check if the whole metadata loaded is still valid
+  private final AtomicLong modifications = new AtomicLong();
+  private volatile long version = VERSION.get();
+  // all metadata are in cache, keys not found do not exist in the database
+  private volatile boolean complete = false;
+
+  /**
+   * Invalidate all metadata caches, should be called when this AMS starts serving.
+   */
+  public static void invalidateAll() {
+    VERSION.incrementAndGet();
+  }
+
+  /**
+   * Get the cached value, or load it from the database.
+   *
+   * @param key    key
+   * @param loader load the value from the database, return null if not exist
+   * @return value, null if not exist
+   */
+  public V get(K key, Function<K, V> loader) {
+    checkVersion();
+    V value = cache.get(key);
+    if (value != null || complete) {
+      return value;
+    }
+    // values put by writers block on the same bin, so a value loaded before a write will not overwrite it
+    return cache.computeIfAbsent(key, loader);
+  }
+
+  /**
+   * Get all cached values, or load them from the database.
+   *
+   * @param loader load all values from the database
+   * @return all values
+   */
+  public List<V> values(Supplier<Map<K, V>> loader) {
+    checkVersion();
+    if (complete) {
+      return new ArrayList<>(cache.values());
+    }
+    long modified = modifications.get();
+    Map<K, V> values = loader.get();
+    synchronized (this) {
+      // values loaded may be stale if modified during loading, use them only this time
+      if (modified == modifications.get()) {
+        cache.putAll(values);
+        complete = true;
+      }
+    }
+    return new ArrayList<>(values.values());
+  }
+
+  public synchronized void put(K key, V value) {
+    modifications.incrementAndGet();
+    cache.put(key, value);
+  }
+
+  public synchronized void remove(K key) {
+    modifications.incrementAndGet();
+    cache.remove(key);
+  }
+
+  /**
+   * Drop the cached value, it will be loaded from the database on the next read.
+   */
+  public synchronized void invalidate(K key) {
+    modifications.incrementAndGet();
+    cache.remove(key);
+    complete = false;
+  }
+
+  private void checkVersion() {
+    long current = VERSION.get();
+    if (version != current) {
+      synchronized (this) {
+        if (version != current) {
+          modifications.incrementAndGet();
+          cache.clear();
+          complete = false;
+          version = current;
+        }
+      }
+    }
+  }
+}
@@ -40,6 +40,7 @@ public class ThreadPool {
   private static ThreadPool self;
   private static ScheduledExecutorService optimizeCheckPool;
   private static ScheduledExecutorService commitPool;
+  private static ScheduledExecutorService commitPreparePool;
   private static ScheduledExecutorService expirePool;
   private static ScheduledExecutorService orphanPool;
   private static ScheduledExecutorService supportHiveSyncPool;
@@ -50,6 +51,7 @@ public class ThreadPool {
   public enum Type {
     OPTIMIZE_CHECK,
     COMMIT,
+    COMMIT_PREPARE,
     EXPIRE,
     ORPHAN,
     SYNC_FILE_INFO_CACHE,
@@ -80,6 +82,12 @@ public class ThreadPool {
         conf.getInteger(ArcticMetaStoreConf.OPTIMIZE_COMMIT_THREAD_POOL_SIZE),
         commitThreadFactory);
 
+    ThreadFactory commitPrepareThreadFactory = new ThreadFactoryBuilder().setDaemon(false)
+        .setNameFormat("Metastore Scheduled Commit Prepare Worker %d").build();
+    commitPreparePool = Executors.newScheduledThreadPool(
+        conf.getInteger(ArcticMetaStoreConf.OPTIMIZE_COMMIT_PREPARE_THREAD_POOL_SIZE),
+        commitPrepareThreadFactory);
+
     ThreadFactory expireThreadFactory = new ThreadFactoryBuilder().setDaemon(false)
         .setNameFormat("Metastore Scheduled Expire Worker %d").build();
     expirePool = Executors.newScheduledThreadPool(
@@ -131,6 +139,8 @@ public class ThreadPool {
         return optimizeCheckPool;
       case COMMIT:
         return commitPool;
+      case COMMIT_PREPARE:
+        return commitPreparePool;
       case EXPIRE:
         return expirePool;
       case ORPHAN:
@@ -155,6 +165,7 @@ public class ThreadPool {
       optimizeCheckPool.shutdownNow();
       optimizerMonitorPool.shutdownNow();
       commitPool.shutdownNow();
+      commitPreparePool.shutdownNow();
       expirePool.shutdownNow();
       orphanPool.shutdownNow();
       syncFileInfoCachePool.shutdownNow();
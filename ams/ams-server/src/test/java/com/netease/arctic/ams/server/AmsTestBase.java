@@ -29,6 +29,10 @@ import com.netease.arctic.ams.server.controller.TableControllerTest;
 import com.netease.arctic.ams.server.controller.TerminalControllerTest;
 import com.netease.arctic.ams.server.handler.impl.ArcticTableMetastoreHandler;
 import com.netease.arctic.ams.server.handler.impl.OptimizeManagerHandler;
+import com.netease.arctic.ams.server.handler.impl.TestOptimizeManagerHandler;
+import com.netease.arctic.ams.server.optimize.ChangeFilesHistogramTest;
+import com.netease.arctic.ams.server.optimize.OptimizeCostModelTest;
+import com.netease.arctic.ams.server.optimize.OptimizeExecuteMetricsTest;
 import com.netease.arctic.ams.server.optimize.OptimizeService;
 import com.netease.arctic.ams.server.optimize.SupportHiveTestGroup;
 import com.netease.arctic.ams.server.optimize.TableOptimizeItemTest;
@@ -42,6 +46,7 @@ import com.netease.arctic.ams.server.optimize.TestMajorOptimizeCommit;
 import com.netease.arctic.ams.server.optimize.TestMajorOptimizePlan;
 import com.netease.arctic.ams.server.optimize.TestMinorOptimizeCommit;
 import com.netease.arctic.ams.server.optimize.TestMinorOptimizePlan;
+import com.netease.arctic.ams.server.optimize.TestOptimizeCommitWorker;
 import com.netease.arctic.ams.server.optimize.TestOrphanFileClean;
 import com.netease.arctic.ams.server.optimize.TestOrphanFileCleanSupportIceberg;
 import com.netease.arctic.ams.server.service.MetaService;
@@ -59,12 +64,14 @@ import com.netease.arctic.ams.server.service.impl.FileInfoCacheService;
 import com.netease.arctic.ams.server.service.impl.JDBCMetaService;
 import com.netease.arctic.ams.server.service.impl.OptimizeQueueService;
 import com.netease.arctic.ams.server.service.impl.OptimizerService;
+import com.netease.arctic.ams.server.service.impl.TestOptimizeQueueService;
 import com.netease.arctic.ams.server.service.impl.PlatformFileInfoService;
 import com.netease.arctic.ams.server.service.impl.TableBlockerService;
 import com.netease.arctic.ams.server.service.impl.TestTableBlockerService;
 import com.netease.arctic.ams.server.util.DerbyTestUtil;
 import com.netease.arctic.ams.server.utils.CatalogUtil;
 import com.netease.arctic.ams.server.utils.JDBCSqlSessionFactoryProvider;
+import com.netease.arctic.ams.server.utils.MetadataCacheTest;
 import com.netease.arctic.ams.server.utils.SequenceNumberFetcherTest;
 import com.netease.arctic.ams.server.utils.UnKeyedTableUtilTest;
 import com.netease.arctic.catalog.ArcticCatalog;
@@ -129,7 +136,14 @@ import static org.powermock.api.mockito.PowerMockito.when;
     TestOptimizerService.class,
     UnKeyedTableUtilTest.class,
     SequenceNumberFetcherTest.class,
-    TableOptimizeItemTest.class
+    TableOptimizeItemTest.class,
+    TestOptimizeQueueService.class,
+    TestOptimizeManagerHandler.class,
+    TestOptimizeCommitWorker.class,
+    OptimizeCostModelTest.class,
+    OptimizeExecuteMetricsTest.class,
+    ChangeFilesHistogramTest.class,
+    MetadataCacheTest.class
 })
 @PrepareForTest({
     JDBCSqlSessionFactoryProvider.class,
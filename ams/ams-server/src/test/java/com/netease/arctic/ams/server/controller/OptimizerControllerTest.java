@@ -129,6 +129,21 @@ public class OptimizerControllerTest {
     optimizerService.deleteOptimizerByName("test1");
   }
 
+  @Test
+  public void testGetOptimizerGroupMetrics() {
+    JavalinTest.test((app, client) -> {
+      app.get("/{optimizerGroup}", OptimizerController::getOptimizerGroupMetrics);
+      final okhttp3.Response resp = client.get("/testOptimizeGroup", x -> {});
+      OkResponse result = JSONObject.parseObject(resp.body().string(), OkResponse.class);
+      assert result.getCode() == 200;
+      JSONObject metrics = JSONObject.parseObject(result.getResult().toString());
+      assert metrics.getInteger("queueSize") == 0;
+      assert metrics.getInteger("waitingPollers") == 0;
+      assert metrics.containsKey("pollWait");
+      assert metrics.containsKey("dispatch");
+    });
+  }
+
   @Test
   public void testScaleOutOptimizer() {
     JavalinTest.test((app, client) -> {
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.ams.server.handler.impl;
+
+import com.netease.arctic.ams.api.NoSuchObjectException;
+import com.netease.arctic.ams.api.OptimizeTaskId;
+import com.netease.arctic.ams.api.OptimizeTaskStat;
+import com.netease.arctic.ams.api.OptimizeType;
+import com.netease.arctic.ams.server.optimize.IOptimizeService;
+import com.netease.arctic.ams.server.service.ServiceContainer;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.thrift.TException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.powermock.api.mockito.PowerMockito.when;
+
+public class TestOptimizeManagerHandler {
+
+  @Test
+  public void testReportOptimizeResults() throws TException {
+    OptimizeTaskStat succeeded1 = taskStat("task-1");
+    OptimizeTaskStat failed = taskStat("task-2");
+    OptimizeTaskStat succeeded2 = taskStat("task-3");
+    IOptimizeService optimizeService = mock(IOptimizeService.class);
+    doAnswer(invocation -> {
+      OptimizeTaskStat optimizeTaskStat = invocation.getArgument(0);
+      if (optimizeTaskStat.getTaskId().equals(failed.getTaskId())) {
+        throw new NoSuchObjectException("no such table");
+      }
+      return null;
+    }).when(optimizeService).handleOptimizeResult(any());
+
+    IOptimizeService originalOptimizeService = ServiceContainer.getOptimizeService();
+    when(ServiceContainer.getOptimizeService()).thenReturn(optimizeService);
+    try {
+      List<OptimizeTaskId> failedTasks = new OptimizeManagerHandler()
+          .reportOptimizeResults(Lists.newArrayList(succeeded1, failed, succeeded2), null);
+      // results following the failed one are still handled, only the failed one is returned to report again
+      verify(optimizeService, times(3)).handleOptimizeResult(any());
+      Assert.assertEquals(Lists.newArrayList(failed.getTaskId()), failedTasks);
+
+      Assert.assertTrue(new OptimizeManagerHandler().reportOptimizeResults(null, null).isEmpty());
+    } finally {
+      when(ServiceContainer.getOptimizeService()).thenReturn(originalOptimizeService);
+    }
+  }
+
+  private static OptimizeTaskStat taskStat(String traceId) {
+    OptimizeTaskStat optimizeTaskStat = new OptimizeTaskStat();
+    optimizeTaskStat.setTaskId(new OptimizeTaskId(OptimizeType.Minor, traceId));
+    return optimizeTaskStat;
+  }
+}
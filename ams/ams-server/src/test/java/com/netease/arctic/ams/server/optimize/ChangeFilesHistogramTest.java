@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.ams.server.optimize;
+
+import com.netease.arctic.ams.api.properties.TableFormat;
+import com.netease.arctic.ams.server.model.TableMetadata;
+import com.netease.arctic.catalog.TableTestBase;
+import com.netease.arctic.data.ChangeAction;
+import com.netease.arctic.io.DataTestHelpers;
+import com.netease.arctic.table.ChangeTable;
+import com.netease.arctic.table.KeyedTable;
+import com.netease.arctic.table.TableProperties;
+import com.netease.arctic.utils.TablePropertyUtil;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.StructLikeMap;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+public class ChangeFilesHistogramTest extends TableTestBase {
+  private static final Schema SCHEMA = new Schema(
+      Types.NestedField.required(1, "id", Types.IntegerType.get()),
+      Types.NestedField.required(2, "name", Types.StringType.get())
+  );
+  private static final PartitionSpec SPEC = PartitionSpec.builderFor(SCHEMA).identity("name").build();
+
+  private final ChangeFilesHistogram histogram = new ChangeFilesHistogram();
+
+  public ChangeFilesHistogramTest() {
+    super(TableFormat.MIXED_ICEBERG, true, false,
+        ImmutableMap.of(TableProperties.SELF_OPTIMIZING_MAX_FILE_CNT, "2"));
+  }
+
+  @Before
+  public void initHistogram() {
+    histogram.reset(SPEC);
+    // partition a: sequence 1(tx 1) * 2, sequence 3(tx 3) * 1
+    histogram.addFile(partition("a"), 1, 1);
+    histogram.addFile(partition("a"), 1, 1);
+    histogram.addFile(partition("a"), 3, 3);
+    // partition b: sequence 2(tx 2) * 1, sequence 3(tx 3) * 2
+    histogram.addFile(partition("b"), 2, 2);
+    histogram.addFile(partition("b"), 3, 3);
+    histogram.addFile(partition("b"), 3, 3);
+  }
+
+  @Test
+  public void testFileGroupsOfAllPartitions() {
+    List<TableOptimizeItem.SnapshotFileGroup> fileGroups = sorted(histogram.fileGroups(null, null));
+    Assert.assertEquals(3, fileGroups.size());
+    assertFileGroup(fileGroups.get(0), 1, 1, 2);
+    assertFileGroup(fileGroups.get(1), 2, 2, 1);
+    assertFileGroup(fileGroups.get(2), 3, 3, 3);
+  }
+
+  @Test
+  public void testFileGroupsFromSequence() {
+    StructLikeMap<Long> fromSequence = StructLikeMap.create(SPEC.partitionType());
+    fromSequence.put(partition("a"), 1L);
+    StructLikeMap<Long> fromTransactionId = StructLikeMap.create(SPEC.partitionType());
+    fromTransactionId.put(partition("a"), 3L);
+    fromTransactionId.put(partition("b"), 2L);
+
+    // partition a is filtered by sequence, partition b by legacy transaction id
+    List<TableOptimizeItem.SnapshotFileGroup> fileGroups =
+        sorted(histogram.fileGroups(fromSequence, fromTransactionId));
+    Assert.assertEquals(1, fileGroups.size());
+    assertFileGroup(fileGroups.get(0), 3, 3, 3);
+
+    Assert.assertEquals(Long.MAX_VALUE, TableOptimizeItem.getMaxSequenceKeepingTxIdInOrder(fileGroups, 3));
+  }
+
+  @Test
+  public void testMaxSequenceLimitOfChangeTable() {
+    KeyedTable keyedTable = getArcticTable().asKeyedTable();
+    ChangeTable changeTable = keyedTable.changeTable();
+    TableMetadata metadata = new TableMetadata();
+    metadata.setTableIdentifier(keyedTable.id());
+    metadata.setProperties(keyedTable.properties());
+    TableOptimizeItem tableOptimizeItem = new TableOptimizeItem(keyedTable, metadata, System.currentTimeMillis());
+    StructLikeMap<Long> fromSequence = StructLikeMap.create(keyedTable.spec().partitionType());
+
+    // not more files than self-optimizing.max-file-count, the histogram is not used
+    DataFile firstFile = appendChangeFile(keyedTable, 1);
+    appendChangeFile(keyedTable, 2);
+    Assert.assertEquals(Long.MAX_VALUE,
+        tableOptimizeItem.getMaxSequenceLimit(changeTable.currentSnapshot(), null, null));
+
+    // histogram is built from sequence 1, 2, 3
+    appendChangeFile(keyedTable, 3);
+    Assert.assertEquals(2, tableOptimizeItem.getMaxSequenceLimit(changeTable.currentSnapshot(), null, null));
+
+    // append again, sequence 4 is added incrementally
+    appendChangeFile(keyedTable, 4);
+    Assert.assertEquals(2, tableOptimizeItem.getMaxSequenceLimit(changeTable.currentSnapshot(), null, null));
+    fromSequence.put(TablePropertyUtil.EMPTY_STRUCT, 1L);
+    Assert.assertEquals(3, tableOptimizeItem.getMaxSequenceLimit(changeTable.currentSnapshot(), fromSequence, null));
+
+    // a delete snapshot(sequence 5) removes the file of sequence 1, the histogram is rebuilt
+    changeTable.newDelete().deleteFile(firstFile).commit();
+    Assert.assertEquals(3, tableOptimizeItem.getMaxSequenceLimit(changeTable.currentSnapshot(), null, null));
+
+    // the cached snapshot is expired, the histogram is rebuilt from sequence 2, 3, 4, 6, 7
+    appendChangeFile(keyedTable, 5);
+    appendChangeFile(keyedTable, 6);
+    changeTable.expireSnapshots().retainLast(1)
+        .expireOlderThan(changeTable.currentSnapshot().timestampMillis() + 1).commit();
+    Assert.assertNull(changeTable.snapshot(changeTable.currentSnapshot().parentId()));
+    Assert.assertEquals(3, tableOptimizeItem.getMaxSequenceLimit(changeTable.currentSnapshot(), null, null));
+    fromSequence.put(TablePropertyUtil.EMPTY_STRUCT, 3L);
+    Assert.assertEquals(6, tableOptimizeItem.getMaxSequenceLimit(changeTable.currentSnapshot(), fromSequence, null));
+  }
+
+  private static DataFile appendChangeFile(KeyedTable keyedTable, long txId) {
+    List<DataFile> files = DataTestHelpers.writeAndCommitChangeStore(keyedTable, txId, ChangeAction.INSERT,
+        Collections.singletonList(DataTestHelpers.createRecord((int) txId, "name" + txId, 0,
+            "2022-01-01T12:00:00")));
+    Assert.assertEquals(1, files.size());
+    return files.get(0);
+  }
+
+  private static List<TableOptimizeItem.SnapshotFileGroup> sorted(List<TableOptimizeItem.SnapshotFileGroup> groups) {
+    groups.sort(Comparator.comparingLong(TableOptimizeItem.SnapshotFileGroup::getSequence));
+    return groups;
+  }
+
+  private static void assertFileGroup(TableOptimizeItem.SnapshotFileGroup fileGroup, long sequence,
+                                      long transactionId, int fileCnt) {
+    Assert.assertEquals(sequence, fileGroup.getSequence());
+    Assert.assertEquals(transactionId, fileGroup.getTransactionId());
+    Assert.assertEquals(fileCnt, fileGroup.getFileCnt());
+  }
+
+  private static GenericRecord partition(String name) {
+    GenericRecord partition = GenericRecord.create(SPEC.partitionType());
+    partition.set(0, name);
+    return partition;
+  }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.ams.server.optimize;
+
+import com.netease.arctic.ams.server.model.BasicOptimizeTask;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+public class OptimizeCostModelTest {
+  private static final long MB = 1024 * 1024;
+
+  private final OptimizeCostModel costModel = new OptimizeCostModel();
+
+  @Test
+  public void testUntrained() {
+    for (int i = 0; i < OptimizeCostModel.MIN_TRAINED_TASKS - 1; i++) {
+      costModel.train(task(128 * MB, 0, 0, 0), 5000);
+    }
+    Assert.assertFalse(costModel.isTrained());
+    // failed or unreported tasks are not learned
+    costModel.train(task(128 * MB, 0, 0, 0), 0);
+    Assert.assertFalse(costModel.isTrained());
+    costModel.train(task(128 * MB, 0, 0, 0), 5000);
+    Assert.assertTrue(costModel.isTrained());
+  }
+
+  @Test
+  public void testPredictConverge() {
+    Random random = new Random(0);
+    for (int i = 0; i < 200; i++) {
+      long base = random.nextInt(512) * MB;
+      long insert = random.nextInt(64) * MB;
+      long eqDelete = random.nextInt(16) * MB;
+      long posDelete = random.nextInt(32) * MB;
+      costModel.train(task(base, insert, eqDelete, posDelete), cost(base, insert, eqDelete, posDelete));
+    }
+    Assert.assertTrue(costModel.isTrained());
+    Assert.assertEquals(cost(256 * MB, 0, 0, 0), costModel.predict(256 * MB, 0, 0, 0), 500);
+    Assert.assertEquals(cost(128 * MB, 32 * MB, 8 * MB, 16 * MB),
+        costModel.predict(task(128 * MB, 32 * MB, 8 * MB, 16 * MB)), 500);
+    Assert.assertTrue(costModel.getRelativeError() < 0.05);
+
+    long baseSize = costModel.baseSizeForDuration(cost(256 * MB, 0, 0, 16 * MB), 16 * MB);
+    Assert.assertEquals(256 * MB, baseSize, 16 * MB);
+  }
+
+  private static long cost(long base, long insert, long eqDelete, long posDelete) {
+    // 2s overhead, 20 ms/MB of data, 300 ms/MB of equality-deletes, 10 ms/MB of pos-deletes
+    return 2000 + (base + insert) * 20 / MB + eqDelete * 300 / MB + posDelete * 10 / MB;
+  }
+
+  private static BasicOptimizeTask task(long base, long insert, long eqDelete, long posDelete) {
+    BasicOptimizeTask task = new BasicOptimizeTask();
+    task.setBaseFileSize(base);
+    task.setInsertFileSize(insert);
+    task.setDeleteFileSize(eqDelete);
+    task.setPosDeleteFileSize(posDelete);
+    return task;
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.ams.server.optimize;
+
+import com.netease.arctic.ams.api.properties.OptimizeTaskProperties;
+import com.netease.arctic.table.TableIdentifier;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class OptimizeExecuteMetricsTest {
+
+  @Test
+  public void testRecord() {
+    OptimizeExecuteMetrics metrics = new OptimizeExecuteMetrics();
+    // tasks reported by old optimizers have no metrics
+    metrics.record(null, 1000);
+    Assert.assertEquals(0, metrics.getTasks());
+
+    metrics.record(taskMetrics(100, 10), 2000);
+    metrics.record(taskMetrics(50, 0), 3000);
+    Assert.assertEquals(2, metrics.getTasks());
+    Assert.assertEquals(150L, (long) metrics.getTotals().get(OptimizeTaskProperties.METRICS_ROWS_READ));
+    Assert.assertEquals(10L, (long) metrics.getTotals().get(OptimizeTaskProperties.METRICS_EQ_DELETED_ROWS));
+    Assert.assertEquals(50L, (long) metrics.getLatestTask().get(OptimizeTaskProperties.METRICS_ROWS_READ));
+    Assert.assertEquals(3000, metrics.getLatestReportTime());
+  }
+
+  @Test
+  public void testPrometheusText() {
+    OptimizeExecuteMetrics metrics1 = new OptimizeExecuteMetrics();
+    metrics1.record(taskMetrics(100, 10), 1000);
+    OptimizeExecuteMetrics metrics2 = new OptimizeExecuteMetrics();
+    Map<TableIdentifier, OptimizeExecuteMetrics> tableMetrics = new LinkedHashMap<>();
+    tableMetrics.put(TableIdentifier.of("catalog", "db", "t\"2"), metrics2);
+    tableMetrics.put(TableIdentifier.of("catalog", "db", "t1"), metrics1);
+
+    String expected = "# TYPE arctic_optimize_eq_deleted_rows_total counter\n" +
+        "arctic_optimize_eq_deleted_rows_total{catalog=\"catalog\",database=\"db\",table=\"t1\"} 10\n" +
+        "# TYPE arctic_optimize_rows_read_total counter\n" +
+        "arctic_optimize_rows_read_total{catalog=\"catalog\",database=\"db\",table=\"t1\"} 100\n" +
+        "# TYPE arctic_optimize_tasks_total counter\n" +
+        "arctic_optimize_tasks_total{catalog=\"catalog\",database=\"db\",table=\"t\\\"2\"} 0\n" +
+        "arctic_optimize_tasks_total{catalog=\"catalog\",database=\"db\",table=\"t1\"} 1\n";
+    Assert.assertEquals(expected, OptimizeExecuteMetrics.toPrometheusText(tableMetrics));
+  }
+
+  private static Map<String, Long> taskMetrics(long rowsRead, long eqDeletedRows) {
+    Map<String, Long> metrics = new HashMap<>();
+    metrics.put(OptimizeTaskProperties.METRICS_ROWS_READ, rowsRead);
+    metrics.put(OptimizeTaskProperties.METRICS_EQ_DELETED_ROWS, eqDeletedRows);
+    return metrics;
+  }
+}
@@ -25,12 +25,16 @@ import com.netease.arctic.ams.api.properties.TableFormat;
 import com.netease.arctic.ams.server.model.BasicOptimizeTask;
 import com.netease.arctic.ams.server.model.OptimizeTaskRuntime;
 import com.netease.arctic.ams.server.model.TableMetadata;
+import com.netease.arctic.ams.server.model.TableOptimizeRuntime;
 import com.netease.arctic.ams.server.utils.JDBCSqlSessionFactoryProvider;
+import com.netease.arctic.TableTestHelpers;
 import com.netease.arctic.catalog.TableTestBase;
 import com.netease.arctic.table.TableProperties;
+import com.netease.arctic.table.UnkeyedTable;
 import com.netease.arctic.utils.CompatiblePropertyUtil;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.iceberg.Snapshot;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -41,6 +45,7 @@ import org.powermock.core.classloader.annotations.PrepareForTest;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import static com.netease.arctic.ams.server.util.DerbyTestUtil.get;
@@ -167,6 +172,85 @@ public class TableOptimizeItemTest extends TableTestBase {
     Assert.assertEquals(0, tableOptimizeItem.getOptimizeTasks().size());
   }
 
+  @Test
+  public void testReusePendingOptimizeSummary() {
+    UnkeyedTable table = getArcticTable().asUnkeyedTable();
+    table.newAppend().appendFile(TableTestHelpers.getFile(1)).commit();
+    TableOptimizeItem tableOptimizeItem = newTableOptimizeItem();
+
+    // the summary published by the planner is reused while the table is unchanged, status and files come from it
+    PendingOptimizeSummary published = PendingOptimizeSummary.of(
+        new OptimizePlanResult(Collections.singleton(""), Collections.singletonList(mockPendingTask()),
+            OptimizeType.Major, table.currentSnapshot().snapshotId(), -1, "test"),
+        table.currentSnapshot(), null);
+    tableOptimizeItem.publishPendingOptimizeSummary(published);
+    tableOptimizeItem.updateTableOptimizeStatus();
+    Assert.assertSame(published, tableOptimizeItem.getPendingOptimizeSummary());
+    Assert.assertEquals(TableOptimizeRuntime.OptimizeStatus.Pending,
+        tableOptimizeItem.getTableOptimizeRuntime().getOptimizeStatus());
+    Assert.assertEquals(3, tableOptimizeItem.getOptimizeFileInfo().getFileCnt());
+    Assert.assertEquals(300, tableOptimizeItem.getOptimizeFileInfo().getTotalSize());
+
+    // a new snapshot invalidates the summary, the table is planned again
+    table.newAppend().appendFile(TableTestHelpers.getFile(2)).commit();
+    tableOptimizeItem.updateTableOptimizeStatus();
+    PendingOptimizeSummary replanned = tableOptimizeItem.getPendingOptimizeSummary();
+    Assert.assertNotSame(published, replanned);
+    Assert.assertTrue(replanned.plannedOn(table.currentSnapshot(), null));
+    Assert.assertEquals(replanned.isIdle() ? TableOptimizeRuntime.OptimizeStatus.Idle :
+        TableOptimizeRuntime.OptimizeStatus.Pending, tableOptimizeItem.getTableOptimizeRuntime().getOptimizeStatus());
+  }
+
+  @Test
+  public void testPendingOptimizeSummaryPlannedOn() {
+    UnkeyedTable table = getArcticTable().asUnkeyedTable();
+    table.newAppend().appendFile(TableTestHelpers.getFile(1)).commit();
+    Snapshot firstSnapshot = table.currentSnapshot();
+    table.newAppend().appendFile(TableTestHelpers.getFile(2)).commit();
+    Snapshot secondSnapshot = table.currentSnapshot();
+
+    PendingOptimizeSummary summary = PendingOptimizeSummary.of(OptimizePlanResult.EMPTY, firstSnapshot, firstSnapshot);
+    Assert.assertTrue(summary.plannedOn(firstSnapshot, firstSnapshot));
+    // either the base or the change snapshot moves
+    Assert.assertFalse(summary.plannedOn(secondSnapshot, firstSnapshot));
+    Assert.assertFalse(summary.plannedOn(firstSnapshot, secondSnapshot));
+    Assert.assertFalse(summary.plannedOn(firstSnapshot, null));
+  }
+
+  @Test
+  public void testIdleSummaryNotReusedAfterTriggerInterval() {
+    UnkeyedTable table = getArcticTable().asUnkeyedTable();
+    table.newAppend().appendFile(TableTestHelpers.getFile(1)).commit();
+    TableOptimizeItem tableOptimizeItem = newTableOptimizeItem();
+
+    PendingOptimizeSummary idle = PendingOptimizeSummary.of(OptimizePlanResult.EMPTY, table.currentSnapshot(), null);
+    tableOptimizeItem.publishPendingOptimizeSummary(idle);
+    tableOptimizeItem.updateTableOptimizeStatus();
+    Assert.assertSame(idle, tableOptimizeItem.getPendingOptimizeSummary());
+
+    // full optimizing may be triggered by interval without any new snapshot
+    table.updateProperties().set(TableProperties.SELF_OPTIMIZING_FULL_TRIGGER_INTERVAL, "0").commit();
+    tableOptimizeItem.updateTableOptimizeStatus();
+    Assert.assertNotSame(idle, tableOptimizeItem.getPendingOptimizeSummary());
+  }
+
+  private TableOptimizeItem newTableOptimizeItem() {
+    TableMetadata metadata = new TableMetadata();
+    metadata.setTableIdentifier(getArcticTable().id());
+    metadata.setProperties(getArcticTable().properties());
+    return new TableOptimizeItem(getArcticTable(), metadata, System.currentTimeMillis() + 6 * 60 * 60 * 1000);
+  }
+
+  private static BasicOptimizeTask mockPendingTask() {
+    BasicOptimizeTask task = new BasicOptimizeTask();
+    task.setTaskId(new OptimizeTaskId(OptimizeType.Major, "pending task id"));
+    task.setBaseFileCnt(2);
+    task.setBaseFileSize(200);
+    task.setPosDeleteFileCnt(1);
+    task.setPosDeleteFileSize(100);
+    return task;
+  }
+
   private List<OptimizeTaskItem> mockCommonTaskItems(int maxRetry, int count, List<OptimizeStatus> status) {
     Preconditions.condition(CollectionUtils.isNotEmpty(status), "status list can't be empty");
 
@@ -29,16 +29,21 @@ import com.netease.arctic.ams.server.utils.JDBCSqlSessionFactoryProvider;
 import com.netease.arctic.data.DataTreeNode;
 import com.netease.arctic.data.file.FileNameGenerator;
 import com.netease.arctic.table.ArcticTable;
+import com.netease.arctic.table.KeyedTable;
 import com.netease.arctic.table.TableProperties;
+import com.netease.arctic.table.UnkeyedTable;
 import com.netease.arctic.utils.SerializationUtils;
 import org.apache.iceberg.DataFile;
 import org.apache.iceberg.DeleteFile;
 import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.RewriteFiles;
 import org.apache.iceberg.Snapshot;
+import org.apache.iceberg.exceptions.CommitFailedException;
 import org.apache.iceberg.util.Pair;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.Answers;
 import org.powermock.core.classloader.annotations.PowerMockIgnore;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 
@@ -50,6 +55,10 @@ import java.util.OptionalLong;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 import static org.powermock.api.mockito.PowerMockito.mockStatic;
 import static org.powermock.api.mockito.PowerMockito.when;
 
@@ -334,6 +343,101 @@ public class TestMajorOptimizeCommit extends TestBaseOptimizeBase {
     }
   }
 
+  @Test
+  public void testMajorOptimizeRetryCommit() throws Exception {
+    List<DataFile> targetFiles = new ArrayList<>();
+    Map<String, List<OptimizeTaskItem>> partitionTasks = planMajorTasksToCommit(targetFiles);
+    long baseSnapshotId = testKeyedTable.baseTable().currentSnapshot().snapshotId();
+
+    // the first rewrite fails by a concurrent commit
+    UnkeyedTable baseTable = spy(testKeyedTable.baseTable());
+    KeyedTable keyedTable = spy(testKeyedTable);
+    doReturn(baseTable).when(keyedTable).baseTable();
+    RewriteFiles conflictRewrite = mock(RewriteFiles.class, Answers.RETURNS_SELF);
+    doThrow(new CommitFailedException("concurrent commit")).when(conflictRewrite).commit();
+    doReturn(conflictRewrite).doCallRealMethod().when(baseTable).newRewrite();
+
+    BasicOptimizeCommit optimizeCommit = new BasicOptimizeCommit(keyedTable, partitionTasks).withRetries(1);
+    Assert.assertFalse(optimizeCommit.commit(baseSnapshotId));
+    Assert.assertTrue(optimizeCommit.canRetry());
+    Assert.assertEquals(baseSnapshotId, testKeyedTable.baseTable().currentSnapshot().snapshotId());
+    // files are kept for the retry
+    for (DataFile dataFile : targetFiles) {
+      Assert.assertTrue(testKeyedTable.io().exists(dataFile.path().toString()));
+    }
+
+    Assert.assertTrue(optimizeCommit.commit(baseSnapshotId));
+    Assert.assertFalse(optimizeCommit.canRetry());
+    Set<String> newDataFilesPath = new HashSet<>();
+    testKeyedTable.baseTable().newScan().planFiles()
+        .forEach(fileScanTask -> newDataFilesPath.add((String) fileScanTask.file().path()));
+    Assert.assertTrue(newDataFilesPath.containsAll(
+        targetFiles.stream().map(dataFile -> dataFile.path().toString()).collect(Collectors.toSet())));
+
+    // committed files are never cleaned
+    optimizeCommit.cleanUncommittedFiles(baseSnapshotId);
+    for (DataFile dataFile : targetFiles) {
+      Assert.assertTrue(testKeyedTable.io().exists(dataFile.path().toString()));
+    }
+  }
+
+  @Test
+  public void testCleanUncommittedFiles() throws Exception {
+    List<DataFile> targetFiles = new ArrayList<>();
+    Map<String, List<OptimizeTaskItem>> partitionTasks = planMajorTasksToCommit(targetFiles);
+    long baseSnapshotId = testKeyedTable.baseTable().currentSnapshot().snapshotId();
+
+    // the commit given up before writing table metadata, e.g. the base snapshot changed
+    BasicOptimizeCommit optimizeCommit = new BasicOptimizeCommit(testKeyedTable, partitionTasks);
+    optimizeCommit.prepare();
+    optimizeCommit.cleanUncommittedFiles(baseSnapshotId);
+
+    Assert.assertFalse(targetFiles.isEmpty());
+    for (DataFile dataFile : targetFiles) {
+      Assert.assertFalse(testKeyedTable.io().exists(dataFile.path().toString()));
+    }
+    Assert.assertEquals(baseSnapshotId, testKeyedTable.baseTable().currentSnapshot().snapshotId());
+  }
+
+  private Map<String, List<OptimizeTaskItem>> planMajorTasksToCommit(List<DataFile> targetFilesCollector)
+      throws Exception {
+    Pair<Snapshot, List<DataFile>> insertBaseResult = insertTableBaseDataFiles(testKeyedTable);
+    List<DataFile> baseDataFiles = insertBaseResult.second();
+    baseDataFilesInfo.addAll(baseDataFiles.stream()
+        .map(dataFile ->
+            DataFileInfoUtils.convertToDatafileInfo(dataFile, insertBaseResult.first(), testKeyedTable, false))
+        .collect(Collectors.toList()));
+
+    testKeyedTable.updateProperties().
+        set(TableProperties.SELF_OPTIMIZING_MAJOR_TRIGGER_DUPLICATE_RATIO, "0").commit();
+    TableOptimizeRuntime tableOptimizeRuntime = new TableOptimizeRuntime(testKeyedTable.id());
+    List<FileScanTask> baseFiles = planBaseFiles(testKeyedTable);
+    MajorOptimizePlan majorOptimizePlan = new MajorOptimizePlan(testKeyedTable,
+        tableOptimizeRuntime, baseFiles,
+        1, System.currentTimeMillis(), TableOptimizeRuntime.INVALID_SNAPSHOT_ID);
+    List<BasicOptimizeTask> tasks = majorOptimizePlan.plan().getOptimizeTasks();
+
+    Map<TreeNode, List<DataFile>> resultFiles = generateTargetFiles(testKeyedTable, baseFiles);
+    List<OptimizeTaskItem> taskItems = tasks.stream().map(task -> {
+      OptimizeTaskRuntime optimizeRuntime = new OptimizeTaskRuntime(task.getTaskId());
+      List<DataFile> targetFiles = resultFiles.get(task.getSourceNodes().get(0));
+      optimizeRuntime.setPreparedTime(System.currentTimeMillis());
+      optimizeRuntime.setStatus(OptimizeStatus.Prepared);
+      optimizeRuntime.setReportTime(System.currentTimeMillis());
+      optimizeRuntime.setNewFileCnt(targetFiles == null ? 0 : targetFiles.size());
+      if (targetFiles != null) {
+        targetFilesCollector.addAll(targetFiles);
+        optimizeRuntime.setNewFileSize(targetFiles.get(0).fileSizeInBytes());
+        optimizeRuntime.setTargetFiles(targetFiles.stream().map(SerializationUtils::toByteBuffer).collect(Collectors.toList()));
+      }
+      // 1min
+      optimizeRuntime.setCostTime(60 * 1000);
+      return new OptimizeTaskItem(task, optimizeRuntime);
+    }).collect(Collectors.toList());
+    return taskItems.stream()
+        .collect(Collectors.groupingBy(taskItem -> taskItem.getOptimizeTask().getPartition()));
+  }
+
   private Map<TreeNode, List<DataFile>> generateTargetFiles(ArcticTable arcticTable, List<FileScanTask> baseFiles)
       throws Exception {
     long maxTransactionId = getMaxTransactionId(baseFiles);
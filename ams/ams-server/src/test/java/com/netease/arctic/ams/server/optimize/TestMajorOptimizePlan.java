@@ -20,6 +20,7 @@ package com.netease.arctic.ams.server.optimize;
 
 
 import com.netease.arctic.ams.api.OptimizeType;
+import com.netease.arctic.ams.api.properties.OptimizeTaskProperties;
 import com.netease.arctic.ams.server.model.BasicOptimizeTask;
 import com.netease.arctic.ams.server.model.TableOptimizeRuntime;
 import com.netease.arctic.ams.server.util.DataFileInfoUtils;
@@ -32,6 +33,7 @@ import com.netease.arctic.table.UnkeyedTable;
 import org.apache.iceberg.AppendFiles;
 import org.apache.iceberg.ContentFile;
 import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DataFiles;
 import org.apache.iceberg.DeleteFile;
 import org.apache.iceberg.FileFormat;
 import org.apache.iceberg.FileScanTask;
@@ -279,6 +281,89 @@ public class TestMajorOptimizePlan extends TestBaseOptimizeBase {
     Assert.assertEquals(0, tasks.get(0).getDeleteFileCnt());
   }
 
+  @Test
+  public void testUnKeyedTableTaskSizeByTargetDuration() {
+    long mb = 1024 * 1024;
+    // small files are smaller than 16MB, and tasks could be merged to 1GB at most
+    testTable.updateProperties()
+        .set(TableProperties.SELF_OPTIMIZING_TARGET_SIZE, String.valueOf(64 * mb))
+        .set(TableProperties.SELF_OPTIMIZING_FRAGMENT_RATIO, "4")
+        .set(TableProperties.SELF_OPTIMIZING_FULL_TRIGGER_INTERVAL, "86400000")
+        .commit();
+    AppendFiles appendFiles = testTable.newAppend();
+    for (int i = 0; i < 10; i++) {
+      appendFiles.appendFile(DataFiles.builder(testTable.spec())
+          .withPath(String.format("%s/data/sized-%d.parquet", testTable.location(), i))
+          .withFileSizeInBytes(10 * mb)
+          .withRecordCount(100)
+          .withPartition(FILE_A.partition())
+          .build());
+    }
+    appendFiles.commit();
+    List<FileScanTask> baseFiles = planBaseFiles(testTable);
+
+    // 1s overhead and 1s per MB of base files
+    OptimizeCostModel costModel = new OptimizeCostModel();
+    for (int i = 1; i <= 20; i++) {
+      BasicOptimizeTask task = new BasicOptimizeTask();
+      task.setBaseFileSize(i * 10 * mb);
+      costModel.train(task, 1000 + i * 10 * 1000);
+    }
+    Assert.assertTrue(costModel.isTrained());
+
+    // no target duration, packed by target-size
+    Assert.assertEquals(2, planTasks(baseFiles, costModel, false).size());
+    Assert.assertNull(costModel.getLastSizing());
+
+    // split to 25MB tasks
+    setTaskTargetDuration(26_000);
+    List<BasicOptimizeTask> tasks = planTasks(baseFiles, costModel, false);
+    Assert.assertEquals(5, tasks.size());
+    Assert.assertEquals(25 * mb, costModel.getLastSizing().getTaskSize(), mb);
+    Assert.assertEquals(64 * mb, costModel.getLastSizing().getDefaultTaskSize());
+    Assert.assertEquals(26_000, costModel.getLastSizing().getTargetDuration());
+    for (BasicOptimizeTask task : tasks) {
+      Assert.assertEquals(2, task.getBaseFileCnt());
+      Assert.assertEquals(String.valueOf(costModel.predict(task)),
+          task.getProperties().get(OptimizeTaskProperties.PREDICTED_COST_TIME));
+    }
+
+    // merge to a 200MB task
+    setTaskTargetDuration(201_000);
+    tasks = planTasks(baseFiles, costModel, true);
+    Assert.assertEquals(1, tasks.size());
+    Assert.assertEquals(OptimizeType.FullMajor, tasks.get(0).getTaskId().getType());
+    Assert.assertEquals(200 * mb, costModel.getLastSizing().getTaskSize(), mb);
+    Assert.assertNotNull(tasks.get(0).getProperties().get(OptimizeTaskProperties.PREDICTED_COST_TIME));
+
+    // clamped to the fragment size
+    setTaskTargetDuration(500);
+    Assert.assertEquals(10, planTasks(baseFiles, costModel, false).size());
+    Assert.assertEquals(16 * mb, costModel.getLastSizing().getTaskSize());
+
+    // clamped to 16 times of target-size
+    setTaskTargetDuration(100_000_000);
+    Assert.assertEquals(1, planTasks(baseFiles, costModel, true).size());
+    Assert.assertEquals(16 * 64 * mb, costModel.getLastSizing().getTaskSize());
+  }
+
+  private void setTaskTargetDuration(long targetDuration) {
+    testTable.updateProperties()
+        .set(TableProperties.SELF_OPTIMIZING_TASK_TARGET_DURATION, String.valueOf(targetDuration))
+        .commit();
+  }
+
+  private List<BasicOptimizeTask> planTasks(List<FileScanTask> baseFiles, OptimizeCostModel costModel,
+                                            boolean full) {
+    AbstractArcticOptimizePlan plan = full ?
+        new FullOptimizePlan(testTable, new TableOptimizeRuntime(testTable.id()), baseFiles,
+            1, System.currentTimeMillis(), TableOptimizeRuntime.INVALID_SNAPSHOT_ID) :
+        new MajorOptimizePlan(testTable, new TableOptimizeRuntime(testTable.id()), baseFiles,
+            1, System.currentTimeMillis(), TableOptimizeRuntime.INVALID_SNAPSHOT_ID);
+    plan.setCostModel(costModel);
+    return plan.plan().getOptimizeTasks();
+  }
+
   private List<DataFile> insertUnKeyedTableDataFiles(ArcticTable arcticTable) {
     List<DataFile> dataFiles = insertUnKeyedTableDataFile(FILE_A.partition(), LocalDateTime.of(2022, 1, 1, 12, 0, 0), 5);
     dataFiles.addAll(insertUnKeyedTableDataFile(FILE_B.partition(), LocalDateTime.of(2022, 1, 2, 12, 0, 0), 5));
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.ams.server.optimize;
+
+import com.netease.arctic.ams.server.ArcticMetaStore;
+import com.netease.arctic.ams.server.service.ServiceContainer;
+import com.netease.arctic.table.TableIdentifier;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.powermock.api.mockito.PowerMockito.when;
+
+public class TestOptimizeCommitWorker {
+
+  private static final int MAX_RETRIES = 3;
+  private static final long VERIFY_TIMEOUT = 10000;
+
+  @Test
+  public void testPrepareAndCommit() throws Exception {
+    BlockingQueue<TableOptimizeItem> tablesToCommit = new LinkedBlockingQueue<>();
+    DelayQueue<PreparedOptimizeCommit> preparedCommits = new DelayQueue<>();
+    OptimizeCommitMetrics metrics = new OptimizeCommitMetrics(tablesToCommit::size, preparedCommits::size);
+    IOptimizeService optimizeService = mock(IOptimizeService.class);
+    when(optimizeService.takeTableToCommit()).thenAnswer(invocation -> tablesToCommit.take());
+    when(optimizeService.takePreparedCommit()).thenAnswer(invocation -> preparedCommits.take());
+    when(optimizeService.getCommitMetrics()).thenReturn(metrics);
+    doAnswer(invocation -> preparedCommits.add(invocation.getArgument(0)))
+        .when(optimizeService).putPreparedCommit(any());
+
+    // failed by a concurrent commit once, then committed
+    BasicOptimizeCommit optimizeCommit = mock(BasicOptimizeCommit.class);
+    TableOptimizeItem retriedTable = tableToCommit("retried");
+    when(retriedTable.prepareCommit(anyInt())).thenReturn(optimizeCommit);
+    when(retriedTable.commitPrepared(optimizeCommit)).thenReturn(true).thenReturn(false);
+    // no tasks to commit, or the base snapshot changed
+    TableOptimizeItem skippedTable = tableToCommit("skipped");
+    when(skippedTable.prepareCommit(anyInt())).thenReturn(null);
+    TableOptimizeItem failedTable = tableToCommit("failed");
+    when(failedTable.prepareCommit(anyInt())).thenThrow(new IllegalArgumentException("file count not match"));
+
+    IOptimizeService originalOptimizeService = ServiceContainer.getOptimizeService();
+    when(ServiceContainer.getOptimizeService()).thenReturn(optimizeService);
+    when(ArcticMetaStore.isStarted()).thenReturn(true);
+    Thread prepareWorker = new Thread(new OptimizeCommitPrepareWorker(0, MAX_RETRIES));
+    Thread commitWorker = new Thread(new OptimizeCommitWorker(0));
+    try {
+      prepareWorker.start();
+      commitWorker.start();
+      tablesToCommit.add(retriedTable);
+      tablesToCommit.add(skippedTable);
+      tablesToCommit.add(failedTable);
+
+      verify(retriedTable, timeout(VERIFY_TIMEOUT).times(2)).commitPrepared(optimizeCommit);
+      verify(retriedTable, timeout(VERIFY_TIMEOUT)).setTableCanCommit();
+      verify(skippedTable, timeout(VERIFY_TIMEOUT)).setTableCanCommit();
+      verify(failedTable, timeout(VERIFY_TIMEOUT)).setTableCanCommit();
+      verify(retriedTable).prepareCommit(MAX_RETRIES);
+      verify(skippedTable, never()).commitPrepared(any());
+      verify(failedTable, never()).commitPrepared(any());
+      verify(optimizeService, times(2)).putPreparedCommit(any());
+    } finally {
+      prepareWorker.interrupt();
+      commitWorker.interrupt();
+      prepareWorker.join(VERIFY_TIMEOUT);
+      commitWorker.join(VERIFY_TIMEOUT);
+      when(ArcticMetaStore.isStarted()).thenReturn(false);
+      when(ServiceContainer.getOptimizeService()).thenReturn(originalOptimizeService);
+    }
+
+    Assert.assertEquals(1, metrics.getCommitted());
+    Assert.assertEquals(1, metrics.getRetried());
+    Assert.assertEquals(1, metrics.getFailed());
+    Assert.assertEquals(3, metrics.getStages().get(OptimizeCommitMetrics.Stage.WAIT_PREPARE).getCount());
+    Assert.assertEquals(2, metrics.getStages().get(OptimizeCommitMetrics.Stage.PREPARE).getCount());
+    Assert.assertEquals(2, metrics.getStages().get(OptimizeCommitMetrics.Stage.WAIT_COMMIT).getCount());
+    Assert.assertEquals(2, metrics.getStages().get(OptimizeCommitMetrics.Stage.COMMIT).getCount());
+    Assert.assertEquals(0, metrics.getPrepareQueueSize());
+    Assert.assertEquals(0, metrics.getCommitQueueSize());
+  }
+
+  @Test
+  public void testPreparedCommitDelay() throws InterruptedException {
+    long now = System.currentTimeMillis();
+    PreparedOptimizeCommit retried = new PreparedOptimizeCommit(null, null, now + 60000);
+    PreparedOptimizeCommit prepared = new PreparedOptimizeCommit(null, null, now);
+    Assert.assertTrue(retried.getDelay(TimeUnit.MILLISECONDS) > 0);
+    Assert.assertTrue(prepared.getDelay(TimeUnit.MILLISECONDS) <= 0);
+    Assert.assertTrue(retried.compareTo(prepared) > 0);
+
+    DelayQueue<PreparedOptimizeCommit> preparedCommits = new DelayQueue<>();
+    preparedCommits.add(retried);
+    preparedCommits.add(prepared);
+    // the commit waiting for retry does not hold back the prepared one
+    Assert.assertSame(prepared, preparedCommits.poll());
+    Assert.assertNull(preparedCommits.poll());
+    Assert.assertEquals(1, preparedCommits.size());
+  }
+
+  @Test
+  public void testCommitMetrics() {
+    OptimizeCommitMetrics metrics = new OptimizeCommitMetrics(() -> 2, () -> 3);
+    metrics.record(OptimizeCommitMetrics.Stage.PREPARE, 100);
+    metrics.record(OptimizeCommitMetrics.Stage.PREPARE, 300);
+    metrics.committed();
+    metrics.retried();
+    metrics.retried();
+
+    OptimizeCommitMetrics.StageMetrics prepare = metrics.getStages().get(OptimizeCommitMetrics.Stage.PREPARE);
+    Assert.assertEquals(2, prepare.getCount());
+    Assert.assertEquals(400, prepare.getTotalTime());
+    Assert.assertEquals(300, prepare.getMaxTime());
+    Assert.assertEquals(200, prepare.getAverageTime());
+    Assert.assertEquals(0, metrics.getStages().get(OptimizeCommitMetrics.Stage.COMMIT).getAverageTime());
+    Assert.assertEquals(1, metrics.getCommitted());
+    Assert.assertEquals(2, metrics.getRetried());
+    Assert.assertEquals(0, metrics.getFailed());
+    Assert.assertEquals(2, metrics.getPrepareQueueSize());
+    Assert.assertEquals(3, metrics.getCommitQueueSize());
+  }
+
+  private static TableOptimizeItem tableToCommit(String tableName) {
+    TableOptimizeItem tableOptimizeItem = mock(TableOptimizeItem.class);
+    when(tableOptimizeItem.getTableIdentifier()).thenReturn(TableIdentifier.of("test_catalog", "test_db", tableName));
+    when(tableOptimizeItem.getCommitTriggerTime()).thenReturn(System.currentTimeMillis());
+    return tableOptimizeItem;
+  }
+}
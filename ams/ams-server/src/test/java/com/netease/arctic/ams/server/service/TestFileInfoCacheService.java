@@ -28,6 +28,7 @@ import com.netease.arctic.ams.api.TableChange;
 import com.netease.arctic.ams.api.TableCommitMeta;
 import com.netease.arctic.ams.api.TableIdentifier;
 import com.netease.arctic.ams.server.model.TransactionsOfTable;
+import com.netease.arctic.ams.server.service.impl.FileInfoCacheService;
 import com.netease.arctic.ams.server.util.TableUtil;
 import com.netease.arctic.table.ArcticTable;
 import com.netease.arctic.table.KeyedTable;
@@ -479,6 +480,55 @@ public class TestFileInfoCacheService extends TableTestBase {
     assertDataFile(dataFile1, commitTime, snapshotSequence1, ttlDataFiles.get(1));
   }
 
+  @Test
+  public void testQueuedCommits() throws Exception {
+    TableIdentifier tableIdentifier = new TableIdentifier(AMS_TEST_CATALOG_NAME, "test", "testQueuedCommits");
+    FileInfoCacheService fileInfoCacheService = new FileInfoCacheService();
+    fileInfoCacheService.enableAsyncCommit(10);
+
+    DataFile dataFile = genDatafile();
+    TableChange change = new TableChange();
+    change.setParentSnapshotId(-1);
+    change.setInnerTable("base");
+    change.setAddFiles(Collections.singletonList(dataFile));
+    change.setSnapshotId(1L);
+    fileInfoCacheService.commitCacheFileInfo(genCommitMeta(tableIdentifier, change));
+
+    // the second commit deletes the file added by the first one, whose snapshot is not written yet
+    DataFile dataFile1 = genDatafile();
+    TableChange change1 = new TableChange();
+    change1.setParentSnapshotId(1L);
+    change1.setInnerTable("base");
+    change1.setAddFiles(Collections.singletonList(dataFile1));
+    change1.setDeleteFiles(Collections.singletonList(dataFile));
+    change1.setSnapshotId(2L);
+    fileInfoCacheService.commitCacheFileInfo(genCommitMeta(tableIdentifier, change1));
+
+    Assert.assertEquals(2, fileInfoCacheService.getQueuedCommitCount());
+    Assert.assertTrue(fileInfoCacheService.getTxExcludeOptimize(tableIdentifier).isEmpty());
+
+    fileInfoCacheService.writeQueuedCommits(10);
+
+    Assert.assertEquals(0, fileInfoCacheService.getQueuedCommitCount());
+    List<TransactionsOfTable> transactionsOfTables = fileInfoCacheService.getTxExcludeOptimize(tableIdentifier);
+    Assert.assertEquals(2, transactionsOfTables.size());
+    Assert.assertEquals(2L, transactionsOfTables.get(0).getTransactionId());
+    Assert.assertEquals(1L, transactionsOfTables.get(1).getTransactionId());
+    List<DataFileInfo> dataFileInfos = fileInfoCacheService.getOptimizeDatafiles(tableIdentifier, "base");
+    Assert.assertEquals(1, dataFileInfos.size());
+    Assert.assertEquals(dataFile1.getPath(), dataFileInfos.get(0).getPath());
+  }
+
+  private TableCommitMeta genCommitMeta(TableIdentifier tableIdentifier, TableChange change) {
+    TableCommitMeta meta = new TableCommitMeta();
+    meta.setAction("append");
+    meta.setCommitTime(System.currentTimeMillis());
+    meta.setCommitMetaProducer(CommitMetaProducer.INGESTION);
+    meta.setTableIdentifier(tableIdentifier);
+    meta.setChanges(Collections.singletonList(change));
+    return meta;
+  }
+
   private void assertDataFile(DataFile file, long commitTime, long sequence, DataFileInfo dataFileInfo) {
     Assert.assertEquals(file.getPath().toString(), dataFileInfo.getPath());
     Assert.assertEquals("pt=2022-08-31", dataFileInfo.getPartition());
@@ -0,0 +1,272 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.ams.server.service.impl;
+
+import com.netease.arctic.ams.api.InvalidObjectException;
+import com.netease.arctic.ams.api.JobId;
+import com.netease.arctic.ams.api.JobType;
+import com.netease.arctic.ams.api.OptimizeStatus;
+import com.netease.arctic.ams.api.OptimizeTask;
+import com.netease.arctic.ams.api.OptimizeTaskId;
+import com.netease.arctic.ams.api.OptimizeType;
+import com.netease.arctic.ams.server.config.ConfigFileProperties;
+import com.netease.arctic.ams.server.model.BasicOptimizeTask;
+import com.netease.arctic.ams.server.model.OptimizeQueueMeta;
+import com.netease.arctic.ams.server.model.OptimizeTaskRuntime;
+import com.netease.arctic.ams.server.optimize.OptimizeTaskItem;
+import com.netease.arctic.table.TableIdentifier;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class TestOptimizeQueueService {
+
+  private static final int QUEUE_ID = 100;
+  private static final TableIdentifier TABLE_ID = TableIdentifier.of("test_catalog", "test_db", "test_table");
+  private static final JobId JOB_ID = new JobId().setId("test_job").setType(JobType.Optimize);
+  private static final String ATTEMPT_ID = "test_attempt";
+
+  private OptimizeQueueService.OptimizeQueueWrapper queue;
+
+  @Before
+  public void before() {
+    OptimizeQueueMeta optimizeQueueMeta = new OptimizeQueueMeta();
+    optimizeQueueMeta.setQueueId(QUEUE_ID);
+    optimizeQueueMeta.setName("test_queue");
+    optimizeQueueMeta.setSchedulingPolicy(ConfigFileProperties.OPTIMIZE_SCHEDULING_POLICY_QUOTA);
+    queue = new OptimizeQueueService.OptimizeQueueWrapper(optimizeQueueMeta) {
+      @Override
+      List<OptimizeTaskItem> plan(long currentTime) {
+        return Collections.emptyList();
+      }
+    };
+    queue.bindTable(TABLE_ID);
+  }
+
+  @Test
+  public void testPollTasksWithMaxTasks() throws InvalidObjectException {
+    for (int i = 0; i < 5; i++) {
+      queue.addIntoOptimizeQueue(newTask(i, 10));
+    }
+    List<OptimizeTask> polled = queue.pollTasks(JOB_ID, ATTEMPT_ID, 3, Long.MAX_VALUE, 1000, true);
+    Assert.assertEquals(taskIds(0, 1, 2), polledTaskIds(polled));
+    Assert.assertEquals(2, queue.size());
+  }
+
+  @Test
+  public void testPollTasksWithMaxBytes() throws InvalidObjectException {
+    queue.addIntoOptimizeQueue(newTask(0, 10));
+    queue.addIntoOptimizeQueue(newTask(1, 10));
+    queue.addIntoOptimizeQueue(newTask(2, 10));
+    queue.addIntoOptimizeQueue(newTask(3, 10));
+    List<OptimizeTask> polled = queue.pollTasks(JOB_ID, ATTEMPT_ID, 10, 25, 1000, true);
+    Assert.assertEquals(taskIds(0, 1), polledTaskIds(polled));
+    // the task over budget stays at the head of the queue for the next poll
+    Assert.assertEquals(2, queue.size());
+    polled = queue.pollTasks(JOB_ID, ATTEMPT_ID, 10, 25, 1000, true);
+    Assert.assertEquals(taskIds(2, 3), polledTaskIds(polled));
+    Assert.assertTrue(queue.isEmpty());
+  }
+
+  @Test
+  public void testPollTasksFirstTaskOverMaxBytes() throws InvalidObjectException {
+    queue.addIntoOptimizeQueue(newTask(0, 100));
+    queue.addIntoOptimizeQueue(newTask(1, 10));
+    List<OptimizeTask> polled = queue.pollTasks(JOB_ID, ATTEMPT_ID, 10, 25, 1000, true);
+    Assert.assertEquals(taskIds(0), polledTaskIds(polled));
+    Assert.assertEquals(1, queue.size());
+  }
+
+  @Test
+  public void testPollTasksTimeout() {
+    List<OptimizeTask> polled = queue.pollTasks(JOB_ID, ATTEMPT_ID, 10, Long.MAX_VALUE, 100, true);
+    Assert.assertTrue(polled.isEmpty());
+    Assert.assertEquals(1, queue.getMetrics().getPollTimeout());
+  }
+
+  @Test
+  public void testConcurrentPollersDispatchOnce() throws Exception {
+    int taskCount = 200;
+    for (int i = 0; i < taskCount; i++) {
+      queue.addIntoOptimizeQueue(newTask(i, 10));
+    }
+    int pollerCount = 8;
+    ExecutorService pollers = Executors.newFixedThreadPool(pollerCount);
+    List<Future<List<OptimizeTaskId>>> futures = new ArrayList<>();
+    try {
+      for (int i = 0; i < pollerCount; i++) {
+        boolean batch = i % 2 == 0;
+        futures.add(pollers.submit(() -> {
+          List<OptimizeTaskId> polledTaskIds = new ArrayList<>();
+          while (true) {
+            List<OptimizeTask> polled = batch ?
+                queue.pollTasks(JOB_ID, ATTEMPT_ID, 3, Long.MAX_VALUE, 100, true) :
+                Collections.singletonList(queue.poll(JOB_ID, ATTEMPT_ID, 100));
+            if (polled.isEmpty() || polled.get(0) == null) {
+              return polledTaskIds;
+            }
+            polledTaskIds.addAll(polledTaskIds(polled));
+          }
+        }));
+      }
+      List<OptimizeTaskId> allPolled = new ArrayList<>();
+      for (Future<List<OptimizeTaskId>> future : futures) {
+        allPolled.addAll(future.get(60, TimeUnit.SECONDS));
+      }
+
+      // every task is dispatched to exactly one poller
+      Assert.assertEquals(taskCount, allPolled.size());
+      Assert.assertEquals(new HashSet<>(taskIds(IntStream.range(0, taskCount).toArray())), new HashSet<>(allPolled));
+      Assert.assertTrue(queue.isEmpty());
+      Assert.assertEquals(taskCount, queue.getMetrics().getDispatched());
+      Assert.assertEquals(0, queue.getMetrics().getWaitingPollers());
+    } finally {
+      pollers.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testFailedDispatchPutBack() throws InvalidObjectException {
+    OptimizeTaskItem task = newTask(0, 10);
+    // loading files from sysdb fails once
+    doThrow(new IllegalStateException("sysdb is unavailable")).doNothing().when(task).setFiles();
+    queue.addIntoOptimizeQueue(task);
+
+    List<OptimizeTask> polled = queue.pollTasks(JOB_ID, ATTEMPT_ID, 10, Long.MAX_VALUE, 10000, true);
+    Assert.assertEquals(taskIds(0), polledTaskIds(polled));
+    verify(task).clearFiles();
+    verify(task, times(1)).onExecuting(JOB_ID, ATTEMPT_ID);
+    Assert.assertEquals(1, queue.getMetrics().getDispatchFailed());
+    Assert.assertEquals(1, queue.getMetrics().getDispatched());
+    Assert.assertTrue(queue.isEmpty());
+  }
+
+  @Test
+  public void testFailedDispatchPutBackUntilTimeout() throws InvalidObjectException {
+    OptimizeTaskItem task = newTask(0, 10);
+    doThrow(new IllegalStateException("sysdb is unavailable")).when(task).setFiles();
+    queue.addIntoOptimizeQueue(task);
+
+    Assert.assertTrue(queue.pollTasks(JOB_ID, ATTEMPT_ID, 10, Long.MAX_VALUE, 100, true).isEmpty());
+    // the task is kept in the queue for other pollers
+    Assert.assertEquals(1, queue.size());
+    verify(task, never()).onExecuting(any(), any());
+    Assert.assertTrue(queue.getMetrics().getDispatchFailed() >= 1);
+  }
+
+  @Test
+  public void testPlanWhilePolling() throws Exception {
+    AtomicInteger planTimes = new AtomicInteger();
+    OptimizeQueueMeta optimizeQueueMeta = new OptimizeQueueMeta();
+    optimizeQueueMeta.setQueueId(QUEUE_ID);
+    optimizeQueueMeta.setName("test_queue");
+    optimizeQueueMeta.setSchedulingPolicy(ConfigFileProperties.OPTIMIZE_SCHEDULING_POLICY_QUOTA);
+    OptimizeQueueService.OptimizeQueueWrapper planningQueue =
+        new OptimizeQueueService.OptimizeQueueWrapper(optimizeQueueMeta) {
+          @Override
+          List<OptimizeTaskItem> plan(long currentTime) {
+            // every plan only produces one task, the second poller waits for the next plan
+            int times = planTimes.getAndIncrement();
+            if (times >= 2) {
+              return Collections.emptyList();
+            }
+            OptimizeTaskItem task = newTask(times, 10);
+            try {
+              addIntoOptimizeQueue(task);
+            } catch (InvalidObjectException e) {
+              throw new IllegalStateException(e);
+            }
+            return Collections.singletonList(task);
+          }
+        };
+    planningQueue.bindTable(TABLE_ID);
+
+    ExecutorService pollers = Executors.newFixedThreadPool(2);
+    try {
+      Future<OptimizeTask> polled1 = pollers.submit(() -> planningQueue.poll(JOB_ID, ATTEMPT_ID, 30000));
+      Future<OptimizeTask> polled2 = pollers.submit(() -> planningQueue.poll(JOB_ID, ATTEMPT_ID, 30000));
+      Set<OptimizeTaskId> polled = new HashSet<>();
+      polled.add(polled1.get(60, TimeUnit.SECONDS).getTaskId());
+      polled.add(polled2.get(60, TimeUnit.SECONDS).getTaskId());
+
+      Assert.assertEquals(new HashSet<>(taskIds(0, 1)), polled);
+      Assert.assertTrue(planTimes.get() >= 2);
+    } finally {
+      pollers.shutdownNow();
+    }
+  }
+
+  static OptimizeTaskItem newTask(int index, long fileSize) {
+    OptimizeTaskId taskId = taskId(index);
+    BasicOptimizeTask optimizeTask = new BasicOptimizeTask();
+    optimizeTask.setTaskId(taskId);
+    optimizeTask.setTableIdentifier(TABLE_ID.buildTableIdentifier());
+    optimizeTask.setQueueId(QUEUE_ID);
+    optimizeTask.setBaseFileSize(fileSize);
+    OptimizeTaskRuntime optimizeRuntime = new OptimizeTaskRuntime(taskId);
+    optimizeRuntime.setStatus(OptimizeStatus.Pending);
+
+    // files and runtime of the task are kept in sysdb, which is not touched by the mock
+    OptimizeTaskItem task = mock(OptimizeTaskItem.class);
+    when(task.getOptimizeTask()).thenReturn(optimizeTask);
+    when(task.getOptimizeRuntime()).thenReturn(optimizeRuntime);
+    when(task.getOptimizeStatus()).thenReturn(OptimizeStatus.Pending);
+    when(task.getTableIdentifier()).thenReturn(TABLE_ID);
+    when(task.getTaskId()).thenReturn(taskId);
+    when(task.buildTransferTask()).thenReturn(new OptimizeTask(optimizeTask));
+    return task;
+  }
+
+  private static OptimizeTaskId taskId(int index) {
+    return new OptimizeTaskId(OptimizeType.Minor, "task-" + index);
+  }
+
+  private static List<OptimizeTaskId> taskIds(int... indexes) {
+    List<OptimizeTaskId> taskIds = new ArrayList<>();
+    for (int index : indexes) {
+      taskIds.add(taskId(index));
+    }
+    return taskIds;
+  }
+
+  private static List<OptimizeTaskId> polledTaskIds(List<OptimizeTask> polled) {
+    return polled.stream().map(OptimizeTask::getTaskId).collect(Collectors.toList());
+  }
+}
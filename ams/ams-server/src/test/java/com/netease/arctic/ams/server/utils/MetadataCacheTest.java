@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.ams.server.utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class MetadataCacheTest {
+
+  private final Map<String, String> database = new HashMap<>();
+  private final AtomicInteger loaded = new AtomicInteger();
+
+  private String load(String key) {
+    loaded.incrementAndGet();
+    return database.get(key);
+  }
+
+  private Map<String, String> loadAll() {
+    loaded.incrementAndGet();
+    return new HashMap<>(database);
+  }
+
+  @Test
+  public void testWriteThrough() {
+    MetadataCache<String, String> cache = new MetadataCache<>();
+    database.put("a", "1");
+
+    Assert.assertEquals("1", cache.get("a", this::load));
+    Assert.assertEquals("1", cache.get("a", this::load));
+    Assert.assertEquals(1, loaded.get());
+
+    database.put("a", "2");
+    cache.put("a", "2");
+    Assert.assertEquals("2", cache.get("a", this::load));
+
+    database.remove("a");
+    cache.remove("a");
+    Assert.assertNull(cache.get("a", this::load));
+    Assert.assertEquals(2, loaded.get());
+  }
+
+  @Test
+  public void testLoadAll() {
+    MetadataCache<String, String> cache = new MetadataCache<>();
+    database.put("a", "1");
+    database.put("b", "2");
+
+    Assert.assertEquals(2, cache.values(this::loadAll).size());
+    Assert.assertEquals(2, cache.values(this::loadAll).size());
+    // all values loaded, keys not in cache do not exist
+    Assert.assertEquals("1", cache.get("a", this::load));
+    Assert.assertNull(cache.get("c", this::load));
+    Assert.assertEquals(1, loaded.get());
+
+    database.put("c", "3");
+    cache.put("c", "3");
+    Assert.assertEquals(3, cache.values(this::loadAll).size());
+    Assert.assertEquals(1, loaded.get());
+  }
+
+  @Test
+  public void testModifiedWhenLoadAll() {
+    MetadataCache<String, String> cache = new MetadataCache<>();
+    database.put("a", "1");
+
+    // the table is dropped after listed
+    Assert.assertEquals(1, cache.values(() -> {
+      Map<String, String> values = loadAll();
+      database.remove("a");
+      cache.remove("a");
+      return values;
+    }).size());
+    Assert.assertEquals(0, cache.values(this::loadAll).size());
+    Assert.assertEquals(2, loaded.get());
+  }
+
+  @Test
+  public void testInvalidateAll() {
+    MetadataCache<String, String> cache = new MetadataCache<>();
+    database.put("a", "1");
+    Assert.assertEquals("1", cache.get("a", this::load));
+
+    // modified by another AMS
+    database.put("a", "2");
+    Assert.assertEquals("1", cache.get("a", this::load));
+    MetadataCache.invalidateAll();
+    Assert.assertEquals("2", cache.get("a", this::load));
+    Assert.assertEquals(2, loaded.get());
+  }
+}
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.benchmark;
+
+import com.netease.arctic.TableTestHelpers;
+import com.netease.arctic.ams.api.CatalogMeta;
+import com.netease.arctic.ams.api.MockArcticMetastoreServer;
+import com.netease.arctic.ams.api.properties.CatalogMetaProperties;
+import com.netease.arctic.ams.api.properties.TableFormat;
+import com.netease.arctic.catalog.ArcticCatalog;
+import com.netease.arctic.catalog.CatalogLoader;
+import com.netease.arctic.catalog.CatalogTestHelpers;
+import com.netease.arctic.data.ChangeAction;
+import com.netease.arctic.io.writer.GenericBaseTaskWriter;
+import com.netease.arctic.io.writer.GenericChangeTaskWriter;
+import com.netease.arctic.io.writer.GenericTaskWriters;
+import com.netease.arctic.table.KeyedTable;
+import com.netease.arctic.table.TableIdentifier;
+import org.apache.iceberg.AppendFiles;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.io.WriteResult;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Local keyed tables for benchmarks, stored in a temporary warehouse and registered in a mock AMS.
+ * <p>
+ * Tables use the schema, partition spec and primary key of {@link TableTestHelpers}, records are generated from
+ * their id only, so the same parameters always produce the same data.
+ */
+public class BenchmarkTables implements Closeable {
+
+  private static final String CATALOG_NAME = "benchmark_catalog";
+  private static final String DB_NAME = "benchmark_db";
+  private static final LocalDateTime START_TIME = LocalDateTime.parse("2022-01-01T12:00:00");
+  private static final int CONNECT_RETRIES = 50;
+
+  private final MockArcticMetastoreServer ams = new MockArcticMetastoreServer();
+  private final Path warehouse;
+  private final ArcticCatalog catalog;
+
+  public BenchmarkTables() throws IOException {
+    this.warehouse = Files.createTempDirectory("arctic-benchmark");
+    ams.start();
+    Map<String, String> properties = new HashMap<>();
+    properties.put(CatalogMetaProperties.KEY_WAREHOUSE, warehouse.toString());
+    CatalogMeta catalogMeta = CatalogTestHelpers.buildCatalogMeta(CATALOG_NAME,
+        CatalogMetaProperties.CATALOG_TYPE_AMS, properties, TableFormat.MIXED_ICEBERG);
+    ams.handler().createCatalog(catalogMeta);
+    this.catalog = loadCatalog();
+    catalog.createDatabase(DB_NAME);
+  }
+
+  private ArcticCatalog loadCatalog() {
+    // the mock AMS is started asynchronously
+    for (int i = 0; ; i++) {
+      try {
+        return CatalogLoader.load(ams.getServerUrl() + "/" + CATALOG_NAME);
+      } catch (RuntimeException e) {
+        if (i >= CONNECT_RETRIES) {
+          throw e;
+        }
+        try {
+          Thread.sleep(100);
+        } catch (InterruptedException interrupted) {
+          Thread.currentThread().interrupt();
+          throw e;
+        }
+      }
+    }
+  }
+
+  public KeyedTable createKeyedTable(String name, Map<String, String> properties) {
+    return catalog.newTableBuilder(TableIdentifier.of(CATALOG_NAME, DB_NAME, name), TableTestHelpers.TABLE_SCHEMA)
+        .withPrimaryKeySpec(TableTestHelpers.PRIMARY_KEY_SPEC)
+        .withPartitionSpec(TableTestHelpers.SPEC)
+        .withProperties(properties)
+        .create()
+        .asKeyedTable();
+  }
+
+  public File newFolder() throws IOException {
+    return Files.createTempDirectory(warehouse, "tmp").toFile();
+  }
+
+  /**
+   * Generate records with ids in [fromId, fromId + count), spread over the given number of day partitions.
+   */
+  public static List<Record> records(int fromId, int count, int partitions, String namePrefix) {
+    List<Record> records = new ArrayList<>(count);
+    for (int id = fromId; id < fromId + count; id++) {
+      Record record = GenericRecord.create(TableTestHelpers.TABLE_SCHEMA);
+      record.setField("id", id);
+      record.setField("name", namePrefix + id);
+      record.setField("ts", (long) id);
+      record.setField("op_time", START_TIME.plusDays(id % partitions));
+      records.add(record);
+    }
+    return records;
+  }
+
+  public static List<DataFile> writeBase(KeyedTable table, long transactionId, List<Record> records) {
+    try (GenericBaseTaskWriter writer = GenericTaskWriters.builderFor(table)
+        .withTransactionId(transactionId).buildBaseWriter()) {
+      for (Record record : records) {
+        writer.write(record);
+      }
+      WriteResult result = writer.complete();
+      AppendFiles append = table.baseTable().newAppend();
+      Arrays.stream(result.dataFiles()).forEach(append::appendFile);
+      append.commit();
+      return Arrays.asList(result.dataFiles());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  public static List<DataFile> writeChange(
+      KeyedTable table, long transactionId, ChangeAction action, List<Record> records) {
+    try (GenericChangeTaskWriter writer = GenericTaskWriters.builderFor(table)
+        .withTransactionId(transactionId).withChangeAction(action).buildChangeWriter()) {
+      for (Record record : records) {
+        writer.write(record);
+      }
+      WriteResult result = writer.complete();
+      AppendFiles append = table.changeTable().newAppend();
+      Arrays.stream(result.dataFiles()).forEach(append::appendFile);
+      append.commit();
+      return Arrays.asList(result.dataFiles());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    ams.stopAndCleanUp();
+    try (Stream<Path> files = Files.walk(warehouse)) {
+      files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+    }
+  }
+}
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.benchmark;
+
+import com.netease.arctic.data.ChangeAction;
+import com.netease.arctic.io.writer.GenericChangeTaskWriter;
+import com.netease.arctic.io.writer.GenericTaskWriters;
+import com.netease.arctic.table.KeyedTable;
+import com.netease.arctic.table.TableProperties;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.io.WriteResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write records to the change store, routed to writers by partition and primary key hash of
+ * {@link com.netease.arctic.io.writer.BaseTaskWriter}.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ChangeWriterBenchmark {
+
+  @Param({"200000"})
+  private int records;
+
+  @Param({"1", "16", "64"})
+  private int partitions;
+
+  @Param({"4", "64"})
+  private int hashBuckets;
+
+  private BenchmarkTables tables;
+  private KeyedTable table;
+  private List<Record> data;
+  private final List<DataFile> writtenFiles = new ArrayList<>();
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    tables = new BenchmarkTables();
+    Map<String, String> properties = new HashMap<>();
+    properties.put(TableProperties.CHANGE_FILE_INDEX_HASH_BUCKET, String.valueOf(hashBuckets));
+    table = tables.createKeyedTable("change_writer", properties);
+    data = BenchmarkTables.records(0, records, partitions, "change-");
+  }
+
+  @TearDown(Level.Iteration)
+  public void deleteWrittenFiles() {
+    writtenFiles.forEach(file -> table.io().deleteFile(file.path().toString()));
+    writtenFiles.clear();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    tables.close();
+  }
+
+  @Benchmark
+  public WriteResult writeChange() throws IOException {
+    try (GenericChangeTaskWriter writer = GenericTaskWriters.builderFor(table)
+        .withTransactionId(1L).withChangeAction(ChangeAction.INSERT).buildChangeWriter()) {
+      for (Record record : data) {
+        writer.write(record);
+      }
+      WriteResult result = writer.complete();
+      writtenFiles.addAll(Arrays.asList(result.dataFiles()));
+      return result;
+    }
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.benchmark;
+
+import com.netease.arctic.TableTestHelpers;
+import com.netease.arctic.data.ChangedLsn;
+import com.netease.arctic.utils.map.StructLikeBaseMap;
+import com.netease.arctic.utils.map.StructLikeCollections;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.data.Record;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Build the primary key to delete lsn map of equality deletes and probe it with data keys, the same way as
+ * {@link com.netease.arctic.io.reader.ArcticDeleteFilter}, with the map kept in memory or spilled to disk.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DeleteMapBenchmark {
+
+  @Param({"100000"})
+  private int deletes;
+
+  // max bytes kept in memory before spilled, 0 for the in-memory map
+  @Param({"0", "1048576", "1024"})
+  private long maxInMemorySize;
+
+  private BenchmarkTables tables;
+  private StructLikeCollections structLikeCollections;
+  private Schema pkSchema;
+  private List<Record> keys;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    tables = new BenchmarkTables();
+    File spillDir = tables.newFolder();
+    structLikeCollections = maxInMemorySize == 0 ? StructLikeCollections.DEFAULT :
+        new StructLikeCollections(true, maxInMemorySize, spillDir.getPath());
+    pkSchema = TableTestHelpers.TABLE_SCHEMA.select(TableTestHelpers.PRIMARY_KEY_SPEC.fieldNames());
+    keys = new ArrayList<>(deletes);
+    for (int i = 0; i < deletes; i++) {
+      Record key = GenericRecord.create(pkSchema);
+      key.set(0, i);
+      keys.add(key);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    tables.close();
+  }
+
+  @Benchmark
+  public void buildAndProbe(Blackhole blackhole) throws IOException {
+    try (StructLikeBaseMap<ChangedLsn> map = structLikeCollections.createStructLikeMap(pkSchema.asStruct())) {
+      long offset = 0;
+      for (Record key : keys) {
+        map.put(key, ChangedLsn.of(1L, offset++));
+      }
+      for (Record key : keys) {
+        blackhole.consume(map.get(key));
+      }
+    }
+  }
+}
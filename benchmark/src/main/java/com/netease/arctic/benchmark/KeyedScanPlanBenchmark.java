@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.benchmark;
+
+import com.netease.arctic.data.DataFileType;
+import com.netease.arctic.data.DataTreeNode;
+import com.netease.arctic.scan.CombinedScanTask;
+import com.netease.arctic.table.KeyedTable;
+import org.apache.iceberg.AppendFiles;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DataFiles;
+import org.apache.iceberg.io.CloseableIterable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Plan tasks of a keyed table with synthetic manifests: only metadata of the files is committed, no data is
+ * written, so planning over many partitions and tree nodes could be measured alone.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class KeyedScanPlanBenchmark {
+
+  private static final LocalDate START_DATE = LocalDate.parse("2022-01-01");
+
+  @Param({"100", "1000"})
+  private int partitions;
+
+  // base files are written with mask of nodes - 1, change files with half of it
+  @Param({"4", "64"})
+  private int nodes;
+
+  // change insert files and equality delete files of each change node
+  @Param({"2"})
+  private int changeFilesPerNode;
+
+  private BenchmarkTables tables;
+  private KeyedTable table;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    tables = new BenchmarkTables();
+    table = tables.createKeyedTable("scan_plan", Collections.emptyMap());
+    AppendFiles baseAppend = table.baseTable().newAppend();
+    AppendFiles changeAppend = table.changeTable().newAppend();
+    int count = 0;
+    for (int p = 0; p < partitions; p++) {
+      String partitionPath = "op_time_day=" + START_DATE.plusDays(p);
+      for (int index = 0; index < nodes; index++) {
+        baseAppend.appendFile(file(table.baseLocation(), partitionPath,
+            DataTreeNode.of(nodes - 1, index), DataFileType.BASE_FILE, 1L, count++));
+      }
+      int changeNodes = Math.max(nodes / 2, 1);
+      for (int index = 0; index < changeNodes; index++) {
+        DataTreeNode node = DataTreeNode.of(changeNodes - 1, index);
+        for (int i = 0; i < changeFilesPerNode; i++) {
+          changeAppend.appendFile(file(table.changeLocation(), partitionPath, node,
+              DataFileType.INSERT_FILE, 2L + i, count++));
+          changeAppend.appendFile(file(table.changeLocation(), partitionPath, node,
+              DataFileType.EQ_DELETE_FILE, 2L + i, count++));
+        }
+      }
+    }
+    baseAppend.commit();
+    changeAppend.commit();
+  }
+
+  private DataFile file(String location, String partitionPath, DataTreeNode node, DataFileType type,
+                        long transactionId, int count) {
+    String fileName = String.format("%d-%s-%d-%05d-%d-%s-%05d.parquet", node.getId(), type.shortName(),
+        transactionId, 0, 0, "0", count);
+    return DataFiles.builder(table.spec())
+        .withPath(location + "/data/" + partitionPath + "/" + fileName)
+        .withPartitionPath(partitionPath)
+        .withFileSizeInBytes(64L * 1024 * 1024)
+        .withRecordCount(100000)
+        .build();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    tables.close();
+  }
+
+  @Benchmark
+  public int planTasks() throws IOException {
+    int tasks = 0;
+    try (CloseableIterable<CombinedScanTask> combinedTasks = table.newScan().planTasks()) {
+      for (CombinedScanTask combinedTask : combinedTasks) {
+        tasks += combinedTask.tasks().size();
+      }
+    }
+    return tasks;
+  }
+}
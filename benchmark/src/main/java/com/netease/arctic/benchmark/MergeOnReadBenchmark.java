@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.benchmark;
+
+import com.netease.arctic.data.ChangeAction;
+import com.netease.arctic.io.reader.GenericArcticDataReader;
+import com.netease.arctic.scan.CombinedScanTask;
+import com.netease.arctic.scan.KeyedTableScanTask;
+import com.netease.arctic.table.KeyedTable;
+import com.netease.arctic.utils.map.StructLikeCollections;
+import org.apache.iceberg.data.IdentityPartitionConverters;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.CloseableIterator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read a keyed table merging base files with change files, with part of the base records updated in the change
+ * store, and the equality deletes of the change store kept in memory or spilled to disk.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MergeOnReadBenchmark {
+
+  @Param({"200000"})
+  private int records;
+
+  @Param({"8"})
+  private int partitions;
+
+  @Param({"0.0", "0.1", "0.5"})
+  private double deleteRatio;
+
+  @Param({"memory", "spilled"})
+  private String deleteMap;
+
+  private BenchmarkTables tables;
+  private GenericArcticDataReader reader;
+  private List<KeyedTableScanTask> tasks;
+
+  @Setup(Level.Trial)
+  public void setupTable() throws IOException {
+    tables = new BenchmarkTables();
+    KeyedTable table = tables.createKeyedTable("merge_on_read", Collections.emptyMap());
+    BenchmarkTables.writeBase(table, 1L, BenchmarkTables.records(0, records, partitions, "base-"));
+    int updated = (int) (records * deleteRatio);
+    if (updated > 0) {
+      BenchmarkTables.writeChange(table, 2L, ChangeAction.DELETE,
+          BenchmarkTables.records(0, updated, partitions, "base-"));
+      BenchmarkTables.writeChange(table, 3L, ChangeAction.INSERT,
+          BenchmarkTables.records(0, updated, partitions, "change-"));
+    }
+
+    StructLikeCollections structLikeCollections = "spilled".equals(deleteMap) ?
+        // spill nearly all deletes to disk
+        new StructLikeCollections(true, 1024L, tables.newFolder().getPath()) :
+        StructLikeCollections.DEFAULT;
+    reader = new GenericArcticDataReader(table.io(), table.schema(), table.schema(), table.primaryKeySpec(),
+        null, true, IdentityPartitionConverters::convertConstant, null, false, structLikeCollections);
+    tasks = new ArrayList<>();
+    try (CloseableIterable<CombinedScanTask> combinedTasks = table.newScan().planTasks()) {
+      combinedTasks.forEach(combinedTask -> tasks.addAll(combinedTask.tasks()));
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDownTable() throws IOException {
+    tables.close();
+  }
+
+  @Benchmark
+  public void readMerged(Blackhole blackhole) throws IOException {
+    for (KeyedTableScanTask task : tasks) {
+      try (CloseableIterator<Record> iterator = reader.readData(task)) {
+        while (iterator.hasNext()) {
+          blackhole.consume(iterator.next());
+        }
+      }
+    }
+  }
+}
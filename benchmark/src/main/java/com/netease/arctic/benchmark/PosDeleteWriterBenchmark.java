@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.benchmark;
+
+import com.netease.arctic.io.writer.GenericTaskWriters;
+import com.netease.arctic.io.writer.SortedPosDeleteWriter;
+import com.netease.arctic.table.KeyedTable;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.data.Record;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Write position deletes of several data files in random order with {@link SortedPosDeleteWriter}, which sorts
+ * them by file and position before writing delete files.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PosDeleteWriterBenchmark {
+
+  @Param({"200000"})
+  private int deletes;
+
+  @Param({"1", "16", "256"})
+  private int dataFiles;
+
+  private BenchmarkTables tables;
+  private KeyedTable table;
+  private Record partition;
+  private String[] paths;
+  private long[] positions;
+  private final List<DeleteFile> writtenFiles = new ArrayList<>();
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    tables = new BenchmarkTables();
+    table = tables.createKeyedTable("pos_delete", Collections.emptyMap());
+    partition = GenericRecord.create(table.spec().partitionType());
+    partition.set(0, 0);
+    paths = new String[deletes];
+    positions = new long[deletes];
+    Random random = new Random(42);
+    for (int i = 0; i < deletes; i++) {
+      paths[i] = table.baseLocation() + "/data/op_time_day=1970-01-01/data-" + random.nextInt(dataFiles) + ".parquet";
+      positions[i] = random.nextInt(deletes);
+    }
+  }
+
+  @TearDown(Level.Iteration)
+  public void deleteWrittenFiles() {
+    writtenFiles.forEach(file -> table.io().deleteFile(file.path().toString()));
+    writtenFiles.clear();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    tables.close();
+  }
+
+  @Benchmark
+  public List<DeleteFile> writePosDeletes() throws IOException {
+    SortedPosDeleteWriter<Record> writer = GenericTaskWriters.builderFor(table)
+        .withTransactionId(1L)
+        .buildBasePosDeleteWriter(0, 0, partition);
+    for (int i = 0; i < deletes; i++) {
+      writer.delete(paths[i], positions[i]);
+    }
+    List<DeleteFile> files = writer.complete();
+    writtenFiles.addAll(files);
+    return files;
+  }
+}
@@ -33,7 +33,10 @@ import java.util.List;
  * A struct of primary key values.
  * <p>
  * Instances of this class can produce primary key values from a data row passed to {@link #primaryKey(StructLike)}
- * and calculate th tree node of data by passing to {@link #treeNode(long)}
+ * and calculate th tree node of data by passing to {@link #treeNode(long)}.
+ * <p>
+ * Writers which only need the tree node of a row could use {@link #primaryKeyHash(StructLike)} instead, which
+ * computes the same hash code directly from the row without filling the key tuple.
  */
 public class PrimaryKeyData implements StructLike, Serializable {
 
@@ -124,11 +127,33 @@ public class PrimaryKeyData implements StructLike, Serializable {
 
   @Override
   public int hashCode() {
-    int hashcode = Math.abs(Arrays.hashCode(primaryTuple));
-    return hashcode == Integer.MIN_VALUE ? Integer.MAX_VALUE : hashcode;
+    return positiveHash(Arrays.hashCode(primaryTuple));
+  }
+
+  /**
+   * Compute the hash code of primary key values of the row, the result is the same as calling
+   * {@link #primaryKey(StructLike)} and then {@link #hashCode()}, but the key values of this struct are not changed.
+   */
+  public int primaryKeyHash(StructLike row) {
+    // same as Arrays.hashCode(Object[])
+    int hash = 1;
+    for (int i = 0; i < size; i += 1) {
+      Object value = accessors[i].get(row);
+      hash = 31 * hash + (value == null ? 0 : value.hashCode());
+    }
+    return positiveHash(hash);
   }
 
   public DataTreeNode treeNode(long mask) {
-    return DataTreeNode.of(mask, Math.abs(hashCode()) & mask);
+    return DataTreeNode.of(mask, treeNodeIndex(hashCode(), mask));
+  }
+
+  public static long treeNodeIndex(int primaryKeyHash, long mask) {
+    return Math.abs(primaryKeyHash) & mask;
+  }
+
+  private static int positiveHash(int hash) {
+    int hashcode = Math.abs(hash);
+    return hashcode == Integer.MIN_VALUE ? Integer.MAX_VALUE : hashcode;
   }
 }
\ No newline at end of file
@@ -62,6 +62,7 @@ public abstract class AbstractArcticDataReader<T> {
   protected final PrimaryKeySpec primaryKeySpec;
   protected final boolean reuseContainer;
   protected StructLikeCollections structLikeCollections = StructLikeCollections.DEFAULT;
+  protected DeleteFilterMetrics deleteFilterMetrics;
 
   public AbstractArcticDataReader(
       ArcticFileIO fileIO,
@@ -116,12 +117,16 @@ public abstract class AbstractArcticDataReader<T> {
     ArcticDeleteFilter<T> arcticDeleteFilter =
         createArcticDeleteFilter(keyedTableScanTask, tableSchema, projectedSchema, primaryKeySpec,
             sourceNodes, structLikeCollections);
+    arcticDeleteFilter.setMetrics(deleteFilterMetrics);
     Schema newProjectedSchema = arcticDeleteFilter.requiredSchema();
 
     CloseableIterable<T> dataIterable = CloseableIterable.concat(CloseableIterable.transform(
         CloseableIterable.withNoopClose(keyedTableScanTask.dataTasks()),
-        fileScanTask -> arcticDeleteFilter.filter(newParquetIterable(fileScanTask, newProjectedSchema,
-            DataReaderCommon.getIdToConstant(fileScanTask, newProjectedSchema, convertConstant)))));
+        fileScanTask -> {
+          countRowsRead(fileScanTask);
+          return arcticDeleteFilter.filter(newParquetIterable(fileScanTask, newProjectedSchema,
+              DataReaderCommon.getIdToConstant(fileScanTask, newProjectedSchema, convertConstant)));
+        }));
     return dataIterable.iterator();
   }
 
@@ -133,20 +138,37 @@ public abstract class AbstractArcticDataReader<T> {
       ArcticDeleteFilter<T> arcticDeleteFilter =
           createArcticDeleteFilter(keyedTableScanTask, tableSchema, projectedSchema, primaryKeySpec,
               sourceNodes, structLikeCollections);
+      arcticDeleteFilter.setMetrics(deleteFilterMetrics);
 
       Schema newProjectedSchema = arcticDeleteFilter.requiredSchema();
 
       CloseableIterable<T> dataIterable = CloseableIterable.concat(CloseableIterable.transform(
           CloseableIterable.withNoopClose(keyedTableScanTask.dataTasks()),
-          fileScanTask -> arcticDeleteFilter.filterNegate(
-              newParquetIterable(fileScanTask, newProjectedSchema,
-                  DataReaderCommon.getIdToConstant(fileScanTask, newProjectedSchema, convertConstant)))));
+          fileScanTask -> {
+            countRowsRead(fileScanTask);
+            return arcticDeleteFilter.filterNegate(
+                newParquetIterable(fileScanTask, newProjectedSchema,
+                    DataReaderCommon.getIdToConstant(fileScanTask, newProjectedSchema, convertConstant)));
+          }));
       return dataIterable.iterator();
     } else {
       return CloseableIterator.empty();
     }
   }
 
+  /**
+   * Collect counters of rows read and deleted by the delete filters of tasks read later.
+   */
+  public void setDeleteFilterMetrics(DeleteFilterMetrics deleteFilterMetrics) {
+    this.deleteFilterMetrics = deleteFilterMetrics;
+  }
+
+  private void countRowsRead(ArcticFileScanTask fileScanTask) {
+    if (deleteFilterMetrics != null) {
+      deleteFilterMetrics.rowsRead(fileScanTask.file().recordCount());
+    }
+  }
+
   protected ArcticDeleteFilter<T> createArcticDeleteFilter(
       KeyedTableScanTask keyedTableScanTask, Schema tableSchema,
       Schema projectedSchema, PrimaryKeySpec primaryKeySpec,
@@ -28,7 +28,9 @@ import com.netease.arctic.utils.map.StructLikeCollections;
 import org.apache.iceberg.FileScanTask;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.StructLike;
+import org.apache.iceberg.expressions.Expression;
 import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.mapping.NameMappingParser;
 import org.apache.iceberg.parquet.Parquet;
@@ -54,6 +56,7 @@ public abstract class AbstractIcebergDataReader<T> {
   protected final boolean caseSensitive;
   protected final ArcticFileIO fileIO;
   protected final BiFunction<Type, Object, Object> convertConstant;
+  protected final Set<DataTreeNode> sourceNodes;
   protected final Filter<T> dataNodeFilter;
   protected final boolean reuseContainer;
   private StructLikeCollections structLikeCollections = StructLikeCollections.DEFAULT;
@@ -86,6 +89,7 @@ public abstract class AbstractIcebergDataReader<T> {
     this.fileIO = fileIO;
     this.convertConstant = convertConstant;
     this.reuseContainer = reuseContainer;
+    this.sourceNodes = sourceNodes;
     if (sourceNodes != null) {
       this.dataNodeFilter = new NodeFilter<>(sourceNodes, projectedSchema, primaryKeySpec,
           toStructLikeFunction().apply(projectedSchema));
@@ -112,6 +116,40 @@ public abstract class AbstractIcebergDataReader<T> {
     return iterable;
   }
 
+  /**
+   * Read the task from the given row of its output, throws {@link IllegalStateException} if there are not so many rows.
+   * If each row of the file is read out as it is, that is the task has no deletes or residual filter and the file
+   * belongs to the source nodes, rows before are skipped in the file by {@link SkippableIterator}, otherwise they
+   * are read and dropped.
+   */
+  public CloseableIterator<T> readData(FileScanTask task, long startRow) {
+    CloseableIterator<T> iterator;
+    if (startRow > 0 && readAllFileRows(task)) {
+      Map<Integer, ?> idToConstant = DataReaderCommon.getIdToConstant(task, projectedSchema, convertConstant);
+      iterator = fileIO.doAs(newIterable(task, projectedSchema, idToConstant)::iterator);
+    } else {
+      iterator = fileIO.doAs(readData(task)::iterator);
+    }
+    return SkippableIterator.seek(iterator, startRow);
+  }
+
+  private boolean readAllFileRows(FileScanTask task) {
+    if (!task.deletes().isEmpty()) {
+      return false;
+    }
+    if (task.residual() != null && task.residual().op() != Expression.Operation.TRUE) {
+      return false;
+    }
+    if (sourceNodes == null) {
+      return true;
+    }
+    if (!(task instanceof ArcticFileScanTask)) {
+      return false;
+    }
+    DataTreeNode fileNode = ((ArcticFileScanTask) task).file().node();
+    return fileNode != null && sourceNodes.stream().anyMatch(fileNode::isSonOf);
+  }
+
   private CloseableIterable<T> newIterable(
       FileScanTask task, Schema schema, Map<Integer, ?> idToConstant) {
     CloseableIterable<T> iter;
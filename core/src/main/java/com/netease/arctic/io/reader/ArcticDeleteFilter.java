@@ -33,6 +33,7 @@ import com.netease.arctic.table.PrimaryKeySpec;
 import com.netease.arctic.utils.NodeFilter;
 import com.netease.arctic.utils.map.StructLikeBaseMap;
 import com.netease.arctic.utils.map.StructLikeCollections;
+import com.netease.arctic.utils.map.StructLikeSpillableMap;
 import org.apache.iceberg.Accessor;
 import org.apache.iceberg.DeleteFile;
 import org.apache.iceberg.Schema;
@@ -102,6 +103,8 @@ public abstract class ArcticDeleteFilter<T> {
 
   private StructLikeCollections structLikeCollections = StructLikeCollections.DEFAULT;
 
+  private DeleteFilterMetrics metrics;
+
   protected ArcticDeleteFilter(
           KeyedTableScanTask keyedTableScanTask, Schema tableSchema,
           Schema requestedSchema, PrimaryKeySpec primaryKeySpec) {
@@ -180,6 +183,13 @@ public abstract class ArcticDeleteFilter<T> {
     return null;
   }
 
+  /**
+   * Collect counters of rows deleted into the given metrics, should be set before filtering.
+   */
+  public void setMetrics(DeleteFilterMetrics metrics) {
+    this.metrics = metrics;
+  }
+
   /**
    * @return The data not in equity delete file
    */
@@ -241,6 +251,8 @@ public abstract class ArcticDeleteFilter<T> {
             records, record -> new InternalRecordWrapper(deleteSchema.asStruct()).wrap(record));
 
     StructLikeBaseMap<ChangedLsn> structLikeMap = structLikeCollections.createStructLikeMap(pkSchema.asStruct());
+    long buildStartNanos = System.nanoTime();
+    long keys = 0;
     //init map
     try (CloseableIterable<StructLike> deletes = structLikeIterable) {
       Iterator<StructLike> it = getArcticFileIo() == null ? deletes.iterator()
@@ -251,6 +263,9 @@ public abstract class ArcticDeleteFilter<T> {
         ChangedLsn deleteLsn = deleteLSN(structLike);
 
         ChangedLsn old = structLikeMap.get(deletePK);
+        if (old == null) {
+          keys++;
+        }
         if (old == null || old.compareTo(deleteLsn) <= 0) {
           structLikeMap.put(deletePK, deleteLsn);
         }
@@ -259,6 +274,13 @@ public abstract class ArcticDeleteFilter<T> {
       e.printStackTrace();
     }
 
+    DeleteFilterMetrics filterMetrics = metrics;
+    if (filterMetrics != null) {
+      long spilledBytes = structLikeMap instanceof StructLikeSpillableMap ?
+          ((StructLikeSpillableMap<ChangedLsn>) structLikeMap).getSpilledBytes() : 0;
+      filterMetrics.deleteMapBuilt(keys, spilledBytes, System.nanoTime() - buildStartNanos);
+    }
+
     Predicate<T> isInDeleteSet = record -> {
       StructLike data = asStructLike(record);
       StructLike dataPk = dataPKProjectRow.copyWrap(data);
@@ -268,7 +290,11 @@ public abstract class ArcticDeleteFilter<T> {
         return false;
       }
 
-      return deleteLsn.compareTo(dataLSN) > 0;
+      boolean deleted = deleteLsn.compareTo(dataLSN) > 0;
+      if (deleted && filterMetrics != null) {
+        filterMetrics.eqDeleted();
+      }
+      return deleted;
     };
     CloseablePredicate<T> closeablePredicate = new CloseablePredicate<>(isInDeleteSet, structLikeMap);
 
@@ -348,8 +374,13 @@ public abstract class ArcticDeleteFilter<T> {
         }
         posSet.add((Long) POSITION_ACCESSOR.get(deleteRecord));
       }
+      if (metrics != null) {
+        metrics.posDeletesLoaded(positionMap.values().stream().mapToLong(Set::size).sum());
+      }
     }
 
+    DeleteFilterMetrics filterMetrics = metrics;
+
     Filter<T> filter = new Filter<T>() {
       @Override
       protected boolean shouldKeep(T item) {
@@ -370,6 +401,9 @@ public abstract class ArcticDeleteFilter<T> {
         if (!posSet.contains(pos(item))) {
           return true;
         }
+        if (filterMetrics != null) {
+          filterMetrics.posDeleted();
+        }
         return false;
       }
     };
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.io.reader;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters of {@link ArcticDeleteFilter}, may be shared by filters of several scan tasks read in parallel.
+ */
+public class DeleteFilterMetrics {
+
+  private final LongAdder rowsRead = new LongAdder();
+  private final LongAdder eqDeletedRows = new LongAdder();
+  private final LongAdder posDeletedRows = new LongAdder();
+  private final LongAdder deleteMapKeys = new LongAdder();
+  private final LongAdder deleteMapSpilledBytes = new LongAdder();
+  private final LongAdder deleteMapBuildNanos = new LongAdder();
+  private final LongAdder posDeletes = new LongAdder();
+
+  void rowsRead(long rows) {
+    rowsRead.add(rows);
+  }
+
+  void eqDeleted() {
+    eqDeletedRows.increment();
+  }
+
+  void posDeleted() {
+    posDeletedRows.increment();
+  }
+
+  void deleteMapBuilt(long keys, long spilledBytes, long buildNanos) {
+    deleteMapKeys.add(keys);
+    deleteMapSpilledBytes.add(spilledBytes);
+    deleteMapBuildNanos.add(buildNanos);
+  }
+
+  void posDeletesLoaded(long positions) {
+    posDeletes.add(positions);
+  }
+
+  /**
+   * Rows read from data files before applying deletes, taken from the record counts of the files rather than counted
+   * row by row.
+   */
+  public long getRowsRead() {
+    return rowsRead.sum();
+  }
+
+  /**
+   * Rows deleted by equality delete files, they are the rows returned by
+   * {@link ArcticDeleteFilter#filterNegate}.
+   */
+  public long getEqDeletedRows() {
+    return eqDeletedRows.sum();
+  }
+
+  /**
+   * Rows deleted by position delete files.
+   */
+  public long getPosDeletedRows() {
+    return posDeletedRows.sum();
+  }
+
+  /**
+   * Distinct primary keys in the equality delete maps.
+   */
+  public long getDeleteMapKeys() {
+    return deleteMapKeys.sum();
+  }
+
+  /**
+   * Bytes of the equality delete maps spilled to disk.
+   */
+  public long getDeleteMapSpilledBytes() {
+    return deleteMapSpilledBytes.sum();
+  }
+
+  public long getDeleteMapBuildTime() {
+    return deleteMapBuildNanos.sum() / 1_000_000;
+  }
+
+  /**
+   * Positions loaded from position delete files.
+   */
+  public long getPosDeletes() {
+    return posDeletes.sum();
+  }
+}
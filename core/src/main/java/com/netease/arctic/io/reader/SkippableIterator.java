@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.io.reader;
+
+import org.apache.iceberg.io.CloseableIterator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * A {@link CloseableIterator} able to skip rows without reading them where the file format allows.
+ *
+ * @param <T> to indicate the record data type.
+ */
+public interface SkippableIterator<T> extends CloseableIterator<T> {
+
+  /**
+   * Skip the next rows of the iterator.
+   *
+   * @param rows number of rows to skip
+   * @return number of rows skipped, less than rows only if the iterator is exhausted
+   */
+  long skip(long rows);
+
+  /**
+   * Skip the next rows of the iterator, rows are read and dropped one by one if it is not a
+   * {@link SkippableIterator}.
+   */
+  static <T> long skip(CloseableIterator<T> iterator, long rows) {
+    if (iterator instanceof SkippableIterator) {
+      return ((SkippableIterator<T>) iterator).skip(rows);
+    }
+    long skipped = 0;
+    while (skipped < rows && iterator.hasNext()) {
+      iterator.next();
+      skipped++;
+    }
+    return skipped;
+  }
+
+  /**
+   * Move the iterator to the given row, the iterator is closed if it does not have so many rows.
+   *
+   * @throws IllegalStateException if the iterator does not have so many rows
+   */
+  static <T> CloseableIterator<T> seek(CloseableIterator<T> iterator, long startRow) {
+    long skipped = skip(iterator, startRow);
+    if (skipped < startRow) {
+      try {
+        iterator.close();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      throw new IllegalStateException(String.format(
+          "Invalid starting row %d, there are only %d rows", startRow, skipped));
+    }
+    return iterator;
+  }
+}
@@ -23,6 +23,7 @@ import com.netease.arctic.data.DataTreeNode;
 import com.netease.arctic.data.PrimaryKeyData;
 import com.netease.arctic.io.ArcticFileIO;
 import com.netease.arctic.table.PrimaryKeySpec;
+import com.netease.arctic.table.TableProperties;
 import org.apache.iceberg.DataFile;
 import org.apache.iceberg.FileFormat;
 import org.apache.iceberg.PartitionKey;
@@ -33,13 +34,17 @@ import org.apache.iceberg.io.DataWriter;
 import org.apache.iceberg.io.FileAppenderFactory;
 import org.apache.iceberg.io.TaskWriter;
 import org.apache.iceberg.io.WriteResult;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.util.PropertyUtil;
 import org.apache.iceberg.util.Tasks;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -50,12 +55,18 @@ import java.util.Set;
  */
 public abstract class BaseTaskWriter<T> implements TaskWriter<T> {
 
+  // tree nodes are cached only for masks up to this value
+  private static final long MAX_CACHED_MASK = 1023;
+
   private final long mask;
+  private final DataTreeNode[] treeNodes;
 
   private final PartitionKey partitionKey;
   private final PrimaryKeyData primaryKey;
   private final ArcticFileIO io;
-  private final WriterHolder<T> writerHolder;
+  private WriterHolder<T> writerHolder;
+  // reused by every record, holders copy it before keeping it
+  private final DataWriterKey writerKey;
 
   protected BaseTaskWriter(
       FileFormat format, FileAppenderFactory<T> appenderFactory,
@@ -73,30 +84,96 @@ public abstract class BaseTaskWriter<T> implements TaskWriter<T> {
     this.mask = mask;
     this.partitionKey = new PartitionKey(spec, schema);
     this.primaryKey = primaryKeySpec == null ? null : new PrimaryKeyData(primaryKeySpec, schema);
+    this.treeNodes = mask >= 0 && mask <= MAX_CACHED_MASK ? new DataTreeNode[(int) mask + 1] : null;
+    this.writerKey = new DataWriterKey(partitionKey, DataTreeNode.ROOT, DataFileType.BASE_FILE);
+  }
+
+  /**
+   * Bound the number of data writers kept open by an unordered writer. Once maxOpenWriters writers are open,
+   * records of other keys are buffered and written grouped by key when maxBufferedRecords records are buffered,
+   * evicting the least recently used writers. Buffered records are copied by {@link #copy(Object)}.
+   * <p>
+   * This must be called before any record is written.
+   */
+  public void limitOpenWriters(int maxOpenWriters, int maxBufferedRecords) {
+    Preconditions.checkState(writerHolder instanceof FanoutWriterHolder,
+        "Only unordered writers could limit open writers");
+    Preconditions.checkState(((FanoutWriterHolder<T>) writerHolder).isEmpty(),
+        "Open writers must be limited before writing records");
+    Preconditions.checkArgument(maxOpenWriters > 0, "maxOpenWriters must be positive");
+    WriterHolder<T> holder = writerHolder;
+    this.writerHolder = new BoundedFanoutWriterHolder<>(holder.format, holder.appenderFactory,
+        holder.outputFileFactory, holder.io, holder.targetFileSize, maxOpenWriters, maxBufferedRecords);
+  }
+
+  /**
+   * Bound the number of data writers kept open as configured by
+   * {@link TableProperties#WRITE_FANOUT_MAX_OPEN_FILES}, do nothing if it is not set or the writer is ordered.
+   */
+  public void limitOpenWriters(Map<String, String> properties) {
+    int maxOpenFiles = PropertyUtil.propertyAsInt(properties, TableProperties.WRITE_FANOUT_MAX_OPEN_FILES,
+        TableProperties.WRITE_FANOUT_MAX_OPEN_FILES_DEFAULT);
+    if (maxOpenFiles > 0 && writerHolder instanceof FanoutWriterHolder) {
+      limitOpenWriters(maxOpenFiles, PropertyUtil.propertyAsInt(properties,
+          TableProperties.WRITE_FANOUT_BUFFER_RECORDS, TableProperties.WRITE_FANOUT_BUFFER_RECORDS_DEFAULT));
+    }
   }
 
   @Override
   public void write(T row) throws IOException {
     DataWriterKey writerKey = buildWriterKey(row);
     TaskDataWriter<T> writer = writerHolder.get(writerKey);
+    if (writer.isBuffered()) {
+      // the row will be kept after this call, while the caller may reuse it
+      row = copy(row);
+    }
     write(writer, row);
   }
 
+  /**
+   * Copy the row so that it could be buffered while the caller reuses the row, called only if open writers are
+   * limited. The copy is written in place of the row, so it should keep everything of the row used by this writer.
+   */
+  protected abstract T copy(T row);
+
   protected void write(TaskDataWriter<T> writer, T row) throws IOException {
     writer.write(row);
   }
 
+  /**
+   * Build the key of the writer the row should be written to. The returned key is reused for every row, so it
+   * should not be kept by the caller.
+   */
   protected DataWriterKey buildWriterKey(T row) {
     StructLike structLike = asStructLike(row);
     partitionKey.partition(structLike);
     DataTreeNode node;
     if (primaryKey != null) {
-      primaryKey.primaryKey(structLike);
-      node = primaryKey.treeNode(mask);
+      node = treeNode(PrimaryKeyData.treeNodeIndex(primaryKey.primaryKeyHash(structLike), mask));
     } else {
       node = DataTreeNode.ROOT;
     }
-    return new DataWriterKey(partitionKey, node, DataFileType.BASE_FILE);
+    writerKey.reset(node, fileType(row));
+    return writerKey;
+  }
+
+  /**
+   * Get the file type the row should be written to.
+   */
+  protected DataFileType fileType(T row) {
+    return DataFileType.BASE_FILE;
+  }
+
+  private DataTreeNode treeNode(long index) {
+    if (treeNodes == null) {
+      return DataTreeNode.of(mask, index);
+    }
+    DataTreeNode node = treeNodes[(int) index];
+    if (node == null) {
+      node = DataTreeNode.of(mask, index);
+      treeNodes[(int) index] = node;
+    }
+    return node;
   }
 
   @Override
@@ -217,7 +294,9 @@ public abstract class BaseTaskWriter<T> implements TaskWriter<T> {
    * This holder does not require records have been sorted, but will keep open files as many as write keys.
    */
   protected static class FanoutWriterHolder<T> extends WriterHolder<T> {
-    private final Map<DataWriterKey, TaskDataWriter<T>> dataWriterMap = Maps.newHashMap();
+    private final Map<DataWriterKey, KeyedWriter<T>> dataWriterMap = Maps.newHashMap();
+    // records are usually clustered, so the writer of the last record is checked before looking up the map
+    private KeyedWriter<T> lastWriter;
 
     public FanoutWriterHolder(
         FileFormat format, FileAppenderFactory<T> appenderFactory,
@@ -227,27 +306,33 @@ public abstract class BaseTaskWriter<T> implements TaskWriter<T> {
 
     @Override
     public TaskDataWriter<T> getDataWriter(DataWriterKey writerKey) throws IOException {
-      TaskDataWriter<T> writer;
-      writer = dataWriterMap.get(writerKey);
-      if (writer != null && shouldRollToNewFile(writer)) {
-        writer.close();
-        completedFiles.add(writer.toDataFile());
-        dataWriterMap.remove(writerKey);
+      KeyedWriter<T> keyedWriter = lastWriter;
+      if (keyedWriter == null || !keyedWriter.key.equals(writerKey)) {
+        keyedWriter = dataWriterMap.get(writerKey);
+        if (keyedWriter == null) {
+          DataWriterKey copiedWriterKey = writerKey.copy();
+          keyedWriter = new KeyedWriter<>(copiedWriterKey, newWriter(copiedWriterKey));
+          dataWriterMap.put(copiedWriterKey, keyedWriter);
+        }
+        lastWriter = keyedWriter;
       }
 
-      if (!dataWriterMap.containsKey(writerKey)) {
-        DataWriterKey copiedWriterKey = writerKey.copy();
-        writer = newWriter(copiedWriterKey);
-        dataWriterMap.put(copiedWriterKey, writer);
-      } else {
-        writer = dataWriterMap.get(writerKey);
+      if (shouldRollToNewFile(keyedWriter.writer)) {
+        keyedWriter.writer.close();
+        completedFiles.add(keyedWriter.writer.toDataFile());
+        keyedWriter.writer = newWriter(keyedWriter.key);
       }
-      return writer;
+      return keyedWriter.writer;
+    }
+
+    boolean isEmpty() {
+      return dataWriterMap.isEmpty();
     }
 
     @Override
     public void doClose() throws IOException {
-      for (TaskDataWriter<T> dataWriter : dataWriterMap.values()) {
+      for (KeyedWriter<T> keyedWriter : dataWriterMap.values()) {
+        TaskDataWriter<T> dataWriter = keyedWriter.writer;
         dataWriter.close();
         DataFile dataFile = dataWriter.toDataFile();
         if (dataFile != null) {
@@ -255,8 +340,172 @@ public abstract class BaseTaskWriter<T> implements TaskWriter<T> {
         }
       }
       dataWriterMap.clear();
+      lastWriter = null;
+    }
+
+    private static class KeyedWriter<T> {
+      private final DataWriterKey key;
+      private TaskDataWriter<T> writer;
+
+      KeyedWriter(DataWriterKey key, TaskDataWriter<T> writer) {
+        this.key = key;
+        this.writer = writer;
+      }
+    }
+  }
+
+  /**
+   * a fan-out writer holder which keeps at most maxOpenWriters writers opened, in LRU order.
+   * Records of keys without an opened writer are buffered, grouped by key, and written when the buffer is full,
+   * so that a key of late data is usually written to one file per flush instead of opening a writer per record.
+   * The least recently used writers are closed to write buffered records, so both the opened writers and buffered
+   * records are bounded.
+   */
+  protected static class BoundedFanoutWriterHolder<T> extends WriterHolder<T> {
+    private final int maxOpenWriters;
+    private final int maxBufferedRecords;
+    private final LinkedHashMap<DataWriterKey, TaskDataWriter<T>> openWriters =
+        new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<DataWriterKey, BufferedDataWriter<T>> bufferedWriters = Maps.newLinkedHashMap();
+    private int bufferedRecords = 0;
+
+    public BoundedFanoutWriterHolder(
+        FileFormat format, FileAppenderFactory<T> appenderFactory,
+        OutputFileFactory outputFileFactory, ArcticFileIO io, long targetFileSize,
+        int maxOpenWriters, int maxBufferedRecords) {
+      super(format, appenderFactory, outputFileFactory, io, targetFileSize);
+      this.maxOpenWriters = maxOpenWriters;
+      this.maxBufferedRecords = maxBufferedRecords;
+    }
+
+    @Override
+    protected TaskDataWriter<T> getDataWriter(DataWriterKey writerKey) throws IOException {
+      TaskDataWriter<T> writer = openWriters.get(writerKey);
+      if (writer != null) {
+        if (shouldRollToNewFile(writer)) {
+          writer = rollWriter(writerKey, writer);
+        }
+        return writer;
+      }
+      BufferedDataWriter<T> bufferedWriter = bufferedWriters.get(writerKey);
+      if (bufferedWriter != null) {
+        return bufferedWriter;
+      }
+      if (openWriters.size() < maxOpenWriters) {
+        return openWriter(writerKey.copy());
+      }
+      if (maxBufferedRecords <= 0) {
+        closeEldestWriter();
+        return openWriter(writerKey.copy());
+      }
+      bufferedWriter = new BufferedDataWriter<>(this);
+      bufferedWriters.put(writerKey.copy(), bufferedWriter);
+      return bufferedWriter;
+    }
+
+    private TaskDataWriter<T> openWriter(DataWriterKey copiedKey) {
+      TaskDataWriter<T> writer = newWriter(copiedKey);
+      openWriters.put(copiedKey, writer);
+      return writer;
+    }
+
+    private TaskDataWriter<T> rollWriter(DataWriterKey writerKey, TaskDataWriter<T> writer) {
+      writer.close();
+      completedFiles.add(writer.toDataFile());
+      openWriters.remove(writerKey);
+      return openWriter(writerKey.copy());
     }
 
+    private void closeEldestWriter() {
+      Iterator<TaskDataWriter<T>> iterator = openWriters.values().iterator();
+      TaskDataWriter<T> eldest = iterator.next();
+      iterator.remove();
+      closeWriter(eldest);
+    }
+
+    private void closeWriter(TaskDataWriter<T> writer) {
+      writer.close();
+      DataFile dataFile = writer.toDataFile();
+      if (dataFile != null) {
+        completedFiles.add(dataFile);
+      }
+    }
+
+    private void buffered() throws IOException {
+      bufferedRecords++;
+      if (bufferedRecords >= maxBufferedRecords) {
+        flushBuffer();
+      }
+    }
+
+    private void flushBuffer() throws IOException {
+      for (Map.Entry<DataWriterKey, BufferedDataWriter<T>> entry : bufferedWriters.entrySet()) {
+        DataWriterKey key = entry.getKey();
+        if (openWriters.size() >= maxOpenWriters) {
+          closeEldestWriter();
+        }
+        TaskDataWriter<T> writer = openWriter(key);
+        for (T record : entry.getValue().records) {
+          if (shouldRollToNewFile(writer)) {
+            writer = rollWriter(key, writer);
+          }
+          writer.write(record);
+        }
+      }
+      bufferedWriters.clear();
+      bufferedRecords = 0;
+    }
+
+    @Override
+    protected void doClose() throws IOException {
+      flushBuffer();
+      for (TaskDataWriter<T> writer : openWriters.values()) {
+        closeWriter(writer);
+      }
+      openWriters.clear();
+    }
+  }
+
+  /**
+   * A writer which buffers records for {@link BoundedFanoutWriterHolder} until they are written by an opened writer.
+   */
+  private static class BufferedDataWriter<T> extends TaskDataWriter<T> {
+    private final BoundedFanoutWriterHolder<T> holder;
+    private final List<T> records = Lists.newArrayList();
+
+    private BufferedDataWriter(BoundedFanoutWriterHolder<T> holder) {
+      super(null, null);
+      this.holder = holder;
+    }
+
+    @Override
+    protected void write(T record) {
+      records.add(record);
+      try {
+        holder.buffered();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    @Override
+    protected boolean isBuffered() {
+      return true;
+    }
+
+    @Override
+    protected void close() {
+    }
+
+    @Override
+    protected DataFile toDataFile() {
+      return null;
+    }
+
+    @Override
+    protected long length() {
+      return 0;
+    }
   }
 
   /**
@@ -296,7 +545,7 @@ public abstract class BaseTaskWriter<T> implements TaskWriter<T> {
         currentWriter = newWriter(currentKey);
       } else if (shouldRollToNewFile(currentWriter)) {
         closeCurrentWriter();
-        currentWriter = newWriter(writerKey);
+        currentWriter = newWriter(currentKey);
       }
 
       return currentWriter;
@@ -360,5 +609,9 @@ public abstract class BaseTaskWriter<T> implements TaskWriter<T> {
     protected long length() {
       return dataWriter.length();
     }
+
+    protected boolean isBuffered() {
+      return false;
+    }
   }
 }
@@ -55,16 +55,15 @@ public abstract class ChangeTaskWriter<T> extends BaseTaskWriter<T> {
   }
 
   @Override
-  protected DataWriterKey buildWriterKey(T row) {
-    DataWriterKey key = super.buildWriterKey(row);
+  protected DataFileType fileType(T row) {
     ChangeAction action = action(row);
     switch (action) {
       case INSERT:
       case UPDATE_AFTER:
-        return new DataWriterKey(key.getPartitionKey(), key.getTreeNode(), DataFileType.INSERT_FILE);
+        return DataFileType.INSERT_FILE;
       case DELETE:
       case UPDATE_BEFORE:
-        return new DataWriterKey(key.getPartitionKey(), key.getTreeNode(), DataFileType.EQ_DELETE_FILE);
+        return DataFileType.EQ_DELETE_FILE;
       default:
         throw new IllegalArgumentException("Unknown action:" + action.name());
     }
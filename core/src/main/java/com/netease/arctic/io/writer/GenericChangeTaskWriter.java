@@ -66,6 +66,11 @@ public class GenericChangeTaskWriter extends ChangeTaskWriter<Record> {
     return wrapper.wrap(data);
   }
 
+  @Override
+  protected Record copy(Record row) {
+    return row.copy();
+  }
+
   @Override
   protected Record appendMetaColumns(Record data, Long fileOffset) {
     GenericRecord joinRecord = GenericRecord.create(joinSchema);
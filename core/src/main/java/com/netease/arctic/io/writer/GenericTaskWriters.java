@@ -90,13 +90,15 @@ public class GenericTaskWriters {
           TableProperties.WRITE_TARGET_FILE_SIZE_BYTES_DEFAULT);
       long mask = PropertyUtil.propertyAsLong(table.properties(), TableProperties.BASE_FILE_INDEX_HASH_BUCKET,
           TableProperties.BASE_FILE_INDEX_HASH_BUCKET_DEFAULT) - 1;
-      return new GenericBaseTaskWriter(
+      GenericBaseTaskWriter writer = new GenericBaseTaskWriter(
           fileFormat,
           new GenericAppenderFactory(table.baseTable().schema(), table.spec()),
           new CommonOutputFileFactory(table.baseLocation(), table.spec(), fileFormat, table.io(),
               table.baseTable().encryption(), partitionId, taskId, transactionId),
           table.io(), fileSizeBytes, mask, table.baseTable().schema(),
           table.spec(), table.primaryKeySpec(), orderedWriter);
+      writer.limitOpenWriters(table.properties());
+      return writer;
     }
 
     public SortedPosDeleteWriter<Record> buildBasePosDeleteWriter(long mask, long index, StructLike partitionKey) {
@@ -125,13 +127,15 @@ public class GenericTaskWriters {
       long mask = PropertyUtil.propertyAsLong(table.properties(), TableProperties.CHANGE_FILE_INDEX_HASH_BUCKET,
           TableProperties.CHANGE_FILE_INDEX_HASH_BUCKET_DEFAULT) - 1;
       Schema changeWriteSchema = SchemaUtil.changeWriteSchema(table.changeTable().schema());
-      return new GenericChangeTaskWriter(
+      GenericChangeTaskWriter writer = new GenericChangeTaskWriter(
           fileFormat,
           new GenericAppenderFactory(changeWriteSchema, table.spec()),
           new CommonOutputFileFactory(table.changeLocation(), table.spec(), fileFormat, table.io(),
               table.changeTable().encryption(), partitionId, taskId, transactionId),
           table.io(), fileSizeBytes, mask, table.changeTable().schema(), table.spec(), table.primaryKeySpec(),
           changeAction, orderedWriter);
+      writer.limitOpenWriters(table.properties());
+      return writer;
     }
 
     private void writeBasePreconditions() {
@@ -29,8 +29,8 @@ import java.util.Objects;
  */
 public class TaskWriterKey {
   private final StructLike partitionKey;
-  private final DataTreeNode treeNode;
-  private final DataFileType fileType;
+  private DataTreeNode treeNode;
+  private DataFileType fileType;
 
   public TaskWriterKey(StructLike partitionKey, DataTreeNode treeNode, DataFileType fileType) {
     this.partitionKey = partitionKey;
@@ -38,6 +38,15 @@ public class TaskWriterKey {
     this.fileType = fileType;
   }
 
+  /**
+   * Point this key to another tree node and file type, only for keys reused to route records, which should
+   * be copied before used as the key of a map.
+   */
+  protected void reset(DataTreeNode treeNode, DataFileType fileType) {
+    this.treeNode = treeNode;
+    this.fileType = fileType;
+  }
+
   public StructLike getPartitionKey() {
     return partitionKey;
   }
@@ -62,7 +71,10 @@ public class TaskWriterKey {
 
   @Override
   public int hashCode() {
-    return Objects.hash(partitionKey, treeNode, fileType);
+    // same as Objects.hash(partitionKey, treeNode, fileType) without allocating the varargs array
+    int result = 31 + Objects.hashCode(partitionKey);
+    result = 31 * result + Objects.hashCode(treeNode);
+    return 31 * result + Objects.hashCode(fileType);
   }
 
 }
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.log;
+
+import org.apache.iceberg.relocated.com.google.common.primitives.Longs;
+
+import static com.netease.arctic.utils.FlipUtil.convertToBoolean;
+import static org.apache.iceberg.relocated.com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Accessors of the {@link LogData} header in a serialized message, reading the fields in place without copying them.
+ * <p>
+ * The header is laid out as version(4 bytes), upstreamId(4 bytes), epicNo(8 bytes), flip(1 byte) and
+ * changeAction(1 byte), followed by the JSON bytes of the actual value if flip is false. Readers could check the
+ * header first and only deserialize the actual value of the messages they emit.
+ */
+public class LogDataHeader {
+  static final int VERSION_POS = 0;
+  static final int VERSION_LENGTH = 4;
+  static final int UPSTREAM_ID_POS = 4;
+  static final int UPSTREAM_ID_LENGTH = 4;
+  static final int EPIC_NO_POS = 8;
+  static final int FLIP_POS = 16;
+  static final int CHANGE_ACTION_POS = 17;
+  public static final int HEADER_LENGTH = 18;
+
+  public static void checkHeader(byte[] message) {
+    checkArgument(message != null, "message is null.");
+    checkArgument(message.length >= HEADER_LENGTH, "message is illegal.");
+  }
+
+  /**
+   * Check whether the upstreamId of the message equals the given one.
+   *
+   * @param message    serialized message
+   * @param upstreamId upstreamId bytes, see {@link LogData#getUpstreamIdBytes()}
+   */
+  public static boolean upstreamIdEquals(byte[] message, byte[] upstreamId) {
+    if (upstreamId.length != UPSTREAM_ID_LENGTH) {
+      return false;
+    }
+    for (int i = 0; i < UPSTREAM_ID_LENGTH; i++) {
+      if (message[UPSTREAM_ID_POS + i] != upstreamId[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * @return the same value as {@link LogData#getUpstreamId()}
+   */
+  public static String getUpstreamId(byte[] message) {
+    return new String(message, UPSTREAM_ID_POS, UPSTREAM_ID_LENGTH);
+  }
+
+  public static long getEpicNo(byte[] message) {
+    return Longs.fromBytes(
+        message[EPIC_NO_POS], message[EPIC_NO_POS + 1], message[EPIC_NO_POS + 2], message[EPIC_NO_POS + 3],
+        message[EPIC_NO_POS + 4], message[EPIC_NO_POS + 5], message[EPIC_NO_POS + 6], message[EPIC_NO_POS + 7]);
+  }
+
+  public static boolean getFlip(byte[] message) {
+    return convertToBoolean(message[FLIP_POS]);
+  }
+
+  public static byte getChangeActionByte(byte[] message) {
+    return message[CHANGE_ACTION_POS];
+  }
+}
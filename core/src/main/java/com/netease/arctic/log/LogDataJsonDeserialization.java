@@ -18,6 +18,7 @@
 
 package com.netease.arctic.log;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -25,7 +26,6 @@ import com.netease.arctic.log.data.LogArrayData;
 import com.netease.arctic.log.data.LogMapData;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.relocated.com.google.common.base.Predicate;
-import org.apache.iceberg.relocated.com.google.common.primitives.Longs;
 import org.apache.iceberg.types.Type;
 import org.apache.iceberg.types.Types;
 import org.slf4j.Logger;
@@ -34,8 +34,11 @@ import org.slf4j.LoggerFactory;
 import java.io.IOException;
 import java.io.Serializable;
 
-import static com.netease.arctic.utils.FlipUtil.convertToBoolean;
-import static org.apache.iceberg.relocated.com.google.common.base.Preconditions.checkArgument;
+import static com.netease.arctic.log.LogDataHeader.HEADER_LENGTH;
+import static com.netease.arctic.log.LogDataHeader.UPSTREAM_ID_LENGTH;
+import static com.netease.arctic.log.LogDataHeader.UPSTREAM_ID_POS;
+import static com.netease.arctic.log.LogDataHeader.VERSION_LENGTH;
+import static com.netease.arctic.log.LogDataHeader.VERSION_POS;
 
 /**
  * Deserialization that deserializes a JSON bytes array into an instance of {@link LogData}
@@ -44,7 +47,6 @@ import static org.apache.iceberg.relocated.com.google.common.base.Preconditions.
 public class LogDataJsonDeserialization<T> implements Serializable {
   private static final long serialVersionUID = -5741370033707067127L;
   private static final Logger LOG = LoggerFactory.getLogger(LogDataJsonDeserialization.class);
-  private static final int ROW_BEGINNING_POS = 18;
 
   private final JsonToLogDataConverters.JsonToLogDataConverter<T> jsonToLogDataConverter;
   private final LogData.Factory<T> factory;
@@ -87,29 +89,34 @@ public class LogDataJsonDeserialization<T> implements Serializable {
 
   public LogData<T> deserialize(byte[] message) throws IOException {
     try {
-      checkArgument(message != null, "message is null.");
-      checkArgument(message.length >= ROW_BEGINNING_POS, "message is illegal.");
-      byte[] versionBytes = Bytes.subByte(message, 0, 4);
-      byte[] upstreamIdBytes = Bytes.subByte(message, 4, 4);
-      long epicNo = Longs.fromByteArray(Bytes.subByte(message, 8, 8));
-      byte flip = Bytes.subByte(message, 16, 1)[0];
-      byte changeActionByte = Bytes.subByte(message, 17, 1)[0];
+      LogDataHeader.checkHeader(message);
+      byte[] versionBytes = Bytes.subByte(message, VERSION_POS, VERSION_LENGTH);
+      byte[] upstreamIdBytes = Bytes.subByte(message, UPSTREAM_ID_POS, UPSTREAM_ID_LENGTH);
+      long epicNo = LogDataHeader.getEpicNo(message);
+      byte changeActionByte = LogDataHeader.getChangeActionByte(message);
 
-      boolean flipBoolean = convertToBoolean(flip);
-
-      T actualValue;
-      if (flipBoolean) {
+      if (LogDataHeader.getFlip(message)) {
         // we can ignore actual value which should be empty, when flip is true.
         return factory.create(null, versionBytes, upstreamIdBytes, epicNo, true, changeActionByte);
       }
 
-      byte[] actualValueBytes = Bytes.subByte(message, 18, message.length - 18);
-      final JsonNode root = objectMapper.readTree(actualValueBytes);
-      actualValue = (T) jsonToLogDataConverter.convert(root, null);
+      T actualValue = deserializeActualValue(message);
       return factory.create(actualValue, versionBytes, upstreamIdBytes, epicNo, false, changeActionByte);
     } catch (Throwable t) {
       LOG.error("", t);
       throw t;
     }
   }
+
+  /**
+   * Deserialize only the actual value of a message whose flip is false, parsing the JSON bytes following the header
+   * in place. The header could be read by {@link LogDataHeader} before, to skip the messages not needed.
+   */
+  public T deserializeActualValue(byte[] message) throws IOException {
+    try (JsonParser parser = objectMapper.getFactory().createParser(
+        message, HEADER_LENGTH, message.length - HEADER_LENGTH)) {
+      final JsonNode root = objectMapper.readTree(parser);
+      return (T) jsonToLogDataConverter.convert(root, null);
+    }
+  }
 }
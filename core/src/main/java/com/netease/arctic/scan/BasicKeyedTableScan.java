@@ -37,6 +37,8 @@ import org.apache.iceberg.relocated.com.google.common.collect.Multimaps;
 import org.apache.iceberg.util.BinPacking;
 import org.apache.iceberg.util.PropertyUtil;
 import org.apache.iceberg.util.StructLikeMap;
+import org.apache.iceberg.util.Tasks;
+import org.apache.iceberg.util.ThreadPools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -48,6 +50,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -59,12 +62,11 @@ public class BasicKeyedTableScan implements KeyedTableScan {
   private static final Logger LOG = LoggerFactory.getLogger(BasicKeyedTableScan.class);
 
   private final BasicKeyedTable table;
-  List<NodeFileScanTask> splitTasks = new ArrayList<>();
-  private final Map<StructLike, List<NodeFileScanTask>> fileScanTasks = new HashMap<>();
   private final int lookBack;
   private final long openFileCost;
   private final long splitSize;
   private Expression expression;
+  private ExecutorService planExecutor = ThreadPools.getWorkerPool();
 
   public BasicKeyedTableScan(BasicKeyedTable table) {
     this.table = table;
@@ -93,6 +95,12 @@ public class BasicKeyedTableScan implements KeyedTableScan {
     return this;
   }
 
+  @Override
+  public KeyedTableScan planWith(ExecutorService executorService) {
+    this.planExecutor = executorService;
+    return this;
+  }
+
   @Override
   public CloseableIterable<CombinedScanTask> planTasks() {
     // base file
@@ -111,11 +119,21 @@ public class BasicKeyedTableScan implements KeyedTableScan {
     Map<StructLike, Collection<ArcticFileScanTask>> partitionedFiles =
         groupFilesByPartition(changeFileList, baseFileList);
     LOG.info("planning table {} need plan partition size {}", table.id(), partitionedFiles.size());
-    partitionedFiles.forEach(this::partitionPlan);
-    LOG.info("planning table {} partitionPlan end", table.id());
-    // 2.split node task (FileScanTask -> FileScanTask List)
-    split();
-    LOG.info("planning table {} split end", table.id());
+    // 2. plan and split node tasks of each partition (FileScanTask -> FileScanTask List), partitions are
+    // independent of each other, so they are planned in parallel
+    List<Collection<ArcticFileScanTask>> partitions = new ArrayList<>(partitionedFiles.values());
+    List<List<NodeFileScanTask>> partitionSplitTasks = new ArrayList<>(partitions.size());
+    for (int i = 0; i < partitions.size(); i++) {
+      partitionSplitTasks.add(null);
+    }
+    Tasks.range(partitions.size())
+        .stopOnFailure()
+        .throwFailureWhenFinished()
+        .executeWith(partitions.size() > 1 ? planExecutor : null)
+        .run(i -> partitionSplitTasks.set(i, split(partitionPlan(partitions.get(i)))));
+    List<NodeFileScanTask> splitTasks = new ArrayList<>();
+    partitionSplitTasks.forEach(splitTasks::addAll);
+    LOG.info("planning table {} partitionPlan and split end", table.id());
     // 3.combine node task (FileScanTask List -> CombinedScanTask)
     return combineNode(CloseableIterable.withNoopClose(splitTasks),
         splitSize, lookBack, openFileCost);
@@ -146,24 +164,24 @@ public class BasicKeyedTableScan implements KeyedTableScan {
     return CloseableIterable.transform(changeTableScan.planFiles(), s -> (ArcticFileScanTask) s);
   }
 
-  private void split() {
-    fileScanTasks.forEach((structLike, fileScanTasks1) -> {
-      for (NodeFileScanTask task : fileScanTasks1) {
-        if (task.cost() <= splitSize) {
-          splitTasks.add(task);
-          continue;
-        }
-        if (task.dataTasks().size() < 2) {
-          splitTasks.add(task);
-          continue;
-        }
-        CloseableIterable<NodeFileScanTask> tasksIterable = splitNode(CloseableIterable.withNoopClose(task.dataTasks()),
-            task.arcticEquityDeletes(), splitSize, lookBack, openFileCost);
-        List<NodeFileScanTask> tasks =
-            Lists.newArrayList(tasksIterable);
-        splitTasks.addAll(tasks);
+  private List<NodeFileScanTask> split(List<NodeFileScanTask> nodeTasks) {
+    List<NodeFileScanTask> splitTasks = new ArrayList<>();
+    for (NodeFileScanTask task : nodeTasks) {
+      if (task.cost() <= splitSize) {
+        splitTasks.add(task);
+        continue;
       }
-    });
+      if (task.dataTasks().size() < 2) {
+        splitTasks.add(task);
+        continue;
+      }
+      CloseableIterable<NodeFileScanTask> tasksIterable = splitNode(CloseableIterable.withNoopClose(task.dataTasks()),
+          task.arcticEquityDeletes(), splitSize, lookBack, openFileCost);
+      List<NodeFileScanTask> tasks =
+          Lists.newArrayList(tasksIterable);
+      splitTasks.addAll(tasks);
+    }
+    return splitTasks;
   }
 
   public CloseableIterable<NodeFileScanTask> splitNode(
@@ -199,7 +217,7 @@ public class BasicKeyedTableScan implements KeyedTableScan {
    * 1. Put all files into the node they originally belonged to
    * 2. Find all data nodes, traverse, and find the delete that intersects them
    */
-  private void partitionPlan(StructLike partition, Collection<ArcticFileScanTask> keyedTableTasks) {
+  private List<NodeFileScanTask> partitionPlan(Collection<ArcticFileScanTask> keyedTableTasks) {
     Map<DataTreeNode, NodeFileScanTask> nodeFileScanTaskMap = new HashMap<>();
     // planfiles() cannot guarantee the uniqueness of the file,
     // so Set<path> here is used to remove duplicate files
@@ -214,20 +232,13 @@ public class BasicKeyedTableScan implements KeyedTableScan {
       }
     });
 
+    // index the deletes of each node by mask and index, before deletes of other nodes are added to data nodes
+    Map<Long, Map<Long, List<ArcticFileScanTask>>> deletesByMask = new HashMap<>();
     nodeFileScanTaskMap.forEach((treeNode, nodeFileScanTask) -> {
-      if (!nodeFileScanTask.isDataNode()) {
-        return;
+      if (!nodeFileScanTask.arcticEquityDeletes().isEmpty()) {
+        deletesByMask.computeIfAbsent(treeNode.mask(), mask -> new HashMap<>())
+            .put(treeNode.index(), new ArrayList<>(nodeFileScanTask.arcticEquityDeletes()));
       }
-
-      nodeFileScanTaskMap.forEach((treeNode1, nodeFileScanTask1) -> {
-        if (!treeNode1.equals(treeNode) && (treeNode1.isSonOf(treeNode) || treeNode.isSonOf(treeNode1))) {
-          List<ArcticFileScanTask> deletes = nodeFileScanTask1.arcticEquityDeletes().stream()
-              .filter(file -> file.file().node().equals(treeNode1))
-              .collect(Collectors.toList());
-
-          nodeFileScanTask.addTasks(deletes);
-        }
-      });
     });
 
     List<NodeFileScanTask> fileScanTaskList = new ArrayList<>();
@@ -235,10 +246,50 @@ public class BasicKeyedTableScan implements KeyedTableScan {
       if (!nodeFileScanTask.isDataNode()) {
         return;
       }
+      addDeletesOfAncestors(nodeFileScanTask, treeNode, deletesByMask);
+      addDeletesOfDescendants(nodeFileScanTask, treeNode, deletesByMask);
       fileScanTaskList.add(nodeFileScanTask);
     });
+    return fileScanTaskList;
+  }
+
+  private void addDeletesOfAncestors(NodeFileScanTask nodeFileScanTask, DataTreeNode treeNode,
+                                     Map<Long, Map<Long, List<ArcticFileScanTask>>> deletesByMask) {
+    DataTreeNode ancestor = treeNode;
+    while (ancestor.mask() > 0) {
+      ancestor = ancestor.parent();
+      Map<Long, List<ArcticFileScanTask>> deletesByIndex = deletesByMask.get(ancestor.mask());
+      List<ArcticFileScanTask> deletes = deletesByIndex == null ? null : deletesByIndex.get(ancestor.index());
+      if (deletes != null) {
+        nodeFileScanTask.addTasks(deletes);
+      }
+    }
+  }
 
-    fileScanTasks.put(partition, fileScanTaskList);
+  private void addDeletesOfDescendants(NodeFileScanTask nodeFileScanTask, DataTreeNode treeNode,
+                                       Map<Long, Map<Long, List<ArcticFileScanTask>>> deletesByMask) {
+    deletesByMask.forEach((mask, deletesByIndex) -> {
+      if (mask <= treeNode.mask()) {
+        return;
+      }
+      // descendants with the mask have index of treeNode.index() + k * (treeNode.mask() + 1),
+      // look them up if there are fewer such indexes than nodes with deletes
+      long stride = treeNode.mask() + 1;
+      if ((mask + 1) / stride <= deletesByIndex.size()) {
+        for (long index = treeNode.index(); index <= mask; index += stride) {
+          List<ArcticFileScanTask> deletes = deletesByIndex.get(index);
+          if (deletes != null) {
+            nodeFileScanTask.addTasks(deletes);
+          }
+        }
+      } else {
+        deletesByIndex.forEach((index, deletes) -> {
+          if ((index & treeNode.mask()) == treeNode.index()) {
+            nodeFileScanTask.addTasks(deletes);
+          }
+        });
+      }
+    });
   }
 
   public Map<StructLike, Collection<ArcticFileScanTask>> groupFilesByPartition(
@@ -29,17 +29,22 @@ import org.apache.iceberg.CombinedScanTask;
 import org.apache.iceberg.DataFile;
 import org.apache.iceberg.FileContent;
 import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.ManifestFile;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.Snapshot;
 import org.apache.iceberg.StructLike;
 import org.apache.iceberg.Table;
 import org.apache.iceberg.TableScan;
+import org.apache.iceberg.data.GenericRecord;
 import org.apache.iceberg.expressions.Expression;
 import org.apache.iceberg.expressions.Expressions;
 import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Types;
 import org.apache.iceberg.util.StructLikeMap;
 
 import java.util.Collection;
+import java.util.List;
 
 public class ChangeTableBasicIncrementalScan implements ChangeTableIncrementalScan {
 
@@ -168,6 +173,7 @@ public class ChangeTableBasicIncrementalScan implements ChangeTableIncrementalSc
     TableEntriesScan.Builder builder = TableEntriesScan.builder(table)
         .withAliveEntry(true)
         .withDataFilter(dataFilter)
+        .withManifestFilter(this::shouldReadManifest)
         .includeFileContent(FileContent.DATA);
     if (snapshotId != null) {
       builder.useSnapshot(snapshotId);
@@ -251,6 +257,51 @@ public class ChangeTableBasicIncrementalScan implements ChangeTableIncrementalSc
     }
   }
 
+  private boolean shouldReadManifest(ManifestFile manifest) {
+    if (biggerThanToSequence(manifest.minSequenceNumber())) {
+      return false;
+    }
+    // files of a manifest are not newer than the manifest
+    Long fromSequence = fromSequenceOfManifest(manifest);
+    return fromSequence == null || manifest.sequenceNumber() > fromSequence;
+  }
+
+  /**
+   * Get the from sequence shared by all files of the manifest, which is known only if the table is unpartitioned
+   * or all files of the manifest are in the same partition according to its partition summaries.
+   */
+  private Long fromSequenceOfManifest(ManifestFile manifest) {
+    if (fromPartitionSequence == null || fromPartitionSequence.isEmpty()) {
+      return null;
+    }
+    if (table.spec().isUnpartitioned()) {
+      return fromPartitionSequence.entrySet().iterator().next().getValue();
+    }
+    List<ManifestFile.PartitionFieldSummary> summaries = manifest.partitions();
+    if (manifest.partitionSpecId() != table.spec().specId() || summaries == null) {
+      return null;
+    }
+    Types.StructType partitionType = table.spec().partitionType();
+    GenericRecord partition = GenericRecord.create(partitionType);
+    for (int i = 0; i < summaries.size(); i++) {
+      ManifestFile.PartitionFieldSummary summary = summaries.get(i);
+      if (Boolean.TRUE.equals(summary.containsNaN())) {
+        return null;
+      }
+      if (summary.lowerBound() == null) {
+        if (!summary.containsNull()) {
+          return null;
+        }
+        partition.set(i, null);
+      } else if (summary.containsNull() || !summary.lowerBound().equals(summary.upperBound())) {
+        return null;
+      } else {
+        partition.set(i, Conversions.fromByteBuffer(partitionType.fields().get(i).type(), summary.lowerBound()));
+      }
+    }
+    return fromPartitionSequence.get(partition);
+  }
+
   private boolean biggerThanToSequence(long sequence) {
     return this.toSequence != null && sequence > this.toSequence;
   }
@@ -19,41 +19,38 @@
 package com.netease.arctic.scan;
 
 import com.netease.arctic.IcebergFileEntry;
-import com.netease.arctic.utils.ManifestEntryFields;
 import org.apache.iceberg.ContentFile;
-import org.apache.iceberg.DataFile;
-import org.apache.iceberg.DataFiles;
-import org.apache.iceberg.DataTask;
-import org.apache.iceberg.DeleteFile;
 import org.apache.iceberg.FileContent;
-import org.apache.iceberg.FileMetadata;
-import org.apache.iceberg.FileScanTask;
-import org.apache.iceberg.HasTableOperations;
-import org.apache.iceberg.MetadataTableType;
-import org.apache.iceberg.MetadataTableUtils;
-import org.apache.iceberg.Metrics;
+import org.apache.iceberg.ManifestContent;
+import org.apache.iceberg.ManifestEntryReaders;
+import org.apache.iceberg.ManifestFile;
+import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.Schema;
-import org.apache.iceberg.StructLike;
+import org.apache.iceberg.Snapshot;
 import org.apache.iceberg.Table;
-import org.apache.iceberg.TableScan;
 import org.apache.iceberg.expressions.Expression;
 import org.apache.iceberg.expressions.Expressions;
 import org.apache.iceberg.expressions.InclusiveMetricsEvaluator;
+import org.apache.iceberg.expressions.ManifestEvaluator;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
-import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
-import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.ParallelIterable;
+import org.apache.iceberg.util.ThreadPools;
 
-import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Predicate;
 
 /**
  * API for configuring a scan to get the {@link IcebergFileEntry} of an Iceberg Table.
+ * <p>
+ * Manifests are read by {@link org.apache.iceberg.ManifestReader} directly, manifests that could not contain
+ * wanted entries are skipped, and the others are read in parallel.
  */
 public class TableEntriesScan {
   private final Table table;
@@ -63,12 +60,10 @@ public class TableEntriesScan {
   private final boolean allFileContent;
   private final boolean includeColumnStats;
   private final Set<FileContent> validFileContent;
-  private final Schema schema;
+  private final Predicate<ManifestFile> manifestFilter;
+  private final ExecutorService planExecutor;
 
-  private Table entriesTable;
   private InclusiveMetricsEvaluator lazyMetricsEvaluator = null;
-  private Map<String, Integer> lazyIndexOfDataFileType;
-  private Map<String, Integer> lazyIndexOfEntryType;
 
   public static Builder builder(Table table) {
     return new Builder(table);
@@ -81,7 +76,8 @@ public class TableEntriesScan {
     private boolean aliveEntry = true;
     private boolean includeColumnStats = false;
     private final Set<FileContent> fileContents = Sets.newHashSet();
-    private Schema schema;
+    private Predicate<ManifestFile> manifestFilter;
+    private ExecutorService planExecutor = ThreadPools.getWorkerPool();
 
     public Builder(Table table) {
       this.table = table;
@@ -142,19 +138,45 @@ public class TableEntriesScan {
       return this;
     }
 
+    /**
+     * @deprecated manifests are read directly now, there is no entries table to project.
+     */
+    @Deprecated
     public Builder project(Schema schema) {
-      this.schema = schema;
+      return this;
+    }
+
+    /**
+     * Set the filter of manifests, manifests not accepted are skipped without reading.
+     *
+     * @param manifestFilter default is accepting all manifests
+     * @return this for chain
+     */
+    public Builder withManifestFilter(Predicate<ManifestFile> manifestFilter) {
+      this.manifestFilter = manifestFilter;
+      return this;
+    }
+
+    /**
+     * Set the executor to read manifests in parallel
+     *
+     * @param planExecutor default is the worker pool of Iceberg, null to read manifests in the current thread
+     * @return this for chain
+     */
+    public Builder planWith(ExecutorService planExecutor) {
+      this.planExecutor = planExecutor;
       return this;
     }
 
     public TableEntriesScan build() {
-      return new TableEntriesScan(table, snapshotId, dataFilter, aliveEntry, fileContents, includeColumnStats, schema);
+      return new TableEntriesScan(table, snapshotId, dataFilter, aliveEntry, fileContents, includeColumnStats,
+          manifestFilter, planExecutor);
     }
   }
 
-
   public TableEntriesScan(Table table, Long snapshotId, Expression dataFilter, boolean aliveEntry,
-                          Set<FileContent> validFileContent, boolean includeColumnStats, Schema schema) {
+                          Set<FileContent> validFileContent, boolean includeColumnStats,
+                          Predicate<ManifestFile> manifestFilter, ExecutorService planExecutor) {
     this.table = table;
     this.dataFilter = dataFilter;
     this.aliveEntry = aliveEntry;
@@ -162,172 +184,75 @@ public class TableEntriesScan {
     this.validFileContent = validFileContent;
     this.snapshotId = snapshotId;
     this.includeColumnStats = includeColumnStats;
-    this.schema  = schema;
+    this.manifestFilter = manifestFilter;
+    this.planExecutor = planExecutor;
   }
 
   public CloseableIterable<IcebergFileEntry> entries() {
-    TableScan tableScan = getEntriesTable().newScan();
-    if (snapshotId != null) {
-      tableScan = tableScan.useSnapshot(snapshotId);
+    Snapshot snapshot = snapshotId == null ? table.currentSnapshot() : table.snapshot(snapshotId);
+    if (snapshot == null) {
+      return CloseableIterable.empty();
     }
-    if (schema != null) {
-      tableScan = tableScan.project(schema);
+    Map<Integer, PartitionSpec> specs = table.specs();
+    List<ManifestFile> manifests = Lists.newArrayList();
+    for (ManifestFile manifest : snapshot.allManifests()) {
+      if (shouldRead(manifest, specs)) {
+        manifests.add(manifest);
+      }
     }
-    CloseableIterable<FileScanTask> manifestFileScanTasks = tableScan.planFiles();
 
-    CloseableIterable<StructLike> entries = CloseableIterable.concat(entriesOfManifest(manifestFileScanTasks));
-
-    CloseableIterable<IcebergFileEntry> allEntries =
-        CloseableIterable.transform(entries, (entry -> {
-          ManifestEntryFields.Status status =
-              ManifestEntryFields.Status.of(
-                  entry.get(entryFieldIndex(ManifestEntryFields.STATUS.name()), Integer.class));
-          long sequence = entry.get(entryFieldIndex(ManifestEntryFields.SEQUENCE_NUMBER.name()), Long.class);
-          Long snapshotId = entry.get(entryFieldIndex(ManifestEntryFields.SNAPSHOT_ID.name()), Long.class);
-          StructLike fileRecord =
-              entry.get(entryFieldIndex(ManifestEntryFields.DATA_FILE_FIELD_NAME), StructLike.class);
-          FileContent fileContent =
-              getFileContent(fileRecord.get(dataFileFieldIndex(DataFile.CONTENT.name()), Integer.class));
-          if (shouldKeep(status, fileContent)) {
-            ContentFile<?> contentFile = buildContentFile(fileContent, fileRecord);
-            if (metricsEvaluator().eval(contentFile)) {
-              if (needMetrics() && !includeColumnStats) {
-                contentFile = (ContentFile<?>) contentFile.copyWithoutStats();
-              }
-              return new IcebergFileEntry(snapshotId, sequence, contentFile);
-            }
-          }
-          return null;
-        }));
-    return CloseableIterable.filter(allEntries, Objects::nonNull);
-  }
+    boolean withStats = needMetrics();
+    Iterable<CloseableIterable<IcebergFileEntry>> entriesOfManifests = Iterables.transform(manifests, manifest ->
+        ManifestEntryReaders.read(manifest, table.io(), specs, aliveEntry, withStats));
+    CloseableIterable<IcebergFileEntry> allEntries;
+    if (planExecutor != null && manifests.size() > 1) {
+      allEntries = new ParallelIterable<>(entriesOfManifests, planExecutor);
+    } else {
+      allEntries = CloseableIterable.concat(entriesOfManifests);
+    }
 
-  private Table getEntriesTable() {
-    if (this.entriesTable == null) {
-      this.entriesTable = MetadataTableUtils.createMetadataTableInstance(((HasTableOperations) table).operations(),
-          table.name(), table.name() + "#ENTRIES",
-          MetadataTableType.ENTRIES);
+    InclusiveMetricsEvaluator metricsEvaluator = metricsEvaluator();
+    CloseableIterable<IcebergFileEntry> filteredEntries = CloseableIterable.filter(allEntries, entry ->
+        shouldKeep(entry.getFile().content()) && metricsEvaluator.eval(entry.getFile()));
+    if (withStats && !includeColumnStats) {
+      return CloseableIterable.transform(filteredEntries, entry -> {
+        entry.setFile((ContentFile<?>) entry.getFile().copyWithoutStats());
+        return entry;
+      });
     }
-    return this.entriesTable;
+    return filteredEntries;
   }
 
-  private FileContent getFileContent(int contentId) {
-    for (FileContent content : FileContent.values()) {
-      if (content.id() == contentId) {
-        return content;
+  private boolean shouldRead(ManifestFile manifest, Map<Integer, PartitionSpec> specs) {
+    if (!allFileContent) {
+      boolean hasDataContent = validFileContent.contains(FileContent.DATA);
+      boolean hasDeleteContent = validFileContent.contains(FileContent.POSITION_DELETES) ||
+          validFileContent.contains(FileContent.EQUALITY_DELETES);
+      if (manifest.content() == ManifestContent.DATA ? !hasDataContent : !hasDeleteContent) {
+        return false;
       }
     }
-    throw new IllegalArgumentException("not support content id " + contentId);
+    if (aliveEntry && !manifest.hasAddedFiles() && !manifest.hasExistingFiles()) {
+      return false;
+    }
+    if (dataFilter != null &&
+        !ManifestEvaluator.forRowFilter(dataFilter, specs.get(manifest.partitionSpecId()), true).eval(manifest)) {
+      return false;
+    }
+    return manifestFilter == null || manifestFilter.test(manifest);
   }
 
   private boolean needMetrics() {
     return dataFilter != null || includeColumnStats;
   }
 
-  private boolean shouldKeep(ManifestEntryFields.Status status, FileContent fileContent) {
-    if (aliveEntry && status == ManifestEntryFields.Status.DELETED) {
-      return false;
-    }
+  private boolean shouldKeep(FileContent fileContent) {
     if (allFileContent) {
       return true;
     }
     return validFileContent != null && validFileContent.contains(fileContent);
   }
 
-  private Iterable<CloseableIterable<StructLike>> entriesOfManifest(CloseableIterable<FileScanTask> fileScanTasks) {
-    return Iterables.transform(fileScanTasks, task -> {
-      assert task != null;
-      return ((DataTask) task).rows();
-    });
-  }
-
-  private ContentFile<?> buildContentFile(FileContent fileContent, StructLike fileRecord) {
-    ContentFile<?> file;
-    if (fileContent == FileContent.DATA) {
-      file = buildDataFile(fileRecord);
-    } else {
-      file = buildDeleteFile(fileRecord, fileContent);
-    }
-    return file;
-  }
-
-  private DataFile buildDataFile(StructLike fileRecord) {
-    String filePath = fileRecord.get(dataFileFieldIndex(DataFile.FILE_PATH.name()), String.class);
-    Long fileSize = fileRecord.get(dataFileFieldIndex(DataFile.FILE_SIZE.name()), Long.class);
-    Long recordCount = fileRecord.get(dataFileFieldIndex(DataFile.RECORD_COUNT.name()), Long.class);
-    DataFiles.Builder builder = DataFiles.builder(table.spec())
-        .withPath(filePath)
-        .withFileSizeInBytes(fileSize)
-        .withRecordCount(recordCount);
-    if (needMetrics()) {
-      builder.withMetrics(buildMetrics(fileRecord));
-    }
-    if (table.spec().isPartitioned()) {
-      StructLike partition = fileRecord.get(dataFileFieldIndex(DataFile.PARTITION_NAME), StructLike.class);
-      builder.withPartition(partition);
-    }
-    return builder.build();
-  }
-
-  private DeleteFile buildDeleteFile(StructLike fileRecord, FileContent fileContent) {
-    String filePath = fileRecord.get(dataFileFieldIndex(DataFile.FILE_PATH.name()), String.class);
-    Long fileSize = fileRecord.get(dataFileFieldIndex(DataFile.FILE_SIZE.name()), Long.class);
-    Long recordCount = fileRecord.get(dataFileFieldIndex(DataFile.RECORD_COUNT.name()), Long.class);
-    FileMetadata.Builder builder = FileMetadata.deleteFileBuilder(table.spec())
-        .withPath(filePath)
-        .withFileSizeInBytes(fileSize)
-        .withRecordCount(recordCount);
-    if (needMetrics()) {
-      builder.withMetrics(buildMetrics(fileRecord));
-    }
-    if (table.spec().isPartitioned()) {
-      StructLike partition = fileRecord.get(dataFileFieldIndex(DataFile.PARTITION_NAME), StructLike.class);
-      builder.withPartition(partition);
-    }
-    if (fileContent == FileContent.EQUALITY_DELETES) {
-      builder.ofEqualityDeletes();
-    } else {
-      builder.ofPositionDeletes();
-    }
-    return builder.build();
-  }
-
-  @SuppressWarnings("unchecked")
-  private Metrics buildMetrics(StructLike dataFile) {
-    return new Metrics(dataFile.get(dataFileFieldIndex(DataFile.RECORD_COUNT.name()), Long.class),
-        (Map<Integer, Long>) dataFile.get(dataFileFieldIndex(DataFile.COLUMN_SIZES.name()), Map.class),
-        (Map<Integer, Long>) dataFile.get(dataFileFieldIndex(DataFile.VALUE_COUNTS.name()), Map.class),
-        (Map<Integer, Long>) dataFile.get(dataFileFieldIndex(DataFile.NULL_VALUE_COUNTS.name()), Map.class),
-        (Map<Integer, Long>) dataFile.get(dataFileFieldIndex(DataFile.NAN_VALUE_COUNTS.name()), Map.class),
-        (Map<Integer, ByteBuffer>) dataFile.get(dataFileFieldIndex(DataFile.LOWER_BOUNDS.name()), Map.class),
-        (Map<Integer, ByteBuffer>) dataFile.get(dataFileFieldIndex(DataFile.UPPER_BOUNDS.name()), Map.class));
-  }
-
-  private int entryFieldIndex(String fieldName) {
-    if (lazyIndexOfEntryType == null) {
-      List<Types.NestedField> fields = getEntriesTable().schema().columns();
-      Map<String, Integer> map = Maps.newHashMap();
-      for (int i = 0; i < fields.size(); i++) {
-        map.put(fields.get(i).name(), i);
-      }
-      lazyIndexOfEntryType = map;
-    }
-    return lazyIndexOfEntryType.get(fieldName);
-  }
-
-  private int dataFileFieldIndex(String fieldName) {
-    if (lazyIndexOfDataFileType == null) {
-      List<Types.NestedField> fields =
-          getEntriesTable().schema().findType(ManifestEntryFields.DATA_FILE_FIELD_NAME).asStructType().fields();
-      Map<String, Integer> map = Maps.newHashMap();
-      for (int i = 0; i < fields.size(); i++) {
-        map.put(fields.get(i).name(), i);
-      }
-      lazyIndexOfDataFileType = map;
-    }
-    return lazyIndexOfDataFileType.get(fieldName);
-  }
-
   private InclusiveMetricsEvaluator metricsEvaluator() {
     if (lazyMetricsEvaluator == null) {
       if (dataFilter != null) {
@@ -86,6 +86,9 @@ public class TableProperties {
   public static final String SELF_OPTIMIZING_TARGET_SIZE = "self-optimizing.target-size";
   public static final long SELF_OPTIMIZING_TARGET_SIZE_DEFAULT = 134217728; // 128 MB
 
+  public static final String SELF_OPTIMIZING_TASK_TARGET_DURATION = "self-optimizing.task.target-duration";
+  public static final long SELF_OPTIMIZING_TASK_TARGET_DURATION_DEFAULT = -1; // size tasks by target-size
+
   public static final String SELF_OPTIMIZING_MAX_FILE_CNT = "self-optimizing.max-file-count";
   public static final int SELF_OPTIMIZING_MAX_FILE_CNT_DEFAULT = 100000;
 
@@ -206,6 +209,19 @@ public class TableProperties {
   public static final String UPSERT_ENABLED = "write.upsert.enabled";
   public static final boolean UPSERT_ENABLED_DEFAULT = false;
 
+  /**
+   * the max number of files kept open by an unordered writer, records of other files are buffered, -1 is unlimited.
+   * It bounds the count of open files rather than memory, memory of a writer also depends on row sizes and format
+   */
+  public static final String WRITE_FANOUT_MAX_OPEN_FILES = "write.fanout.max-open-files";
+  public static final int WRITE_FANOUT_MAX_OPEN_FILES_DEFAULT = -1;
+
+  /**
+   * the max number of records buffered once write.fanout.max-open-files files are open
+   */
+  public static final String WRITE_FANOUT_BUFFER_RECORDS = "write.fanout.buffer-records";
+  public static final int WRITE_FANOUT_BUFFER_RECORDS_DEFAULT = 10000;
+
   public static final String WRITE_DISTRIBUTION_MODE = org.apache.iceberg.TableProperties.WRITE_DISTRIBUTION_MODE;
   public static final String WRITE_DISTRIBUTION_MODE_NONE =
       org.apache.iceberg.TableProperties.WRITE_DISTRIBUTION_MODE_NONE;
@@ -0,0 +1,421 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.utils;
+
+import com.netease.arctic.data.file.ContentFileWithSequence;
+import com.netease.arctic.data.file.DataFileWithSequence;
+import com.netease.arctic.data.file.DeleteFileWithSequence;
+import org.apache.iceberg.ContentFile;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DataFiles;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileContent;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.FileMetadata;
+import org.apache.iceberg.Metrics;
+import org.apache.iceberg.PartitionField;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.PartitionSpecParser;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.SchemaParser;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.TypeUtil;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.ArrayUtil;
+import org.apache.iceberg.util.ByteBuffers;
+import org.apache.iceberg.util.StructLikeWrapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * Compact binary encoding of a list of {@link ContentFile}s, used to transfer and persist files of optimize tasks.
+ * <p>
+ * Unlike java serialization of each file, partition specs and partition values shared by files are written only
+ * once, and files refer to them by index. The whole body is deflated, the first byte is the format version.
+ * <pre>
+ * version: byte
+ * specs: count, [spec id, schema of source fields as json, spec as json]...
+ * partitions: count, [spec id, [value bytes]...]...
+ * files: count, [content, path, format, partition index, file size, metrics, key metadata, split offsets,
+ *                equality field ids, sequence number]...
+ * </pre>
+ * Sort order ids of files are not kept, decoded files always have the unsorted order id 0. The codec only carries files
+ * of optimize tasks: source files, which are read by optimizers and removed from tables by path when committing, and
+ * target files, which optimizers write without sorting. Neither of them depends on the sort order id.
+ */
+public class ContentFileListCodec {
+
+  public static final byte FORMAT_V1 = 1;
+
+  private static final int NULL_LENGTH = -1;
+
+  private ContentFileListCodec() {
+  }
+
+  /**
+   * Encode files.
+   *
+   * @param specs partition specs by spec id, should contain specs of all files
+   * @param files files to encode, sequence numbers of {@link ContentFileWithSequence} are kept
+   * @return encoded bytes
+   */
+  public static ByteBuffer encode(Map<Integer, PartitionSpec> specs, Collection<? extends ContentFile<?>> files) {
+    Map<Integer, PartitionSpec> usedSpecs = Maps.newLinkedHashMap();
+    Map<Integer, Map<StructLikeWrapper, Integer>> partitionIndex = Maps.newHashMap();
+    List<ContentFile<?>> partitions = Lists.newArrayList();
+    int[] filePartitions = new int[files.size()];
+    int fileIdx = 0;
+    for (ContentFile<?> file : files) {
+      PartitionSpec spec = specs.get(file.specId());
+      if (spec == null) {
+        throw new IllegalArgumentException("can't find partition spec " + file.specId() + " of file " + file.path());
+      }
+      usedSpecs.putIfAbsent(spec.specId(), spec);
+      Map<StructLikeWrapper, Integer> specPartitions =
+          partitionIndex.computeIfAbsent(spec.specId(), id -> Maps.newHashMap());
+      StructLikeWrapper key = StructLikeWrapper.forType(spec.partitionType()).set(file.partition());
+      Integer idx = specPartitions.get(key);
+      if (idx == null) {
+        idx = partitions.size();
+        specPartitions.put(key, idx);
+        partitions.add(file);
+      }
+      filePartitions[fileIdx++] = idx;
+    }
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    bytes.write(FORMAT_V1);
+    try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(bytes))) {
+      out.writeInt(usedSpecs.size());
+      for (PartitionSpec spec : usedSpecs.values()) {
+        Set<Integer> sourceIds = spec.fields().stream().map(PartitionField::sourceId).collect(Collectors.toSet());
+        out.writeInt(spec.specId());
+        writeString(out, SchemaParser.toJson(TypeUtil.select(spec.schema(), sourceIds)));
+        writeString(out, PartitionSpecParser.toJson(spec));
+      }
+
+      out.writeInt(partitions.size());
+      for (ContentFile<?> file : partitions) {
+        PartitionSpec spec = usedSpecs.get(file.specId());
+        List<Types.NestedField> fields = spec.partitionType().fields();
+        out.writeInt(spec.specId());
+        for (int i = 0; i < fields.size(); i++) {
+          Object value = file.partition().get(i, Object.class);
+          writeBytes(out, value == null ? null : Conversions.toByteBuffer(fields.get(i).type(), value));
+        }
+      }
+
+      out.writeInt(files.size());
+      fileIdx = 0;
+      for (ContentFile<?> file : files) {
+        out.writeByte(file.content().ordinal());
+        writeString(out, file.path().toString());
+        writeString(out, file.format().name());
+        out.writeInt(filePartitions[fileIdx++]);
+        out.writeLong(file.fileSizeInBytes());
+        out.writeLong(file.recordCount());
+        writeLongMap(out, file.columnSizes());
+        writeLongMap(out, file.valueCounts());
+        writeLongMap(out, file.nullValueCounts());
+        writeLongMap(out, file.nanValueCounts());
+        writeBytesMap(out, file.lowerBounds());
+        writeBytesMap(out, file.upperBounds());
+        writeBytes(out, file.keyMetadata());
+        writeLongList(out, file.splitOffsets());
+        writeIntList(out, file.equalityFieldIds());
+        boolean withSequence = file instanceof ContentFileWithSequence;
+        out.writeBoolean(withSequence);
+        if (withSequence) {
+          out.writeLong(((ContentFileWithSequence<?>) file).getSequenceNumber());
+        }
+      }
+    } catch (IOException e) {
+      throw new IllegalArgumentException("failed to encode content files", e);
+    }
+    return ByteBuffer.wrap(bytes.toByteArray());
+  }
+
+  /**
+   * Decode files encoded by {@link #encode(Map, Collection)}.
+   *
+   * @param buffer encoded bytes
+   * @return files, wrapped as {@link ContentFileWithSequence} if encoded with sequence number
+   */
+  public static List<ContentFile<?>> decode(ByteBuffer buffer) {
+    byte[] bytes = ByteBuffers.toByteArray(buffer);
+    if (bytes.length == 0 || bytes[0] != FORMAT_V1) {
+      throw new IllegalArgumentException("unsupported content file list format " +
+          (bytes.length == 0 ? "empty" : bytes[0]));
+    }
+    try (DataInputStream in = new DataInputStream(
+        new InflaterInputStream(new ByteArrayInputStream(bytes, 1, bytes.length - 1)))) {
+      int specCount = in.readInt();
+      Map<Integer, PartitionSpec> specs = Maps.newHashMapWithExpectedSize(specCount);
+      for (int i = 0; i < specCount; i++) {
+        int specId = in.readInt();
+        Schema schema = SchemaParser.fromJson(readString(in));
+        PartitionSpec spec = PartitionSpecParser.fromJson(schema, readString(in));
+        specs.put(specId, spec);
+      }
+
+      int partitionCount = in.readInt();
+      List<PartitionSpec> partitionSpecs = Lists.newArrayListWithCapacity(partitionCount);
+      List<StructLike> partitions = Lists.newArrayListWithCapacity(partitionCount);
+      for (int i = 0; i < partitionCount; i++) {
+        PartitionSpec spec = specs.get(in.readInt());
+        List<Types.NestedField> fields = spec.partitionType().fields();
+        Object[] values = new Object[fields.size()];
+        for (int pos = 0; pos < values.length; pos++) {
+          values[pos] = toPartitionValue(fields.get(pos).type(), readBytes(in));
+        }
+        partitionSpecs.add(spec);
+        partitions.add(new PartitionValues(values));
+      }
+
+      int fileCount = in.readInt();
+      List<ContentFile<?>> files = Lists.newArrayListWithCapacity(fileCount);
+      for (int i = 0; i < fileCount; i++) {
+        FileContent content = FileContent.values()[in.readByte()];
+        String path = readString(in);
+        FileFormat format = FileFormat.valueOf(readString(in));
+        int partitionIdx = in.readInt();
+        PartitionSpec spec = partitionSpecs.get(partitionIdx);
+        StructLike partition = partitions.get(partitionIdx);
+        long fileSize = in.readLong();
+        long recordCount = in.readLong();
+        Metrics metrics = new Metrics(recordCount, readLongMap(in), readLongMap(in), readLongMap(in),
+            readLongMap(in), readBytesMap(in), readBytesMap(in));
+        ByteBuffer keyMetadata = readBytes(in);
+        List<Long> splitOffsets = readLongList(in);
+        List<Integer> equalityFieldIds = readIntList(in);
+        Long sequence = in.readBoolean() ? in.readLong() : null;
+
+        if (content == FileContent.DATA) {
+          DataFiles.Builder builder = DataFiles.builder(spec)
+              .withPath(path)
+              .withFormat(format)
+              .withFileSizeInBytes(fileSize)
+              .withMetrics(metrics)
+              .withEncryptionKeyMetadata(keyMetadata)
+              .withSplitOffsets(splitOffsets);
+          if (spec.isPartitioned()) {
+            builder.withPartition(partition);
+          }
+          DataFile dataFile = builder.build();
+          files.add(sequence == null ? dataFile : new DataFileWithSequence(dataFile, sequence));
+        } else {
+          FileMetadata.Builder builder = FileMetadata.deleteFileBuilder(spec);
+          if (content == FileContent.POSITION_DELETES) {
+            builder.ofPositionDeletes();
+          } else {
+            builder.ofEqualityDeletes(ArrayUtil.toIntArray(equalityFieldIds));
+          }
+          builder.withPath(path)
+              .withFormat(format)
+              .withFileSizeInBytes(fileSize)
+              .withMetrics(metrics)
+              .withEncryptionKeyMetadata(keyMetadata);
+          if (spec.isPartitioned()) {
+            builder.withPartition(partition);
+          }
+          DeleteFile deleteFile = builder.build();
+          files.add(sequence == null ? deleteFile : new DeleteFileWithSequence(deleteFile, sequence));
+        }
+      }
+      return files;
+    } catch (IOException e) {
+      throw new IllegalArgumentException("failed to decode content files", e);
+    }
+  }
+
+  private static Object toPartitionValue(Type type, ByteBuffer bytes) {
+    if (bytes == null) {
+      return null;
+    }
+    Object value = Conversions.fromByteBuffer(type, bytes);
+    // string values are decoded as CharBuffer, which is not equal to the String in other partitions
+    return value instanceof CharSequence ? value.toString() : value;
+  }
+
+  private static void writeString(DataOutputStream out, String value) throws IOException {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static String readString(DataInputStream in) throws IOException {
+    byte[] bytes = new byte[in.readInt()];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static void writeBytes(DataOutputStream out, ByteBuffer value) throws IOException {
+    if (value == null) {
+      out.writeInt(NULL_LENGTH);
+      return;
+    }
+    byte[] bytes = ByteBuffers.toByteArray(value);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static ByteBuffer readBytes(DataInputStream in) throws IOException {
+    int length = in.readInt();
+    if (length == NULL_LENGTH) {
+      return null;
+    }
+    byte[] bytes = new byte[length];
+    in.readFully(bytes);
+    return ByteBuffer.wrap(bytes);
+  }
+
+  private static void writeLongMap(DataOutputStream out, Map<Integer, Long> map) throws IOException {
+    if (map == null) {
+      out.writeInt(NULL_LENGTH);
+      return;
+    }
+    out.writeInt(map.size());
+    for (Map.Entry<Integer, Long> entry : map.entrySet()) {
+      out.writeInt(entry.getKey());
+      out.writeLong(entry.getValue());
+    }
+  }
+
+  private static Map<Integer, Long> readLongMap(DataInputStream in) throws IOException {
+    int size = in.readInt();
+    if (size == NULL_LENGTH) {
+      return null;
+    }
+    Map<Integer, Long> map = Maps.newHashMapWithExpectedSize(size);
+    for (int i = 0; i < size; i++) {
+      map.put(in.readInt(), in.readLong());
+    }
+    return map;
+  }
+
+  private static void writeBytesMap(DataOutputStream out, Map<Integer, ByteBuffer> map) throws IOException {
+    if (map == null) {
+      out.writeInt(NULL_LENGTH);
+      return;
+    }
+    out.writeInt(map.size());
+    for (Map.Entry<Integer, ByteBuffer> entry : map.entrySet()) {
+      out.writeInt(entry.getKey());
+      writeBytes(out, entry.getValue());
+    }
+  }
+
+  private static Map<Integer, ByteBuffer> readBytesMap(DataInputStream in) throws IOException {
+    int size = in.readInt();
+    if (size == NULL_LENGTH) {
+      return null;
+    }
+    Map<Integer, ByteBuffer> map = Maps.newHashMapWithExpectedSize(size);
+    for (int i = 0; i < size; i++) {
+      map.put(in.readInt(), readBytes(in));
+    }
+    return map;
+  }
+
+  private static void writeLongList(DataOutputStream out, List<Long> list) throws IOException {
+    if (list == null) {
+      out.writeInt(NULL_LENGTH);
+      return;
+    }
+    out.writeInt(list.size());
+    for (Long value : list) {
+      out.writeLong(value);
+    }
+  }
+
+  private static List<Long> readLongList(DataInputStream in) throws IOException {
+    int size = in.readInt();
+    if (size == NULL_LENGTH) {
+      return null;
+    }
+    List<Long> list = Lists.newArrayListWithCapacity(size);
+    for (int i = 0; i < size; i++) {
+      list.add(in.readLong());
+    }
+    return list;
+  }
+
+  private static void writeIntList(DataOutputStream out, List<Integer> list) throws IOException {
+    if (list == null) {
+      out.writeInt(NULL_LENGTH);
+      return;
+    }
+    out.writeInt(list.size());
+    for (Integer value : list) {
+      out.writeInt(value);
+    }
+  }
+
+  private static List<Integer> readIntList(DataInputStream in) throws IOException {
+    int size = in.readInt();
+    if (size == NULL_LENGTH) {
+      return null;
+    }
+    List<Integer> list = Lists.newArrayListWithCapacity(size);
+    for (int i = 0; i < size; i++) {
+      list.add(in.readInt());
+    }
+    return list;
+  }
+
+  private static class PartitionValues implements StructLike {
+    private final Object[] values;
+
+    private PartitionValues(Object[] values) {
+      this.values = values;
+    }
+
+    @Override
+    public int size() {
+      return values.length;
+    }
+
+    @Override
+    public <T> T get(int pos, Class<T> javaClass) {
+      return javaClass.cast(values[pos]);
+    }
+
+    @Override
+    public <T> void set(int pos, T value) {
+      throw new UnsupportedOperationException("Partition values cannot be modified");
+    }
+  }
+}
@@ -78,6 +78,13 @@ public class SimpleSpillableMap<K, T> implements SimpleMap<K, T> {
     return diskBasedMap.map(SimpleSpilledMap::sizeOfFileOnDiskInBytes).orElse(0L);
   }
 
+  /**
+   * Number of bytes of keys and values spilled to disk by this map.
+   */
+  public long getSpilledBytes() {
+    return diskBasedMap.map(SimpleSpilledMap::spilledBytes).orElse(0L);
+  }
+
   /**
    * Number of entries in InMemoryMap.
    */
@@ -149,6 +156,8 @@ public class SimpleSpillableMap<K, T> implements SimpleMap<K, T> {
 
     private SerializationUtils.SimpleSerializer<T> valueSerializer;
 
+    private long spilledBytes = 0;
+
     public SimpleSpilledMap(SerializationUtils.SimpleSerializer<K> keySerializer,
                             SerializationUtils.SimpleSerializer<T> valueSerializer,
                             @Nullable String backendBaseDir) {
@@ -167,7 +176,10 @@ public class SimpleSpillableMap<K, T> implements SimpleMap<K, T> {
     }
 
     public void put(K key, T value) {
-      rocksDB.put(columnFamily, keySerializer.serialize(key), valueSerializer.serialize(value));
+      byte[] keyBytes = keySerializer.serialize(key);
+      byte[] valueBytes = valueSerializer.serialize(value);
+      rocksDB.put(columnFamily, keyBytes, valueBytes);
+      spilledBytes += keyBytes.length + valueBytes.length;
     }
 
     public void delete(K key) {
@@ -181,5 +193,9 @@ public class SimpleSpillableMap<K, T> implements SimpleMap<K, T> {
     public long sizeOfFileOnDiskInBytes() {
       return rocksDB.getTotalBytesWritten();
     }
+
+    public long spilledBytes() {
+      return spilledBytes;
+    }
   }
 }
@@ -35,7 +35,7 @@ public class StructLikeSpillableMap<T> extends StructLikeBaseMap<T> {
     return new StructLikeSpillableMap<>(type, maxInMemorySizeInBytes, backendBaseDir);
   }
 
-  private final SimpleMap<StructLikeWrapper, T> wrapperMap;
+  private final SimpleSpillableMap<StructLikeWrapper, T> wrapperMap;
 
   private StructLikeSpillableMap(Types.StructType type, Long maxInMemorySizeInBytes, @Nullable String backendBaseDir) {
     super(type);
@@ -45,6 +45,13 @@ public class StructLikeSpillableMap<T> extends StructLikeBaseMap<T> {
         new StructLikeWrapperSizeEstimator(), new DefaultSizeEstimator<>());
   }
 
+  /**
+   * Number of bytes of keys and values spilled to disk.
+   */
+  public long getSpilledBytes() {
+    return wrapperMap.getSpilledBytes();
+  }
+
   @Override
   protected SimpleMap<StructLikeWrapper, T> getInternalMap() {
     return wrapperMap;
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.iceberg;
+
+import com.netease.arctic.IcebergFileEntry;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.FileIO;
+
+import java.util.Map;
+
+/**
+ * Read entries of a manifest with {@link ManifestReader} directly, as the status and sequence number of
+ * {@link ManifestEntry} are not public.
+ */
+public class ManifestEntryReaders {
+
+  private ManifestEntryReaders() {
+  }
+
+  /**
+   * Read entries of the manifest, files of the entries are copied so they could be kept.
+   *
+   * @param manifest   manifest to read
+   * @param io         file io to read the manifest
+   * @param specsById  partition specs of the table
+   * @param aliveEntry true to skip DELETED entries
+   * @param withStats  false to drop column stats of files
+   * @return entries of the manifest
+   */
+  public static CloseableIterable<IcebergFileEntry> read(
+      ManifestFile manifest, FileIO io, Map<Integer, PartitionSpec> specsById,
+      boolean aliveEntry, boolean withStats) {
+    if (manifest.content() == ManifestContent.DELETES) {
+      return read(ManifestFiles.readDeleteManifest(manifest, io, specsById), aliveEntry, withStats);
+    } else {
+      return read(ManifestFiles.read(manifest, io, specsById), aliveEntry, withStats);
+    }
+  }
+
+  private static <F extends ContentFile<F>> CloseableIterable<IcebergFileEntry> read(
+      ManifestReader<F> reader, boolean aliveEntry, boolean withStats) {
+    CloseableIterable<ManifestEntry<F>> entries = aliveEntry ? reader.liveEntries() : reader.entries();
+    return CloseableIterable.transform(entries, entry -> {
+      Long sequenceNumber = entry.sequenceNumber();
+      // entries are reused by the reader
+      F file = withStats ? entry.file().copy() : entry.file().copyWithoutStats();
+      return new IcebergFileEntry(entry.snapshotId(), sequenceNumber == null ? 0 : sequenceNumber, file);
+    });
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.netease.arctic.data;
+
+import com.netease.arctic.TableTestHelpers;
+import com.netease.arctic.io.DataTestHelpers;
+import com.netease.arctic.table.PrimaryKeySpec;
+import org.apache.iceberg.data.Record;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PrimaryKeyDataTest {
+
+  @Test
+  public void testPrimaryKeyHash() {
+    PrimaryKeySpec keySpec = PrimaryKeySpec.builderFor(TableTestHelpers.TABLE_SCHEMA)
+        .addColumn("id").addColumn("name").build();
+    PrimaryKeyData primaryKey = new PrimaryKeyData(keySpec, TableTestHelpers.TABLE_SCHEMA);
+
+    for (int i = 0; i < 100; i++) {
+      Record record = DataTestHelpers.createRecord(i, i % 3 == 0 ? null : "name" + i, 0, "2022-01-01T12:00:00");
+      int hash = primaryKey.primaryKeyHash(record);
+      primaryKey.primaryKey(record);
+      Assert.assertEquals(primaryKey.hashCode(), hash);
+      Assert.assertEquals(primaryKey.treeNode(7), DataTreeNode.of(7, PrimaryKeyData.treeNodeIndex(hash, 7)));
+    }
+  }
+}
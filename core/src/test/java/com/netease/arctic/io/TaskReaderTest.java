@@ -20,6 +20,7 @@ package com.netease.arctic.io;
 
 import com.google.common.collect.Sets;
 import com.netease.arctic.io.reader.BaseIcebergPosDeleteReader;
+import com.netease.arctic.io.reader.DeleteFilterMetrics;
 import com.netease.arctic.io.reader.GenericArcticDataReader;
 import com.netease.arctic.io.reader.GenericIcebergDataReader;
 import com.netease.arctic.scan.ArcticFileScanTask;
@@ -270,4 +271,49 @@ public class TaskReaderTest extends TableDataTestBase {
     Set<Integer> rightIds = Sets.newHashSet(5);
     Assert.assertEquals(rightIds, resultIds);
   }
+
+  @Test
+  public void testReadMetrics() {
+    Schema schema = getArcticTable().asKeyedTable().schema();
+    GenericArcticDataReader genericArcticDataReader = new GenericArcticDataReader(
+        getArcticTable().asKeyedTable().io(),
+        schema,
+        schema,
+        getArcticTable().asKeyedTable().primaryKeySpec(),
+        null,
+        true,
+        IdentityPartitionConverters::convertConstant
+    );
+    DeleteFilterMetrics metrics = new DeleteFilterMetrics();
+    genericArcticDataReader.setDeleteFilterMetrics(metrics);
+    List<Record> records = new ArrayList<>();
+    CloseableIterable<CombinedScanTask> combinedScanTasks = getArcticTable().asKeyedTable().newScan().planTasks();
+    for (CombinedScanTask combinedScanTask : combinedScanTasks) {
+      for (KeyedTableScanTask keyedTableScanTask : combinedScanTask.tasks()) {
+        genericArcticDataReader.readData(keyedTableScanTask).forEachRemaining(records::add);
+      }
+    }
+
+    // 4 base rows and 2 change insert rows, id 4 deleted by position and id 5 by equality
+    Assert.assertEquals(4, records.size());
+    Assert.assertEquals(6, metrics.getRowsRead());
+    Assert.assertEquals(1, metrics.getPosDeletedRows());
+    Assert.assertEquals(1, metrics.getEqDeletedRows());
+    Assert.assertEquals(1, metrics.getPosDeletes());
+    Assert.assertEquals(1, metrics.getDeleteMapKeys());
+    Assert.assertEquals(0, metrics.getDeleteMapSpilledBytes());
+
+    DeleteFilterMetrics negateMetrics = new DeleteFilterMetrics();
+    genericArcticDataReader.setDeleteFilterMetrics(negateMetrics);
+    List<Record> deletedRecords = new ArrayList<>();
+    combinedScanTasks = getArcticTable().asKeyedTable().newScan().planTasks();
+    for (CombinedScanTask combinedScanTask : combinedScanTasks) {
+      for (KeyedTableScanTask keyedTableScanTask : combinedScanTask.tasks()) {
+        genericArcticDataReader.readDeletedData(keyedTableScanTask).forEachRemaining(deletedRecords::add);
+      }
+    }
+    Assert.assertEquals(1, deletedRecords.size());
+    Assert.assertEquals(1, negateMetrics.getEqDeletedRows());
+    Assert.assertEquals(0, negateMetrics.getPosDeletedRows());
+  }
 }
@@ -25,9 +25,11 @@ import com.netease.arctic.io.writer.GenericBaseTaskWriter;
 import com.netease.arctic.io.writer.GenericChangeTaskWriter;
 import com.netease.arctic.io.writer.GenericTaskWriters;
 import com.netease.arctic.io.writer.SortedPosDeleteWriter;
+import com.netease.arctic.table.TableProperties;
 import com.netease.arctic.utils.ManifestEntryFields;
 import org.apache.iceberg.DataFile;
 import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileFormat;
 import org.apache.iceberg.MetadataColumns;
 import org.apache.iceberg.RowDelta;
 import org.apache.iceberg.Table;
@@ -37,13 +39,19 @@ import org.apache.iceberg.data.Record;
 import org.apache.iceberg.hadoop.HadoopTables;
 import org.apache.iceberg.io.WriteResult;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.junit.Assert;
 import org.junit.Test;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 public class TaskWriterTest extends TableTestBase {
 
@@ -111,6 +119,72 @@ public class TaskWriterTest extends TableTestBase {
   }
 
 
+  @Test
+  public void testWriterWithLimitedOpenFiles() throws IOException {
+    getArcticTable().updateProperties()
+        .set(TableProperties.WRITE_FANOUT_MAX_OPEN_FILES, "1")
+        .set(TableProperties.WRITE_FANOUT_BUFFER_RECORDS, "2")
+        .commit();
+    GenericChangeTaskWriter writer = GenericTaskWriters.builderFor(getArcticTable().asKeyedTable())
+        .withTransactionId(1L).buildChangeWriter();
+
+    List<Record> records = writeRecords();
+    for (int i = 0; i < 3; i++) {
+      for (Record record : records) {
+        writer.write(record);
+      }
+    }
+
+    WriteResult result = writer.complete();
+    Assert.assertEquals(3 * records.size(),
+        Arrays.stream(result.dataFiles()).mapToLong(DataFile::recordCount).sum());
+  }
+
+
+  @Test
+  public void testWriterOverOpenFilesBudget() throws IOException {
+    getArcticTable().updateProperties()
+        .set(TableProperties.WRITE_FANOUT_MAX_OPEN_FILES, "2")
+        .set(TableProperties.WRITE_FANOUT_BUFFER_RECORDS, "3")
+        .commit();
+    GenericBaseTaskWriter writer = GenericTaskWriters.builderFor(getArcticTable().asKeyedTable())
+        .withTransactionId(1L).buildBaseWriter();
+
+    // every record is written to its own partition and node, and the record object is reused like engines do,
+    // so buffered records must be copied
+    Record reused = GenericRecord.create(writeRecords().get(0).struct());
+    for (int i = 0; i < 3; i++) {
+      for (Record record : writeRecords()) {
+        for (int pos = 0; pos < record.size(); pos++) {
+          reused.set(pos, record.get(pos));
+        }
+        writer.write(reused);
+      }
+    }
+
+    // with 2 open files, records of id 4 and 5 are buffered in the 1st round and written in the 2nd round,
+    // evicting writers of id 2 and 3, whose records of the 3rd round are buffered and written on completing
+    Map<Integer, List<Long>> fileRecordCounts = Maps.newTreeMap();
+    WriteResult result = writer.complete();
+    for (DataFile dataFile : result.dataFiles()) {
+      List<Record> fileRecords = DataTestHelpers.readDataFile(FileFormat.PARQUET, getArcticTable().schema(),
+          dataFile.path());
+      Assert.assertEquals(dataFile.recordCount(), fileRecords.size());
+      Set<Object> ids = fileRecords.stream().map(record -> record.getField("id")).collect(Collectors.toSet());
+      Assert.assertEquals(1, ids.size());
+      fileRecordCounts.computeIfAbsent((Integer) ids.iterator().next(), id -> Lists.newArrayList())
+          .add(dataFile.recordCount());
+    }
+    fileRecordCounts.values().forEach(Collections::sort);
+
+    Map<Integer, List<Long>> expected = Maps.newTreeMap();
+    expected.put(2, Lists.newArrayList(1L, 2L));
+    expected.put(3, Lists.newArrayList(1L, 2L));
+    expected.put(4, Lists.newArrayList(3L));
+    expected.put(5, Lists.newArrayList(3L));
+    Assert.assertEquals(expected, fileRecordCounts);
+  }
+
   @Test
   public void testOrderedWriterBase() throws IOException {
     ImmutableList.Builder<Record> builder = ImmutableList.builder();
@@ -41,6 +41,69 @@ public class LogDataJsonSerializationTest extends BaseFormatTest {
 
     LogDataJsonSerialization<UserPojo> logDataJsonSerialization =
         new LogDataJsonSerialization<>(userSchema, fieldGetterFactory);
+    UserPojo userPojo = createUserPojo();
+    LogData<UserPojo> logData = new LogDataUser(
+        FormatVersion.FORMAT_VERSION_V1.asBytes(),
+        IdGenerator.generateUpstreamId(),
+        123455L,
+        false,
+        ChangeAction.INSERT,
+        userPojo
+    );
+
+    byte[] bytes = logDataJsonSerialization.serialize(logData);
+
+    Assert.assertNotNull(bytes);
+    String actualJson = new String(Bytes.subByte(bytes, 18, bytes.length - 18));
+    String expected =
+        "{\"f_boolean\":true,\"f_int\":1,\"f_long\":123456789,\"f_struct\":{\"f_sub_boolean\":false,\"f_sub_int\":2," +
+            "\"f_sub_long\":987654321},\"f_float\":123.45,\"f_double\":123.456789,\"f_date\":\"2022-11-11\"," +
+            "\"f_time\":\"13:23:23.098766545\",\"f_timestamp_local\":\"2022-12-12 13:14:14.987654234\"," +
+            "\"f_timestamp_tz\":\"2022-12-13T13:33:44.98765432Z\",\"f_string\":\"ssss_string\"," +
+            "\"f_uuid\":\"AQ==\",\"f_fixed\":\"MQ==\",\"f_binary\":\"Ag==\",\"f_decimal\":111.111," +
+            "\"f_list\":[123,234,null,345],\"f_list2\":[123,234,0,345],\"f_list3\":[{\"f_sub_boolean\":false," +
+            "\"f_sub_int\":2,\"f_sub_long\":987654321}],\"f_map\":{\"1123\":\"Str_123\",\"1124\":\"Str_123\"," +
+            "\"1125\":\"Str_123\"}}";
+    assertEquals(expected, actualJson);
+
+    LogDataJsonDeserialization<UserPojo> logDataJsonDeserialization =
+        new LogDataJsonDeserialization<>(userSchema, factory, arrayFactory, mapFactory);
+    LogData<UserPojo> result = logDataJsonDeserialization.deserialize(bytes);
+    Assert.assertNotNull(result);
+    check(logData, result);
+  }
+
+  @Test
+  public void testLogDataHeader() throws IOException {
+    LogDataJsonSerialization<UserPojo> logDataJsonSerialization =
+        new LogDataJsonSerialization<>(userSchema, fieldGetterFactory);
+    UserPojo userPojo = createUserPojo();
+    byte[] upstreamId = IdGenerator.generateUpstreamId();
+    LogData<UserPojo> logData = new LogDataUser(
+        FormatVersion.FORMAT_VERSION_V1.asBytes(),
+        upstreamId,
+        -2L,
+        false,
+        ChangeAction.UPDATE_AFTER,
+        userPojo
+    );
+    byte[] bytes = logDataJsonSerialization.serialize(logData);
+
+    assertEquals(logData.getUpstreamId(), LogDataHeader.getUpstreamId(bytes));
+    Assert.assertTrue(LogDataHeader.upstreamIdEquals(bytes, upstreamId));
+    Assert.assertFalse(LogDataHeader.upstreamIdEquals(bytes, IdGenerator.generateUpstreamId()));
+    assertEquals(-2L, LogDataHeader.getEpicNo(bytes));
+    Assert.assertFalse(LogDataHeader.getFlip(bytes));
+    assertEquals(ChangeAction.UPDATE_AFTER.toByteValue(), LogDataHeader.getChangeActionByte(bytes));
+
+    LogDataJsonDeserialization<UserPojo> logDataJsonDeserialization =
+        new LogDataJsonDeserialization<>(userSchema, factory, arrayFactory, mapFactory);
+    assertEquals(
+        logDataJsonDeserialization.deserialize(bytes).getActualValue().toString(),
+        logDataJsonDeserialization.deserializeActualValue(bytes).toString());
+  }
+
+  private UserPojo createUserPojo() {
     UserPojo subUserPojo = new UserPojo();
     subUserPojo.objects = new Object[] {false, 2, 987654321L};
     UserPojo userPojo = new UserPojo();
@@ -82,35 +145,7 @@ public class LogDataJsonSerializationTest extends BaseFormatTest {
           }
         })
     };
-    LogData<UserPojo> logData = new LogDataUser(
-        FormatVersion.FORMAT_VERSION_V1.asBytes(),
-        IdGenerator.generateUpstreamId(),
-        123455L,
-        false,
-        ChangeAction.INSERT,
-        userPojo
-    );
-
-    byte[] bytes = logDataJsonSerialization.serialize(logData);
-
-    Assert.assertNotNull(bytes);
-    String actualJson = new String(Bytes.subByte(bytes, 18, bytes.length - 18));
-    String expected =
-        "{\"f_boolean\":true,\"f_int\":1,\"f_long\":123456789,\"f_struct\":{\"f_sub_boolean\":false,\"f_sub_int\":2," +
-            "\"f_sub_long\":987654321},\"f_float\":123.45,\"f_double\":123.456789,\"f_date\":\"2022-11-11\"," +
-            "\"f_time\":\"13:23:23.098766545\",\"f_timestamp_local\":\"2022-12-12 13:14:14.987654234\"," +
-            "\"f_timestamp_tz\":\"2022-12-13T13:33:44.98765432Z\",\"f_string\":\"ssss_string\"," +
-            "\"f_uuid\":\"AQ==\",\"f_fixed\":\"MQ==\",\"f_binary\":\"Ag==\",\"f_decimal\":111.111," +
-            "\"f_list\":[123,234,null,345],\"f_list2\":[123,234,0,345],\"f_list3\":[{\"f_sub_boolean\":false," +
-            "\"f_sub_int\":2,\"f_sub_long\":987654321}],\"f_map\":{\"1123\":\"Str_123\",\"1124\":\"Str_123\"," +
-            "\"1125\":\"Str_123\"}}";
-    assertEquals(expected, actualJson);
-
-    LogDataJsonDeserialization<UserPojo> logDataJsonDeserialization =
-        new LogDataJsonDeserialization<>(userSchema, factory, arrayFactory, mapFactory);
-    LogData<UserPojo> result = logDataJsonDeserialization.deserialize(bytes);
-    Assert.assertNotNull(result);
-    check(logData, result);
+    return userPojo;
   }
 
   private void check(LogData<UserPojo> expected, LogData<UserPojo> actual) {
@@ -18,16 +18,21 @@
 
 package com.netease.arctic.scan;
 
+import com.netease.arctic.data.DataFileType;
+import com.netease.arctic.data.DataTreeNode;
 import com.netease.arctic.io.DataTestHelpers;
 import com.netease.arctic.io.TableDataTestBase;
 import com.netease.arctic.io.writer.GenericChangeTaskWriter;
 import com.netease.arctic.io.writer.GenericTaskWriters;
 import org.apache.iceberg.AppendFiles;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DataFiles;
 import org.apache.iceberg.data.Record;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.io.WriteResult;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -35,6 +40,10 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
 
 public class KeyedTableScanTest extends TableDataTestBase {
 
@@ -46,8 +55,72 @@ public class KeyedTableScanTest extends TableDataTestBase {
     assertFileCount(6, 2, 1);
   }
 
+  @Test
+  public void testPlanWithExecutor() throws IOException {
+    writeInsertFileIntoBaseStore();
+    assertFileCount(getArcticTable().asKeyedTable().newScan().planWith(null), 6, 2, 1);
+    ExecutorService executorService = Executors.newFixedThreadPool(2);
+    try {
+      assertFileCount(getArcticTable().asKeyedTable().newScan().planWith(executorService), 6, 2, 1);
+    } finally {
+      executorService.shutdown();
+    }
+  }
+
+  @Test
+  public void testDeletesOfAncestorAndDescendantNodes() throws IOException {
+    // equality deletes of root node and all nodes with mask 7 in partition 2022-01-01
+    AppendFiles changeAppend = getArcticTable().asKeyedTable().changeTable().newAppend();
+    changeAppend.appendFile(equalityDeleteFile(DataTreeNode.ROOT));
+    for (int i = 0; i < 8; i++) {
+      changeAppend.appendFile(equalityDeleteFile(DataTreeNode.of(7, i)));
+    }
+    changeAppend.commit();
+
+    int checkedTasks = 0;
+    try (CloseableIterable<CombinedScanTask> combinedScanTasks =
+             getArcticTable().asKeyedTable().newScan().planTasks()) {
+      for (CombinedScanTask combinedScanTask : combinedScanTasks) {
+        for (KeyedTableScanTask task : combinedScanTask.tasks()) {
+          ArcticFileScanTask dataTask = task.dataTasks().get(0);
+          if (!dataTask.file().path().toString().contains("op_time_day=2022-01-01")) {
+            continue;
+          }
+          DataTreeNode node = dataTask.file().node();
+          Set<DataTreeNode> deleteNodes = task.arcticEquityDeletes().stream()
+              .map(delete -> delete.file().node())
+              .filter(deleteNode -> !deleteNode.equals(node))
+              .collect(Collectors.toSet());
+          Assert.assertEquals(3, node.mask());
+          Assert.assertEquals(
+              Sets.newHashSet(DataTreeNode.ROOT, DataTreeNode.of(7, node.index()),
+                  DataTreeNode.of(7, node.index() + 4)),
+              deleteNodes);
+          checkedTasks++;
+        }
+      }
+    }
+    Assert.assertTrue(checkedTasks > 0);
+  }
+
+  private DataFile equalityDeleteFile(DataTreeNode node) {
+    String fileName = String.format("%d-%s-%d-%05d-%d-%s-%05d.parquet", node.getId(),
+        DataFileType.EQ_DELETE_FILE.shortName(), 6L, 0, 0, "0", 0);
+    return DataFiles.builder(getArcticTable().spec())
+        .withPath("/path/to/op_time_day=2022-01-01/" + fileName)
+        .withPartitionPath("op_time_day=2022-01-01")
+        .withFileSizeInBytes(10)
+        .withRecordCount(1)
+        .build();
+  }
+
   private void assertFileCount(int baseFileCnt, int insertFileCnt, int equDeleteFileCnt) throws IOException {
-    CloseableIterable<CombinedScanTask> combinedScanTasks = getArcticTable().asKeyedTable().newScan().planTasks();
+    assertFileCount(getArcticTable().asKeyedTable().newScan(), baseFileCnt, insertFileCnt, equDeleteFileCnt);
+  }
+
+  private void assertFileCount(KeyedTableScan scan, int baseFileCnt, int insertFileCnt, int equDeleteFileCnt)
+      throws IOException {
+    CloseableIterable<CombinedScanTask> combinedScanTasks = scan.planTasks();
     final List<ArcticFileScanTask> allBaseTasks = new ArrayList<>();
     final List<ArcticFileScanTask> allInsertTasks = new ArrayList<>();
     final List<ArcticFileScanTask> allEquDeleteTasks = new ArrayList<>();
@@ -123,4 +123,22 @@ public class TableEntriesScanTest extends TableDataTestBase {
     }
     Assert.assertEquals(2, cnt);
   }
-}
\ No newline at end of file
+
+  @Test
+  public void testScanEntriesWithManifestFilter() {
+    // change table commit 2 insert files, then commit 1 delete file
+    Table changeTable = getArcticTable().asKeyedTable().changeTable();
+    long currentSnapshotId = changeTable.currentSnapshot().snapshotId();
+    TableEntriesScan dataFileScan = TableEntriesScan.builder(changeTable)
+        .includeFileContent(FileContent.DATA)
+        .withManifestFilter(manifest -> manifest.snapshotId() == currentSnapshotId)
+        .planWith(null)
+        .build();
+    int cnt = 0;
+    for (IcebergFileEntry entry : dataFileScan.entries()) {
+      cnt++;
+      Assert.assertEquals(currentSnapshotId, (long) entry.getSnapshotId());
+    }
+    Assert.assertEquals(1, cnt);
+  }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.utils;
+
+import com.netease.arctic.data.file.ContentFileWithSequence;
+import com.netease.arctic.data.file.DataFileWithSequence;
+import com.netease.arctic.data.file.DeleteFileWithSequence;
+import org.apache.iceberg.ContentFile;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DataFiles;
+import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.FileContent;
+import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.FileMetadata;
+import org.apache.iceberg.Metrics;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Types;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+
+public class ContentFileListCodecTest {
+
+  private static final Schema SCHEMA = new Schema(
+      Types.NestedField.required(1, "id", Types.IntegerType.get()),
+      Types.NestedField.required(2, "name", Types.StringType.get()),
+      Types.NestedField.required(3, "op_time", Types.TimestampType.withoutZone())
+  );
+
+  private static final PartitionSpec SPEC = PartitionSpec.builderFor(SCHEMA)
+      .identity("name").day("op_time").build();
+
+  @Test
+  public void testEncodeAndDecode() {
+    Metrics metrics = new Metrics(10L,
+        ImmutableMap.of(1, 100L), ImmutableMap.of(1, 10L), ImmutableMap.of(1, 0L), null,
+        ImmutableMap.of(1, Conversions.toByteBuffer(Types.IntegerType.get(), 1)),
+        ImmutableMap.of(1, Conversions.toByteBuffer(Types.IntegerType.get(), 10)));
+    DataFile dataFile = DataFiles.builder(SPEC)
+        .withPath("/data/name=a/op_time_day=2022-01-01/1.parquet")
+        .withFormat(FileFormat.PARQUET)
+        .withFileSizeInBytes(1024)
+        .withPartitionPath("name=a/op_time_day=2022-01-01")
+        .withMetrics(metrics)
+        .withSplitOffsets(Lists.newArrayList(4L))
+        .build();
+    DataFile dataFileInSamePartition = DataFiles.builder(SPEC)
+        .withPath("/data/name=a/op_time_day=2022-01-01/2.parquet")
+        .withFormat(FileFormat.PARQUET)
+        .withFileSizeInBytes(2048)
+        .withPartitionPath("name=a/op_time_day=2022-01-01")
+        .withRecordCount(20)
+        .build();
+    DeleteFile deleteFile = FileMetadata.deleteFileBuilder(SPEC)
+        .ofPositionDeletes()
+        .withPath("/data/name=b/op_time_day=2022-01-02/3.parquet")
+        .withFormat(FileFormat.PARQUET)
+        .withFileSizeInBytes(512)
+        .withPartitionPath("name=b/op_time_day=2022-01-02")
+        .withRecordCount(5)
+        .build();
+    List<ContentFile<?>> files = Lists.newArrayList(
+        new DataFileWithSequence(dataFile, 3),
+        dataFileInSamePartition,
+        new DeleteFileWithSequence(deleteFile, 4));
+
+    Map<Integer, PartitionSpec> specs = ImmutableMap.of(SPEC.specId(), SPEC);
+    ByteBuffer encoded = ContentFileListCodec.encode(specs, files);
+    List<ContentFile<?>> decoded = ContentFileListCodec.decode(encoded);
+
+    Assert.assertEquals(files.size(), decoded.size());
+    for (int i = 0; i < files.size(); i++) {
+      ContentFile<?> expected = files.get(i);
+      ContentFile<?> actual = decoded.get(i);
+      Assert.assertEquals(expected.content(), actual.content());
+      Assert.assertEquals(expected.path().toString(), actual.path().toString());
+      Assert.assertEquals(expected.format(), actual.format());
+      Assert.assertEquals(expected.specId(), actual.specId());
+      Assert.assertEquals(expected.fileSizeInBytes(), actual.fileSizeInBytes());
+      Assert.assertEquals(expected.recordCount(), actual.recordCount());
+      Assert.assertEquals(expected.columnSizes(), actual.columnSizes());
+      Assert.assertEquals(expected.lowerBounds(), actual.lowerBounds());
+      Assert.assertEquals(expected.upperBounds(), actual.upperBounds());
+      Assert.assertEquals(expected.splitOffsets(), actual.splitOffsets());
+      Assert.assertEquals(SPEC.partitionToPath(expected.partition()), SPEC.partitionToPath(actual.partition()));
+      Assert.assertEquals(expected instanceof ContentFileWithSequence, actual instanceof ContentFileWithSequence);
+      if (expected instanceof ContentFileWithSequence) {
+        Assert.assertEquals(((ContentFileWithSequence<?>) expected).getSequenceNumber(),
+            ((ContentFileWithSequence<?>) actual).getSequenceNumber());
+      }
+    }
+    Assert.assertEquals(FileContent.POSITION_DELETES, decoded.get(2).content());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testEncodeWithoutSpec() {
+    DataFile dataFile = DataFiles.builder(SPEC)
+        .withPath("/data/name=a/op_time_day=2022-01-01/1.parquet")
+        .withFormat(FileFormat.PARQUET)
+        .withFileSizeInBytes(1024)
+        .withPartitionPath("name=a/op_time_day=2022-01-01")
+        .withRecordCount(10)
+        .build();
+    ContentFileListCodec.encode(ImmutableMap.of(), Lists.newArrayList(dataFile));
+  }
+}
@@ -1,11 +1,13 @@
 package com.netease.arctic.utils.map;
 
 import com.google.common.collect.Maps;
+import com.netease.arctic.utils.SerializationUtils;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.openjdk.jol.info.GraphLayout;
 
+import java.io.IOException;
 import java.io.Serializable;
 import java.util.Map;
 import java.util.Random;
@@ -46,6 +48,25 @@ public class TestSimpleSpillableMap {
     map.close();
   }
 
+  @Test
+  public void testSpilledBytes() throws IOException {
+    SimpleSpillableMap<Key, Value> map = new SimpleSpillableMap<>(10 * (keySize + valueSize),
+        null, new DefaultSizeEstimator<>(), new DefaultSizeEstimator<>());
+    long expectSpilledBytes = 0;
+    for (int i = 0; i < 20; i++) {
+      Key key = new Key();
+      Value value = new Value();
+      map.put(key, value);
+      if (i < 10) {
+        Assert.assertEquals(0, map.getSpilledBytes());
+      } else {
+        expectSpilledBytes += SerializationUtils.serialize(key).length + SerializationUtils.serialize(value).length;
+      }
+    }
+    Assert.assertEquals(expectSpilledBytes, map.getSpilledBytes());
+    map.close();
+  }
+
   private SimpleSpillableMap<Key, Value> testMap(long expectMemorySize, int expectKeyCount) {
     SimpleSpillableMap<Key, Value> actualMap = new SimpleSpillableMap<>(expectMemorySize * (keySize + valueSize),
         null, new DefaultSizeEstimator<>(), new DefaultSizeEstimator<>());
@@ -35,6 +35,7 @@ import org.apache.iceberg.flink.data.RowDataUtil;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 
 import java.util.Collections;
+import java.util.function.Function;
 
 import static com.netease.arctic.flink.shuffle.RowKindUtil.convertToFlinkRowKind;
 import static com.netease.arctic.utils.SchemaUtil.changeWriteSchema;
@@ -79,6 +80,20 @@ public class RowDataReaderFunction extends DataIteratorReaderFunction<RowData> {
 
   @Override
   public DataIterator<RowData> createDataIterator(ArcticSplit split) {
+    return createDataIterator(split, this::removeArcticMetaColumn);
+  }
+
+  /**
+   * The batcher copies the first {@link #columnSize} columns into pooled rows, which leaves the arctic meta columns
+   * and filled up identifier fields out without copying each row once more.
+   */
+  @Override
+  protected DataIterator<RowData> createBatchedDataIterator(ArcticSplit split) {
+    return createDataIterator(split, Function.identity());
+  }
+
+  private DataIterator<RowData> createDataIterator(
+      ArcticSplit split, Function<RowData, RowData> arcticMetaColumnRemover) {
     if (split.isSnapshotSplit()) {
 
       FileScanTaskReader<RowData> rowDataReader =
@@ -89,7 +104,7 @@ public class RowDataReaderFunction extends DataIteratorReaderFunction<RowData> {
           rowDataReader,
           split.asSnapshotSplit().insertTasks(),
           rowData -> Long.MIN_VALUE,
-          this::removeArcticMetaColumn);
+          arcticMetaColumnRemover);
     } else if (split.isChangelogSplit()) {
       FileScanTaskReader<RowData> rowDataReader =
           new FlinkArcticDataReader(
@@ -101,7 +116,7 @@ public class RowDataReaderFunction extends DataIteratorReaderFunction<RowData> {
           split.asChangelogSplit().insertTasks(),
           split.asChangelogSplit().deleteTasks(),
           this::arcticFileOffset,
-          this::removeArcticMetaColumn,
+          arcticMetaColumnRemover,
           this::transformRowKind);
     } else {
       throw new IllegalArgumentException(
@@ -93,15 +93,16 @@ public class DataIterator<T> implements CloseableIterator<T> {
       tasks.next();
     }
 
-    updateCurrentIterator();
-    // skip records within the file
-    for (long i = 0; i < startingRecordOffset; ++i) {
-      if (currentFileHasNext() && hasNext()) {
-        next();
-      } else {
+    if (startingRecordOffset == 0) {
+      updateCurrentIterator();
+    } else {
+      // skip records within the file, the reader may skip them without reading, e.g. whole parquet row groups
+      try {
+        currentIterator = fileScanTaskReader.open(tasks.next(), startingRecordOffset);
+      } catch (IllegalStateException e) {
         throw new IllegalStateException(String.format(
             "Invalid starting record offset %d for file %d from FileScanTask List.",
-            startingRecordOffset, startingFileOffset));
+            startingRecordOffset, startingFileOffset), e);
       }
     }
 
@@ -18,6 +18,7 @@
 
 package com.netease.arctic.flink.read.source;
 
+import com.netease.arctic.io.reader.SkippableIterator;
 import org.apache.flink.annotation.Internal;
 import org.apache.iceberg.FileScanTask;
 import org.apache.iceberg.io.CloseableIterator;
@@ -32,4 +33,13 @@ import java.io.Serializable;
 @Internal
 public interface FileScanTaskReader<T> extends Serializable {
   CloseableIterator<T> open(FileScanTask fileScanTask);
+
+  /**
+   * Open the task from the given row, rows before are read and dropped if not overridden.
+   *
+   * @throws IllegalStateException if the task does not have so many rows
+   */
+  default CloseableIterator<T> open(FileScanTask fileScanTask, long startRow) {
+    return SkippableIterator.seek(open(fileScanTask), startRow);
+  }
 }
@@ -18,16 +18,17 @@
 
 package com.netease.arctic.flink.read.source.log.kafka;
 
+import com.netease.arctic.data.ChangeAction;
 import com.netease.arctic.flink.read.internals.KafkaPartitionSplitReader;
 import com.netease.arctic.flink.read.source.log.LogSourceHelper;
 import com.netease.arctic.flink.shuffle.LogRecordV1;
 import com.netease.arctic.flink.table.descriptors.ArcticValidator;
 import com.netease.arctic.log.LogData;
+import com.netease.arctic.log.LogDataHeader;
 import com.netease.arctic.log.LogDataJsonDeserialization;
 import org.apache.flink.connector.base.source.reader.RecordsWithSplitIds;
 import org.apache.flink.connector.kafka.source.reader.deserializer.KafkaRecordDeserializer;
 import org.apache.flink.table.data.RowData;
-import org.apache.flink.types.RowKind;
 import org.apache.iceberg.Schema;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
@@ -42,9 +43,9 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
 
@@ -73,11 +74,11 @@ import static com.netease.arctic.flink.table.descriptors.ArcticValidator.LOG_CON
  *    - handle normal data like {@link KafkaPartitionSplitReader}
  * 2. read data reversely {@link #readReversely} if some topic partitions come into Flip,
  *  i.e. {@link LogSourceHelper#getRetractTopicPartitions()}
- *    - record the offsets that consumer's current positions, stoppingOffsetsFromConsumer.
- *    - reset consumer to the offset: current position - batchSize
- *    - poll data until stoppingOffsetsFromConsumer {@link #pollToDesignatedPositions}
- *    - locate the stop offset in the batch data {@link #findIndexOfOffset(List, long)}, and start from it to read
- *    reversely, stop at {@link LogSourceHelper.EpicRetractingInfo#getRetractStoppingOffset()}
+ *    - the data to retract are between {@link LogSourceHelper.EpicRetractingInfo#getRetractStoppingOffset()}, the
+ *    start offset of the first epic not checkpointed, and the flip.
+ *    - take the last {@link #RETRACT_SIZE} offsets in the range up to the consumer's current position, seek to the
+ *    first one and poll data sequentially until the last one {@link #pollToDesignatedPositions}
+ *    - read the polled data reversely, and seek to the offset before them for the next chunk
  *    - suspend retract {@link LogSourceHelper#suspendRetracting(TopicPartition)} when it comes to 
  *    {@link LogSourceHelper.EpicRetractingInfo#getRetractStoppingOffset()}, else repeat {@link #readReversely} in next
  *    {@link #fetch()}
@@ -113,7 +114,7 @@ public class LogKafkaPartitionSplitReader extends KafkaPartitionSplitReader<RowD
     this.logConsumerAppendOnly = LOG_CONSUMER_CHANGELOG_MODE_APPEND_ONLY.equalsIgnoreCase(logConsumerChangelogMode);
   }
 
-  public static int RETRACT_SIZE = 500;
+  public static int RETRACT_SIZE = 5000;
   public static long RETRACT_FETCH_MAX_ROUND = 5;
 
   @Override
@@ -199,19 +200,13 @@ public class LogKafkaPartitionSplitReader extends KafkaPartitionSplitReader<RowD
               "Can't deserialize arctic log queue message due to it does not contain magic number.");
         }
 
-        LogData<RowData> logData = logDataJsonDeserialization.deserialize(value);
-        if (!logData.getFlip() && filterByRowKind(logData.getActualValue())) {
-          LOG.info(
-              "filter the rowData, because of logConsumerAppendOnly is true, and rowData={}.",
-              logData.getActualValue());
-          continue;
-        }
-
+        // check the header in place, and deserialize the actual value only if the record is emitted
+        LogDataHeader.checkHeader(value);
         final long currentOffset = consumerRecord.offset();
 
-        if (logData.getFlip()) {
+        if (LogDataHeader.getFlip(value)) {
           if (logRetractionEnable) {
-            logReadHelper.startRetracting(tp, logData.getUpstreamId(), logData.getEpicNo(),
+            logReadHelper.startRetracting(tp, LogDataHeader.getUpstreamId(value), LogDataHeader.getEpicNo(value),
                 currentOffset + 1);
             break;
           } else {
@@ -219,6 +214,14 @@ public class LogKafkaPartitionSplitReader extends KafkaPartitionSplitReader<RowD
           }
         }
 
+        if (filterByRowKind(LogDataHeader.getChangeActionByte(value))) {
+          LOG.debug(
+              "filter the rowData, because of logConsumerAppendOnly is true, and tp={}, offset={}.",
+              tp, currentOffset);
+          continue;
+        }
+
+        LogData<RowData> logData = logDataJsonDeserialization.deserialize(value);
         if (logRetractionEnable) {
           logReadHelper.initialEpicStartOffsetIfEmpty(tp, logData.getUpstreamId(), logData.getEpicNo(), currentOffset);
         }
@@ -229,73 +232,96 @@ public class LogKafkaPartitionSplitReader extends KafkaPartitionSplitReader<RowD
   }
 
   /**
-   * read reversely in retracting mode
+   * read reversely in retracting mode.
+   * <p>
+   * The records to retract are in [retractStoppingOffset, flip offset). They are retracted from the end in chunks of
+   * {@link #RETRACT_SIZE} records, and each chunk is polled sequentially from its first offset.
    */
   private KafkaPartitionSplitRecords readReversely(Set<TopicPartition> retractTps) throws IOException {
-    Set<TopicPartition> origin = consumer.assignment();
-    consumer.assign(retractTps);
-
-    // stop in current offsets, the msg in the offset would be read
-    Map<TopicPartition, Long> stoppingOffsetsFromConsumer = new HashMap<>();
+    // pause other partitions rather than unassign them, which would lose their positions
+    Set<TopicPartition> paused = new HashSet<>(consumer.assignment());
+    paused.removeAll(retractTps);
+    consumer.pause(paused);
+
+    // the offset range to retract in this fetch, both inclusive
+    Map<TopicPartition, Long> startingOffsets = new HashMap<>();
+    Map<TopicPartition, Long> stoppingOffsets = new HashMap<>();
+    Set<TopicPartition> finishRetract = new HashSet<>();
     for (TopicPartition tp : retractTps) {
-      // the next poll offset
-      long offset = consumer.position(tp);
-      stoppingOffsetsFromConsumer.put(tp, Math.max(0, offset - 1));
-      long startFrom = Math.max(0, offset - RETRACT_SIZE);
-      LOG.info("consumer reset offset to: {}", startFrom);
-      consumer.seek(tp, startFrom);
+      LogSourceHelper.EpicRetractingInfo retractingInfo = logReadHelper.getRetractInfo(tp);
+      // the consumer position is the last offset left to retract, the same as the starting offset of a split
+      // restored in retracting mode, or after the records polled with the flip.
+      // revertStartingOffset is the offset after flip, so it should minus 2 to get the offset before flip.
+      long stoppingOffset = Math.min(consumer.position(tp), retractingInfo.getRevertStartingOffset() - 2);
+      if (stoppingOffset < retractingInfo.getRetractStoppingOffset()) {
+        finishRetract.add(tp);
+        continue;
+      }
+      long startingOffset = Math.max(retractingInfo.getRetractStoppingOffset(), stoppingOffset - RETRACT_SIZE + 1);
+      LOG.info("retract topic partition {} from offset {} to {}", tp, stoppingOffset, startingOffset);
+      consumer.seek(tp, startingOffset);
+      startingOffsets.put(tp, startingOffset);
+      stoppingOffsets.put(tp, stoppingOffset);
     }
-    Map<TopicPartition, List<ConsumerRecord<byte[], byte[]>>> records =
-        pollToDesignatedPositions(stoppingOffsetsFromConsumer);
 
-    Map<TopicPartition, List<ConsumerRecord<byte[], byte[]>>> logRecords = new HashMap<>();
+    Map<TopicPartition, List<ConsumerRecord<byte[], byte[]>>> records;
+    try {
+      records = pollToDesignatedPositions(stoppingOffsets);
+    } finally {
+      consumer.resume(paused);
+    }
 
-    Set<TopicPartition> finishRetract = new HashSet<>();
-    for (Map.Entry<TopicPartition, List<ConsumerRecord<byte[], byte[]>>> entry : records.entrySet()) {
+    Map<TopicPartition, List<ConsumerRecord<byte[], byte[]>>> logRecords = new HashMap<>();
+    for (Map.Entry<TopicPartition, Long> entry : stoppingOffsets.entrySet()) {
       TopicPartition tp = entry.getKey();
-      List<ConsumerRecord<byte[], byte[]>> consumerRecords = entry.getValue();
+      long stoppingOffset = entry.getValue();
+      List<ConsumerRecord<byte[], byte[]>> consumerRecords = records.get(tp);
+      if (consumerRecords == null) {
+        // retract the same range in next fetch
+        consumer.seek(tp, stoppingOffset);
+        continue;
+      }
 
       List<ConsumerRecord<byte[], byte[]>> recordsForSplit = new ArrayList<>(consumerRecords.size());
       logRecords.put(tp, recordsForSplit);
 
-      long stoppingOffsetFromConsumer = stoppingOffsetsFromConsumer.get(tp);
       LogSourceHelper.EpicRetractingInfo retractingInfo = logReadHelper.getRetractInfo(tp);
-      // stoppingOffsetFromConsumer is the offset queried from consumer, it may be larger than flip offset because 
-      // kafka poll batch records every time.
-      // revertStartingOffset is the offset after flip, so it should minus 2 to get the offset before flip.
-      long stoppingOffset = Math.min(stoppingOffsetFromConsumer, retractingInfo.getRevertStartingOffset() - 2);
-      int startIndex = findIndexOfOffset(consumerRecords, stoppingOffset);
-
-      for (int i = startIndex; i >= 0; i--) {
+      byte[] upstreamId = retractingInfo.getUpstreamId().getBytes();
+      for (int i = consumerRecords.size() - 1; i >= 0; i--) {
         ConsumerRecord<byte[], byte[]> r = consumerRecords.get(i);
-
-        if (r.offset() < retractingInfo.getRetractStoppingOffset()) {
-          finishRetract.add(tp);
-          break;
+        if (r.offset() > stoppingOffset) {
+          continue;
         }
-        LogData<RowData> logData = logDataJsonDeserialization.deserialize(r.value());
-
-        if (!Objects.equals(logData.getUpstreamId(), retractingInfo.getUpstreamId()) ||
-            logData.getEpicNo() <= retractingInfo.getEpicNo()) {
-          LOG.debug("won't retract other job or the success ckp epic data, upstreamId: {}, epicNo: {}",
-              logData.getUpstreamId(), logData.getEpicNo());
+        // only the records to retract are deserialized, the others are filtered by the header
+        byte[] value = r.value();
+        LogDataHeader.checkHeader(value);
+        if (LogDataHeader.getFlip(value) ||
+            !LogDataHeader.upstreamIdEquals(value, upstreamId) ||
+            LogDataHeader.getEpicNo(value) <= retractingInfo.getEpicNo()) {
+          if (LOG.isDebugEnabled()) {
+            LOG.debug("won't retract other job or the success ckp epic data, upstreamId: {}, epicNo: {}",
+                LogDataHeader.getUpstreamId(value), LogDataHeader.getEpicNo(value));
+          }
         } else {
+          LogData<RowData> logData = logDataJsonDeserialization.deserialize(value);
           RowData actualValue = logReadHelper.turnRowKind(logData.getActualValue());
           recordsForSplit.add(LogRecordKafkaWithRetractInfo.ofRetract(
               r, retractingInfo.getRetractStoppingOffset(), retractingInfo.getRevertStartingOffset(),
               retractingInfo.getEpicNo(), logData, actualValue
           ));
         }
+      }
 
-        if (r.offset() == retractingInfo.getRetractStoppingOffset()) {
-          finishRetract.add(tp);
-          break;
-        }
+      long startingOffset = startingOffsets.get(tp);
+      if (startingOffset <= retractingInfo.getRetractStoppingOffset()) {
+        finishRetract.add(tp);
+      } else {
+        // the next chunk ends before this one
+        consumer.seek(tp, startingOffset - 1);
       }
     }
 
     suspendRetracting(finishRetract);
-    consumer.assign(origin);
 
     return new KafkaPartitionSplitRecords(new ConsumerRecords<>(logRecords));
   }
@@ -317,81 +343,56 @@ public class LogKafkaPartitionSplitReader extends KafkaPartitionSplitReader<RowD
   }
 
   /**
-   * @param records should be in order of kafka.
-   * @param offset  Kafka offset
-   * @return the index in records
-   */
-  private int findIndexOfOffset(List<ConsumerRecord<byte[], byte[]>> records, long offset) {
-    int last = records.size() - 1;
-    int idx = Math.min(RETRACT_SIZE, last);
-
-    long diff = -1;
-    while (idx >= 0 && idx <= last && (diff = records.get(idx).offset() - offset) != 0) {
-      if (diff > 0) {
-        idx--;
-      } else {
-        idx++;
-      }
-    }
-    if (diff == 0) {
-      LOG.debug("start index is: {}", idx);
-      return idx;
-    }
-    LOG.info("topic: {}, partition: {}, records' offset range: [{}, {}], need to find: {}",
-        records.get(0).topic(), records.get(0).partition(),
-        records.get(0).offset(), records.get(last).offset(), offset);
-    throw new IllegalStateException("can not find offset in records");
-  }
-
-  /**
+   * Poll records from the current positions of the topic partitions to the stopping offsets.
+   *
    * @param stoppingOffsets the stopping offset is the position which should be read.
-   * @return value in map may contain some useless records. It should be filtered.
+   * @return value in map may contain some useless records after the stopping offsets. It should be filtered.
+   * It returns an empty map if the consumer is woken up.
    */
   private Map<TopicPartition, List<ConsumerRecord<byte[], byte[]>>> pollToDesignatedPositions(
       Map<TopicPartition, Long> stoppingOffsets) {
-    ConsumerRecords<byte[], byte[]> consumerRecords;
-    try {
-      consumerRecords = consumer.poll(Duration.ofMillis(POLL_TIMEOUT));
-    } catch (WakeupException we) {
-      LOG.error("consume reversely error");
-      return Collections.EMPTY_MAP;
-    }
-
     Map<TopicPartition, List<ConsumerRecord<byte[], byte[]>>> recordsForTps = new HashMap<>();
+    Set<TopicPartition> unfinishedTps = new HashSet<>(stoppingOffsets.keySet());
+    Set<TopicPartition> finishedTps = new HashSet<>();
 
-    int unfinished = stoppingOffsets.size();
-    int round = 0;
-
-    Set<TopicPartition> unfinishedTps = new HashSet<>();
-    while (unfinished > 0 && round++ < RETRACT_FETCH_MAX_ROUND) {
-      unfinishedTps.clear();
-
-      for (TopicPartition tp : consumerRecords.partitions()) {
-        recordsForTps.putIfAbsent(tp, new ArrayList<>(RETRACT_SIZE));
-        List<ConsumerRecord<byte[], byte[]>> records = recordsForTps.get(tp);
-
-        records.addAll(consumerRecords.records(tp));
+    int emptyRound = 0;
+    try {
+      while (!unfinishedTps.isEmpty() && emptyRound < RETRACT_FETCH_MAX_ROUND) {
+        ConsumerRecords<byte[], byte[]> consumerRecords;
+        try {
+          consumerRecords = consumer.poll(Duration.ofMillis(POLL_TIMEOUT));
+        } catch (WakeupException we) {
+          LOG.error("consume reversely error");
+          return Collections.emptyMap();
+        }
+        emptyRound = consumerRecords.isEmpty() ? emptyRound + 1 : 0;
 
-        long stoppingOffset = stoppingOffsets.get(tp);
-        if (records.get(records.size() - 1).offset() >= stoppingOffset) {
-          unfinished--;
-          LOG.info("reach the stopping offset. stopping offset: {}, tp: {}. data size:{}", stoppingOffset, tp,
-              records.size());
-        } else {
-          unfinishedTps.add(tp);
+        for (TopicPartition tp : consumerRecords.partitions()) {
+          if (unfinishedTps.contains(tp)) {
+            recordsForTps.computeIfAbsent(tp, k -> new ArrayList<>(RETRACT_SIZE)).addAll(consumerRecords.records(tp));
+          }
         }
+        for (Iterator<TopicPartition> iterator = unfinishedTps.iterator(); iterator.hasNext(); ) {
+          TopicPartition tp = iterator.next();
+          long stoppingOffset = stoppingOffsets.get(tp);
+          if (consumer.position(tp) > stoppingOffset) {
+            LOG.info("reach the stopping offset. stopping offset: {}, tp: {}. data size:{}", stoppingOffset, tp,
+                recordsForTps.getOrDefault(tp, Collections.emptyList()).size());
+            iterator.remove();
+            finishedTps.add(tp);
+          }
+        }
+        // stop fetching the partitions reaching the stopping offsets, and read the others in larger batches
+        consumer.pause(finishedTps);
       }
-      if (unfinished == 0) {
-        break;
-      }
-      consumer.assign(unfinishedTps);
+    } finally {
+      consumer.resume(finishedTps);
     }
 
-    if (unfinished > 0) {
+    if (!unfinishedTps.isEmpty()) {
       LOG.error("can not poll msg to designated positions. unfinished: {}", unfinishedTps);
       for (TopicPartition tp : unfinishedTps) {
-        List<ConsumerRecord<byte[], byte[]>> records = recordsForTps.get(tp);
-        LOG.info("tp: {}, polled offset:{}, stopping offset: {}", tp, records.get(records.size() - 1).offset(),
+        LOG.info("tp: {}, polled position:{}, stopping offset: {}", tp, consumer.position(tp),
             stoppingOffsets.get(tp));
       }
       throw new UnsupportedOperationException("poll msg reversely error");
@@ -406,13 +407,13 @@ public class LogKafkaPartitionSplitReader extends KafkaPartitionSplitReader<RowD
    * is false and
    * {@link com.netease.arctic.flink.table.descriptors.ArcticValidator#ARCTIC_LOG_CONSUMER_CHANGELOG_MODE}
    * is {@link com.netease.arctic.flink.table.descriptors.ArcticValidator#LOG_CONSUMER_CHANGELOG_MODE_APPEND_ONLY} and
-   * rowData.rowKind != INSERT
+   * the change action is not {@link ChangeAction#INSERT}, which is the row kind of the rowData.
    *
-   * @param rowData the judged data
+   * @param changeAction the change action byte in the header of the judged data
    * @return true means should be filtered.
    */
-  boolean filterByRowKind(RowData rowData) {
-    return !logRetractionEnable && logConsumerAppendOnly && !rowData.getRowKind().equals(RowKind.INSERT);
+  boolean filterByRowKind(byte changeAction) {
+    return !logRetractionEnable && logConsumerAppendOnly && changeAction != ChangeAction.INSERT.toByteValue();
   }
 
 }
\ No newline at end of file
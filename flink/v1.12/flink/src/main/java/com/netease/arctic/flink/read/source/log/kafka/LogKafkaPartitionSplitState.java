@@ -83,6 +83,7 @@ public class LogKafkaPartitionSplitState extends KafkaPartitionSplitState {
 
   public void updateState(LogRecordKafkaWithRetractInfo<RowData> record) {
     if (record.isRetracting()) {
+      // records are retracted reversely, the offset before it is the last one left to retract
       setCurrentOffset(record.offset() - 1);
       revertStartOffset = record.getRevertStartingOffset();
       retractStopOffset = record.getRetractStoppingOffset();
@@ -272,6 +272,9 @@ public class ArcticUtils {
   }
 
   public static RowData removeArcticMetaColumn(RowData rowData, int columnSize) {
+    if (rowData.getArity() == columnSize) {
+      return rowData;
+    }
     GenericRowData newRowData = new GenericRowData(rowData.getRowKind(), columnSize);
     if (rowData instanceof GenericRowData) {
       GenericRowData before = (GenericRowData) rowData;
@@ -66,6 +66,7 @@ import static com.netease.arctic.flink.table.descriptors.ArcticValidator.ARCTIC_
 import static com.netease.arctic.flink.table.descriptors.ArcticValidator.ARCTIC_WRITE_MAX_OPEN_FILE_SIZE_DEFAULT;
 import static com.netease.arctic.flink.table.descriptors.ArcticValidator.AUTO_EMIT_LOGSTORE_WATERMARK_GAP;
 import static com.netease.arctic.flink.table.descriptors.ArcticValidator.SUBMIT_EMPTY_SNAPSHOTS;
+import static com.netease.arctic.flink.table.descriptors.ArcticValidator.WRITE_MINI_BATCH_MAX_KEYS;
 import static com.netease.arctic.table.TableProperties.WRITE_DISTRIBUTION_HASH_MODE;
 import static com.netease.arctic.table.TableProperties.WRITE_DISTRIBUTION_HASH_MODE_DEFAULT;
 import static com.netease.arctic.table.TableProperties.WRITE_DISTRIBUTION_MODE;
@@ -325,13 +326,18 @@ public class FlinkSink {
         TableProperties.UPSERT_ENABLED, TableProperties.UPSERT_ENABLED_DEFAULT);
     boolean submitEmptySnapshot = PropertyUtil.propertyAsBoolean(
         arcticTable.properties(), SUBMIT_EMPTY_SNAPSHOTS.key(), SUBMIT_EMPTY_SNAPSHOTS.defaultValue());
+    // changes are folded only when writing to the change store
+    int miniBatchMaxKeys = overwrite ? 0 : PropertyUtil.propertyAsInt(
+        arcticTable.properties(), WRITE_MINI_BATCH_MAX_KEYS.key(), WRITE_MINI_BATCH_MAX_KEYS.defaultValue());
 
     return new ArcticFileWriter(shufflePolicy,
         createTaskWriterFactory(arcticTable, overwrite, flinkSchema),
         minFileSplitCount,
         tableLoader,
         upsert,
-        submitEmptySnapshot);
+        submitEmptySnapshot,
+        flinkSchema,
+        miniBatchMaxKeys);
   }
 
   private static TaskWriterFactory<RowData> createTaskWriterFactory(ArcticTable arcticTable,
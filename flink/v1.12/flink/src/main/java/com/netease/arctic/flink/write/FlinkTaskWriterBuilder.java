@@ -147,12 +147,14 @@ public class FlinkTaskWriterBuilder implements TaskWriterBuilder<RowData> {
         new AdaptHiveFlinkAppenderFactory(schema, flinkSchema, table.properties(), table.spec()) :
         new FlinkAppenderFactory(
             schema, flinkSchema, table.properties(), table.spec());
-    return new FlinkBaseTaskWriter(
+    FlinkBaseTaskWriter writer = new FlinkBaseTaskWriter(
         fileFormat,
         appenderFactory,
         outputFileFactory,
         table.io(), fileSizeBytes, mask,
         selectSchema, flinkSchema, table.spec(), primaryKeySpec);
+    writer.limitOpenWriters(table.properties());
+    return writer;
   }
 
   private TaskWriter<RowData> buildChangeWriter() {
@@ -181,12 +183,14 @@ public class FlinkTaskWriterBuilder implements TaskWriterBuilder<RowData> {
             keyedTable.properties(), keyedTable.spec()) :
         new FlinkAppenderFactory(
         changeSchemaWithMeta, flinkSchemaWithMeta, keyedTable.properties(), keyedTable.spec());
-    return new FlinkChangeTaskWriter(
+    FlinkChangeTaskWriter writer = new FlinkChangeTaskWriter(
         fileFormat,
         appenderFactory,
         outputFileFactory,
         keyedTable.io(), fileSizeBytes, mask,
         selectSchema, flinkSchema, keyedTable.spec(), keyedTable.primaryKeySpec());
+    writer.limitOpenWriters(keyedTable.properties());
+    return writer;
   }
 
   @Override
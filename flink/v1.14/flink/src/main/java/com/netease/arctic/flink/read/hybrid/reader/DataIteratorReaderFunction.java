@@ -38,9 +38,17 @@ public abstract class DataIteratorReaderFunction<T> implements ReaderFunction<T>
 
   protected abstract DataIterator<T> createDataIterator(ArcticSplit split);
 
+  /**
+   * Create the {@link DataIterator} read by {@link DataIteratorBatcher}, which copies each record into a pooled
+   * record of the output type, so columns after the output columns may be kept in the records of this iterator.
+   */
+  protected DataIterator<T> createBatchedDataIterator(ArcticSplit split) {
+    return createDataIterator(split);
+  }
+
   @Override
   public CloseableIterator<RecordsWithSplitIds<ArcticRecordWithOffset<T>>> apply(ArcticSplit split) {
-    DataIterator<T> inputIterator = createDataIterator(split);
+    DataIterator<T> inputIterator = createBatchedDataIterator(split);
     if (inputIterator instanceof ChangeLogDataIterator) {
       ChangeLogDataIterator<T> changelogInputIterator = (ChangeLogDataIterator<T>) inputIterator;
       ChangelogSplit changelogSplit = split.asChangelogSplit();
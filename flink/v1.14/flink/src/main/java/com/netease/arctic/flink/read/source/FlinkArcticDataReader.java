@@ -88,4 +88,9 @@ public class FlinkArcticDataReader extends AbstractAdaptHiveIcebergDataReader<Ro
     CloseableIterable<RowData> rowDataIterable = readData(arcticFileScanTask);
     return fileIO.doAs(rowDataIterable::iterator);
   }
+
+  @Override
+  public CloseableIterator<RowData> open(FileScanTask fileScanTask, long startRow) {
+    return readData(fileScanTask, startRow);
+  }
 }
@@ -151,6 +151,14 @@ public class ArcticValidator extends ConnectorDescriptorValidator {
           " means this job will submit empty snapshots to the table, it is suitable with some valid reasons, e.g." +
           " advance watermark metadata stored in the table(https://github.com/apache/iceberg/pull/5561).");
 
+  public static final ConfigOption<Integer> WRITE_MINI_BATCH_MAX_KEYS = ConfigOptions
+      .key("write.mini-batch.max-keys")
+      .intType()
+      .defaultValue(0)
+      .withDescription("Optional max number of primary keys whose changes are folded in memory before written to" +
+          " the change store of a keyed table, only the net change of a key between two checkpoints is written." +
+          " 0 means changes are written as they come.");
+
   public static final ConfigOption<String> ARCTIC_CATALOG =
       ConfigOptions.key("arctic.catalog")
           .stringType()
@@ -27,6 +27,7 @@ import com.netease.arctic.table.PrimaryKeySpec;
 import org.apache.flink.table.data.GenericRowData;
 import org.apache.flink.table.data.RowData;
 import org.apache.flink.table.data.utils.JoinedRowData;
+import org.apache.flink.table.runtime.typeutils.RowDataSerializer;
 import org.apache.flink.table.types.logical.RowType;
 import org.apache.iceberg.FileFormat;
 import org.apache.iceberg.PartitionSpec;
@@ -42,6 +43,7 @@ import org.apache.iceberg.io.FileAppenderFactory;
 public class FlinkChangeTaskWriter extends ChangeTaskWriter<RowData> {
 
   private final RowDataWrapper wrapper;
+  private final RowDataSerializer serializer;
 
   public FlinkChangeTaskWriter(FileFormat format, FileAppenderFactory<RowData> appenderFactory,
                                OutputFileFactory outputFileFactory, ArcticFileIO io, long targetFileSize,
@@ -50,6 +52,7 @@ public class FlinkChangeTaskWriter extends ChangeTaskWriter<RowData> {
     super(format, appenderFactory, outputFileFactory, io, targetFileSize,
         mask, schema, spec, primaryKeySpec, false);
     this.wrapper = new RowDataWrapper(flinkSchema, schema.asStruct());
+    this.serializer = new RowDataSerializer(flinkSchema);
   }
 
   @Override
@@ -57,6 +60,11 @@ public class FlinkChangeTaskWriter extends ChangeTaskWriter<RowData> {
     return wrapper.wrap(data);
   }
 
+  @Override
+  protected RowData copy(RowData row) {
+    return serializer.copy(row);
+  }
+
   @Override
   protected RowData appendMetaColumns(RowData data, Long fileOffset) {
     return new JoinedRowData(data, GenericRowData.of(fileOffset));
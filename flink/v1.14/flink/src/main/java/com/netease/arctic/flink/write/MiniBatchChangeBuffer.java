@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.netease.arctic.flink.write;
+
+import com.netease.arctic.data.PrimaryKeyData;
+import com.netease.arctic.table.PrimaryKeySpec;
+import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.runtime.typeutils.RowDataSerializer;
+import org.apache.flink.table.types.logical.RowType;
+import org.apache.flink.types.RowKind;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.flink.RowDataWrapper;
+import org.apache.iceberg.io.TaskWriter;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A buffer folding changes of the same primary key between two checkpoints, so that only the net change of a key
+ * is written to the change store.
+ * <p>
+ * The changes of a key are folded into at most one delete and one insert: the first deleted image if any change of
+ * the key is a delete, as the equality delete removes all former rows of the key, and the last inserted image if
+ * the last change of the key is an insert. The delete is written before the insert, so the file offset of the insert
+ * is still greater than the delete. Buffered keys are written when the buffer holds maxKeys keys or before a
+ * checkpoint.
+ */
+public class MiniBatchChangeBuffer {
+
+  private final PrimaryKeyData primaryKey;
+  private final RowDataWrapper wrapper;
+  private final RowDataSerializer serializer;
+  private final int maxKeys;
+  private final Map<PrimaryKeyData, FoldedChange> changes = new LinkedHashMap<>();
+
+  public MiniBatchChangeBuffer(PrimaryKeySpec primaryKeySpec, Schema schema, RowType flinkSchema, int maxKeys) {
+    this.primaryKey = new PrimaryKeyData(primaryKeySpec, schema);
+    this.wrapper = new RowDataWrapper(flinkSchema, schema.asStruct());
+    this.serializer = new RowDataSerializer(flinkSchema);
+    this.maxKeys = maxKeys;
+  }
+
+  /**
+   * Add a change to the buffer, the row is copied so the caller could reuse it.
+   *
+   * @return true if the buffer is full and should be flushed
+   */
+  public boolean add(RowData row) {
+    primaryKey.primaryKey(wrapper.wrap(row));
+    FoldedChange change = changes.get(primaryKey);
+    if (change == null) {
+      change = new FoldedChange();
+      changes.put(primaryKey.copy(), change);
+    }
+    change.fold(serializer.copy(row));
+    return changes.size() >= maxKeys;
+  }
+
+  public void flush(TaskWriter<RowData> writer) throws IOException {
+    for (FoldedChange change : changes.values()) {
+      change.writeTo(writer);
+    }
+    changes.clear();
+  }
+
+  public int size() {
+    return changes.size();
+  }
+
+  private static class FoldedChange {
+    private RowData deleted;
+    private RowData inserted;
+
+    void fold(RowData row) {
+      switch (row.getRowKind()) {
+        case DELETE:
+        case UPDATE_BEFORE:
+          if (deleted == null) {
+            deleted = row;
+          }
+          inserted = null;
+          break;
+        default:
+          inserted = row;
+      }
+    }
+
+    void writeTo(TaskWriter<RowData> writer) throws IOException {
+      if (deleted != null) {
+        writer.write(deleted);
+      }
+      if (inserted != null) {
+        // only an update after following an update before shares its file offset
+        inserted.setRowKind(deleted != null && deleted.getRowKind() == RowKind.UPDATE_BEFORE ?
+            RowKind.UPDATE_AFTER : RowKind.INSERT);
+        writer.write(inserted);
+      }
+    }
+  }
+}
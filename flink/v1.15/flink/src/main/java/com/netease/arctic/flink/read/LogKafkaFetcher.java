@@ -18,9 +18,11 @@
 
 package com.netease.arctic.flink.read;
 
+import com.netease.arctic.data.ChangeAction;
 import com.netease.arctic.flink.read.internals.KafkaFetcher;
 import com.netease.arctic.flink.shuffle.LogRecordV1;
 import com.netease.arctic.log.LogData;
+import com.netease.arctic.log.LogDataHeader;
 import com.netease.arctic.log.LogDataJsonDeserialization;
 import org.apache.flink.api.common.eventtime.WatermarkStrategy;
 import org.apache.flink.metrics.MetricGroup;
@@ -32,7 +34,6 @@ import org.apache.flink.streaming.connectors.kafka.internals.KafkaTopicPartition
 import org.apache.flink.streaming.connectors.kafka.internals.KafkaTopicPartitionState;
 import org.apache.flink.streaming.runtime.tasks.ProcessingTimeService;
 import org.apache.flink.table.data.RowData;
-import org.apache.flink.types.RowKind;
 import org.apache.flink.util.SerializedValue;
 import org.apache.iceberg.Schema;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
@@ -133,22 +134,23 @@ public class LogKafkaFetcher extends KafkaFetcher<RowData> {
         throw new UnsupportedOperationException(
             "Can't deserialize arctic log queue message due to it does not contain magic number.");
       } else {
-        // new format version
-        LogData<RowData> logData = logDataJsonDeserialization.deserialize(record.value());
-        if (!logData.getFlip() && filterByRowKind(logData.getActualValue())) {
-          LOG.info(
-              "filter the rowData, because of logConsumerAppendOnly is true, and rowData={}.",
-              logData.getActualValue());
-          continue;
-        }
+        // new format version, check the header before deserializing the actual value
+        LogDataHeader.checkHeader(value);
         final int partition = record.partition();
         final long actualRowOffset = record.offset();
-        if (filterBuffer(logData, partition, actualRowOffset)) {
+        if (!LogDataHeader.getFlip(value) && filterByRowKind(LogDataHeader.getChangeActionByte(value))) {
+          LOG.debug(
+              "filter the rowData, because of logConsumerAppendOnly is true, and partition={}, offset={}.",
+              partition, actualRowOffset);
+          continue;
+        }
+        if (filterBuffer(LogDataHeader.getUpstreamId(value), partition, actualRowOffset)) {
           synchronized (checkpointLock) {
             partitionState.setOffset(actualRowOffset);
           }
           continue;
         }
+        LogData<RowData> logData = logDataJsonDeserialization.deserialize(value);
         processMsg(record, logData, partitionState);
       }
     }
@@ -160,21 +162,19 @@ public class LogKafkaFetcher extends KafkaFetcher<RowData> {
    * is false and
    * {@link com.netease.arctic.flink.table.descriptors.ArcticValidator#ARCTIC_LOG_CONSUMER_CHANGELOG_MODE}
    * is {@link com.netease.arctic.flink.table.descriptors.ArcticValidator#LOG_CONSUMER_CHANGELOG_MODE_APPEND_ONLY} and
-   * rowData.rowKind != INSERT
+   * the change action is not {@link ChangeAction#INSERT}, which is the row kind of the rowData.
    *
-   * @param rowData the judged data
+   * @param changeAction the change action byte in the header of the judged data
    * @return true means should be filtered.
    */
-  boolean filterByRowKind(RowData rowData) {
-    return !logRetractionEnable && logConsumerAppendOnly && !rowData.getRowKind().equals(RowKind.INSERT);
+  boolean filterByRowKind(byte changeAction) {
+    return !logRetractionEnable && logConsumerAppendOnly && changeAction != ChangeAction.INSERT.toByteValue();
   }
 
   /**
    * Should filter the records that has been fetched in the buffer when the {@link LogData#getFlip()} is true.
    */
-  private boolean filterBuffer(LogData<RowData> logData, int partition, long actualRowOffset) {
-    final String upstreamId = logData.getUpstreamId();
-
+  private boolean filterBuffer(String upstreamId, int partition, long actualRowOffset) {
     boolean cleanBufferAction = logReadHelper.getCleanBufferAction(upstreamId, partition);
     if (!cleanBufferAction) {
       return false;
@@ -183,7 +183,7 @@ public class LogKafkaFetcher extends KafkaFetcher<RowData> {
     boolean isPartitionRetracting = logReadHelper.isJobRetractingRightNow(upstreamId, partition);
     if (isPartitionRetracting) {
       long retractingOffset =
-          logReadHelper.queryPartitionRetractingOffset(logData.getUpstreamId(), partition);
+          logReadHelper.queryPartitionRetractingOffset(upstreamId, partition);
       if (actualRowOffset <= retractingOffset) {
         LOG.info("The fetcher has finished to clean buffer records.");
         logReadHelper.cleanBufferAction(upstreamId, partition, false);
@@ -128,7 +128,8 @@ public class LogSourceHelper implements Serializable {
 
   public void suspendRetracting(TopicPartition tp) {
     EpicRetractingInfo info = retractingInfo.remove(tp);
-    clearEpicStartOffsetsBeforeOrEqual(tp, info.upstreamId, info.epicNo);
+    // the data of epics after epicNo have been retracted, and would be written again from the revert offset
+    clearEpicStartOffsets(tp, info.upstreamId);
   }
 
   public void suspendRetracting(Collection<TopicPartition> tps) {
@@ -155,21 +156,56 @@ public class LogSourceHelper implements Serializable {
     }
   }
 
+  /**
+   * clear the epic start offsets of the upstream job in the topicPartition.
+   */
+  private void clearEpicStartOffsets(TopicPartition tp, String upstreamId) {
+    String prefix = epicPrefix(tp, upstreamId);
+    upstreamEpicStartOffsets.subMap(prefix, true, prefix + Character.MAX_VALUE, true).clear();
+  }
+
   /**
    * @param revertStartingOffset the offset where job revert to normal read starts from. It should skip the flip which
    *                             has been read.
    */
   public void startRetracting(TopicPartition tp, String upstreamId, long epicNo, long revertStartingOffset) {
-    String key = combineTopicPartitionAndUpstreamIdAndEpicNo(tp, upstreamId, epicNo);
-    if (!upstreamEpicStartOffsets.containsKey(key)) {
-      // data have not been read, so that it's unnecessary to retract
+    Long retractStoppingOffset = findFirstEpicStartOffsetAfter(tp, upstreamId, epicNo);
+    if (retractStoppingOffset == null) {
+      // data of the epics not checkpointed have not been read, so that it's unnecessary to retract
       return;
     }
-    long retractStoppingOffset = upstreamEpicStartOffsets.get(key);
 
     retractingInfo.put(tp, new EpicRetractingInfo(epicNo, upstreamId, retractStoppingOffset, revertStartingOffset));
   }
 
+  /**
+   * Find the start offset of the epics after the epicNo in the topicPartition, data before it would not be retracted.
+   *
+   * @return the smallest start offset of those epics, null if none of them has been read
+   */
+  private Long findFirstEpicStartOffsetAfter(TopicPartition tp, String upstreamId, long epicNo) {
+    String prefix = epicPrefix(tp, upstreamId);
+    Long startOffset = null;
+    for (Map.Entry<String, Long> entry :
+        upstreamEpicStartOffsets.subMap(prefix, true, prefix + Character.MAX_VALUE, true).entrySet()) {
+      long epic;
+      try {
+        epic = Long.parseLong(entry.getKey().substring(prefix.length()));
+      } catch (NumberFormatException e) {
+        // another upstream job id starts with this one
+        continue;
+      }
+      if (epic > epicNo && (startOffset == null || entry.getValue() < startOffset)) {
+        startOffset = entry.getValue();
+      }
+    }
+    return startOffset;
+  }
+
+  private String epicPrefix(TopicPartition tp, String upstreamId) {
+    return combineTopicPartitionAndUpstreamId(tp, upstreamId) + "_";
+  }
+
   public void initialEpicStartOffsetIfEmpty(TopicPartition tp, String upstreamId, long epicNo, long startOffset) {
     String key = combineTopicPartitionAndUpstreamIdAndEpicNo(tp, upstreamId, epicNo);
     upstreamEpicStartOffsets.putIfAbsent(key, startOffset);
@@ -24,6 +24,7 @@ import com.netease.arctic.flink.shuffle.ShuffleRulePolicy;
 import com.netease.arctic.flink.table.ArcticTableLoader;
 import com.netease.arctic.flink.util.ArcticUtils;
 import com.netease.arctic.table.ArcticTable;
+import com.netease.arctic.table.KeyedTable;
 import org.apache.commons.lang.ArrayUtils;
 import org.apache.flink.annotation.VisibleForTesting;
 import org.apache.flink.api.common.state.ListState;
@@ -36,11 +37,15 @@ import org.apache.flink.streaming.api.operators.BoundedOneInput;
 import org.apache.flink.streaming.api.operators.OneInputStreamOperator;
 import org.apache.flink.streaming.runtime.streamrecord.StreamRecord;
 import org.apache.flink.table.data.RowData;
+import org.apache.flink.table.types.logical.RowType;
 import org.apache.flink.types.RowKind;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.flink.FlinkSchemaUtil;
 import org.apache.iceberg.flink.sink.TaskWriterFactory;
 import org.apache.iceberg.io.TaskWriter;
 import org.apache.iceberg.io.WriteResult;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.types.TypeUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -65,6 +70,8 @@ public class ArcticFileWriter extends AbstractStreamOperator<WriteResult>
   private final ArcticTableLoader tableLoader;
   private final boolean upsert;
   private final boolean submitEmptySnapshot;
+  private final RowType flinkSchema;
+  private final int miniBatchMaxKeys;
 
   private transient org.apache.iceberg.io.TaskWriter<RowData> writer;
   private transient int subTaskId;
@@ -78,6 +85,7 @@ public class ArcticFileWriter extends AbstractStreamOperator<WriteResult>
    * if Arctic's table is KERBEROS enabled. It will cause ugi relevant exception when deploy to yarn cluster.
    */
   private transient ArcticTable table;
+  private transient MiniBatchChangeBuffer changeBuffer;
 
   public ArcticFileWriter(
       ShuffleRulePolicy<RowData, ShuffleKey> shuffleRule,
@@ -86,14 +94,28 @@ public class ArcticFileWriter extends AbstractStreamOperator<WriteResult>
       ArcticTableLoader tableLoader,
       boolean upsert,
       boolean submitEmptySnapshot) {
+    this(shuffleRule, taskWriterFactory, minFileSplitCount, tableLoader, upsert, submitEmptySnapshot, null, 0);
+  }
+
+  public ArcticFileWriter(
+      ShuffleRulePolicy<RowData, ShuffleKey> shuffleRule,
+      TaskWriterFactory<RowData> taskWriterFactory,
+      int minFileSplitCount,
+      ArcticTableLoader tableLoader,
+      boolean upsert,
+      boolean submitEmptySnapshot,
+      RowType flinkSchema,
+      int miniBatchMaxKeys) {
     this.shuffleRule = shuffleRule;
     this.taskWriterFactory = taskWriterFactory;
     this.minFileSplitCount = minFileSplitCount;
     this.tableLoader = tableLoader;
     this.upsert = upsert;
     this.submitEmptySnapshot = submitEmptySnapshot;
-    LOG.info("ArcticFileWriter is created with minFileSplitCount: {}, upsert: {}, submitEmptySnapshot: {}",
-        minFileSplitCount, upsert, submitEmptySnapshot);
+    this.flinkSchema = flinkSchema;
+    this.miniBatchMaxKeys = miniBatchMaxKeys;
+    LOG.info("ArcticFileWriter is created with minFileSplitCount: {}, upsert: {}, submitEmptySnapshot: {}, " +
+        "miniBatchMaxKeys: {}", minFileSplitCount, upsert, submitEmptySnapshot, miniBatchMaxKeys);
   }
 
   @Override
@@ -106,6 +128,13 @@ public class ArcticFileWriter extends AbstractStreamOperator<WriteResult>
     initTaskWriterFactory(mask);
 
     this.writer = table.io().doAs(taskWriterFactory::create);
+    if (miniBatchMaxKeys > 0 && table.isKeyedTable()) {
+      KeyedTable keyedTable = table.asKeyedTable();
+      Schema schema = TypeUtil.reassignIds(
+          FlinkSchemaUtil.convert(FlinkSchemaUtil.toSchema(flinkSchema)), keyedTable.baseTable().schema());
+      this.changeBuffer = new MiniBatchChangeBuffer(keyedTable.primaryKeySpec(), schema, flinkSchema,
+          miniBatchMaxKeys);
+    }
   }
 
   @Override
@@ -190,6 +219,9 @@ public class ArcticFileWriter extends AbstractStreamOperator<WriteResult>
     // For bounded stream, it may don't enable the checkpoint mechanism so we'd better to emit the remaining
     // completed files to downstream before closing the writer so that we won't miss any of them.
     if (writer != null) {
+      if (changeBuffer != null) {
+        changeBuffer.flush(writer);
+      }
       emit(writer.complete());
     }
   }
@@ -204,15 +236,23 @@ public class ArcticFileWriter extends AbstractStreamOperator<WriteResult>
 
       if (upsert && RowKind.INSERT.equals(row.getRowKind())) {
         row.setRowKind(RowKind.DELETE);
-        writer.write(row);
+        write(row);
         row.setRowKind(RowKind.INSERT);
       }
 
-      writer.write(row);
+      write(row);
       return null;
     });
   }
 
+  private void write(RowData row) throws IOException {
+    if (changeBuffer == null) {
+      writer.write(row);
+    } else if (changeBuffer.add(row)) {
+      changeBuffer.flush(writer);
+    }
+  }
+
   @Override
   public void close() throws Exception {
     super.close();
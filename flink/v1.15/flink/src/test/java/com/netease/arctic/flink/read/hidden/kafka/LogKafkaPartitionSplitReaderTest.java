@@ -21,7 +21,9 @@ package com.netease.arctic.flink.read.hidden.kafka;
 import com.netease.arctic.flink.kafka.testutils.KafkaConfigGenerate;
 import com.netease.arctic.flink.kafka.testutils.KafkaContainerTest;
 import com.netease.arctic.flink.read.source.log.LogSourceHelper;
+import com.netease.arctic.flink.read.source.log.kafka.LogKafkaPartitionSplit;
 import com.netease.arctic.flink.read.source.log.kafka.LogKafkaPartitionSplitReader;
+import com.netease.arctic.flink.read.source.log.kafka.LogKafkaPartitionSplitState;
 import com.netease.arctic.flink.read.source.log.kafka.LogRecordWithRetractInfo;
 import com.netease.arctic.flink.shuffle.LogRecordV1;
 import com.netease.arctic.log.FormatVersion;
@@ -53,13 +55,16 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static com.netease.arctic.flink.kafka.testutils.KafkaContainerTest.KAFKA_CONTAINER;
 import static com.netease.arctic.flink.kafka.testutils.KafkaContainerTest.readRecordsBytes;
@@ -68,6 +73,7 @@ import static com.netease.arctic.flink.write.hidden.kafka.BaseLogTest.createLogD
 import static com.netease.arctic.flink.write.hidden.kafka.BaseLogTest.userSchema;
 import static com.netease.arctic.flink.write.hidden.kafka.HiddenLogOperatorsTest.createRowData;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 public class LogKafkaPartitionSplitReaderTest {
 
@@ -110,6 +116,94 @@ public class LogKafkaPartitionSplitReaderTest {
     assignSplitsAndFetchUntilFinish(reader, 1, 20);
   }
 
+  @Test
+  public void testRetractInChunks() throws IOException {
+    int retractSize = LogKafkaPartitionSplitReader.RETRACT_SIZE;
+    LogKafkaPartitionSplitReader.RETRACT_SIZE = 2;
+    try {
+      LogKafkaPartitionSplitReader reader = createReader(new Properties());
+      assignSplits(reader, splitsByOwners.get(0));
+      List<LogRecordWithRetractInfo<RowData>> consumed = fetchUntilFinished(reader);
+
+      // |0 1 2 3 4 5 6 7 8 9 Flip 10 11 12 13 14|, 5-9 are retracted in 3 chunks
+      List<Long> retracted = consumed.stream()
+          .filter(LogRecordWithRetractInfo::isRetracting)
+          .map(ConsumerRecord::offset)
+          .collect(Collectors.toList());
+      assertEquals(Arrays.asList(9L, 8L, 7L, 6L, 5L), retracted);
+      assertEquals(20, consumed.size());
+    } finally {
+      LogKafkaPartitionSplitReader.RETRACT_SIZE = retractSize;
+    }
+  }
+
+  @Test
+  public void testRestoreRetractingSplit() throws IOException {
+    int retractSize = LogKafkaPartitionSplitReader.RETRACT_SIZE;
+    LogKafkaPartitionSplitReader.RETRACT_SIZE = 2;
+    try {
+      // |0 1 2 3 4 5 6 7 8 9 Flip 10 11 12 13 14|, checkpoint after 9 and 8 are retracted
+      KafkaPartitionSplit split = splitsByOwners.get(0).values().iterator().next();
+      LogKafkaPartitionSplitState splitState = new LogKafkaPartitionSplitState(split);
+      LogKafkaPartitionSplitReader reader = createReader(new Properties(), new LogSourceHelper());
+      assignSplits(reader, splitsByOwners.get(0));
+      List<Long> retracted = new ArrayList<>();
+      while (retracted.size() < 2) {
+        RecordsWithSplitIds<ConsumerRecord<byte[], byte[]>> recordsBySplitIds = reader.fetch();
+        while (recordsBySplitIds.nextSplit() != null) {
+          ConsumerRecord<byte[], byte[]> record;
+          while ((record = recordsBySplitIds.nextRecordFromSplit()) != null) {
+            LogRecordWithRetractInfo<RowData> logRecord = (LogRecordWithRetractInfo<RowData>) record;
+            splitState.updateState(logRecord);
+            if (logRecord.isRetracting()) {
+              retracted.add(logRecord.offset());
+            }
+          }
+        }
+      }
+      assertEquals(Arrays.asList(9L, 8L), retracted);
+      LogKafkaPartitionSplit checkpointed = splitState.toLogKafkaPartitionSplit();
+      assertTrue(checkpointed.isRetracting());
+      // the last offset left to retract, the same as the state written by former versions
+      assertEquals(7L, checkpointed.getStartingOffset());
+
+      LogSourceHelper restoredHelper = new LogSourceHelper();
+      restoredHelper.initializedState(checkpointed);
+      LogKafkaPartitionSplitReader restoredReader = createReader(new Properties(), restoredHelper);
+      assignSplits(restoredReader, Collections.singletonMap(checkpointed.splitId(), checkpointed));
+      List<LogRecordWithRetractInfo<RowData>> consumed = fetchUntilFinished(restoredReader);
+
+      assertEquals(Arrays.asList(7L, 6L, 5L), consumed.stream()
+          .filter(LogRecordWithRetractInfo::isRetracting)
+          .map(ConsumerRecord::offset)
+          .collect(Collectors.toList()));
+      // read normally from the record after the flip
+      assertEquals(Arrays.asList(11L, 12L, 13L, 14L, 15L), consumed.stream()
+          .filter(record -> !record.isRetracting())
+          .map(ConsumerRecord::offset)
+          .collect(Collectors.toList()));
+    } finally {
+      LogKafkaPartitionSplitReader.RETRACT_SIZE = retractSize;
+    }
+  }
+
+  private List<LogRecordWithRetractInfo<RowData>> fetchUntilFinished(LogKafkaPartitionSplitReader reader)
+      throws IOException {
+    List<LogRecordWithRetractInfo<RowData>> consumed = new ArrayList<>();
+    Set<String> finishedSplits = new HashSet<>();
+    while (finishedSplits.isEmpty()) {
+      RecordsWithSplitIds<ConsumerRecord<byte[], byte[]>> recordsBySplitIds = reader.fetch();
+      while (recordsBySplitIds.nextSplit() != null) {
+        ConsumerRecord<byte[], byte[]> record;
+        while ((record = recordsBySplitIds.nextRecordFromSplit()) != null) {
+          consumed.add((LogRecordWithRetractInfo<RowData>) record);
+        }
+      }
+      finishedSplits.addAll(recordsBySplitIds.finishedSplits());
+    }
+    return consumed;
+  }
+
   private ProducerRecord<byte[], byte[]> createLogData(String topic, int i, int epicNo, boolean flip,
                                                        LogDataJsonSerialization<RowData> serialization) {
     RowData rowData = createRowData(i);
@@ -249,6 +343,11 @@ public class LogKafkaPartitionSplitReaderTest {
 
   private LogKafkaPartitionSplitReader createReader(
       Properties additionalProperties) {
+    return createReader(additionalProperties, new LogSourceHelper());
+  }
+
+  private LogKafkaPartitionSplitReader createReader(
+      Properties additionalProperties, LogSourceHelper logReadHelper) {
     Properties props = KafkaConfigGenerate.getPropertiesWithByteArray();
     props.put("group.id", "test");
     props.put("auto.offset.reset", "earliest");
@@ -262,7 +361,7 @@ public class LogKafkaPartitionSplitReaderTest {
         new KafkaSourceReaderMetrics(sourceReaderMetricGroup),
         userSchema,
         true,
-        new LogSourceHelper(),
+        logReadHelper,
         "all-kinds"
     );
   }
@@ -31,6 +31,7 @@ import com.netease.arctic.scan.BasicArcticFileScanTask;
 import com.netease.arctic.scan.TableEntriesScan;
 import com.netease.arctic.table.KeyedTable;
 import org.apache.flink.configuration.Configuration;
+import org.apache.flink.connector.base.source.reader.RecordsWithSplitIds;
 import org.apache.flink.table.data.GenericRowData;
 import org.apache.flink.table.data.RowData;
 import org.apache.flink.table.data.StringData;
@@ -137,6 +138,47 @@ public class RowDataReaderFunctionTest extends ContinuousSplitPlannerImplTest {
 
   }
 
+  @Test
+  public void testReadBatches() throws IOException {
+    List<ArcticSplit> arcticSplits = FlinkSplitPlanner.planFullTable(testKeyedTable, new AtomicInteger(0));
+
+    RowDataReaderFunction rowDataReaderFunction = new RowDataReaderFunction(
+        new Configuration(),
+        testKeyedTable.schema(),
+        testKeyedTable.schema(),
+        testKeyedTable.primaryKeySpec(),
+        null,
+        true,
+        testKeyedTable.io()
+    );
+
+    List<RowData> actual = new ArrayList<>();
+    for (ArcticSplit split : arcticSplits) {
+      try (CloseableIterator<RecordsWithSplitIds<ArcticRecordWithOffset<RowData>>> batches =
+               rowDataReaderFunction.apply(split)) {
+        while (batches.hasNext()) {
+          RecordsWithSplitIds<ArcticRecordWithOffset<RowData>> batch = batches.next();
+          while (batch.nextSplit() != null) {
+            ArcticRecordWithOffset<RowData> record;
+            while ((record = batch.nextRecordFromSplit()) != null) {
+              // records are pooled, copy them before recycled
+              GenericRowData rowData = (GenericRowData) record.record();
+              Assert.assertEquals(testKeyedTable.schema().columns().size(), rowData.getArity());
+              GenericRowData copy = new GenericRowData(rowData.getRowKind(), rowData.getArity());
+              for (int i = 0; i < rowData.getArity(); i++) {
+                copy.setField(i, rowData.getField(i));
+              }
+              actual.add(copy);
+            }
+          }
+          batch.recycle();
+        }
+      }
+    }
+
+    assertArrayEquals(excepts(), actual);
+  }
+
   @Test
   public void testReadNodesUpMoved() throws IOException {
     writeUpdateWithSpecifiedMaskOne();
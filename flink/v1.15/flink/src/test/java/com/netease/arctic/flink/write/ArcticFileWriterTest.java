@@ -28,6 +28,7 @@ import org.apache.flink.streaming.util.OneInputStreamOperatorTestHarness;
 import org.apache.flink.table.data.RowData;
 import org.apache.flink.table.types.logical.RowType;
 import org.apache.flink.types.RowKind;
+import org.apache.iceberg.DataFile;
 import org.apache.iceberg.FileFormat;
 import org.apache.iceberg.SerializableTable;
 import org.apache.iceberg.Table;
@@ -40,9 +41,11 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 
+import java.util.Arrays;
 import java.util.List;
 
 import static com.netease.arctic.flink.table.descriptors.ArcticValidator.SUBMIT_EMPTY_SNAPSHOTS;
+import static com.netease.arctic.flink.table.descriptors.ArcticValidator.WRITE_MINI_BATCH_MAX_KEYS;
 
 @RunWith(Parameterized.class)
 public class ArcticFileWriterTest extends FlinkTestBase {
@@ -141,6 +144,39 @@ public class ArcticFileWriterTest extends FlinkTestBase {
     }
   }
 
+  @Test
+  public void testMiniBatchWrite() throws Exception {
+    tableLoader = ArcticTableLoader.of(PK_TABLE_ID, catalogBuilder);
+    tableLoader.open();
+    ArcticTable arcticTable = tableLoader.loadArcticTable();
+    arcticTable.properties().put(SUBMIT_EMPTY_SNAPSHOTS.key(), String.valueOf(submitEmptySnapshots));
+    arcticTable.properties().put(WRITE_MINI_BATCH_MAX_KEYS.key(), "10");
+    ArcticFileWriter streamWriter = FlinkSink.createFileWriter(arcticTable,
+        null,
+        false,
+        (RowType) FLINK_SCHEMA.toRowDataType().getLogicalType(),
+        tableLoader);
+    try (
+        OneInputStreamOperatorTestHarness<RowData, WriteResult> testHarness = new OneInputStreamOperatorInternTest<>(
+            streamWriter, 1, 1, 0, null, new TestGlobalAggregateManager())) {
+      testHarness.setup();
+      testHarness.open();
+
+      testHarness.processElement(createRowData(1, "hello", "2020-10-11T10:10:11.0"), 1);
+      for (int i = 0; i < 10; i++) {
+        testHarness.processElement(createRowData(1, "hello", "2020-10-11T10:10:11.0", RowKind.UPDATE_BEFORE), 1);
+        testHarness.processElement(createRowData(1, "hello" + i, "2020-10-11T10:10:11.0", RowKind.UPDATE_AFTER), 1);
+      }
+      testHarness.processElement(createRowData(2, "hello", "2020-10-11T10:10:11.0"), 1);
+      testHarness.processElement(createRowData(2, "hello", "2020-10-11T10:10:11.0", RowKind.DELETE), 1);
+
+      testHarness.prepareSnapshotPreBarrier(1L);
+      WriteResult result = WriteResult.builder().addAll(testHarness.extractOutputValues()).build();
+      // key 1 is folded to one update, and key 2 to one delete
+      Assert.assertEquals(3, Arrays.stream(result.dataFiles()).mapToLong(DataFile::recordCount).sum());
+    }
+  }
+
   @Test
   public void testFailover() throws Exception {
     tableLoader = ArcticTableLoader.of(PK_TABLE_ID, catalogBuilder);
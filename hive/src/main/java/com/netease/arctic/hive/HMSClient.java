@@ -92,6 +92,12 @@ public interface HMSClient {
   boolean dropPartition(String dbName, String tblName, List<String> partVals,
                         PartitionDropOptions options) throws TException;
 
+  void dropPartitions(String dbName, String tblName, List<String> partNames,
+                      PartitionDropOptions options) throws TException;
+
+  List<Partition> getPartitionsByNames(String dbName, String tblName, List<String> partNames)
+      throws NoSuchObjectException, MetaException, TException;
+
   int addPartitions(List<Partition> partitions)
       throws InvalidObjectException, AlreadyExistsException, MetaException, TException;
 
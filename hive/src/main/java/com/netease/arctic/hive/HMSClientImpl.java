@@ -20,18 +20,39 @@ package com.netease.arctic.hive;
 
 import org.apache.hadoop.hive.metastore.HiveMetaStoreClient;
 import org.apache.hadoop.hive.metastore.PartitionDropOptions;
+import org.apache.hadoop.hive.metastore.Warehouse;
 import org.apache.hadoop.hive.metastore.api.Database;
+import org.apache.hadoop.hive.metastore.api.DropPartitionsRequest;
 import org.apache.hadoop.hive.metastore.api.EnvironmentContext;
 import org.apache.hadoop.hive.metastore.api.MetaException;
+import org.apache.hadoop.hive.metastore.api.NoSuchObjectException;
 import org.apache.hadoop.hive.metastore.api.Partition;
+import org.apache.hadoop.hive.metastore.api.RequestPartsSpec;
 import org.apache.hadoop.hive.metastore.api.Table;
+import org.apache.hadoop.hive.metastore.api.ThriftHiveMetastore;
+import org.apache.iceberg.common.DynFields;
 import org.apache.iceberg.common.DynMethods;
+import org.apache.thrift.TApplicationException;
 import org.apache.thrift.TException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.List;
 
 public class HMSClientImpl implements HMSClient {
 
+  private static final Logger LOG = LoggerFactory.getLogger(HMSClientImpl.class);
+
+  /**
+   * {@link HiveMetaStoreClient} only supports dropping partitions in batch by serialized expressions, which needs
+   * hive-exec on both sides, so the thrift client is used directly to drop partitions by names. Partitions are
+   * dropped one by one if the hidden field does not exist in this Hive version.
+   */
+  private static final DynFields.UnboundField<ThriftHiveMetastore.Iface> THRIFT_CLIENT = DynFields.builder()
+      .hiddenImpl(HiveMetaStoreClient.class, "client")
+      .defaultAlwaysNull()
+      .build();
+
   private HiveMetaStoreClient client;
 
 
@@ -133,6 +154,59 @@ public class HMSClientImpl implements HMSClient {
     return getClient().dropPartition(dbName, tblName, partVals, options);
   }
 
+  @Override
+  public void dropPartitions(String dbName, String tblName,
+                             List<String> partNames, PartitionDropOptions options) throws TException {
+    DropPartitionsRequest request = new DropPartitionsRequest(dbName, tblName, RequestPartsSpec.names(partNames));
+    request.setDeleteData(options.deleteData);
+    request.setIfExists(options.ifExists);
+    request.setNeedResult(options.returnResults);
+    if (options.purgeData) {
+      EnvironmentContext environmentContext = new EnvironmentContext();
+      environmentContext.putToProperties("ifPurge", "TRUE");
+      request.setEnvironmentContext(environmentContext);
+    }
+    ThriftHiveMetastore.Iface thriftClient = thriftClient();
+    if (thriftClient != null) {
+      try {
+        thriftClient.drop_partitions_req(request);
+        return;
+      } catch (TApplicationException e) {
+        if (e.getType() != TApplicationException.UNKNOWN_METHOD) {
+          throw e;
+        }
+        LOG.warn("HMS does not support drop_partitions_req, drop partitions one by one", e);
+      }
+    }
+    dropPartitionsOneByOne(dbName, tblName, partNames, options);
+  }
+
+  /**
+   * The thrift client of {@link HiveMetaStoreClient}, null if not accessible.
+   */
+  protected ThriftHiveMetastore.Iface thriftClient() {
+    return THRIFT_CLIENT.isAlwaysNull() ? null : THRIFT_CLIENT.get(getClient());
+  }
+
+  private void dropPartitionsOneByOne(String dbName, String tblName,
+                                      List<String> partNames, PartitionDropOptions options) throws TException {
+    for (String partName : partNames) {
+      try {
+        getClient().dropPartition(dbName, tblName, Warehouse.getPartValuesFromPartName(partName), options);
+      } catch (NoSuchObjectException e) {
+        if (!options.ifExists) {
+          throw e;
+        }
+      }
+    }
+  }
+
+  @Override
+  public List<Partition> getPartitionsByNames(String dbName, String tblName, List<String> partNames)
+      throws TException {
+    return getClient().getPartitionsByNames(dbName, tblName, partNames);
+  }
+
   @Override
   public int addPartitions(List<Partition> partitions) throws TException {
     return getClient().add_partitions(partitions);
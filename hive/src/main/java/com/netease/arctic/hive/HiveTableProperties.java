@@ -48,6 +48,9 @@ public class HiveTableProperties {
   public static final String AUTO_SYNC_HIVE_DATA_WRITE = "base.hive.auto-sync-data-write";
   public static final boolean AUTO_SYNC_HIVE_DATA_WRITE_DEFAULT = false;
 
+  public static final String AUTO_SYNC_HIVE_DATA_WRITE_CHECK_INTERVAL = "base.hive.auto-sync-data-write.check-interval";
+  public static final long AUTO_SYNC_HIVE_DATA_WRITE_CHECK_INTERVAL_DEFAULT = 60000; // 1 min
+
   public static final String ALLOW_HIVE_TABLE_EXISTED = "allow-hive-table-existed";
 
   public static final String WATERMARK_HIVE = "watermark.hive";
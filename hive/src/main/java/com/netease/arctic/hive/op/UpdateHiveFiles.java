@@ -12,8 +12,6 @@ import com.netease.arctic.utils.TablePropertyUtil;
 import org.apache.commons.collections.CollectionUtils;
 import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.Path;
-import org.apache.hadoop.hive.metastore.PartitionDropOptions;
-import org.apache.hadoop.hive.metastore.api.NoSuchObjectException;
 import org.apache.hadoop.hive.metastore.api.Partition;
 import org.apache.hadoop.hive.metastore.api.Table;
 import org.apache.iceberg.DataFile;
@@ -209,25 +207,23 @@ public abstract class UpdateHiveFiles<T extends SnapshotUpdate<T>> implements Sn
 
     Types.StructType partitionSchema = table.spec().partitionType();
 
-    Set<String> checkedPartitionValues = Sets.newHashSet();
+    Map<String, StructLike> partitionNameToData = Maps.newLinkedHashMap();
     Set<Path> deleteFileLocations = Sets.newHashSet();
 
     for (DataFile dataFile : deleteFiles) {
-      List<String> values = HivePartitionUtil.partitionValuesAsList(dataFile.partition(), partitionSchema);
-      String pathValue = Joiner.on("/").join(values);
       deleteFileLocations.add(new Path(dataFile.path().toString()));
-      if (checkedPartitionValues.contains(pathValue)) {
-        continue;
-      }
-      try {
-        Partition partition = hmsClient.run(c -> c.getPartition(db, tableName, values));
-        deletePartitions.put(dataFile.partition(), partition);
-      } catch (NoSuchObjectException e) {
-        // pass do nothing
-      } catch (TException | InterruptedException e) {
-        throw new RuntimeException(e);
+      List<String> values = HivePartitionUtil.partitionValuesAsList(dataFile.partition(), partitionSchema);
+      partitionNameToData.putIfAbsent(HivePartitionUtil.partitionName(hiveTable, values), dataFile.partition());
+    }
+
+    List<Partition> partitionsInHive = HivePartitionUtil.getPartitionsByNames(
+        hmsClient, db, tableName, Lists.newArrayList(partitionNameToData.keySet()));
+    for (Partition partition : partitionsInHive) {
+      String partitionName = HivePartitionUtil.partitionName(hiveTable, partition.getValues());
+      StructLike partitionData = partitionNameToData.get(partitionName);
+      if (partitionData != null) {
+        deletePartitions.put(partitionData, partition);
       }
-      checkedPartitionValues.add(pathValue);
     }
 
     if (validateLocation) {
@@ -306,6 +302,7 @@ public abstract class UpdateHiveFiles<T extends SnapshotUpdate<T>> implements Sn
       deletePartitionValueMap.put(partValue, p);
     }
 
+    Map<String, Map.Entry<StructLike, Partition>> partitionsToCheck = Maps.newLinkedHashMap();
     for (Map.Entry<StructLike, Partition> entry : partitionToCreate.entrySet()) {
       String partValue = Joiner.on("/").join(entry.getValue().getValues());
       String location = entry.getValue().getSd().getLocation();
@@ -326,45 +323,39 @@ public abstract class UpdateHiveFiles<T extends SnapshotUpdate<T>> implements Sn
           continue;
         }
       }
+      partitionsToCheck.put(HivePartitionUtil.partitionName(hiveTable, entry.getValue().getValues()), entry);
+    }
 
-      try {
-        Partition partitionInHive = hmsClient.run(c -> c.getPartition(db, tableName, entry.getValue().getValues()));
-        String locationInHive = partitionInHive.getSd().getLocation();
-        if (isPathEquals(location, locationInHive)) {
-          partitionToAlter.put(entry.getKey(), entry.getValue());
-          continue;
-        }
-        throw new CannotAlterHiveLocationException("can't create new partition: " +
-            partitionToString(entry.getValue()) +
-            ", this partition exists in hive with different location: " + locationInHive);
-      } catch (NoSuchObjectException e) {
+    Map<String, Partition> partitionsInHive = Maps.newHashMap();
+    HivePartitionUtil.getPartitionsByNames(hmsClient, db, tableName, Lists.newArrayList(partitionsToCheck.keySet()))
+        .forEach(p -> partitionsInHive.put(HivePartitionUtil.partitionName(hiveTable, p.getValues()), p));
+
+    for (Map.Entry<String, Map.Entry<StructLike, Partition>> check : partitionsToCheck.entrySet()) {
+      Map.Entry<StructLike, Partition> entry = check.getValue();
+      Partition partitionInHive = partitionsInHive.get(check.getKey());
+      if (partitionInHive == null) {
         partitions.put(entry.getKey(), entry.getValue());
-      } catch (TException | InterruptedException e) {
-        throw new RuntimeException(e);
+        continue;
       }
+      String location = entry.getValue().getSd().getLocation();
+      String locationInHive = partitionInHive.getSd().getLocation();
+      if (isPathEquals(location, locationInHive)) {
+        partitionToAlter.put(entry.getKey(), entry.getValue());
+        continue;
+      }
+      throw new CannotAlterHiveLocationException("can't create new partition: " +
+          partitionToString(entry.getValue()) +
+          ", this partition exists in hive with different location: " + locationInHive);
     }
     return partitions;
   }
 
   private void commitPartitionedTable() {
     if (!partitionToDelete.isEmpty()) {
-      for (Partition p : partitionToDelete.values()) {
-        try {
-          transactionClient.run(c -> {
-            PartitionDropOptions options = PartitionDropOptions.instance()
-                .deleteData(false)
-                .ifExists(true)
-                .purgeData(false)
-                .returnResults(false);
-            c.dropPartition(db, tableName, p.getValues(), options);
-            return 0;
-          });
-        } catch (NoSuchObjectException e) {
-          LOG.warn("try to delete hive partition {} but partition not exist.", p);
-        } catch (TException | InterruptedException e) {
-          throw new RuntimeException(e);
-        }
-      }
+      List<String> partitionNames = partitionToDelete.values().stream()
+          .map(p -> HivePartitionUtil.partitionName(hiveTable, p.getValues()))
+          .collect(Collectors.toList());
+      HivePartitionUtil.dropPartitions(transactionClient, db, tableName, partitionNames);
     }
 
     if (!partitionToCreate.isEmpty()) {
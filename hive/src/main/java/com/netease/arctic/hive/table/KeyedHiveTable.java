@@ -42,6 +42,7 @@ import org.apache.iceberg.util.PropertyUtil;
 public class KeyedHiveTable extends BasicKeyedTable implements SupportHive {
 
   private final HMSClientPool hiveClient;
+  private final HiveMetaSynchronizer.DataSyncState dataSyncState = new HiveMetaSynchronizer.DataSyncState();
 
   public KeyedHiveTable(
       TableMeta tableMeta,
@@ -84,7 +85,7 @@ public class KeyedHiveTable extends BasicKeyedTable implements SupportHive {
         properties(),
         HiveTableProperties.AUTO_SYNC_HIVE_DATA_WRITE,
         HiveTableProperties.AUTO_SYNC_HIVE_DATA_WRITE_DEFAULT)) {
-      HiveMetaSynchronizer.syncHiveDataToArctic(this, hiveClient);
+      HiveMetaSynchronizer.syncHiveDataToArctic(this, hiveClient, dataSyncState);
     }
   }
 
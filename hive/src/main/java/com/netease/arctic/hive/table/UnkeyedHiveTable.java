@@ -47,6 +47,7 @@ import static com.netease.arctic.hive.HiveTableProperties.BASE_HIVE_LOCATION_ROO
 public class UnkeyedHiveTable extends BasicUnkeyedTable implements BaseTable, SupportHive {
 
   private final HMSClientPool hiveClient;
+  private final HiveMetaSynchronizer.DataSyncState dataSyncState = new HiveMetaSynchronizer.DataSyncState();
   private final String tableLocation;
 
   private boolean syncHiveChange = true;
@@ -147,7 +148,7 @@ public class UnkeyedHiveTable extends BasicUnkeyedTable implements BaseTable, Su
         properties(),
         HiveTableProperties.AUTO_SYNC_HIVE_DATA_WRITE,
         HiveTableProperties.AUTO_SYNC_HIVE_DATA_WRITE_DEFAULT)) {
-      HiveMetaSynchronizer.syncHiveDataToArctic(this, hiveClient);
+      HiveMetaSynchronizer.syncHiveDataToArctic(this, hiveClient, dataSyncState);
     }
   }
 }
@@ -32,6 +32,7 @@ import org.apache.hadoop.hive.metastore.api.Partition;
 import org.apache.hadoop.hive.metastore.api.Table;
 import org.apache.iceberg.DataFile;
 import org.apache.iceberg.FileScanTask;
+import org.apache.iceberg.HasTableOperations;
 import org.apache.iceberg.MetricsConfig;
 import org.apache.iceberg.OverwriteFiles;
 import org.apache.iceberg.PartitionSpec;
@@ -42,13 +43,18 @@ import org.apache.iceberg.UpdateSchema;
 import org.apache.iceberg.data.TableMigrationUtil;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.mapping.NameMappingParser;
+import org.apache.iceberg.relocated.com.google.common.base.Joiner;
 import org.apache.iceberg.relocated.com.google.common.collect.ListMultimap;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.relocated.com.google.common.collect.Multimaps;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.types.TypeUtil;
 import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.PropertyUtil;
 import org.apache.iceberg.util.StructLikeMap;
+import org.apache.iceberg.util.Tasks;
+import org.apache.iceberg.util.ThreadPools;
 import org.apache.thrift.TException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -60,6 +66,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -131,6 +138,17 @@ public class HiveMetaSynchronizer {
    * @param hiveClient hive client
    */
   public static void syncHiveDataToArctic(ArcticTable table, HMSClientPool hiveClient) {
+    syncHiveDataToArctic(table, hiveClient, new DataSyncState());
+  }
+
+  /**
+   * Synchronize the data change of the hive table to arctic table, skip the work done by the last sync of the same
+   * table instance if nothing changed since then
+   * @param table arctic table to accept the data change
+   * @param hiveClient hive client
+   * @param syncState state of the last data sync of the table, updated by this sync
+   */
+  public static void syncHiveDataToArctic(ArcticTable table, HMSClientPool hiveClient, DataSyncState syncState) {
     UnkeyedTable baseStore;
     if (table.isKeyedTable()) {
       baseStore = table.asKeyedTable().baseTable();
@@ -160,62 +178,127 @@ public class HiveMetaSynchronizer {
           overwriteTable(table, deleteFiles, hiveDataFiles);
         }
       } else {
-        // list all hive partitions.
-        List<Partition> hivePartitions = hiveClient.run(client -> client.listPartitions(table.id().getDatabase(),
-            table.id().getTableName(), Short.MAX_VALUE));
-        // group arctic files by partition.
-        ListMultimap<StructLike, DataFile> filesGroupedByPartition
-            = Multimaps.newListMultimap(Maps.newHashMap(), Lists::newArrayList);
-        TableScan tableScan = baseStore.newScan();
-        try (CloseableIterable<FileScanTask> fileScanTasks = tableScan.planFiles()) {
-          for (org.apache.iceberg.FileScanTask fileScanTask : fileScanTasks) {
-            filesGroupedByPartition.put(fileScanTask.file().partition(), fileScanTask.file());
-          }
-        } catch (IOException e) {
-          throw new UncheckedIOException("Failed to close table scan of " + table.name(), e);
-        }
-        Map<StructLike, Collection<DataFile>> filesMap = filesGroupedByPartition.asMap();
-        List<DataFile> filesToDelete = Lists.newArrayList();
-        List<DataFile> filesToAdd = Lists.newArrayList();
-        List<StructLike> icebergPartitions = Lists.newArrayList(filesMap.keySet());
-        for (Partition hivePartition : hivePartitions) {
-          StructLike partitionData = HivePartitionUtil.buildPartitionData(hivePartition.getValues(), table.spec());
-          icebergPartitions.remove(partitionData);
-          String hiveTransientTime =  hivePartition.getParameters().get("transient_lastDdlTime");
-          String arcticTransientTime = baseStore.partitionProperty().containsKey(partitionData) ?
-              baseStore.partitionProperty().get(partitionData)
-                  .get(HiveTableProperties.PARTITION_PROPERTIES_KEY_TRANSIENT_TIME) : null;
-          // compare hive partition parameter transient_lastDdlTime with arctic partition properties to
-          // find out if the partition is changed.
-          if (arcticTransientTime == null || !arcticTransientTime.equals(hiveTransientTime)) {
-            List<DataFile> hiveDataFiles = listHivePartitionFiles(table,
-                buildPartitionValueMap(hivePartition.getValues(), table.spec()),
-                hivePartition.getSd().getLocation());
-            if (filesMap.get(partitionData) != null) {
-              filesToDelete.addAll(filesMap.get(partitionData));
-              filesToAdd.addAll(hiveDataFiles);
-              // make sure new partition is not created by arctic
-            } else if (hivePartition.getParameters().get(HiveTableProperties.ARCTIC_TABLE_FLAG) == null &&
-                hivePartition.getParameters().get(HiveTableProperties.ARCTIC_TABLE_FLAG_LEGACY) == null) {
-              filesToAdd.addAll(hiveDataFiles);
-            }
-          }
-        }
+        syncPartitionedHiveDataToArctic(table, baseStore, hiveClient, syncState);
+      }
+    } catch (TException | InterruptedException e) {
+      throw new RuntimeException("Failed to get hive table:" + table.id(), e);
+    }
+  }
+
+  private static void syncPartitionedHiveDataToArctic(ArcticTable table, UnkeyedTable baseStore,
+      HMSClientPool hiveClient, DataSyncState syncState) throws TException, InterruptedException {
+    String db = table.id().getDatabase();
+    String tableName = table.id().getTableName();
+    String metadataLocation = metadataLocation(baseStore);
+    Set<String> partitionNames = Sets.newHashSet(
+        hiveClient.run(client -> client.listPartitionNames(db, tableName, (short) -1)));
+    long now = System.currentTimeMillis();
+    long checkInterval = PropertyUtil.propertyAsLong(table.properties(),
+        HiveTableProperties.AUTO_SYNC_HIVE_DATA_WRITE_CHECK_INTERVAL,
+        HiveTableProperties.AUTO_SYNC_HIVE_DATA_WRITE_CHECK_INTERVAL_DEFAULT);
+    HiveSyncSnapshot lastSync = syncState.lastSync;
+    // no partition is added or dropped and arctic is not committed, changes of files in existing hive partitions
+    // are checked by listing partitions once every check interval
+    if (lastSync != null && lastSync.isSame(metadataLocation, partitionNames) &&
+        now - lastSync.checkTime < checkInterval) {
+      LOG.debug("Table {} skip listing hive partitions, nothing changed since last sync", table.id());
+      return;
+    }
+
+    List<Partition> hivePartitions = HivePartitionUtil.getPartitionsByNames(hiveClient, db, tableName,
+        Lists.newArrayList(partitionNames));
+    Map<String, String> hiveTransientTimes = Maps.newHashMapWithExpectedSize(hivePartitions.size());
+    hivePartitions.forEach(p -> hiveTransientTimes.put(
+        Joiner.on("/").join(p.getValues()), p.getParameters().get("transient_lastDdlTime")));
+    if (lastSync != null && lastSync.isSame(metadataLocation, partitionNames, hiveTransientTimes)) {
+      LOG.debug("Table {} skip syncing hive data, nothing changed since last sync", table.id());
+      syncState.lastSync = new HiveSyncSnapshot(metadataLocation, partitionNames, hiveTransientTimes, now);
+      return;
+    }
+
+    // group arctic files by partition.
+    ListMultimap<StructLike, DataFile> filesGroupedByPartition
+        = Multimaps.newListMultimap(Maps.newHashMap(), Lists::newArrayList);
+    TableScan tableScan = baseStore.newScan();
+    try (CloseableIterable<FileScanTask> fileScanTasks = tableScan.planFiles()) {
+      for (org.apache.iceberg.FileScanTask fileScanTask : fileScanTasks) {
+        filesGroupedByPartition.put(fileScanTask.file().partition(), fileScanTask.file());
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to close table scan of " + table.name(), e);
+    }
+    Map<StructLike, Collection<DataFile>> filesMap = filesGroupedByPartition.asMap();
+    StructLikeMap<Map<String, String>> partitionProperties = baseStore.partitionProperty();
+    Set<StructLike> icebergPartitions = Sets.newHashSet(filesMap.keySet());
+    Map<Partition, StructLike> changedPartitions = Maps.newLinkedHashMap();
+    for (Partition hivePartition : hivePartitions) {
+      StructLike partitionData = HivePartitionUtil.buildPartitionData(hivePartition.getValues(), table.spec());
+      icebergPartitions.remove(partitionData);
+      String hiveTransientTime = hivePartition.getParameters().get("transient_lastDdlTime");
+      String arcticTransientTime = partitionProperties.containsKey(partitionData) ?
+          partitionProperties.get(partitionData).get(HiveTableProperties.PARTITION_PROPERTIES_KEY_TRANSIENT_TIME) :
+          null;
+      // compare hive partition parameter transient_lastDdlTime with arctic partition properties to
+      // find out if the partition is changed.
+      if (arcticTransientTime == null || !arcticTransientTime.equals(hiveTransientTime)) {
+        changedPartitions.put(hivePartition, partitionData);
+      }
+    }
 
-        icebergPartitions.forEach(partition -> {
-          List<DataFile> dataFiles = Lists.newArrayList(filesMap.get(partition));
-          if (dataFiles.size() > 0) {
-            // make sure dropped partition with no files
-            if (!table.io().exists(dataFiles.get(0).path().toString())) {
-              filesToDelete.addAll(filesMap.get(partition));
-            }
+    // list changed partitions and read file footers in parallel
+    Map<Partition, List<DataFile>> changedPartitionFiles = Maps.newConcurrentMap();
+    Tasks.foreach(changedPartitions.keySet())
+        .executeWith(ThreadPools.getWorkerPool())
+        .stopOnFailure()
+        .throwFailureWhenFinished()
+        .run(hivePartition -> changedPartitionFiles.put(hivePartition, listHivePartitionFiles(table,
+            buildPartitionValueMap(hivePartition.getValues(), table.spec()),
+            hivePartition.getSd().getLocation())));
+
+    List<DataFile> filesToDelete = Lists.newArrayList();
+    List<DataFile> filesToAdd = Lists.newArrayList();
+    changedPartitions.forEach((hivePartition, partitionData) -> {
+      List<DataFile> hiveDataFiles = changedPartitionFiles.get(hivePartition);
+      if (filesMap.get(partitionData) != null) {
+        filesToDelete.addAll(filesMap.get(partitionData));
+        filesToAdd.addAll(hiveDataFiles);
+        // make sure new partition is not created by arctic
+      } else if (hivePartition.getParameters().get(HiveTableProperties.ARCTIC_TABLE_FLAG) == null &&
+          hivePartition.getParameters().get(HiveTableProperties.ARCTIC_TABLE_FLAG_LEGACY) == null) {
+        filesToAdd.addAll(hiveDataFiles);
+      }
+    });
+
+    // make sure dropped partition with no files
+    Set<StructLike> droppedPartitions = Sets.newConcurrentHashSet();
+    Tasks.foreach(icebergPartitions)
+        .executeWith(ThreadPools.getWorkerPool())
+        .stopOnFailure()
+        .throwFailureWhenFinished()
+        .run(partition -> {
+          Collection<DataFile> dataFiles = filesMap.get(partition);
+          if (!table.io().exists(dataFiles.iterator().next().path().toString())) {
+            droppedPartitions.add(partition);
           }
         });
-        overwriteTable(table, filesToDelete, filesToAdd);
+    droppedPartitions.forEach(partition -> filesToDelete.addAll(filesMap.get(partition)));
+
+    if (filesToDelete.isEmpty() && filesToAdd.isEmpty()) {
+      // only remember the state when arctic is fully synced, or the same check should be done again next time
+      if (icebergPartitions.isEmpty()) {
+        syncState.lastSync = new HiveSyncSnapshot(metadataLocation, partitionNames, hiveTransientTimes, now);
       }
-    } catch (TException | InterruptedException e) {
-      throw new RuntimeException("Failed to get hive table:" + table.id(), e);
+    } else {
+      syncState.lastSync = null;
+      overwriteTable(table, filesToDelete, filesToAdd);
+    }
+  }
+
+  private static String metadataLocation(UnkeyedTable baseStore) {
+    if (baseStore instanceof HasTableOperations) {
+      return ((HasTableOperations) baseStore).operations().current().metadataFileLocation();
     }
+    return null;
   }
 
   private static List<DataFile> listHivePartitionFiles(ArcticTable arcticTable, Map<String, String> partitionValueMap,
@@ -258,4 +341,39 @@ public class HiveMetaSynchronizer {
       }
     }
   }
+
+  /**
+   * State of data syncs of a table, kept by the table instance so that it is released with the table.
+   */
+  public static class DataSyncState {
+    private volatile HiveSyncSnapshot lastSync;
+  }
+
+  /**
+   * Arctic base store metadata and hive partitions seen by a data sync that found nothing to change.
+   */
+  private static class HiveSyncSnapshot {
+    private final String metadataLocation;
+    private final Set<String> partitionNames;
+    private final Map<String, String> partitionTransientTimes;
+    private final long checkTime;
+
+    HiveSyncSnapshot(String metadataLocation, Set<String> partitionNames,
+        Map<String, String> partitionTransientTimes, long checkTime) {
+      this.metadataLocation = metadataLocation;
+      this.partitionNames = partitionNames;
+      this.partitionTransientTimes = partitionTransientTimes;
+      this.checkTime = checkTime;
+    }
+
+    boolean isSame(String metadataLocation, Set<String> partitionNames) {
+      return this.metadataLocation != null && this.metadataLocation.equals(metadataLocation) &&
+          this.partitionNames.equals(partitionNames);
+    }
+
+    boolean isSame(String metadataLocation, Set<String> partitionNames, Map<String, String> partitionTransientTimes) {
+      return isSame(metadataLocation, partitionNames) &&
+          this.partitionTransientTimes.equals(partitionTransientTimes);
+    }
+  }
 }
@@ -23,6 +23,8 @@ import com.netease.arctic.hive.HMSClientPool;
 import com.netease.arctic.table.ArcticTable;
 import com.netease.arctic.table.TableIdentifier;
 import org.apache.hadoop.hive.metastore.PartitionDropOptions;
+import org.apache.hadoop.hive.metastore.Warehouse;
+import org.apache.hadoop.hive.metastore.api.MetaException;
 import org.apache.hadoop.hive.metastore.api.NoSuchObjectException;
 import org.apache.hadoop.hive.metastore.api.Partition;
 import org.apache.hadoop.hive.metastore.api.PrincipalPrivilegeSet;
@@ -34,6 +36,7 @@ import org.apache.iceberg.DataFiles;
 import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.StructLike;
 import org.apache.iceberg.exceptions.NoSuchTableException;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.types.Type;
 import org.apache.iceberg.types.Types;
@@ -50,6 +53,11 @@ public class HivePartitionUtil {
 
   private static final Logger LOG = LoggerFactory.getLogger(HivePartitionUtil.class);
 
+  /**
+   * Max partitions sent to HMS in one request, same as the default of hive.metastore.batch.retrieve.max
+   */
+  public static final int HMS_BATCH_SIZE = 300;
+
   public static List<String> partitionValuesAsList(StructLike partitionData, Types.StructType partitionSchema) {
     List<Types.NestedField> fields = partitionSchema.fields();
     List<String> values = Lists.newArrayList();
@@ -120,6 +128,72 @@ public class HivePartitionUtil {
     }
   }
 
+  /**
+   * Build the hive partition name like "dt=2022-01-01/hour=01" for partition values.
+   */
+  public static String partitionName(Table hiveTable, List<String> partitionValues) {
+    try {
+      return Warehouse.makePartName(hiveTable.getPartitionKeys(), partitionValues);
+    } catch (MetaException e) {
+      throw new RuntimeException(e);
+    }
+  }
+
+  /**
+   * Gets partitions by names in batches of {@link #HMS_BATCH_SIZE}, partitions not exist in hive are ignored.
+   *
+   * @param hmsClient      Hive client pool
+   * @param db             Hive database name
+   * @param tableName      Hive table name
+   * @param partitionNames Hive partition names
+   * @return A List of existing Hive partition objects
+   */
+  public static List<Partition> getPartitionsByNames(
+      HMSClientPool hmsClient,
+      String db,
+      String tableName,
+      List<String> partitionNames) {
+    List<Partition> partitions = Lists.newArrayList();
+    for (List<String> batch : Iterables.partition(partitionNames, HMS_BATCH_SIZE)) {
+      try {
+        partitions.addAll(hmsClient.run(client -> client.getPartitionsByNames(db, tableName, batch)));
+      } catch (TException | InterruptedException e) {
+        throw new RuntimeException(e);
+      }
+    }
+    return partitions;
+  }
+
+  /**
+   * Drops partitions by names in batches of {@link #HMS_BATCH_SIZE}, partitions not exist in hive are ignored.
+   *
+   * @param hmsClient      Hive client pool
+   * @param db             Hive database name
+   * @param tableName      Hive table name
+   * @param partitionNames Hive partition names
+   */
+  public static void dropPartitions(
+      HMSClientPool hmsClient,
+      String db,
+      String tableName,
+      List<String> partitionNames) {
+    PartitionDropOptions options = PartitionDropOptions.instance()
+        .deleteData(false)
+        .ifExists(true)
+        .purgeData(false)
+        .returnResults(false);
+    for (List<String> batch : Iterables.partition(partitionNames, HMS_BATCH_SIZE)) {
+      try {
+        hmsClient.run(client -> {
+          client.dropPartitions(db, tableName, batch, options);
+          return null;
+        });
+      } catch (TException | InterruptedException e) {
+        throw new RuntimeException(e);
+      }
+    }
+  }
+
   public static void rewriteHivePartitions(
       Partition partition, String location, List<DataFile> dataFiles,
       int accessTimestamp) {
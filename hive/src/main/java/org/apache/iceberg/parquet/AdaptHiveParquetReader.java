@@ -19,6 +19,7 @@
 
 package org.apache.iceberg.parquet;
 
+import com.netease.arctic.io.reader.SkippableIterator;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.exceptions.RuntimeIOException;
 import org.apache.iceberg.expressions.Expression;
@@ -31,9 +32,11 @@ import org.apache.iceberg.mapping.NameMapping;
 import org.apache.parquet.ParquetReadOptions;
 import org.apache.parquet.column.page.PageReadStore;
 import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
 import org.apache.parquet.schema.MessageType;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.function.Function;
 
 /**
@@ -85,8 +88,10 @@ public class AdaptHiveParquetReader<T> extends CloseableGroup implements Closeab
     return iter;
   }
 
-  private static class FileIterator<T> implements CloseableIterator<T> {
+  //Change For Arctic: implements SkippableIterator
+  private static class FileIterator<T> implements SkippableIterator<T> {
     private final ParquetFileReader reader;
+    private final List<BlockMetaData> rowGroups;
     private final boolean[] shouldSkip;
     private final ParquetValueReader<T> model;
     private final long totalValues;
@@ -100,6 +105,7 @@ public class AdaptHiveParquetReader<T> extends CloseableGroup implements Closeab
 
     FileIterator(AdaptHiveReadConf<T> conf) {
       this.reader = conf.reader();
+      this.rowGroups = conf.rowGroups();
       this.shouldSkip = conf.shouldSkip();
       this.model = conf.model();
       this.totalValues = conf.totalValues();
@@ -128,6 +134,37 @@ public class AdaptHiveParquetReader<T> extends CloseableGroup implements Closeab
       return last;
     }
 
+    //Change For Arctic
+    /**
+     * Row groups entirely before the target row are skipped without reading their pages,
+     * rows before the target row in its row group are read and dropped.
+     */
+    @Override
+    public long skip(long rows) {
+      long skipped = 0;
+      while (valuesRead == nextRowGroupStart && valuesRead < totalValues) {
+        while (shouldSkip[nextRowGroup]) {
+          nextRowGroup += 1;
+          reader.skipNextRowGroup();
+        }
+        long rowCount = rowGroups.get(nextRowGroup).getRowCount();
+        if (skipped + rowCount > rows) {
+          break;
+        }
+        reader.skipNextRowGroup();
+        nextRowGroup += 1;
+        nextRowGroupStart += rowCount;
+        valuesRead += rowCount;
+        skipped += rowCount;
+      }
+      while (skipped < rows && hasNext()) {
+        next();
+        skipped += 1;
+      }
+      return skipped;
+    }
+    //Change For Arctic
+
     private void advance() {
       while (shouldSkip[nextRowGroup]) {
         nextRowGroup += 1;
@@ -195,6 +195,12 @@ class AdaptHiveReadConf<T> {
     return startRowPositions;
   }
 
+  //Change For Arctic: expose row groups to skip them
+  List<BlockMetaData> rowGroups() {
+    return rowGroups;
+  }
+  //Change For Arctic
+
   long totalValues() {
     return totalValues;
   }
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.hive;
+
+import com.netease.arctic.hive.utils.HivePartitionUtil;
+import org.apache.hadoop.hive.metastore.PartitionDropOptions;
+import org.apache.hadoop.hive.metastore.api.Partition;
+import org.apache.hadoop.hive.metastore.api.Table;
+import org.apache.hadoop.hive.metastore.api.ThriftHiveMetastore;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.thrift.TException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public class HMSClientImplTest extends HiveTableTestBase {
+
+  private static final PartitionDropOptions DROP_OPTIONS = PartitionDropOptions.instance()
+      .deleteData(false)
+      .ifExists(true)
+      .purgeData(false)
+      .returnResults(false);
+
+  @Test
+  public void testDropPartitions() throws TException {
+    addPartitions("p1", "p2", "p3");
+    HMSClientImpl client = new HMSClientImpl(hms.getClient());
+    Assert.assertNotNull(client.thriftClient());
+    client.dropPartitions(HIVE_TABLE_ID.getDatabase(), HIVE_TABLE_ID.getTableName(),
+        Lists.newArrayList("name=p1", "name=p3", "name=not_exist"), DROP_OPTIONS);
+    Assert.assertEquals(Sets.newHashSet("p2"), listPartitionValues());
+  }
+
+  @Test
+  public void testDropPartitionsWithoutThriftClient() throws TException {
+    addPartitions("p1", "p2", "p3");
+    // hidden thrift client field missing in this Hive version
+    HMSClientImpl client = new HMSClientImpl(hms.getClient()) {
+      @Override
+      protected ThriftHiveMetastore.Iface thriftClient() {
+        return null;
+      }
+    };
+    client.dropPartitions(HIVE_TABLE_ID.getDatabase(), HIVE_TABLE_ID.getTableName(),
+        Lists.newArrayList("name=p2", "name=not_exist"), DROP_OPTIONS);
+    Assert.assertEquals(Sets.newHashSet("p1", "p3"), listPartitionValues());
+  }
+
+  private void addPartitions(String... values) throws TException {
+    Table hiveTable = hms.getClient().getTable(HIVE_TABLE_ID.getDatabase(), HIVE_TABLE_ID.getTableName());
+    List<Partition> partitions = Lists.newArrayList();
+    for (String value : values) {
+      partitions.add(HivePartitionUtil.newPartition(hiveTable, Lists.newArrayList(value),
+          hiveTable.getSd().getLocation() + "/name=" + value, Collections.emptyList(),
+          (int) (System.currentTimeMillis() / 1000)));
+    }
+    hms.getClient().add_partitions(partitions);
+  }
+
+  private Set<String> listPartitionValues() throws TException {
+    return hms.getClient()
+        .listPartitions(HIVE_TABLE_ID.getDatabase(), HIVE_TABLE_ID.getTableName(), Short.MAX_VALUE)
+        .stream().map(partition -> partition.getValues().get(0)).collect(Collectors.toSet());
+  }
+}
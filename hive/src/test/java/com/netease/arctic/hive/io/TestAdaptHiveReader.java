@@ -20,11 +20,30 @@ package com.netease.arctic.hive.io;
 
 import com.netease.arctic.hive.HiveTableTestBase;
 import com.netease.arctic.hive.table.HiveLocationKind;
-import org.apache.iceberg.expressions.Expressions;
+import com.netease.arctic.io.reader.SkippableIterator;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.iceberg.Files;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.TableProperties;
+import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.data.parquet.AdaptHiveGenericParquetReaders;
+import org.apache.iceberg.data.parquet.AdaptHiveGenericParquetWriter;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.CloseableIterator;
+import org.apache.iceberg.io.FileAppender;
+import org.apache.iceberg.parquet.AdaptHiveParquet;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.types.Types;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.util.HadoopInputFile;
+import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.File;
 import java.io.IOException;
+import java.util.HashMap;
 
 import static com.netease.arctic.hive.io.TestIOUtils.testWrite;
 
@@ -44,4 +63,50 @@ public class TestAdaptHiveReader extends HiveTableTestBase {
         ImmutableList.of(HiveTestRecords.baseRecords().get(1)));
   }
 
+  @Test
+  public void testSkipRowGroups() throws IOException {
+    Schema schema = new Schema(
+        Types.NestedField.required(1, "id", Types.IntegerType.get()),
+        Types.NestedField.required(2, "name", Types.StringType.get()));
+    File file = new File(tempFolder.newFolder(), "skip.parquet");
+    int rows = 1000;
+    // flush a row group at each size check
+    try (FileAppender<Record> appender = AdaptHiveParquet.write(Files.localOutput(file))
+        .schema(schema)
+        .createWriterFunc(AdaptHiveGenericParquetWriter::buildWriter)
+        .set(TableProperties.PARQUET_ROW_GROUP_SIZE_BYTES, "1")
+        .build()) {
+      for (int i = 0; i < rows; i++) {
+        GenericRecord record = GenericRecord.create(schema);
+        record.setField("id", i);
+        record.setField("name", "name-" + i);
+        appender.add(record);
+      }
+    }
+    try (ParquetFileReader reader = ParquetFileReader.open(
+        HadoopInputFile.fromPath(new Path(file.getPath()), new Configuration()))) {
+      Assert.assertTrue(reader.getRowGroups().size() > 2);
+    }
+
+    CloseableIterable<Record> iterable = AdaptHiveParquet.read(Files.localInput(file))
+        .project(schema)
+        .createReaderFunc(fileSchema -> AdaptHiveGenericParquetReaders.buildReader(schema, fileSchema, new HashMap<>()))
+        .build();
+    for (int startRow : new int[] {0, 5, 10, 110, 500, 999}) {
+      try (CloseableIterator<Record> iterator = iterable.iterator()) {
+        Assert.assertTrue(iterator instanceof SkippableIterator);
+        Assert.assertEquals(startRow, SkippableIterator.skip(iterator, startRow));
+        for (int i = startRow; i < rows; i++) {
+          Assert.assertTrue(iterator.hasNext());
+          Assert.assertEquals(i, iterator.next().getField("id"));
+        }
+        Assert.assertFalse(iterator.hasNext());
+      }
+    }
+    try (CloseableIterator<Record> iterator = iterable.iterator()) {
+      Assert.assertEquals(rows, SkippableIterator.skip(iterator, rows + 1));
+      Assert.assertFalse(iterator.hasNext());
+    }
+    iterable.close();
+  }
 }
@@ -163,6 +163,46 @@ public class HiveMetaSynchronizerTest extends HiveTableTestBase {
         listTableFiles(testHiveTable).stream().map(DataFile::path).collect(Collectors.toSet()));
   }
 
+  @Test
+  public void testSkipSyncDataWhenNothingChanged() throws IOException, TException {
+    Table hiveTable = hms.getClient().getTable(HIVE_TABLE_ID.getDatabase(), HIVE_TABLE_ID.getTableName());
+    OverwriteFiles overwriteFiles = testHiveTable.newOverwrite();
+    writeDataFiles(testHiveTable, HiveLocationKind.INSTANT, writeRecords("p1", "p2")).forEach(overwriteFiles::addFile);
+    overwriteFiles.commit();
+    Assert.assertEquals(1, Iterables.size(testHiveTable.snapshots()));
+
+    CountingHMSClient hiveClient = new CountingHMSClient();
+    HiveMetaSynchronizer.DataSyncState syncState = new HiveMetaSynchronizer.DataSyncState();
+    HiveMetaSynchronizer.syncHiveDataToArctic(testHiveTable, hiveClient, syncState);
+    Assert.assertEquals(1, hiveClient.listPartitionTimes);
+    Assert.assertEquals(1, Iterables.size(testHiveTable.snapshots()));
+
+    // nothing changed, hive partitions are not listed again
+    HiveMetaSynchronizer.syncHiveDataToArctic(testHiveTable, hiveClient, syncState);
+    Assert.assertEquals(1, hiveClient.listPartitionTimes);
+    // sync without state always lists hive partitions
+    HiveMetaSynchronizer.syncHiveDataToArctic(testHiveTable, hiveClient);
+    Assert.assertEquals(2, hiveClient.listPartitionTimes);
+
+    // new hive partition is found at once
+    List<DataFile> newFiles = writeDataFiles(testHiveTable, HiveLocationKind.INSTANT, writeRecords("p3"));
+    Partition newPartition = HivePartitionUtil.newPartition(hiveTable, Lists.newArrayList("p3"),
+        TableFileUtils.getFileDir(newFiles.get(0).path().toString()), newFiles,
+        (int) (System.currentTimeMillis() / 1000));
+    newPartition.getParameters().remove(HiveTableProperties.ARCTIC_TABLE_FLAG);
+    hms.getClient().add_partition(newPartition);
+    HiveMetaSynchronizer.syncHiveDataToArctic(testHiveTable, hiveClient, syncState);
+    Assert.assertEquals(3, hiveClient.listPartitionTimes);
+    Assert.assertEquals(2, Iterables.size(testHiveTable.snapshots()));
+
+    // arctic table is committed by the last sync, so it is checked again and then skipped
+    HiveMetaSynchronizer.syncHiveDataToArctic(testHiveTable, hiveClient, syncState);
+    Assert.assertEquals(4, hiveClient.listPartitionTimes);
+    HiveMetaSynchronizer.syncHiveDataToArctic(testHiveTable, hiveClient, syncState);
+    Assert.assertEquals(4, hiveClient.listPartitionTimes);
+    Assert.assertEquals(2, Iterables.size(testHiveTable.snapshots()));
+  }
+
   private List<DataFile> listTableFiles(UnkeyedTable table) {
     List<DataFile> dataFiles = Lists.newArrayList();
     table.newScan().planFiles().forEach(fileScanTask -> dataFiles.add(fileScanTask.file()));
@@ -197,6 +237,28 @@ public class HiveMetaSynchronizerTest extends HiveTableTestBase {
     return Lists.newArrayList(complete.dataFiles());
   }
 
+  private static class CountingHMSClient implements HMSClientPool {
+
+    private int listPartitionTimes;
+
+    @Override
+    public <R> R run(Action<R, HMSClient, TException> action) throws TException, InterruptedException {
+      return action.run(new HMSClientImpl(hms.getClient()) {
+        @Override
+        public List<Partition> getPartitionsByNames(String dbName, String tblName, List<String> partNames)
+            throws TException {
+          listPartitionTimes++;
+          return super.getPartitionsByNames(dbName, tblName, partNames);
+        }
+      });
+    }
+
+    @Override
+    public <R> R run(Action<R, HMSClient, TException> action, boolean retry) throws TException, InterruptedException {
+      return run(action);
+    }
+  }
+
   private static class TestHMSClient implements HMSClientPool {
 
     @Override
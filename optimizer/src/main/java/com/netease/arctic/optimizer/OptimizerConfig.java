@@ -55,6 +55,31 @@ public class OptimizerConfig implements Serializable {
   @Option(name = "-rp", aliases = "--rock-base-path", usage = "rocks db base path")
   private String rocksDBBasePath;
 
+  @Option(name = "-pn", aliases = "--poll-batch-size", usage = "max tasks polled from ams in one request")
+  private int pollBatchSize = 1;
+
+  @Option(name = "-pb", aliases = "--poll-batch-bytes", usage = "max input file bytes of tasks polled in one request")
+  private long pollBatchBytes = 1024L * 1024 * 1024; // 1 G
+
+  @Option(name = "-rn", aliases = "--report-batch-size", usage = "max task results reported to ams in one request")
+  private int reportBatchSize = 1;
+
+  @Option(name = "-ws", aliases = "--enable-work-stealing",
+      usage = "whether execute tasks split into sub-tasks by a work-stealing pool in local optimizer")
+  private String enableWorkStealing = "false";
+
+  @Option(name = "-wm", aliases = "--work-stealing-memory-size",
+      usage = "max memory(MB) of delete maps and writers of running sub-tasks, 60% of memory size if not positive")
+  private long workStealingMemorySize = 0;
+
+  @Option(name = "-mp", aliases = "--elastic-min-parallelism",
+      usage = "min consumers polling tasks in flink optimizer, the others poll only if the queue has backlog, " +
+          "disabled if not positive")
+  private int elasticMinParallelism = 0;
+
+  @Option(name = "-bi", aliases = "--elastic-backlog-interval", usage = "interval to fetch queue backlog (ms)")
+  private long elasticBacklogInterval = 10000; // 10 s
+
   public OptimizerConfig() {
   }
 
@@ -143,6 +168,62 @@ public class OptimizerConfig implements Serializable {
     this.rocksDBBasePath = rocksDBBasePath;
   }
 
+  public int getPollBatchSize() {
+    return pollBatchSize;
+  }
+
+  public void setPollBatchSize(int pollBatchSize) {
+    this.pollBatchSize = pollBatchSize;
+  }
+
+  public long getPollBatchBytes() {
+    return pollBatchBytes;
+  }
+
+  public void setPollBatchBytes(long pollBatchBytes) {
+    this.pollBatchBytes = pollBatchBytes;
+  }
+
+  public int getReportBatchSize() {
+    return reportBatchSize;
+  }
+
+  public void setReportBatchSize(int reportBatchSize) {
+    this.reportBatchSize = reportBatchSize;
+  }
+
+  public String getEnableWorkStealing() {
+    return enableWorkStealing;
+  }
+
+  public void setEnableWorkStealing(String enableWorkStealing) {
+    this.enableWorkStealing = enableWorkStealing;
+  }
+
+  public long getWorkStealingMemorySize() {
+    return workStealingMemorySize;
+  }
+
+  public void setWorkStealingMemorySize(long workStealingMemorySize) {
+    this.workStealingMemorySize = workStealingMemorySize;
+  }
+
+  public int getElasticMinParallelism() {
+    return elasticMinParallelism;
+  }
+
+  public void setElasticMinParallelism(int elasticMinParallelism) {
+    this.elasticMinParallelism = elasticMinParallelism;
+  }
+
+  public long getElasticBacklogInterval() {
+    return elasticBacklogInterval;
+  }
+
+  public void setElasticBacklogInterval(long elasticBacklogInterval) {
+    this.elasticBacklogInterval = elasticBacklogInterval;
+  }
+
   @Override
   public String toString() {
     return "OptimizerConfig{" +
@@ -154,6 +235,13 @@ public class OptimizerConfig implements Serializable {
         ", enableSpillMap='" + enableSpillMap + '\'' +
         ", maxInMemorySize=" + maxInMemorySize +
         ", rocksDBBasePath='" + rocksDBBasePath + '\'' +
+        ", pollBatchSize=" + pollBatchSize +
+        ", pollBatchBytes=" + pollBatchBytes +
+        ", reportBatchSize=" + reportBatchSize +
+        ", enableWorkStealing='" + enableWorkStealing + '\'' +
+        ", workStealingMemorySize=" + workStealingMemorySize +
+        ", elasticMinParallelism=" + elasticMinParallelism +
+        ", elasticBacklogInterval=" + elasticBacklogInterval +
         '}';
   }
 
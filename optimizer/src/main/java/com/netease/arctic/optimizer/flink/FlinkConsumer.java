@@ -12,7 +12,7 @@
  * Unless required by applicable law or agreed to in writing, software
  * distributed under the License is distributed on an "AS IS" BASIS,
  * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and 
+ * See the License for the specific language governing permissions and
  * limitations under the License.
  */
 
@@ -21,17 +21,27 @@ package com.netease.arctic.optimizer.flink;
 import com.netease.arctic.optimizer.OptimizerConfig;
 import com.netease.arctic.optimizer.TaskWrapper;
 import com.netease.arctic.optimizer.operator.BaseTaskConsumer;
+import com.netease.arctic.optimizer.operator.QueueBacklogMonitor;
 import org.apache.flink.configuration.Configuration;
+import org.apache.flink.metrics.MetricGroup;
 import org.apache.flink.streaming.api.functions.source.RichParallelSourceFunction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Poll tasks from Ams.
+ * <p>
+ * If elastic parallelism is enabled, only the first subtasks sized by the queue backlog poll tasks, the others stay
+ * idle until the backlog grows, after handing out tasks already buffered, see {@link QueueBacklogMonitor}.
+ */
 public class FlinkConsumer extends RichParallelSourceFunction<TaskWrapper> {
   private static final Logger LOG = LoggerFactory.getLogger(FlinkConsumer.class);
 
   private final BaseTaskConsumer taskConsumer;
 
   private volatile boolean running = true;
+  private transient QueueBacklogMonitor backlogMonitor;
+  private transient int subtaskIndex;
 
   public FlinkConsumer(OptimizerConfig config) {
     this.taskConsumer = new BaseTaskConsumer(config);
@@ -44,6 +54,20 @@ public class FlinkConsumer extends RichParallelSourceFunction<TaskWrapper> {
   @Override
   public void open(Configuration parameters) throws Exception {
     super.open(parameters);
+    OptimizerConfig config = taskConsumer.getConfig();
+    // the job may run with a parallelism other than configured
+    config.setExecutorParallel(getRuntimeContext().getNumberOfParallelSubtasks());
+    subtaskIndex = getRuntimeContext().getIndexOfThisSubtask();
+    backlogMonitor = new QueueBacklogMonitor(config);
+    if (backlogMonitor.isElastic()) {
+      MetricGroup metricGroup = getRuntimeContext().getMetricGroup();
+      metricGroup.gauge("queue-pending-tasks", backlogMonitor::getPendingTasks);
+      metricGroup.gauge("queue-pending-bytes", backlogMonitor::getPendingBytes);
+      metricGroup.gauge("queue-waiting-pollers", backlogMonitor::getWaitingPollers);
+      metricGroup.gauge("active-parallelism", backlogMonitor::getActiveParallelism);
+      LOG.info("elastic parallelism enabled, min parallelism {}, subtask {}", config.getElasticMinParallelism(),
+          subtaskIndex);
+    }
   }
 
   @Override
@@ -51,7 +75,18 @@ public class FlinkConsumer extends RichParallelSourceFunction<TaskWrapper> {
     int retry = 0;
     while (running) {
       try {
-        TaskWrapper task = taskConsumer.pollTask();
+        TaskWrapper task;
+        if (backlogMonitor.isElastic()) {
+          backlogMonitor.refreshIfDue();
+          if (backlogMonitor.isIdle(subtaskIndex, taskConsumer)) {
+            Thread.sleep(taskConsumer.getConfig().getElasticBacklogInterval());
+            continue;
+          }
+          task = taskConsumer.pollTask(BaseTaskConsumer.DEFAULT_POLL_WAIT_TIMEOUT,
+              backlogMonitor.getClaimBatchSize());
+        } else {
+          task = taskConsumer.pollTask();
+        }
         if (task != null) {
           sourceContext.collect(task);
         } else {
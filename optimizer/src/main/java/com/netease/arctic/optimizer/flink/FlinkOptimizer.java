@@ -99,6 +99,16 @@ public class FlinkOptimizer implements StatefulOptimizer {
       spillMapCmd = spillMapCmd + " -mm " + maxDeleteMemorySize;
     }
 
+    // elastic parallelism config
+    Integer elasticMinParallelism = groupProperties.getInteger(OptimizerProperties.ELASTIC_MIN_PARALLELISM);
+    Long backlogInterval = groupProperties.getLong(OptimizerProperties.ELASTIC_BACKLOG_INTERVAL);
+    if (elasticMinParallelism != null) {
+      spillMapCmd = spillMapCmd + " -mp " + elasticMinParallelism;
+    }
+    if (backlogInterval != null) {
+      spillMapCmd = spillMapCmd + " -bi " + backlogInterval;
+    }
+
     // add compact execute config
     String arcticHome = systemInfo.getString(OptimizerProperties.ARCTIC_HOME);
     String jarPath = " " + arcticHome + "/plugin/optimize/OptimizeJob.jar ";
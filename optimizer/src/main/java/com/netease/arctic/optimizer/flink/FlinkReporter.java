@@ -22,6 +22,11 @@ import com.netease.arctic.ams.api.OptimizeTaskStat;
 import com.netease.arctic.optimizer.OptimizerConfig;
 import com.netease.arctic.optimizer.operator.BaseTaskReporter;
 import com.netease.arctic.optimizer.operator.BaseToucher;
+import com.netease.arctic.utils.SerializationUtils;
+import org.apache.flink.api.common.state.ListState;
+import org.apache.flink.api.common.state.ListStateDescriptor;
+import org.apache.flink.runtime.state.StateInitializationContext;
+import org.apache.flink.runtime.state.StateSnapshotContext;
 import org.apache.flink.streaming.api.operators.AbstractStreamOperator;
 import org.apache.flink.streaming.api.operators.OneInputStreamOperator;
 import org.apache.flink.streaming.runtime.streamrecord.StreamRecord;
@@ -29,38 +34,90 @@ import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 public class FlinkReporter extends AbstractStreamOperator<Void>
     implements OneInputStreamOperator<OptimizeTaskStat, Void> {
   private static final Logger LOG = LoggerFactory.getLogger(FlinkReporter.class);
   public static final String STATE_JOB_ID = "flink-job-id";
+  private static final String STATE_BUFFERED_STATS = "buffered-stats";
+  // max time a result is buffered before reported when reporting in batches
+  private static final long MAX_REPORT_DELAY = 1000; // 1s
+  // results of a batch failed to be handled by Ams are reported again
+  private static final int MAX_BATCH_REPORT_RETRY = 3;
+  private static final long BATCH_REPORT_RETRY_INTERVAL = 1000; // 1s
 
   private final BaseTaskReporter taskReporter;
   private final BaseToucher toucher;
   private final long heartBeatInterval;
+  private final int reportBatchSize;
+  private final List<OptimizeTaskStat> bufferedStats = new ArrayList<>();
   private volatile boolean stopped = false;
   private Thread thread;
+  private transient ListState<byte[]> bufferedStatsState;
 
   public FlinkReporter(BaseTaskReporter taskReporter, BaseToucher toucher, OptimizerConfig optimizerConfig) {
     this.taskReporter = taskReporter;
     this.toucher = toucher;
     this.heartBeatInterval = optimizerConfig.getHeartBeat();
+    this.reportBatchSize = optimizerConfig.getReportBatchSize();
+    this.taskReporter.setToucher(toucher);
   }
 
   public FlinkReporter(OptimizerConfig config) {
-    this.taskReporter = new BaseTaskReporter(config);
-    this.toucher = new BaseToucher(config);
-    this.heartBeatInterval = config.getHeartBeat();
+    this(new BaseTaskReporter(config), new BaseToucher(config), config);
+  }
+
+  @Override
+  public void initializeState(StateInitializationContext context) throws Exception {
+    super.initializeState(context);
+    this.bufferedStatsState = context.getOperatorStateStore().getListState(
+        new ListStateDescriptor<>(STATE_BUFFERED_STATS, byte[].class));
+    if (context.isRestored()) {
+      synchronized (bufferedStats) {
+        for (byte[] stat : bufferedStatsState.get()) {
+          bufferedStats.add(SerializationUtils.deserialize(stat));
+        }
+        LOG.info("restore {} buffered results", bufferedStats.size());
+      }
+    }
+  }
+
+  @Override
+  public void prepareSnapshotPreBarrier(long checkpointId) throws Exception {
+    super.prepareSnapshotPreBarrier(checkpointId);
+    flush();
+  }
+
+  @Override
+  public void snapshotState(StateSnapshotContext context) throws Exception {
+    super.snapshotState(context);
+    // results failed to be reported before the barrier are kept in state
+    List<byte[]> stats = new ArrayList<>();
+    synchronized (bufferedStats) {
+      for (OptimizeTaskStat stat : bufferedStats) {
+        stats.add(SerializationUtils.serialize(stat));
+      }
+    }
+    bufferedStatsState.update(stats);
   }
 
   @Override
   public void open() throws Exception {
     super.open();
+    long tickInterval = reportBatchSize > 1 ? Math.min(heartBeatInterval, MAX_REPORT_DELAY) : heartBeatInterval;
     this.thread = new Thread(() -> {
+      long lastTouchTime = System.currentTimeMillis();
       while (!stopped) {
         try {
-          Thread.sleep(heartBeatInterval);
+          Thread.sleep(tickInterval);
+          flush();
+          if (System.currentTimeMillis() - lastTouchTime < heartBeatInterval) {
+            continue;
+          }
+          lastTouchTime = System.currentTimeMillis();
           Map<String, String> state = Maps.newHashMap();
           try {
             String jobId = getContainingTask().getEnvironment().getJobID().toString();
@@ -82,6 +139,7 @@ public class FlinkReporter extends AbstractStreamOperator<Void>
 
   @Override
   public void close() throws Exception {
+    flush();
     super.close();
     stopped = true;
     if (thread != null) {
@@ -92,10 +150,43 @@ public class FlinkReporter extends AbstractStreamOperator<Void>
   @Override
   public void processElement(StreamRecord<OptimizeTaskStat> element) throws Exception {
     if (element.getValue() != null) {
+      if (reportBatchSize > 1) {
+        boolean full;
+        synchronized (bufferedStats) {
+          bufferedStats.add(element.getValue());
+          full = bufferedStats.size() >= reportBatchSize;
+        }
+        if (full) {
+          flush();
+        }
+        return;
+      }
       taskReporter.report(element.getValue());
       LOG.info("report success {}", element.getValue() == null ? null : element.getValue().getTaskId());
     } else {
       LOG.warn("get empty task stat");
     }
   }
+
+  private void flush() throws InterruptedException {
+    List<OptimizeTaskStat> toReport;
+    synchronized (bufferedStats) {
+      if (bufferedStats.isEmpty()) {
+        return;
+      }
+      toReport = new ArrayList<>(bufferedStats);
+      bufferedStats.clear();
+    }
+    List<OptimizeTaskStat> failedStats =
+        taskReporter.report(toReport, MAX_BATCH_REPORT_RETRY, BATCH_REPORT_RETRY_INTERVAL);
+    if (failedStats.isEmpty()) {
+      LOG.info("report success {} results", toReport.size());
+    } else {
+      // keep failed results in order to report them again in the next flush
+      synchronized (bufferedStats) {
+        bufferedStats.addAll(0, failedStats);
+      }
+      LOG.warn("failed to report {} results, report them again later", failedStats.size());
+    }
+  }
 }
@@ -29,7 +29,9 @@ import com.netease.arctic.optimizer.operator.BaseTaskConsumer;
 import com.netease.arctic.optimizer.operator.BaseTaskExecutor;
 import com.netease.arctic.optimizer.operator.BaseTaskReporter;
 import com.netease.arctic.optimizer.operator.BaseToucher;
+import com.netease.arctic.optimizer.util.MemoryGovernor;
 import com.netease.arctic.optimizer.util.OptimizerUtil;
+import com.netease.arctic.optimizer.util.WorkStealingPool;
 import org.kohsuke.args4j.CmdLineException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -63,8 +65,13 @@ public class LocalOptimizer implements StatefulOptimizer {
 
   private static final String STATE_JOB_ID = "local-job-id";
 
+  // share of the process memory governed in work-stealing mode, if not configured
+  private static final double WORK_STEALING_MEMORY_RATIO = 0.6;
+
   private ExecutorService executeThreadPool;
 
+  private WorkStealingPool workStealingPool;
+
   private ScheduledExecutorService toucherService;
 
   private volatile boolean stopped = false;
@@ -100,6 +107,16 @@ public class LocalOptimizer implements StatefulOptimizer {
       spillMapCmd = spillMapCmd + " -mm " + maxDeleteMemorySize;
     }
 
+    // work-stealing config
+    Boolean enableWorkStealing = groupProperties.getBoolean(OptimizerProperties.WORK_STEALING_ENABLE);
+    Long workStealingMemorySize = groupProperties.getLong(OptimizerProperties.WORK_STEALING_MEMORY_LIMIT);
+    if (enableWorkStealing != null) {
+      spillMapCmd = spillMapCmd + " -ws " + enableWorkStealing;
+    }
+    if (workStealingMemorySize != null) {
+      spillMapCmd = spillMapCmd + " -wm " + workStealingMemorySize;
+    }
+
     // add compact execute config
     String amsUrl;
     if (systemInfo.containsKey(OptimizerProperties.HA_ENABLE) && systemInfo.getBoolean(OptimizerProperties.HA_ENABLE)) {
@@ -178,20 +195,50 @@ public class LocalOptimizer implements StatefulOptimizer {
       throw new IllegalArgumentException("already init");
     }
     this.config = config;
-    this.consumer = new Consumer();
+    // heart beat is carried by poll requests if they are frequent enough
+    BaseToucher baseToucher = new BaseToucher(config);
+    this.consumer = new Consumer(baseToucher);
     this.pollTaskSemaphore = new Semaphore(1);
 
-    ThreadFactory executorFactory = new ThreadFactoryBuilder().setDaemon(false)
-        .setNameFormat("Executor %d").build();
-    executeThreadPool = Executors.newFixedThreadPool(config.getExecutorParallel(), executorFactory);
+    if (Boolean.parseBoolean(config.getEnableWorkStealing())) {
+      // tasks are polled by one thread, and executed by threads of the pool stealing sub-tasks from each other
+      workStealingPool = new WorkStealingPool(config.getExecutorParallel(),
+          new MemoryGovernor(getWorkStealingMemorySize()));
+      ThreadFactory pollerFactory = new ThreadFactoryBuilder().setDaemon(false)
+          .setNameFormat("Poller %d").build();
+      executeThreadPool = Executors.newSingleThreadExecutor(pollerFactory);
+      executeThreadPool.execute(new Poller());
+    } else {
+      ThreadFactory executorFactory = new ThreadFactoryBuilder().setDaemon(false)
+          .setNameFormat("Executor %d").build();
+      executeThreadPool = Executors.newFixedThreadPool(config.getExecutorParallel(), executorFactory);
+      executeThreadPool.execute(new Executor());
+    }
 
     ThreadFactory toucherFactory = new ThreadFactoryBuilder().setDaemon(false)
         .setNameFormat("Toucher %d").build();
     toucherService =
         Executors.newScheduledThreadPool(config.getExecutorParallel(), toucherFactory);
 
-    toucherService.scheduleAtFixedRate(new Toucher(), 3000, config.getHeartBeat(), TimeUnit.MILLISECONDS);
-    executeThreadPool.execute(new Executor());
+    toucherService.scheduleAtFixedRate(new Toucher(baseToucher), 3000, config.getHeartBeat(), TimeUnit.MILLISECONDS);
+  }
+
+  private long getWorkStealingMemorySize() {
+    long memorySize = config.getWorkStealingMemorySize() > 0 ? config.getWorkStealingMemorySize() :
+        (long) (config.getExecutorMemory() * WORK_STEALING_MEMORY_RATIO);
+    if (memorySize <= 0) {
+      return (long) (Runtime.getRuntime().maxMemory() * WORK_STEALING_MEMORY_RATIO);
+    }
+    return memorySize * 1024 * 1024;
+  }
+
+  private void executeAndReport(TaskWrapper task, BaseTaskExecutor baseTaskExecutor,
+                                BaseTaskReporter baseTaskReporter) throws InterruptedException {
+    LOG.info("get task to execute {}", task.getTask().getTaskId());
+    OptimizeTaskStat result = baseTaskExecutor.execute(task);
+    LOG.info("execute {} {}", result.getStatus(), task.getTask().getTaskId());
+    baseTaskReporter.report(result, 20, 10000);
+    LOG.info("report success {}", result.getTaskId());
   }
 
   public void release() {
@@ -199,6 +246,9 @@ public class LocalOptimizer implements StatefulOptimizer {
     if (executeThreadPool != null) {
       executeThreadPool.shutdownNow();
     }
+    if (workStealingPool != null) {
+      workStealingPool.shutdownNow();
+    }
     if (toucherService != null) {
       toucherService.shutdownNow();
     }
@@ -218,8 +268,9 @@ public class LocalOptimizer implements StatefulOptimizer {
 
     private final BaseTaskConsumer baseTaskConsumer;
 
-    public Consumer() {
+    public Consumer(BaseToucher toucher) {
       this.baseTaskConsumer = new BaseTaskConsumer(config);
+      this.baseTaskConsumer.setToucher(toucher);
     }
 
     public TaskWrapper pollTask() throws InterruptedException {
@@ -284,11 +335,7 @@ public class LocalOptimizer implements StatefulOptimizer {
           } finally {
             pollTaskSemaphore.release();
           }
-          LOG.info("get task to execute {}", task.getTask().getTaskId());
-          OptimizeTaskStat result = baseTaskExecutor.execute(task);
-          LOG.info("execute {} {}", result.getStatus(), task.getTask().getTaskId());
-          baseTaskReporter.report(result, 20, 10000);
-          LOG.info("report success {}", result.getTaskId());
+          executeAndReport(task, baseTaskExecutor, baseTaskReporter);
         } catch (InterruptedException e) {
           LOG.warn("execute interrupted");
           break;
@@ -300,12 +347,67 @@ public class LocalOptimizer implements StatefulOptimizer {
     }
   }
 
+  private class Poller implements Runnable {
+
+    private final BaseTaskExecutor baseTaskExecutor;
+
+    private final BaseTaskReporter baseTaskReporter;
+
+    // tasks polled and not finished yet, no more than the executor threads so tasks are not held waiting
+    private final Semaphore runningTasks;
+
+    public Poller() {
+      this.baseTaskExecutor = new BaseTaskExecutor(config);
+      this.baseTaskReporter = new BaseTaskReporter(config);
+      this.runningTasks = new Semaphore(config.getExecutorParallel());
+    }
+
+    @Override
+    public void run() {
+      while (!stopped) {
+        try {
+          runningTasks.acquire();
+          TaskWrapper task = null;
+          try {
+            task = consumer.pollTask();
+          } finally {
+            if (task == null) {
+              runningTasks.release();
+            }
+          }
+          if (task == null) {
+            continue;
+          }
+          TaskWrapper polledTask = task;
+          workStealingPool.execute(() -> {
+            try {
+              executeAndReport(polledTask, baseTaskExecutor, baseTaskReporter);
+            } catch (InterruptedException e) {
+              LOG.warn("execute interrupted");
+              Thread.currentThread().interrupt();
+            } catch (Throwable t) {
+              LOG.error("execute error, ignore", t);
+            } finally {
+              runningTasks.release();
+            }
+          });
+        } catch (InterruptedException e) {
+          LOG.warn("poll interrupted");
+          break;
+        } catch (Throwable t) {
+          LOG.error("poll error, ignore", t);
+        }
+      }
+      LOG.info("poll thread exit");
+    }
+  }
+
   private class Toucher implements Runnable {
 
     private final BaseToucher toucher;
 
-    public Toucher() {
-      this.toucher = new BaseToucher(config);
+    public Toucher(BaseToucher toucher) {
+      this.toucher = toucher;
     }
 
     @Override
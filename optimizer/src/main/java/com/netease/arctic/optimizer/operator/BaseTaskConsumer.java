@@ -23,26 +23,42 @@ import com.netease.arctic.ams.api.JobType;
 import com.netease.arctic.ams.api.NoSuchObjectException;
 import com.netease.arctic.ams.api.OptimizeManager;
 import com.netease.arctic.ams.api.OptimizeTask;
+import com.netease.arctic.ams.api.OptimizerStateReport;
 import com.netease.arctic.ams.api.client.OptimizeManagerClientPools;
 import com.netease.arctic.optimizer.OptimizerConfig;
 import com.netease.arctic.optimizer.TaskWrapper;
+import org.apache.thrift.TApplicationException;
 import org.apache.thrift.TException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.Serializable;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Consume task from Ams.
+ * <p>
+ * If poll batch size is configured larger than 1, tasks are polled in batches and buffered locally, the buffered tasks
+ * are consumed before polling from Ams again.
+ * <p>
+ * Tasks are polled by pollTasks, with which Ams sends files encoded by
+ * {@link com.netease.arctic.utils.ContentFileListCodec}. The legacy pollTask is only used with Ams not supporting
+ * pollTasks yet.
  */
 public class BaseTaskConsumer implements Serializable {
   private static final Logger LOG = LoggerFactory.getLogger(BaseTaskConsumer.class);
 
-  private static final long DEFAULT_POLL_WAIT_TIMEOUT = 10000; // 10s
+  public static final long DEFAULT_POLL_WAIT_TIMEOUT = 10000; // 10s
 
   private final OptimizerConfig config;
   private final JobId jobId;
+  private final Deque<TaskWrapper> bufferedTasks = new ArrayDeque<>();
+  private BaseToucher toucher;
+  private volatile boolean legacyPoll = false;
 
   public BaseTaskConsumer(OptimizerConfig config) {
     this.config = config;
@@ -51,6 +67,19 @@ public class BaseTaskConsumer implements Serializable {
     this.jobId.setType(JobType.Optimize);
   }
 
+  /**
+   * Carry the heart beat of toucher by poll requests.
+   *
+   * @param toucher -
+   */
+  public void setToucher(BaseToucher toucher) {
+    this.toucher = toucher;
+  }
+
+  public OptimizerConfig getConfig() {
+    return config;
+  }
+
   /**
    * poll task from Ams.
    *
@@ -66,9 +95,41 @@ public class BaseTaskConsumer implements Serializable {
    * @return - return null if got no task
    */
   public TaskWrapper pollTask(long timeout) throws TException {
-    int attemptId = Math.abs(ThreadLocalRandom.current().nextInt());
-    OptimizeTask task = pollTask(attemptId, timeout);
-    return task == null ? null : new TaskWrapper(task, attemptId);
+    return pollTask(timeout, config.getPollBatchSize());
+  }
+
+  /**
+   * poll task from Ams with timeout, claiming at most maxTasks tasks in one request.
+   *
+   * @return - return null if got no task
+   */
+  public synchronized TaskWrapper pollTask(long timeout, int maxTasks) throws TException {
+    if (bufferedTasks.isEmpty()) {
+      int attemptId = Math.abs(ThreadLocalRandom.current().nextInt());
+      if (!legacyPoll) {
+        List<OptimizeTask> tasks = pollTasks(attemptId, timeout, maxTasks);
+        for (OptimizeTask task : tasks) {
+          bufferedTasks.add(new TaskWrapper(task, attemptId));
+        }
+        if (tasks.size() > 1) {
+          LOG.info("poll {} tasks in one batch", tasks.size());
+        }
+      } else {
+        OptimizeTask task = pollTask(attemptId, timeout);
+        if (task != null) {
+          bufferedTasks.add(new TaskWrapper(task, attemptId));
+        }
+      }
+    }
+    return bufferedTasks.poll();
+  }
+
+  /**
+   * Whether tasks polled in a former batch are still buffered, they are returned by the next pollTask without
+   * requesting Ams.
+   */
+  public synchronized boolean hasBufferedTasks() {
+    return !bufferedTasks.isEmpty();
   }
 
   private OptimizeTask pollTask(int attemptId, long timeout) throws TException {
@@ -79,4 +140,30 @@ public class BaseTaskConsumer implements Serializable {
       return null;
     }
   }
+
+  private List<OptimizeTask> pollTasks(int attemptId, long timeout, int maxTasks) throws TException {
+    OptimizerStateReport heartBeat = toucher == null ? null : toucher.dueReport();
+    try {
+      OptimizeManager.Iface optimizeManager = OptimizeManagerClientPools.getClient(config.getAmsUrl());
+      List<OptimizeTask> tasks = optimizeManager.pollTasks(config.getQueueId(), jobId, attemptId + "",
+          maxTasks, config.getPollBatchBytes(), timeout, heartBeat);
+      if (heartBeat != null) {
+        toucher.touched();
+      }
+      return tasks;
+    } catch (NoSuchObjectException e) {
+      if (heartBeat != null) {
+        toucher.touched();
+      }
+      return Collections.emptyList();
+    } catch (TApplicationException e) {
+      if (e.getType() != TApplicationException.UNKNOWN_METHOD) {
+        throw e;
+      }
+      LOG.warn("Ams {} does not support pollTasks, poll tasks one by one", config.getAmsUrl());
+      legacyPoll = true;
+      OptimizeTask task = pollTask(attemptId, timeout);
+      return task == null ? Collections.emptyList() : Collections.singletonList(task);
+    }
+  }
 }
@@ -26,8 +26,6 @@ import com.netease.arctic.ams.api.OptimizeTask;
 import com.netease.arctic.ams.api.OptimizeTaskStat;
 import com.netease.arctic.ams.api.TableIdentifier;
 import com.netease.arctic.ams.api.properties.OptimizeTaskProperties;
-import com.netease.arctic.catalog.ArcticCatalog;
-import com.netease.arctic.catalog.CatalogLoader;
 import com.netease.arctic.data.DataTreeNode;
 import com.netease.arctic.data.file.ContentFileWithSequence;
 import com.netease.arctic.optimizer.OptimizerConfig;
@@ -38,8 +36,10 @@ import com.netease.arctic.optimizer.operator.executor.ExecutorFactory;
 import com.netease.arctic.optimizer.operator.executor.NodeTask;
 import com.netease.arctic.optimizer.operator.executor.OptimizeTaskResult;
 import com.netease.arctic.optimizer.operator.executor.TableIdentificationInfo;
+import com.netease.arctic.optimizer.util.TableCache;
 import com.netease.arctic.table.ArcticTable;
 import com.netease.arctic.table.TableProperties;
+import com.netease.arctic.utils.ContentFileListCodec;
 import com.netease.arctic.utils.SerializationUtils;
 import com.netease.arctic.utils.TableTypeUtil;
 import org.apache.commons.beanutils.BeanUtils;
@@ -50,9 +50,11 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.Serializable;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -77,13 +79,7 @@ public class BaseTaskExecutor implements Serializable {
   }
 
   private static ArcticTable buildTable(TableIdentificationInfo tableIdentifierInfo) {
-    String amsUrl = tableIdentifierInfo.getAmsUrl();
-    amsUrl = amsUrl.trim();
-    if (!amsUrl.endsWith("/")) {
-      amsUrl = amsUrl + "/";
-    }
-    ArcticCatalog arcticCatalog = CatalogLoader.load(amsUrl + tableIdentifierInfo.getTableIdentifier().getCatalog());
-    return arcticCatalog.loadTable(tableIdentifierInfo.getTableIdentifier());
+    return TableCache.loadTable(tableIdentifierInfo);
   }
 
   private static DataTreeNode toTreeNode(com.netease.arctic.ams.api.TreeNode treeNode) {
@@ -112,10 +108,10 @@ public class BaseTaskExecutor implements Serializable {
     long startTime = System.currentTimeMillis();
     NodeTask task;
     String amsUrl = config.getAmsUrl();
-    ArcticTable table = buildTable(
-        new TableIdentificationInfo(
-            amsUrl,
-            toTableIdentifier(sourceTask.getTask().getTableIdentifier())));
+    TableIdentificationInfo tableIdentificationInfo = new TableIdentificationInfo(
+        amsUrl,
+        toTableIdentifier(sourceTask.getTask().getTableIdentifier()));
+    ArcticTable table = buildTable(tableIdentificationInfo);
     LOG.info("start execute {}", sourceTask.getTask().getTaskId());
     try {
       task = constructTask(table, sourceTask.getTask(), sourceTask.getAttemptId());
@@ -142,6 +138,8 @@ public class BaseTaskExecutor implements Serializable {
       return constructFailedResult(task, timeoutException);
     } catch (Throwable t) {
       LOG.error("failed to execute task {}", task.getTaskId(), t);
+      // the cached table may be out of date, load it from catalog for the next task
+      TableCache.invalidate(tableIdentificationInfo);
       onTaskFailed(t);
       return constructFailedResult(task, t);
     } finally {
@@ -216,29 +214,31 @@ public class BaseTaskExecutor implements Serializable {
     return result.length() > 4000 ? result.substring(0, 4000) : result;
   }
 
+  private static List<ContentFileWithSequence<?>> decodeFiles(ByteBuffer encoded) {
+    return ContentFileListCodec.decode(encoded).stream()
+        .map(file -> (ContentFileWithSequence<?>) file)
+        .collect(Collectors.toList());
+  }
+
+  private static List<ContentFileWithSequence<?>> deserializeFiles(List<ByteBuffer> files, boolean icebergFormat) {
+    Function<ByteBuffer, ContentFileWithSequence<?>> deserializer =
+        icebergFormat ? SerializationUtils::toIcebergContentFile : SerializationUtils::toInternalTableFile;
+    return files.stream().map(deserializer).collect(Collectors.toList());
+  }
+
   private NodeTask constructTask(ArcticTable table, OptimizeTask task, int attemptId) {
-    NodeTask nodeTask;
-    if (TableTypeUtil.isIcebergTableFormat(table)) {
-      List<ContentFileWithSequence<?>> base =
-          task.getBaseFiles().stream().map(SerializationUtils::toIcebergContentFile).collect(Collectors.toList());
-      List<ContentFileWithSequence<?>> insert =
-          task.getInsertFiles().stream().map(SerializationUtils::toIcebergContentFile).collect(Collectors.toList());
-      List<ContentFileWithSequence<?>> eqDelete =
-          task.getDeleteFiles().stream().map(SerializationUtils::toIcebergContentFile).collect(Collectors.toList());
-      List<ContentFileWithSequence<?>> posDelete =
-          task.getPosDeleteFiles().stream().map(SerializationUtils::toIcebergContentFile).collect(Collectors.toList());
-      nodeTask = new NodeTask(base,insert, eqDelete, posDelete, false);
-    } else {
-      List<ContentFileWithSequence<?>> base =
-          task.getBaseFiles().stream().map(SerializationUtils::toInternalTableFile).collect(Collectors.toList());
-      List<ContentFileWithSequence<?>> insert =
-          task.getInsertFiles().stream().map(SerializationUtils::toInternalTableFile).collect(Collectors.toList());
-      List<ContentFileWithSequence<?>> eqDelete =
-          task.getDeleteFiles().stream().map(SerializationUtils::toInternalTableFile).collect(Collectors.toList());
-      List<ContentFileWithSequence<?>> posDelete =
-          task.getPosDeleteFiles().stream().map(SerializationUtils::toInternalTableFile).collect(Collectors.toList());
-      nodeTask = new NodeTask(base,insert, eqDelete, posDelete, true);
-    }
+    boolean icebergFormat = TableTypeUtil.isIcebergTableFormat(table);
+    List<ContentFileWithSequence<?>> base = task.isSetBaseFileList() ?
+        decodeFiles(task.bufferForBaseFileList()) : deserializeFiles(task.getBaseFiles(), icebergFormat);
+    List<ContentFileWithSequence<?>> insert = task.isSetInsertFileList() ?
+        decodeFiles(task.bufferForInsertFileList()) : deserializeFiles(task.getInsertFiles(), icebergFormat);
+    List<ContentFileWithSequence<?>> eqDelete = task.isSetDeleteFileList() ?
+        decodeFiles(task.bufferForDeleteFileList()) : deserializeFiles(task.getDeleteFiles(), icebergFormat);
+    List<ContentFileWithSequence<?>> posDelete = task.isSetPosDeleteFileList() ?
+        decodeFiles(task.bufferForPosDeleteFileList()) : deserializeFiles(task.getPosDeleteFiles(), icebergFormat);
+    NodeTask nodeTask = new NodeTask(base, insert, eqDelete, posDelete, !icebergFormat);
+    nodeTask.setFileListEncoded(task.isSetBaseFileList() || task.isSetInsertFileList() ||
+        task.isSetDeleteFileList() || task.isSetPosDeleteFileList());
 
     if (CollectionUtils.isNotEmpty(task.getSourceNodes())) {
       nodeTask.setSourceNodes(
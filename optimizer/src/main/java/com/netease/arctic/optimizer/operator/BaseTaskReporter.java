@@ -19,17 +19,29 @@
 package com.netease.arctic.optimizer.operator;
 
 import com.netease.arctic.ams.api.OptimizeManager;
+import com.netease.arctic.ams.api.OptimizeTaskId;
 import com.netease.arctic.ams.api.OptimizeTaskStat;
+import com.netease.arctic.ams.api.OptimizerStateReport;
 import com.netease.arctic.ams.api.client.OptimizeManagerClientPools;
 import com.netease.arctic.optimizer.OptimizerConfig;
+import org.apache.thrift.TApplicationException;
 import org.apache.thrift.TException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Report task execute result.
+ * <p>
+ * Results are reported in batches by reportOptimizeResults, the legacy reportOptimizeResult is only used with Ams
+ * not supporting reportOptimizeResults yet.
  */
 public class BaseTaskReporter implements Serializable {
   private static final Logger LOG = LoggerFactory.getLogger(BaseTaskReporter.class);
@@ -38,11 +50,22 @@ public class BaseTaskReporter implements Serializable {
   private static final int DEFAULT_RETRY_INTERVAL = 0;
 
   private final OptimizerConfig config;
+  private BaseToucher toucher;
+  private volatile boolean legacyReport = false;
 
   public BaseTaskReporter(OptimizerConfig config) {
     this.config = config;
   }
 
+  /**
+   * Carry the heart beat of toucher by batch report requests.
+   *
+   * @param toucher -
+   */
+  public void setToucher(BaseToucher toucher) {
+    this.toucher = toucher;
+  }
+
   /**
    * Report task execute result.
    *
@@ -77,6 +100,105 @@ public class BaseTaskReporter implements Serializable {
     }
   }
 
+  /**
+   * Report execute results of several tasks in one request.
+   *
+   * @param optimizeTaskStats -
+   * @return - true if success
+   */
+  public boolean report(List<OptimizeTaskStat> optimizeTaskStats) throws InterruptedException {
+    return report(optimizeTaskStats, DEFAULT_RETRY, DEFAULT_RETRY_INTERVAL).isEmpty();
+  }
+
+  /**
+   * Report execute results of several tasks in one request, with retry. Results failed to be handled by Ams are
+   * reported again.
+   *
+   * @param optimizeTaskStats -
+   * @return - results still not handled by Ams after all retries, empty if all results are handled
+   */
+  public List<OptimizeTaskStat> report(List<OptimizeTaskStat> optimizeTaskStats, int maxRetry, long retryInterval)
+      throws InterruptedException {
+    int retry = 0;
+    List<OptimizeTaskStat> toReport = optimizeTaskStats;
+    while (true) {
+      try {
+        toReport = reportResults(toReport);
+        if (toReport.isEmpty()) {
+          return toReport;
+        }
+        LOG.error("Ams failed to handle results, tasks: {}", taskIds(toReport));
+      } catch (Throwable t) {
+        LOG.error("failed to sending results, tasks: {}, ", taskIds(toReport), t);
+      }
+      if (retry++ < maxRetry) {
+        Thread.sleep(retryInterval);
+      } else {
+        return toReport;
+      }
+    }
+  }
+
+  /**
+   * Report results of tasks in one request.
+   *
+   * @param optimizeTaskStats -
+   * @return - results failed to be handled by Ams
+   */
+  private List<OptimizeTaskStat> reportResults(List<OptimizeTaskStat> optimizeTaskStats) throws TException {
+    if (legacyReport) {
+      return reportResultsOneByOne(optimizeTaskStats);
+    }
+    LOG.info("start reporting {} results: {}", optimizeTaskStats.size(), taskIds(optimizeTaskStats));
+    OptimizerStateReport heartBeat = toucher == null ? null : toucher.dueReport();
+    OptimizeManager.Iface compactManager = OptimizeManagerClientPools.getClient(config.getAmsUrl());
+    List<OptimizeTaskId> failedTasks;
+    try {
+      failedTasks = compactManager.reportOptimizeResults(optimizeTaskStats, heartBeat);
+    } catch (TApplicationException e) {
+      if (e.getType() != TApplicationException.UNKNOWN_METHOD) {
+        throw e;
+      }
+      LOG.warn("Ams {} does not support reportOptimizeResults, report results one by one", config.getAmsUrl());
+      legacyReport = true;
+      return reportResultsOneByOne(optimizeTaskStats);
+    }
+    if (heartBeat != null) {
+      toucher.touched();
+    }
+    if (failedTasks == null || failedTasks.isEmpty()) {
+      return Collections.emptyList();
+    }
+    Set<OptimizeTaskId> failedTaskIds = new HashSet<>(failedTasks);
+    return optimizeTaskStats.stream()
+        .filter(optimizeTaskStat -> failedTaskIds.contains(optimizeTaskStat.getTaskId()))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Report results of tasks one request for each, by the legacy reportOptimizeResult.
+   *
+   * @param optimizeTaskStats -
+   * @return - results failed to be reported
+   */
+  private List<OptimizeTaskStat> reportResultsOneByOne(List<OptimizeTaskStat> optimizeTaskStats) {
+    List<OptimizeTaskStat> failedStats = new ArrayList<>();
+    for (OptimizeTaskStat optimizeTaskStat : optimizeTaskStats) {
+      try {
+        reportResult(config.getAmsUrl(), optimizeTaskStat);
+      } catch (Throwable t) {
+        failedStats.add(optimizeTaskStat);
+      }
+    }
+    return failedStats;
+  }
+
+  private static List<String> taskIds(List<OptimizeTaskStat> optimizeTaskStats) {
+    return optimizeTaskStats.stream()
+        .map(optimizeTaskStat -> String.valueOf(optimizeTaskStat.getTaskId()))
+        .collect(Collectors.toList());
+  }
+
   private static void reportResult(String thriftUrl, OptimizeTaskStat optimizeTaskStat)
       throws TException {
     LOG.info("start reporting result: {}", printOptimizeTaskStat(optimizeTaskStat));
@@ -37,6 +37,9 @@ public class BaseToucher implements Serializable {
   private static final Map<String, String> EMPTY_STATE = Maps.newHashMap();
 
   private final OptimizerConfig config;
+  // latest state to report, and the last time the state is reported, by touch or carried by other requests
+  private transient volatile Map<String, String> lastState;
+  private transient volatile long lastTouchTime;
 
   public BaseToucher(OptimizerConfig config) {
     this.config = config;
@@ -52,6 +55,7 @@ public class BaseToucher implements Serializable {
 
   /**
    * Report state, with optimizerId.
+   * Skip reporting if the state has been carried by other requests within the heart beat interval.
    * @param state -
    * @return true if success
    */
@@ -60,11 +64,14 @@ public class BaseToucher implements Serializable {
       if (state == null) {
         state = EMPTY_STATE;
       }
+      lastState = state;
+      if (!heartBeatDue()) {
+        LOG.info("skip touch, state has been reported with other requests");
+        return true;
+      }
       OptimizeManager.Iface client = OptimizeManagerClientPools.getClient(config.getAmsUrl());
-      OptimizerStateReport report = new OptimizerStateReport();
-      report.optimizerId = Long.parseLong(config.getOptimizerId());
-      report.optimizerState = state;
-      client.reportOptimizerState(report);
+      client.reportOptimizerState(buildReport(state));
+      touched();
       LOG.info("touch {}", state);
       return true;
     } catch (Throwable t) {
@@ -72,4 +79,35 @@ public class BaseToucher implements Serializable {
       return false;
     }
   }
+
+  /**
+   * Build the state report to be carried by other requests like poll and report.
+   * @return null if heart beat is not due yet or there is no state to report
+   */
+  public OptimizerStateReport dueReport() {
+    Map<String, String> state = lastState;
+    if (state == null || !heartBeatDue()) {
+      return null;
+    }
+    return buildReport(state);
+  }
+
+  /**
+   * Mark the state reported, should be called after a request carried the report from {@link #dueReport()}.
+   */
+  public void touched() {
+    lastTouchTime = System.currentTimeMillis();
+  }
+
+  private boolean heartBeatDue() {
+    // half of the interval, so that the scheduled touch is not skipped by the last one because of scheduling delay
+    return System.currentTimeMillis() - lastTouchTime >= config.getHeartBeat() / 2;
+  }
+
+  private OptimizerStateReport buildReport(Map<String, String> state) {
+    OptimizerStateReport report = new OptimizerStateReport();
+    report.optimizerId = Long.parseLong(config.getOptimizerId());
+    report.optimizerState = state;
+    return report;
+  }
 }
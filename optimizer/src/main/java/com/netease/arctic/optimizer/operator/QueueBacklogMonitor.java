@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.optimizer.operator;
+
+import com.netease.arctic.ams.api.OptimizeManager;
+import com.netease.arctic.ams.api.client.OptimizeManagerClientPools;
+import com.netease.arctic.ams.api.properties.OptimizerProperties;
+import com.netease.arctic.optimizer.OptimizerConfig;
+import org.apache.thrift.TApplicationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Watch the backlog of the optimize queue, and decide how many consumers should poll tasks and how many tasks each
+ * of them should claim in one request.
+ * <p>
+ * At least min parallelism consumers keep polling even if the queue is empty, as polling also triggers planning in
+ * Ams. One more consumer is activated for every pending task, so that consumers of an idle optimizer stop polling
+ * and tasks are concentrated on the active ones. All consumers are active if the backlog is unknown.
+ */
+public class QueueBacklogMonitor {
+  private static final Logger LOG = LoggerFactory.getLogger(QueueBacklogMonitor.class);
+
+  private final OptimizerConfig config;
+  private volatile Map<String, Long> backlog = Collections.emptyMap();
+  private volatile boolean available = false;
+  // disabled if Ams does not support getQueueBacklog
+  private volatile boolean supported = true;
+  private long lastRefreshTime = 0;
+
+  public QueueBacklogMonitor(OptimizerConfig config) {
+    this.config = config;
+  }
+
+  /**
+   * Whether the parallelism should follow the backlog, disabled if min parallelism is not less than parallelism.
+   */
+  public boolean isElastic() {
+    return supported && config.getElasticMinParallelism() > 0 &&
+        config.getElasticMinParallelism() < config.getExecutorParallel();
+  }
+
+  /**
+   * Fetch the backlog from Ams if the refresh interval is reached.
+   */
+  public synchronized void refreshIfDue() {
+    if (!isElastic() || System.currentTimeMillis() - lastRefreshTime < config.getElasticBacklogInterval()) {
+      return;
+    }
+    lastRefreshTime = System.currentTimeMillis();
+    try {
+      OptimizeManager.Iface optimizeManager = OptimizeManagerClientPools.getClient(config.getAmsUrl());
+      backlog = optimizeManager.getQueueBacklog(config.getQueueId());
+      available = true;
+    } catch (TApplicationException e) {
+      LOG.warn("ams does not support queue backlog, keep all consumers active", e);
+      supported = false;
+      available = false;
+    } catch (Throwable t) {
+      LOG.warn("failed to get backlog of queue {}, keep all consumers active", config.getQueueId(), t);
+      available = false;
+    }
+  }
+
+  public long getPendingTasks() {
+    return backlog.getOrDefault(OptimizerProperties.QUEUE_BACKLOG_PENDING_TASKS, 0L);
+  }
+
+  public long getPendingBytes() {
+    return backlog.getOrDefault(OptimizerProperties.QUEUE_BACKLOG_PENDING_BYTES, 0L);
+  }
+
+  public long getWaitingPollers() {
+    return backlog.getOrDefault(OptimizerProperties.QUEUE_BACKLOG_WAITING_POLLERS, 0L);
+  }
+
+  /**
+   * Number of consumers which should poll tasks now, consumers with subtask index not less than it stay idle.
+   */
+  public int getActiveParallelism() {
+    if (!isElastic() || !available) {
+      return config.getExecutorParallel();
+    }
+    return activeParallelism(getPendingTasks(), config.getElasticMinParallelism(), config.getExecutorParallel());
+  }
+
+  /**
+   * Whether the consumer of the subtask should stop polling. A consumer beyond the active parallelism keeps running
+   * until its buffered tasks are handed out, otherwise tasks it claimed would be stranded until the backlog grows.
+   */
+  public boolean isIdle(int subtaskIndex, BaseTaskConsumer taskConsumer) {
+    return subtaskIndex >= getActiveParallelism() && !taskConsumer.hasBufferedTasks();
+  }
+
+  /**
+   * Max tasks an active consumer should claim in one poll request.
+   */
+  public int getClaimBatchSize() {
+    if (!isElastic() || !available) {
+      return config.getPollBatchSize();
+    }
+    return claimBatchSize(getPendingTasks(), getActiveParallelism(), config.getPollBatchSize());
+  }
+
+  public static int activeParallelism(long pendingTasks, int minParallelism, int parallelism) {
+    long active = Math.max(minParallelism, 1) + Math.max(pendingTasks, 0);
+    return (int) Math.min(active, parallelism);
+  }
+
+  /**
+   * Share the pending tasks among the active consumers, so that a consumer does not buffer tasks which an idle
+   * consumer could execute.
+   */
+  public static int claimBatchSize(long pendingTasks, int activeParallelism, int maxBatchSize) {
+    long share = (Math.max(pendingTasks, 0) + activeParallelism - 1) / Math.max(activeParallelism, 1);
+    return (int) Math.max(1, Math.min(share, maxBatchSize));
+  }
+}
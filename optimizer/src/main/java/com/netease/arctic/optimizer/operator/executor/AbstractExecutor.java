@@ -27,24 +27,30 @@ import com.netease.arctic.data.PrimaryKeyedFile;
 import com.netease.arctic.data.file.FileNameGenerator;
 import com.netease.arctic.optimizer.OptimizerConfig;
 import com.netease.arctic.optimizer.exception.TimeoutException;
+import com.netease.arctic.optimizer.util.MemoryGovernor;
+import com.netease.arctic.optimizer.util.WorkStealingPool;
 import com.netease.arctic.table.ArcticTable;
 import com.netease.arctic.table.TableProperties;
+import com.netease.arctic.utils.ContentFileListCodec;
 import com.netease.arctic.utils.SerializationUtils;
 import com.netease.arctic.utils.map.StructLikeCollections;
 import org.apache.commons.beanutils.BeanUtils;
 import org.apache.iceberg.ContentFile;
 import org.apache.iceberg.DeleteFile;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.util.PropertyUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.Closeable;
 import java.lang.reflect.InvocationTargetException;
-import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.OptionalLong;
+import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
 
 public abstract class AbstractExecutor implements Executor {
@@ -58,6 +64,7 @@ public abstract class AbstractExecutor implements Executor {
   protected double factor = 0.9;
 
   protected final StructLikeCollections structLikeCollections;
+  protected final ExecutorMetrics metrics = new ExecutorMetrics();
 
   public AbstractExecutor(NodeTask task, ArcticTable table, long startTime, OptimizerConfig config) {
     this.task = task;
@@ -88,13 +95,62 @@ public abstract class AbstractExecutor implements Executor {
     return 0;
   }
 
+  /**
+   * Run sub-tasks of this task, in the work-stealing pool running this task if any, otherwise one by one.
+   *
+   * @param subTasks sub-tasks independent of each other
+   * @return results of sub-tasks in order
+   */
+  protected <T> List<T> runSubTasks(List<Callable<T>> subTasks) throws Exception {
+    WorkStealingPool pool = WorkStealingPool.current();
+    if (pool != null && subTasks.size() > 1) {
+      return pool.invokeSubTasks(subTasks);
+    }
+    List<T> results = new ArrayList<>(subTasks.size());
+    for (Callable<T> subTask : subTasks) {
+      results.add(subTask.call());
+    }
+    return results;
+  }
+
+  /**
+   * Acquire memory from the governor of the work-stealing pool running this task, wait until it is available.
+   *
+   * @param bytes memory in bytes
+   * @return permit to close once the memory is freed, or null if not running in a work-stealing pool
+   */
+  protected MemoryGovernor.Permit acquireMemory(long bytes) throws InterruptedException {
+    WorkStealingPool pool = WorkStealingPool.current();
+    return pool == null ? null : pool.getMemoryGovernor().acquire(bytes);
+  }
+
+  /**
+   * Memory of the delete map built from delete files of given size, estimated by the size of files.
+   */
+  protected long deleteMapMemorySize(long deleteFileSize) {
+    if (Boolean.parseBoolean(config.getEnableSpillMap())) {
+      return Math.min(deleteFileSize, config.getMaxInMemorySize() * 1024 * 1024);
+    }
+    return deleteFileSize;
+  }
+
+  /**
+   * Memory buffered by a data writer, which holds at most a row group before flushed.
+   */
+  protected long writerMemorySize(long targetFileSize) {
+    long rowGroupSize = PropertyUtil.propertyAsLong(table.properties(),
+        org.apache.iceberg.TableProperties.PARQUET_ROW_GROUP_SIZE_BYTES,
+        org.apache.iceberg.TableProperties.PARQUET_ROW_GROUP_SIZE_BYTES_DEFAULT);
+    return Math.min(targetFileSize, rowGroupSize);
+  }
+
   protected OptimizeTaskResult buildOptimizeResult(Iterable<? extends ContentFile<?>> targetFiles)
       throws InvocationTargetException, IllegalAccessException {
     long totalFileSize = 0;
-    List<ByteBuffer> baseFileBytesList = new ArrayList<>();
+    List<ContentFile<?>> targetFileList = new ArrayList<>();
     for (ContentFile<?> targetFile : targetFiles) {
       totalFileSize += targetFile.fileSizeInBytes();
-      baseFileBytesList.add(SerializationUtils.toByteBuffer(targetFile));
+      targetFileList.add(targetFile);
     }
 
     OptimizeTaskStat optimizeTaskStat = new OptimizeTaskStat();
@@ -108,9 +164,20 @@ public abstract class AbstractExecutor implements Executor {
     optimizeTaskStat.setCostTime(System.currentTimeMillis() - startTime);
     optimizeTaskStat.setNewFileSize(totalFileSize);
     optimizeTaskStat.setReportTime(System.currentTimeMillis());
-    optimizeTaskStat.setFiles(baseFileBytesList);
+    if (task.isFileListEncoded()) {
+      // target files are always written into base store
+      Map<Integer, PartitionSpec> specs = table.isKeyedTable() ?
+          table.asKeyedTable().baseTable().specs() : table.asUnkeyedTable().specs();
+      optimizeTaskStat.setFiles(Collections.emptyList());
+      optimizeTaskStat.setFileList(ContentFileListCodec.encode(specs, targetFileList));
+    } else {
+      // Ams polled by the legacy pollTask only reads java serialized files
+      optimizeTaskStat.setFiles(targetFileList.stream().map(SerializationUtils::toByteBuffer)
+          .collect(Collectors.toList()));
+    }
     optimizeTaskStat.setTableIdentifier(task.getTableIdentifier().buildTableIdentifier());
     optimizeTaskStat.setTaskId(task.getTaskId());
+    optimizeTaskStat.setMetrics(metrics.toMap(targetFileList.size(), totalFileSize));
 
     OptimizeTaskResult result = new OptimizeTaskResult();
     result.setTargetFiles(targetFiles);
@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.optimizer.operator.executor;
+
+import com.netease.arctic.ams.api.properties.OptimizeTaskProperties;
+import com.netease.arctic.io.reader.DeleteFilterMetrics;
+import org.apache.iceberg.ContentFile;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters and timers of an optimize task, reported to Ams with the result of the task.
+ * <p>
+ * Sub-tasks of a task run in parallel share the metrics of the task, so all counters are thread-safe. Counters of
+ * rows deleted are collected only by executors reading through {@link DeleteFilterMetrics}.
+ */
+public class ExecutorMetrics {
+
+  private final LongAdder rowsWritten = new LongAdder();
+  private final LongAdder filesRead = new LongAdder();
+  private final LongAdder readBytes = new LongAdder();
+  private final LongAdder readNanos = new LongAdder();
+  private final LongAdder writeNanos = new LongAdder();
+  private volatile DeleteFilterMetrics deleteFilterMetrics;
+
+  /**
+   * Metrics of delete filters of this task, created on the first call.
+   */
+  public DeleteFilterMetrics deleteFilterMetrics() {
+    if (deleteFilterMetrics == null) {
+      synchronized (this) {
+        if (deleteFilterMetrics == null) {
+          deleteFilterMetrics = new DeleteFilterMetrics();
+        }
+      }
+    }
+    return deleteFilterMetrics;
+  }
+
+  public void filesRead(Collection<? extends ContentFile<?>> files) {
+    if (files == null) {
+      return;
+    }
+    for (ContentFile<?> file : files) {
+      filesRead.increment();
+      readBytes.add(file.fileSizeInBytes());
+    }
+  }
+
+  /**
+   * Record rows rewritten by a loop reading records and writing them.
+   *
+   * @param rows  rows written
+   * @param timer timer of the whole loop, the time not spent in the writer is taken as time of reading
+   */
+  public void rewritten(long rows, RewriteTimer timer) {
+    long writeNanos = timer.getWriteNanos();
+    this.rowsWritten.add(rows);
+    this.readNanos.add(Math.max(timer.getTotalNanos() - writeNanos, 0));
+    this.writeNanos.add(writeNanos);
+  }
+
+  public long getRowsWritten() {
+    return rowsWritten.sum();
+  }
+
+  public long getFilesRead() {
+    return filesRead.sum();
+  }
+
+  public long getReadBytes() {
+    return readBytes.sum();
+  }
+
+  public long getReadTime() {
+    return readNanos.sum() / 1_000_000;
+  }
+
+  public long getWriteTime() {
+    return writeNanos.sum() / 1_000_000;
+  }
+
+  /**
+   * Build metrics reported with OptimizeTaskStat.
+   *
+   * @param filesWritten target files
+   * @param writeBytes   size of target files
+   * @return metrics keyed by OptimizeTaskProperties.METRICS_*
+   */
+  public Map<String, Long> toMap(long filesWritten, long writeBytes) {
+    Map<String, Long> metrics = new HashMap<>();
+    metrics.put(OptimizeTaskProperties.METRICS_ROWS_WRITTEN, getRowsWritten());
+    metrics.put(OptimizeTaskProperties.METRICS_FILES_READ, getFilesRead());
+    metrics.put(OptimizeTaskProperties.METRICS_FILES_WRITTEN, filesWritten);
+    metrics.put(OptimizeTaskProperties.METRICS_READ_BYTES, getReadBytes());
+    metrics.put(OptimizeTaskProperties.METRICS_WRITE_BYTES, writeBytes);
+    metrics.put(OptimizeTaskProperties.METRICS_READ_TIME, getReadTime());
+    metrics.put(OptimizeTaskProperties.METRICS_WRITE_TIME, getWriteTime());
+    DeleteFilterMetrics filterMetrics = deleteFilterMetrics;
+    if (filterMetrics != null) {
+      metrics.put(OptimizeTaskProperties.METRICS_ROWS_READ, filterMetrics.getRowsRead());
+      metrics.put(OptimizeTaskProperties.METRICS_EQ_DELETED_ROWS, filterMetrics.getEqDeletedRows());
+      metrics.put(OptimizeTaskProperties.METRICS_POS_DELETED_ROWS, filterMetrics.getPosDeletedRows());
+      metrics.put(OptimizeTaskProperties.METRICS_DELETE_MAP_KEYS, filterMetrics.getDeleteMapKeys());
+      metrics.put(OptimizeTaskProperties.METRICS_DELETE_MAP_SPILLED_BYTES, filterMetrics.getDeleteMapSpilledBytes());
+      metrics.put(OptimizeTaskProperties.METRICS_DELETE_MAP_BUILD_TIME, filterMetrics.getDeleteMapBuildTime());
+      metrics.put(OptimizeTaskProperties.METRICS_POS_DELETES, filterMetrics.getPosDeletes());
+    }
+    return metrics;
+  }
+}
@@ -24,10 +24,12 @@ import com.netease.arctic.data.file.DeleteFileWithSequence;
 import com.netease.arctic.io.reader.GenericCombinedIcebergDataReader;
 import com.netease.arctic.io.writer.IcebergFanoutPosDeleteWriter;
 import com.netease.arctic.optimizer.OptimizerConfig;
+import com.netease.arctic.optimizer.util.MemoryGovernor;
 import com.netease.arctic.scan.CombinedIcebergScanTask;
 import com.netease.arctic.table.ArcticTable;
 import org.apache.iceberg.ContentFile;
 import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DeleteFile;
 import org.apache.iceberg.FileFormat;
 import org.apache.iceberg.MetadataColumns;
 import org.apache.iceberg.MetricsModes;
@@ -67,12 +69,20 @@ public class IcebergExecutor extends AbstractExecutor {
 
     List<? extends ContentFile<?>> targetFiles;
 
-    if (task.getOptimizeType().equals(OptimizeType.Minor) && task.icebergDataFiles().size() > 0) {
-      // optimize iceberg delete files only in minor process
-      targetFiles = table.io().doAs(this::optimizeDeleteFiles);
-    } else {
-      // optimize iceberg data files.
-      targetFiles = table.io().doAs(this::optimizeDataFiles);
+    // data and delete files of iceberg tables are merged together, so the task is not split into sub-tasks
+    long deleteFileSize = task.allIcebergDeleteFiles().stream().mapToLong(ContentFile::fileSizeInBytes).sum();
+    long targetFileSize = PropertyUtil.propertyAsLong(table.properties(),
+        com.netease.arctic.table.TableProperties.SELF_OPTIMIZING_TARGET_SIZE,
+        com.netease.arctic.table.TableProperties.SELF_OPTIMIZING_TARGET_SIZE_DEFAULT);
+    try (MemoryGovernor.Permit ignored =
+             acquireMemory(deleteMapMemorySize(deleteFileSize) + writerMemorySize(targetFileSize))) {
+      if (task.getOptimizeType().equals(OptimizeType.Minor) && task.icebergDataFiles().size() > 0) {
+        // optimize iceberg delete files only in minor process
+        targetFiles = table.io().doAs(this::optimizeDeleteFiles);
+      } else {
+        // optimize iceberg data files.
+        targetFiles = table.io().doAs(this::optimizeDataFiles);
+      }
     }
 
     return buildOptimizeResult(targetFiles);
@@ -103,13 +113,16 @@ public class IcebergExecutor extends AbstractExecutor {
         String.format("%s-%d", task.getTaskId().traceId, task.getAttemptId()));
 
     AtomicLong insertCount = new AtomicLong();
+    RewriteTimer timer = new RewriteTimer();
     try (CloseableIterator<Record> iterator = icebergDataReader.readDeleteData(buildIcebergScanTask()).iterator()) {
       while (iterator.hasNext()) {
         checkIfTimeout(icebergPosDeleteWriter);
         Record record = iterator.next();
         String filePath = (String) record.getField(MetadataColumns.FILE_PATH.name());
         Long rowPosition = (Long) record.getField(MetadataColumns.ROW_POSITION.name());
+        timer.beginWrite();
         icebergPosDeleteWriter.delete(filePath, rowPosition);
+        timer.endWrite();
 
         insertCount.incrementAndGet();
         if (insertCount.get() % SAMPLE_DATA_INTERVAL == 1) {
@@ -121,10 +134,16 @@ public class IcebergExecutor extends AbstractExecutor {
 
     LOG.info("task {} insert records number {}", task.getTaskId(), insertCount.get());
 
-    return icebergPosDeleteWriter.complete();
+    timer.beginFlush();
+    List<DeleteFile> targetFiles = icebergPosDeleteWriter.complete();
+    timer.endFlush();
+    metrics.rewritten(insertCount.get(), timer);
+    return targetFiles;
   }
 
   private CombinedIcebergScanTask buildIcebergScanTask() {
+    metrics.filesRead(task.allIcebergDataFiles());
+    metrics.filesRead(task.allIcebergDeleteFiles());
     return new CombinedIcebergScanTask(task.allIcebergDataFiles().toArray(new DataFileWithSequence[0]),
         task.allIcebergDeleteFiles().toArray(new DeleteFileWithSequence[0]),
         table.spec(), task.getPartition());
@@ -151,18 +170,23 @@ public class IcebergExecutor extends AbstractExecutor {
         .newDataWriter(outputFile, FileFormat.valueOf(formatAsString.toUpperCase()), task.getPartition());
 
     long insertCount = 0;
+    RewriteTimer timer = new RewriteTimer();
     try (CloseableIterator<Record> records =  icebergDataReader.readData(buildIcebergScanTask()).iterator()) {
       while (records.hasNext()) {
         checkIfTimeout(writer);
         if (writer.length() > targetSizeByBytes) {
+          timer.beginFlush();
           writer.close();
+          timer.endFlush();
           result.add(writer.toDataFile());
           outputFile = outputFileFactory.newOutputFile(task.getPartition());
           writer = appenderFactory
               .newDataWriter(outputFile, FileFormat.valueOf(formatAsString.toUpperCase()), task.getPartition());
         }
         Record record = records.next();
+        timer.beginWrite();
         writer.write(record);
+        timer.endWrite();
 
         insertCount++;
         if (insertCount % SAMPLE_DATA_INTERVAL == 1) {
@@ -173,9 +197,12 @@ public class IcebergExecutor extends AbstractExecutor {
     }
 
     if (writer.length() > 0) {
+      timer.beginFlush();
       writer.close();
+      timer.endFlush();
       result.add(writer.toDataFile());
     }
+    metrics.rewritten(insertCount, timer);
 
     LOG.info("task {} insert records number {}", task.getTaskId(), insertCount);
     return result;
@@ -25,6 +25,8 @@ import com.netease.arctic.data.PrimaryKeyedFile;
 import com.netease.arctic.hive.io.reader.AdaptHiveGenericArcticDataReader;
 import com.netease.arctic.hive.io.writer.AdaptHiveGenericTaskWriterBuilder;
 import com.netease.arctic.optimizer.OptimizerConfig;
+import com.netease.arctic.optimizer.util.MemoryGovernor;
+import com.netease.arctic.optimizer.util.WorkStealingPool;
 import com.netease.arctic.scan.ArcticFileScanTask;
 import com.netease.arctic.scan.BasicArcticFileScanTask;
 import com.netease.arctic.scan.KeyedTableScanTask;
@@ -42,14 +44,18 @@ import org.apache.iceberg.data.IdentityPartitionConverters;
 import org.apache.iceberg.data.Record;
 import org.apache.iceberg.io.CloseableIterator;
 import org.apache.iceberg.io.TaskWriter;
+import org.apache.iceberg.util.BinPacking;
 import org.apache.iceberg.util.PropertyUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
 
 public class MajorExecutor extends AbstractExecutor {
@@ -61,18 +67,44 @@ public class MajorExecutor extends AbstractExecutor {
 
   @Override
   public OptimizeTaskResult execute() throws Exception {
-    Iterable<DataFile> targetFiles;
     LOG.info("Start processing arctic table major optimize task: {}", task);
 
     Map<DataTreeNode, List<DeleteFile>> deleteFileMap = groupDeleteFilesByNode(task.posDeleteFiles());
     List<PrimaryKeyedFile> dataFiles = task.dataFiles();
     dataFiles.addAll(task.deleteFiles());
-    targetFiles = table.io().doAs(() -> {
-      CloseableIterator<Record> recordIterator =
-          openTask(dataFiles, deleteFileMap, table.schema(), task.getSourceNodes());
-      return optimizeTable(recordIterator);
-    });
+    // pos-delete files of a node are read by each sub-task rewriting its files, but only counted once for the task
+    dataFiles.stream()
+        .filter(file -> file.type() != DataFileType.EQ_DELETE_FILE)
+        .map(PrimaryKeyedFile::node)
+        .distinct()
+        .forEach(node -> metrics.filesRead(deleteFileMap.get(node)));
+    long targetFileSize = getTargetFileSize();
+    long deleteFileSize = task.deleteFiles().stream().mapToLong(DataFile::fileSizeInBytes).sum() +
+        task.posDeleteFiles().stream().mapToLong(DeleteFile::fileSizeInBytes).sum();
+    long memorySize = deleteMapMemorySize(deleteFileSize) + writerMemorySize(targetFileSize);
+
+    List<List<PrimaryKeyedFile>> fileGroups;
+    if (WorkStealingPool.current() != null && !table.isKeyedTable()) {
+      // records of unkeyed tables are not merged across files, so groups of files of the target size are rewritten
+      // by sub-tasks in parallel
+      fileGroups = new BinPacking.ListPacker<PrimaryKeyedFile>(targetFileSize, 1, false)
+          .pack(dataFiles, PrimaryKeyedFile::fileSizeInBytes);
+    } else {
+      fileGroups = Collections.singletonList(dataFiles);
+    }
+    List<Callable<Iterable<DataFile>>> subTasks = fileGroups.stream()
+        .map(fileGroup -> (Callable<Iterable<DataFile>>) () -> {
+          try (MemoryGovernor.Permit ignored = acquireMemory(memorySize)) {
+            return table.io().doAs(() -> {
+              CloseableIterator<Record> recordIterator =
+                  openTask(fileGroup, deleteFileMap, table.schema(), task.getSourceNodes());
+              return optimizeTable(recordIterator, targetFileSize);
+            });
+          }
+        }).collect(Collectors.toList());
 
+    List<DataFile> targetFiles = new ArrayList<>();
+    runSubTasks(subTasks).forEach(files -> files.forEach(targetFiles::add));
     return buildOptimizeResult(targetFiles);
   }
 
@@ -80,16 +112,20 @@ public class MajorExecutor extends AbstractExecutor {
   public void close() {
   }
 
-  private Iterable<DataFile> optimizeTable(CloseableIterator<Record> recordIterator) throws Exception {
+  private long getTargetFileSize() {
+    return PropertyUtil.propertyAsLong(table.properties(),
+        com.netease.arctic.table.TableProperties.SELF_OPTIMIZING_TARGET_SIZE,
+        com.netease.arctic.table.TableProperties.SELF_OPTIMIZING_TARGET_SIZE_DEFAULT);
+  }
+
+  private Iterable<DataFile> optimizeTable(CloseableIterator<Record> recordIterator, long targetFileSize)
+      throws Exception {
     Long transactionId;
     if (table.isKeyedTable()) {
       transactionId = getMaxTransactionId(task.dataFiles());
     } else {
       transactionId = null;
     }
-    long targetFileSize = PropertyUtil.propertyAsLong(table.properties(),
-        com.netease.arctic.table.TableProperties.SELF_OPTIMIZING_TARGET_SIZE,
-        com.netease.arctic.table.TableProperties.SELF_OPTIMIZING_TARGET_SIZE_DEFAULT);
     TaskWriter<Record> writer = AdaptHiveGenericTaskWriterBuilder.builderFor(table)
         .withTransactionId(transactionId)
         .withTaskId(task.getAttemptId())
@@ -98,12 +134,15 @@ public class MajorExecutor extends AbstractExecutor {
         .buildWriter(task.getOptimizeType() == OptimizeType.Major ?
             WriteOperationKind.MAJOR_OPTIMIZE : WriteOperationKind.FULL_OPTIMIZE);
     long insertCount = 0;
+    RewriteTimer timer = new RewriteTimer();
     try {
       while (recordIterator.hasNext()) {
         checkIfTimeout(writer);
 
         Record baseRecord = recordIterator.next();
+        timer.beginWrite();
         writer.write(baseRecord);
+        timer.endWrite();
         insertCount++;
         if (insertCount % SAMPLE_DATA_INTERVAL == 1) {
           LOG.info("task {} insert records number {} and data sampling {}",
@@ -116,7 +155,11 @@ public class MajorExecutor extends AbstractExecutor {
 
     LOG.info("task {} insert records number {}", task.getTaskId(), insertCount);
 
-    return Arrays.asList(writer.complete().dataFiles());
+    timer.beginFlush();
+    List<DataFile> targetFiles = Arrays.asList(writer.complete().dataFiles());
+    timer.endFlush();
+    metrics.rewritten(insertCount, timer);
+    return targetFiles;
   }
 
   private CloseableIterator<Record> openTask(List<PrimaryKeyedFile> dataFiles,
@@ -136,6 +179,7 @@ public class MajorExecutor extends AbstractExecutor {
         new AdaptHiveGenericArcticDataReader(table.io(), table.schema(), requiredSchema, primaryKeySpec,
         table.properties().get(TableProperties.DEFAULT_NAME_MAPPING), false,
         IdentityPartitionConverters::convertConstant, sourceNodes, false, structLikeCollections);
+    arcticDataReader.setDeleteFilterMetrics(metrics.deleteFilterMetrics());
 
     List<ArcticFileScanTask> fileScanTasks = dataFiles.stream()
         .map(file -> {
@@ -147,6 +191,7 @@ public class MajorExecutor extends AbstractExecutor {
           }
         })
         .collect(Collectors.toList());
+    metrics.filesRead(dataFiles);
 
     KeyedTableScanTask keyedTableScanTask = new NodeFileScanTask(fileScanTasks);
     LOG.info("start read data : {}", table.id());
@@ -25,6 +25,7 @@ import com.netease.arctic.hive.io.writer.AdaptHiveGenericTaskWriterBuilder;
 import com.netease.arctic.io.reader.BaseIcebergPosDeleteReader;
 import com.netease.arctic.io.writer.SortedPosDeleteWriter;
 import com.netease.arctic.optimizer.OptimizerConfig;
+import com.netease.arctic.optimizer.util.MemoryGovernor;
 import com.netease.arctic.scan.ArcticFileScanTask;
 import com.netease.arctic.scan.BasicArcticFileScanTask;
 import com.netease.arctic.scan.KeyedTableScanTask;
@@ -49,6 +50,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
@@ -61,7 +63,6 @@ public class MinorExecutor extends AbstractExecutor {
 
   @Override
   public OptimizeTaskResult execute() throws Exception {
-    List<DeleteFile> targetFiles = new ArrayList<>();
     LOG.info("Start processing arctic table minor optimize task: {}", task);
 
     Map<DataTreeNode, List<PrimaryKeyedFile>> dataFileMap = groupDataFilesByNode(task.dataFiles());
@@ -70,67 +71,92 @@ public class MinorExecutor extends AbstractExecutor {
 
     AtomicLong insertCount = new AtomicLong();
     Schema requiredSchema = new Schema(MetadataColumns.FILE_PATH, MetadataColumns.ROW_POSITION);
-    Types.StructType recordStruct = requiredSchema.asStruct();
+    long deleteMapMemorySize = deleteMapMemorySize(
+        task.deleteFiles().stream().mapToLong(PrimaryKeyedFile::fileSizeInBytes).sum());
+    // nodes are rewritten into their own pos-delete files, by sub-tasks in parallel
+    List<Callable<List<DeleteFile>>> subTasks = new ArrayList<>();
     for (Map.Entry<DataTreeNode, List<PrimaryKeyedFile>> nodeFileEntry : dataFileMap.entrySet()) {
       DataTreeNode treeNode = nodeFileEntry.getKey();
       List<PrimaryKeyedFile> dataFiles = nodeFileEntry.getValue();
       dataFiles.addAll(task.deleteFiles());
       List<DeleteFile> posDeleteList = deleteFileMap.get(treeNode);
+      subTasks.add(() -> {
+        try (MemoryGovernor.Permit ignored = acquireMemory(deleteMapMemorySize)) {
+          return optimizeNode(treeNode, dataFiles, posDeleteList, keyedTable, requiredSchema, insertCount);
+        }
+      });
+    }
+    List<DeleteFile> targetFiles = new ArrayList<>();
+    runSubTasks(subTasks).forEach(targetFiles::addAll);
+    LOG.info("task {} insert records number {}", task.getTaskId(), insertCount);
 
-      SortedPosDeleteWriter<Record> posDeleteWriter = AdaptHiveGenericTaskWriterBuilder.builderFor(keyedTable)
-          .withTransactionId(getMaxTransactionId(dataFiles))
-          .withTaskId(task.getAttemptId())
-          .buildBasePosDeleteWriter(treeNode.mask(), treeNode.index(), task.getPartition());
+    return buildOptimizeResult(targetFiles);
+  }
 
-      table.io().doAs(() -> {
+  private List<DeleteFile> optimizeNode(DataTreeNode treeNode, List<PrimaryKeyedFile> dataFiles,
+                                        List<DeleteFile> posDeleteList, KeyedTable keyedTable,
+                                        Schema requiredSchema, AtomicLong insertCount) throws Exception {
+    Types.StructType recordStruct = requiredSchema.asStruct();
+    SortedPosDeleteWriter<Record> posDeleteWriter = AdaptHiveGenericTaskWriterBuilder.builderFor(keyedTable)
+        .withTransactionId(getMaxTransactionId(dataFiles))
+        .withTaskId(task.getAttemptId())
+        .buildBasePosDeleteWriter(treeNode.mask(), treeNode.index(), task.getPartition());
+
+    RewriteTimer timer = new RewriteTimer();
+    table.io().doAs(() -> {
+
+      try (CloseableIterator<Record> iterator =
+               openTask(dataFiles, posDeleteList, requiredSchema, task.getSourceNodes())) {
+        while (iterator.hasNext()) {
+          checkIfTimeout(posDeleteWriter);
+
+          Record record = iterator.next();
+          String filePath = (String) record.get(recordStruct.fields()
+              .indexOf(recordStruct.field(MetadataColumns.FILE_PATH.name())));
+          Long rowPosition = (Long) record.get(recordStruct.fields()
+              .indexOf(recordStruct.field(MetadataColumns.ROW_POSITION.name())));
+          timer.beginWrite();
+          posDeleteWriter.delete(filePath, rowPosition);
+          timer.endWrite();
+          insertCount.incrementAndGet();
+          if (insertCount.get() % SAMPLE_DATA_INTERVAL == 1) {
+            LOG.info("task {} insert records number {} and data sampling path:{}, pos:{}",
+                task.getTaskId(), insertCount.get(), filePath, rowPosition);
+          }
+        }
+      }
+
+      return null;
+    });
 
-        try (CloseableIterator<Record> iterator =
-                 openTask(dataFiles, posDeleteList, requiredSchema, task.getSourceNodes())) {
-          while (iterator.hasNext()) {
+    // rewrite pos-delete content
+    if (CollectionUtils.isNotEmpty(posDeleteList)) {
+      BaseIcebergPosDeleteReader posDeleteReader = new BaseIcebergPosDeleteReader(table.io(), posDeleteList);
+      metrics.filesRead(posDeleteList);
+      table.io().doAs(() -> {
+        CloseableIterable<Record> posDeleteIterable = posDeleteReader.readDeletes();
+        try (CloseableIterator<Record> posDeleteIterator = posDeleteIterable.iterator()) {
+          while (posDeleteIterator.hasNext()) {
             checkIfTimeout(posDeleteWriter);
 
-            Record record = iterator.next();
-            String filePath = (String) record.get(recordStruct.fields()
-                .indexOf(recordStruct.field(MetadataColumns.FILE_PATH.name())));
-            Long rowPosition = (Long) record.get(recordStruct.fields()
-                .indexOf(recordStruct.field(MetadataColumns.ROW_POSITION.name())));
+            Record record = posDeleteIterator.next();
+            String filePath = posDeleteReader.readPath(record);
+            Long rowPosition = posDeleteReader.readPos(record);
+            timer.beginWrite();
             posDeleteWriter.delete(filePath, rowPosition);
-            insertCount.incrementAndGet();
-            if (insertCount.get() % SAMPLE_DATA_INTERVAL == 1) {
-              LOG.info("task {} insert records number {} and data sampling path:{}, pos:{}",
-                  task.getTaskId(), insertCount.get(), filePath, rowPosition);
-            }
+            timer.endWrite();
           }
         }
 
         return null;
       });
-
-      // rewrite pos-delete content
-      if (CollectionUtils.isNotEmpty(posDeleteList)) {
-        BaseIcebergPosDeleteReader posDeleteReader = new BaseIcebergPosDeleteReader(table.io(), posDeleteList);
-        table.io().doAs(() -> {
-          CloseableIterable<Record> posDeleteIterable = posDeleteReader.readDeletes();
-          try (CloseableIterator<Record> posDeleteIterator = posDeleteIterable.iterator()) {
-            while (posDeleteIterator.hasNext()) {
-              checkIfTimeout(posDeleteWriter);
-
-              Record record = posDeleteIterator.next();
-              String filePath = posDeleteReader.readPath(record);
-              Long rowPosition = posDeleteReader.readPos(record);
-              posDeleteWriter.delete(filePath, rowPosition);
-            }
-          }
-
-          return null;
-        });
-      }
-
-      targetFiles.addAll(posDeleteWriter.complete());
     }
-    LOG.info("task {} insert records number {}", task.getTaskId(), insertCount);
 
-    return buildOptimizeResult(targetFiles);
+    timer.beginFlush();
+    List<DeleteFile> targetFiles = posDeleteWriter.complete();
+    timer.endFlush();
+    metrics.rewritten(timer.getWrites(), timer);
+    return targetFiles;
   }
 
   @Override
@@ -158,6 +184,9 @@ public class MinorExecutor extends AbstractExecutor {
         new AdaptHiveGenericArcticDataReader(table.io(), table.schema(), requiredSchema,
             primaryKeySpec, table.properties().get(TableProperties.DEFAULT_NAME_MAPPING),
             false, IdentityPartitionConverters::convertConstant, sourceNodes, false, structLikeCollections);
+    arcticDataReader.setDeleteFilterMetrics(metrics.deleteFilterMetrics());
+    metrics.filesRead(dataFiles);
+    metrics.filesRead(posDeleteList);
     KeyedTableScanTask keyedTableScanTask = new NodeFileScanTask(fileScanTasks);
     return arcticDataReader.readDeletedData(keyedTableScanTask);
   }
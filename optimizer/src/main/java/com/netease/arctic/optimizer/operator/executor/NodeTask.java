@@ -59,6 +59,7 @@ public class NodeTask {
   private int attemptId;
   private String customHiveSubdirectory;
   private Long maxExecuteTime;
+  private boolean fileListEncoded;
 
   public NodeTask(List<ContentFileWithSequence<?>> baseFiles,
       List<ContentFileWithSequence<?>> insertFiles,
@@ -250,6 +251,18 @@ public class NodeTask {
     this.attemptId = attemptId;
   }
 
+  /**
+   * Whether files of the task were sent encoded by {@link com.netease.arctic.utils.ContentFileListCodec}, only Ams
+   * sending them so can read target files encoded the same way.
+   */
+  public boolean isFileListEncoded() {
+    return fileListEncoded;
+  }
+
+  public void setFileListEncoded(boolean fileListEncoded) {
+    this.fileListEncoded = fileListEncoded;
+  }
+
   public String getCustomHiveSubdirectory() {
     return customHiveSubdirectory;
   }
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.optimizer.operator.executor;
+
+/**
+ * Time a loop reading records and writing them, without calling System.nanoTime for every record.
+ * <p>
+ * Only one in {@link #SAMPLE_INTERVAL} writes is timed, the time of all writes is estimated from the sampled ones.
+ * Completing or closing writers is rare and costly, so it is timed in full by {@link #beginFlush()} and
+ * {@link #endFlush()}. A timer is used by one thread only.
+ */
+public class RewriteTimer {
+  static final int SAMPLE_INTERVAL = 128;
+
+  private final long startNanos = System.nanoTime();
+  private long writes;
+  private long sampledWrites;
+  private long sampledWriteNanos;
+  private long sampleStartNanos = -1;
+  private long flushStartNanos;
+  private long flushNanos;
+
+  public void beginWrite() {
+    if (writes++ % SAMPLE_INTERVAL == 0) {
+      sampleStartNanos = System.nanoTime();
+    }
+  }
+
+  public void endWrite() {
+    if (sampleStartNanos >= 0) {
+      sampledWriteNanos += System.nanoTime() - sampleStartNanos;
+      sampledWrites++;
+      sampleStartNanos = -1;
+    }
+  }
+
+  public void beginFlush() {
+    flushStartNanos = System.nanoTime();
+  }
+
+  public void endFlush() {
+    flushNanos += System.nanoTime() - flushStartNanos;
+  }
+
+  public long getWrites() {
+    return writes;
+  }
+
+  /**
+   * Time since the timer was created.
+   */
+  public long getTotalNanos() {
+    return System.nanoTime() - startNanos;
+  }
+
+  /**
+   * Estimated time of all writes plus the time of flushes.
+   */
+  public long getWriteNanos() {
+    long estimatedWriteNanos = sampledWrites == 0 ? 0 :
+        (long) ((double) sampledWriteNanos / sampledWrites * writes);
+    return estimatedWriteNanos + flushNanos;
+  }
+}
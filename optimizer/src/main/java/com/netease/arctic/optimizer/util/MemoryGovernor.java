@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.netease.arctic.optimizer.util;
+
+import java.io.Closeable;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Memory budget of an optimizer process, shared by the delete maps and writers of all running tasks.
+ * <p>
+ * Executors acquire the memory they are expected to use before opening readers and writers, and wait until other
+ * tasks release enough of it. Waiting workers of a {@link ForkJoinPool} are compensated by the pool, so other tasks
+ * keep running meanwhile.
+ */
+public class MemoryGovernor {
+  private final long capacity;
+  private long used;
+
+  /**
+   * @param capacity memory budget in bytes
+   */
+  public MemoryGovernor(long capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("memory capacity must be positive, but is " + capacity);
+    }
+    this.capacity = capacity;
+  }
+
+  /**
+   * Acquire memory, wait until it is available. A request larger than the capacity takes the whole budget.
+   *
+   * @param bytes memory in bytes
+   * @return permit to release the memory when closed
+   */
+  public Permit acquire(long bytes) throws InterruptedException {
+    long size = Math.min(Math.max(bytes, 0), capacity);
+    if (!tryAcquire(size)) {
+      ForkJoinPool.managedBlock(new Blocker(size));
+    }
+    return new Permit(size);
+  }
+
+  public long getCapacity() {
+    return capacity;
+  }
+
+  public synchronized long getUsed() {
+    return used;
+  }
+
+  private synchronized boolean tryAcquire(long size) {
+    if (used + size > capacity) {
+      return false;
+    }
+    used += size;
+    return true;
+  }
+
+  private synchronized void release(long size) {
+    used -= size;
+    notifyAll();
+  }
+
+  private class Blocker implements ForkJoinPool.ManagedBlocker {
+    private final long size;
+    private boolean acquired = false;
+
+    Blocker(long size) {
+      this.size = size;
+    }
+
+    @Override
+    public boolean block() throws InterruptedException {
+      synchronized (MemoryGovernor.this) {
+        while (!tryAcquire(size)) {
+          MemoryGovernor.this.wait();
+        }
+      }
+      acquired = true;
+      return true;
+    }
+
+    @Override
+    public boolean isReleasable() {
+      if (!acquired) {
+        acquired = tryAcquire(size);
+      }
+      return acquired;
+    }
+  }
+
+  /**
+   * Memory acquired from the governor, released once closed.
+   */
+  public class Permit implements Closeable {
+    private final long size;
+    private boolean released = false;
+
+    private Permit(long size) {
+      this.size = size;
+    }
+
+    public long size() {
+      return size;
+    }
+
+    @Override
+    public void close() {
+      if (!released) {
+        released = true;
+        release(size);
+      }
+    }
+  }
+}
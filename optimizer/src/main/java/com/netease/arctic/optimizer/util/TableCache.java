@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.optimizer.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.netease.arctic.catalog.ArcticCatalog;
+import com.netease.arctic.catalog.CatalogLoader;
+import com.netease.arctic.optimizer.operator.executor.TableIdentificationInfo;
+import com.netease.arctic.table.ArcticTable;
+import com.netease.arctic.table.KeyedTable;
+import org.apache.iceberg.HasTableOperations;
+import org.apache.iceberg.Table;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Catalogs and tables loaded by the optimizer process, shared by all executor threads of it.
+ * <p>
+ * A cached table is validated before reused by refreshing the table operations of its stores, which only read the
+ * table metadata again when the current metadata location has changed. Table meta of Ams like primary keys and
+ * locations is not refreshed, so tables are loaded again from the catalog {@link #TABLE_EXPIRE_MINUTES} after loaded.
+ */
+public class TableCache {
+  private static final Logger LOG = LoggerFactory.getLogger(TableCache.class);
+
+  private static final long CATALOG_EXPIRE_MINUTES = 10;
+  static final long TABLE_EXPIRE_MINUTES = 10;
+  private static final long TABLE_CACHE_SIZE = 256;
+
+  private static final Cache<String, ArcticCatalog> CATALOG_CACHE = Caffeine.newBuilder()
+      .expireAfterAccess(CATALOG_EXPIRE_MINUTES, TimeUnit.MINUTES)
+      .build();
+
+  private static final TableCache INSTANCE = new TableCache(TableCache::loadFromCatalog, Ticker.systemTicker());
+
+  private final Cache<TableIdentificationInfo, ArcticTable> tableCache;
+  private final Function<TableIdentificationInfo, ArcticTable> tableLoader;
+
+  TableCache(Function<TableIdentificationInfo, ArcticTable> tableLoader, Ticker ticker) {
+    this.tableLoader = tableLoader;
+    this.tableCache = Caffeine.newBuilder()
+        .maximumSize(TABLE_CACHE_SIZE)
+        .expireAfterWrite(TABLE_EXPIRE_MINUTES, TimeUnit.MINUTES)
+        .ticker(ticker)
+        .build();
+  }
+
+  /**
+   * Load the table from cache, or from the catalog if it is not cached or can't be refreshed.
+   *
+   * @param tableIdentificationInfo ams url and identifier of the table
+   * @return the arctic table with up-to-date metadata
+   */
+  public static ArcticTable loadTable(TableIdentificationInfo tableIdentificationInfo) {
+    return INSTANCE.load(tableIdentificationInfo);
+  }
+
+  /**
+   * Remove the table from cache, the table will be loaded from catalog next time.
+   */
+  public static void invalidate(TableIdentificationInfo tableIdentificationInfo) {
+    INSTANCE.remove(tableIdentificationInfo);
+  }
+
+  ArcticTable load(TableIdentificationInfo tableIdentificationInfo) {
+    ArcticTable cached = tableCache.getIfPresent(tableIdentificationInfo);
+    if (cached != null) {
+      try {
+        refresh(cached);
+        return cached;
+      } catch (Exception e) {
+        LOG.warn("failed to refresh cached table {}, load it again", tableIdentificationInfo, e);
+        tableCache.invalidate(tableIdentificationInfo);
+      }
+    }
+    return tableCache.get(tableIdentificationInfo, tableLoader);
+  }
+
+  void remove(TableIdentificationInfo tableIdentificationInfo) {
+    tableCache.invalidate(tableIdentificationInfo);
+  }
+
+  private static ArcticTable loadFromCatalog(TableIdentificationInfo tableIdentificationInfo) {
+    String amsUrl = tableIdentificationInfo.getAmsUrl().trim();
+    if (!amsUrl.endsWith("/")) {
+      amsUrl = amsUrl + "/";
+    }
+    String catalogUrl = amsUrl + tableIdentificationInfo.getTableIdentifier().getCatalog();
+    ArcticCatalog arcticCatalog = CATALOG_CACHE.get(catalogUrl, CatalogLoader::load);
+    LOG.info("load table {} from catalog", tableIdentificationInfo.getTableIdentifier());
+    return arcticCatalog.loadTable(tableIdentificationInfo.getTableIdentifier());
+  }
+
+  private static void refresh(ArcticTable table) {
+    if (table.isKeyedTable()) {
+      KeyedTable keyedTable = table.asKeyedTable();
+      refreshStore(keyedTable.baseTable());
+      if (keyedTable.changeTable() != null) {
+        refreshStore(keyedTable.changeTable());
+      }
+    } else {
+      refreshStore(table.asUnkeyedTable());
+    }
+  }
+
+  private static void refreshStore(Table store) {
+    // refresh operations directly rather than the table, to skip the extra work like syncing hive metadata
+    if (store instanceof HasTableOperations) {
+      ((HasTableOperations) store).operations().refresh();
+    } else {
+      store.refresh();
+    }
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.netease.arctic.optimizer.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+/**
+ * Executor threads of an optimizer process that steal work from each other.
+ * <p>
+ * Tasks polled from AMS run in this pool, and executors split a large task into sub-tasks by
+ * {@link #invokeSubTasks(List)}, so threads idle after finishing their own tasks help with the sub-tasks of others.
+ * Executors find the pool by {@link #current()}, and run tasks as a whole outside of it.
+ */
+public class WorkStealingPool extends ForkJoinPool {
+  private final MemoryGovernor memoryGovernor;
+
+  public WorkStealingPool(int parallelism, MemoryGovernor memoryGovernor) {
+    super(parallelism, pool -> {
+      ForkJoinWorkerThread worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+      worker.setName("Executor " + worker.getPoolIndex());
+      return worker;
+    }, null, false);
+    this.memoryGovernor = memoryGovernor;
+  }
+
+  /**
+   * Get the pool running the current thread.
+   *
+   * @return the pool, or null if the current thread is not a worker of any WorkStealingPool
+   */
+  public static WorkStealingPool current() {
+    ForkJoinPool pool = ForkJoinTask.getPool();
+    return pool instanceof WorkStealingPool ? (WorkStealingPool) pool : null;
+  }
+
+  public MemoryGovernor getMemoryGovernor() {
+    return memoryGovernor;
+  }
+
+  /**
+   * Run sub-tasks in the pool of the current worker, the current thread runs one of them and waits for the others,
+   * which are stolen by idle workers or run by the current thread in turn.
+   *
+   * @param subTasks sub-tasks, exceptions thrown are rethrown wrapped in RuntimeException
+   * @return results of sub-tasks in order
+   */
+  public <T> List<T> invokeSubTasks(List<Callable<T>> subTasks) {
+    List<ForkJoinTask<T>> forkJoinTasks = new ArrayList<>(subTasks.size());
+    for (Callable<T> subTask : subTasks) {
+      forkJoinTasks.add(ForkJoinTask.adapt(subTask));
+    }
+    ForkJoinTask.invokeAll(forkJoinTasks);
+    List<T> results = new ArrayList<>(forkJoinTasks.size());
+    for (ForkJoinTask<T> forkJoinTask : forkJoinTasks) {
+      results.add(forkJoinTask.join());
+    }
+    return results;
+  }
+}
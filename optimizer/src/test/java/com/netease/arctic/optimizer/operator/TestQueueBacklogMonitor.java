@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.optimizer.operator;
+
+import com.netease.arctic.ams.api.MockArcticMetastoreServer;
+import com.netease.arctic.ams.api.OptimizeTask;
+import com.netease.arctic.ams.api.OptimizeTaskId;
+import com.netease.arctic.ams.api.OptimizeType;
+import com.netease.arctic.ams.api.properties.OptimizerProperties;
+import com.netease.arctic.optimizer.OptimizerConfig;
+import com.netease.arctic.optimizer.TaskWrapper;
+import org.apache.thrift.TException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+
+public class TestQueueBacklogMonitor {
+
+  @Test
+  public void testActiveParallelism() {
+    // min parallelism keeps polling on an empty queue
+    Assert.assertEquals(2, QueueBacklogMonitor.activeParallelism(0, 2, 8));
+    Assert.assertEquals(1, QueueBacklogMonitor.activeParallelism(0, 0, 8));
+    Assert.assertEquals(5, QueueBacklogMonitor.activeParallelism(3, 2, 8));
+    Assert.assertEquals(8, QueueBacklogMonitor.activeParallelism(100, 2, 8));
+  }
+
+  @Test
+  public void testClaimBatchSize() {
+    Assert.assertEquals(1, QueueBacklogMonitor.claimBatchSize(0, 4, 10));
+    Assert.assertEquals(1, QueueBacklogMonitor.claimBatchSize(4, 4, 10));
+    Assert.assertEquals(3, QueueBacklogMonitor.claimBatchSize(9, 4, 10));
+    Assert.assertEquals(10, QueueBacklogMonitor.claimBatchSize(1000, 4, 10));
+  }
+
+  @Test
+  public void testNotElastic() {
+    OptimizerConfig config = new OptimizerConfig();
+    config.setExecutorParallel(4);
+    config.setPollBatchSize(5);
+    QueueBacklogMonitor monitor = new QueueBacklogMonitor(config);
+    Assert.assertFalse(monitor.isElastic());
+    Assert.assertEquals(4, monitor.getActiveParallelism());
+    Assert.assertEquals(5, monitor.getClaimBatchSize());
+
+    config.setElasticMinParallelism(4);
+    Assert.assertFalse(monitor.isElastic());
+
+    // backlog not fetched yet, all consumers are active
+    config.setElasticMinParallelism(1);
+    Assert.assertTrue(monitor.isElastic());
+    Assert.assertEquals(4, monitor.getActiveParallelism());
+  }
+
+  @Test
+  public void testIdleAfterBufferedTasks() throws TException {
+    MockArcticMetastoreServer ams = MockArcticMetastoreServer.getInstance();
+    MockArcticMetastoreServer.OptimizeManagerHandler optimizeManager = ams.optimizeManagerHandler();
+    OptimizerConfig config = new OptimizerConfig();
+    config.setAmsUrl(ams.getServerUrl());
+    config.setQueueId(1);
+    config.setExecutorParallel(2);
+    config.setPollBatchSize(3);
+    config.setElasticMinParallelism(1);
+    // fetch the backlog on every refresh
+    config.setElasticBacklogInterval(0);
+    QueueBacklogMonitor monitor = new QueueBacklogMonitor(config);
+    BaseTaskConsumer consumer = new BaseTaskConsumer(config);
+    int subtaskIndex = 1;
+    try {
+      for (int i = 0; i < 3; i++) {
+        OptimizeTask task = new OptimizeTask();
+        task.setTaskId(new OptimizeTaskId(OptimizeType.Minor, "task-" + i));
+        optimizeManager.offerTask(task);
+      }
+      optimizeManager.setQueueBacklog(
+          Collections.singletonMap(OptimizerProperties.QUEUE_BACKLOG_PENDING_TASKS, 3L));
+      monitor.refreshIfDue();
+      Assert.assertFalse(monitor.isIdle(subtaskIndex, consumer));
+      TaskWrapper task = consumer.pollTask(100, 3);
+      Assert.assertEquals("task-0", task.getTask().getTaskId().getTraceId());
+
+      // the queue is drained by the batch, the subtask is beyond the active parallelism now
+      optimizeManager.setQueueBacklog(
+          Collections.singletonMap(OptimizerProperties.QUEUE_BACKLOG_PENDING_TASKS, 0L));
+      monitor.refreshIfDue();
+      Assert.assertEquals(1, monitor.getActiveParallelism());
+      // but keeps handing out the tasks it claimed
+      Assert.assertTrue(consumer.hasBufferedTasks());
+      Assert.assertFalse(monitor.isIdle(subtaskIndex, consumer));
+      Assert.assertEquals("task-1", consumer.pollTask(100, 1).getTask().getTaskId().getTraceId());
+      Assert.assertEquals("task-2", consumer.pollTask(100, 1).getTask().getTaskId().getTraceId());
+      Assert.assertFalse(consumer.hasBufferedTasks());
+      Assert.assertTrue(monitor.isIdle(subtaskIndex, consumer));
+    } finally {
+      optimizeManager.cleanUp();
+    }
+  }
+}
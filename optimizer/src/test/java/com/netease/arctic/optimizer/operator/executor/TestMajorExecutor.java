@@ -20,6 +20,7 @@ package com.netease.arctic.optimizer.operator.executor;
 
 import com.google.common.collect.Iterables;
 import com.netease.arctic.ams.api.OptimizeTaskId;
+import com.netease.arctic.ams.api.OptimizeTaskStat;
 import com.netease.arctic.ams.api.OptimizeType;
 import com.netease.arctic.data.DataTreeNode;
 import com.netease.arctic.data.file.ContentFileWithSequence;
@@ -28,7 +29,10 @@ import com.netease.arctic.optimizer.util.ContentFileUtil;
 import com.netease.arctic.table.ArcticTable;
 import com.netease.arctic.table.TableProperties;
 import com.netease.arctic.table.UnkeyedTable;
+import com.netease.arctic.utils.ContentFileListCodec;
+import com.netease.arctic.utils.SerializationUtils;
 import org.apache.hadoop.fs.Path;
+import org.apache.iceberg.ContentFile;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -102,6 +106,32 @@ public class TestMajorExecutor extends TestBaseOptimizeBase {
     });
   }
 
+  @Test
+  public void testResultFilesOfPolledTask() throws Exception {
+    insertTableBaseDataFiles(testTable, null, baseDataFilesInfo);
+    String[] arg = new String[0];
+    OptimizerConfig optimizerConfig = new OptimizerConfig(arg);
+    optimizerConfig.setOptimizerId("UnitTest");
+
+    // task polled by the legacy pollTask reports java serialized files
+    NodeTask legacyTask = constructNodeTask(testTable, OptimizeType.Major);
+    OptimizeTaskStat legacyStat = new MajorExecutor(legacyTask, testTable, System.currentTimeMillis(),
+        optimizerConfig).execute().getOptimizeTaskStat();
+    Assert.assertFalse(legacyStat.isSetFileList());
+    Assert.assertEquals(1, legacyStat.getFiles().size());
+    Assert.assertEquals(1000, SerializationUtils.toContentFile(legacyStat.getFiles().get(0)).recordCount());
+
+    // task polled with encoded file lists reports files encoded the same way
+    NodeTask encodedTask = constructNodeTask(testTable, OptimizeType.Major);
+    encodedTask.setFileListEncoded(true);
+    OptimizeTaskStat encodedStat = new MajorExecutor(encodedTask, testTable, System.currentTimeMillis(),
+        optimizerConfig).execute().getOptimizeTaskStat();
+    Assert.assertTrue(encodedStat.getFiles().isEmpty());
+    List<ContentFile<?>> encodedFiles = ContentFileListCodec.decode(encodedStat.bufferForFileList());
+    Assert.assertEquals(1, encodedFiles.size());
+    Assert.assertEquals(1000, encodedFiles.get(0).recordCount());
+  }
+
   @Test
   public void testNoPartitionTableMajorExecutor() throws Exception {
     insertBasePosDeleteFiles(testNoPartitionTable, 2L, baseDataFilesInfo, posDeleteFilesInfo);
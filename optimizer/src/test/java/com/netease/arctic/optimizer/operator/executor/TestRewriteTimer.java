@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.netease.arctic.optimizer.operator.executor;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+public class TestRewriteTimer {
+
+  @Test
+  public void testSampledWrites() throws InterruptedException {
+    RewriteTimer timer = new RewriteTimer();
+    int writes = RewriteTimer.SAMPLE_INTERVAL * 2 + 1;
+    for (int i = 0; i < writes; i++) {
+      timer.beginWrite();
+      // only the sampled writes are timed, so make every write take the same time
+      TimeUnit.MICROSECONDS.sleep(10);
+      timer.endWrite();
+    }
+    Assert.assertEquals(writes, timer.getWrites());
+    // 3 writes sampled, each taking at least 10us
+    Assert.assertTrue(timer.getWriteNanos() >= writes * TimeUnit.MICROSECONDS.toNanos(10));
+
+    long writeNanos = timer.getWriteNanos();
+    timer.beginFlush();
+    TimeUnit.MILLISECONDS.sleep(10);
+    timer.endFlush();
+    Assert.assertTrue(timer.getWriteNanos() - writeNanos >= TimeUnit.MILLISECONDS.toNanos(10));
+  }
+}
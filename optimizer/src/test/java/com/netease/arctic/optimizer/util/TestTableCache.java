@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.netease.arctic.optimizer.util;
+
+import com.netease.arctic.TableTestBase;
+import com.netease.arctic.optimizer.operator.executor.TableIdentificationInfo;
+import com.netease.arctic.table.ArcticTable;
+import com.netease.arctic.table.UnkeyedTable;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TestTableCache extends TableTestBase {
+  private final AtomicLong nanos = new AtomicLong();
+  private final AtomicInteger loadTimes = new AtomicInteger();
+  private final Queue<ArcticTable> tablesToLoad = new LinkedList<>();
+  private final TableCache tableCache = new TableCache(info -> {
+    loadTimes.incrementAndGet();
+    return tablesToLoad.isEmpty() ? testTable : tablesToLoad.poll();
+  }, nanos::get);
+  private final TableIdentificationInfo tableInfo = new TableIdentificationInfo("thrift://127.0.0.1:1260", TABLE_ID);
+
+  @Test
+  public void testLoadCachedTable() {
+    Assert.assertSame(testTable, tableCache.load(tableInfo));
+    testTable.updateProperties().set("test.key", "v1").commit();
+    ArcticTable cached = tableCache.load(tableInfo);
+    Assert.assertSame(testTable, cached);
+    Assert.assertEquals(1, loadTimes.get());
+    // metadata of the cached table is refreshed
+    Assert.assertEquals("v1", cached.properties().get("test.key"));
+  }
+
+  @Test
+  public void testLoadAgainWhenRefreshFailed() {
+    tablesToLoad.add(brokenTable());
+    Assert.assertNotSame(testTable, tableCache.load(tableInfo));
+    Assert.assertSame(testTable, tableCache.load(tableInfo));
+    Assert.assertEquals(2, loadTimes.get());
+    Assert.assertSame(testTable, tableCache.load(tableInfo));
+    Assert.assertEquals(2, loadTimes.get());
+  }
+
+  @Test
+  public void testInvalidate() {
+    tableCache.load(tableInfo);
+    tableCache.remove(tableInfo);
+    tableCache.load(tableInfo);
+    Assert.assertEquals(2, loadTimes.get());
+  }
+
+  @Test
+  public void testExpireAfterLoaded() {
+    tableCache.load(tableInfo);
+    // accessing the table does not keep it in cache
+    nanos.addAndGet(TimeUnit.MINUTES.toNanos(TableCache.TABLE_EXPIRE_MINUTES - 1));
+    tableCache.load(tableInfo);
+    Assert.assertEquals(1, loadTimes.get());
+    nanos.addAndGet(TimeUnit.MINUTES.toNanos(1));
+    tableCache.load(tableInfo);
+    Assert.assertEquals(2, loadTimes.get());
+  }
+
+  private static ArcticTable brokenTable() {
+    return (ArcticTable) Proxy.newProxyInstance(TestTableCache.class.getClassLoader(),
+        new Class<?>[] {UnkeyedTable.class}, (proxy, method, args) -> {
+          switch (method.getName()) {
+            case "isKeyedTable":
+              return false;
+            case "hashCode":
+              return System.identityHashCode(proxy);
+            case "equals":
+              return proxy == args[0];
+            default:
+              throw new IllegalStateException("table is broken");
+          }
+        });
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.netease.arctic.optimizer.util;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TestWorkStealingPool {
+  private final MemoryGovernor memoryGovernor = new MemoryGovernor(100);
+  private final WorkStealingPool pool = new WorkStealingPool(2, memoryGovernor);
+
+  @After
+  public void shutdown() {
+    pool.shutdownNow();
+  }
+
+  @Test
+  public void testInvokeSubTasks() throws Exception {
+    Assert.assertNull(WorkStealingPool.current());
+    List<Integer> results = pool.submit(() -> {
+      Assert.assertSame(pool, WorkStealingPool.current());
+      List<Callable<Integer>> subTasks = new ArrayList<>();
+      for (int i = 0; i < 10; i++) {
+        int value = i;
+        subTasks.add(() -> value * value);
+      }
+      return pool.invokeSubTasks(subTasks);
+    }).get(10, TimeUnit.SECONDS);
+    Assert.assertEquals(10, results.size());
+    for (int i = 0; i < 10; i++) {
+      Assert.assertEquals(i * i, (int) results.get(i));
+    }
+  }
+
+  @Test
+  public void testMemoryGoverned() throws Exception {
+    AtomicLong maxUsed = new AtomicLong();
+    List<Long> results = pool.submit(() -> {
+      List<Callable<Long>> subTasks = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        // requests larger than the capacity take the whole budget
+        long size = 60 + 20L * (i % 4);
+        subTasks.add(() -> {
+          try (MemoryGovernor.Permit permit = memoryGovernor.acquire(size)) {
+            maxUsed.accumulateAndGet(memoryGovernor.getUsed(), Math::max);
+            Thread.sleep(10);
+            return permit.size();
+          }
+        });
+      }
+      return pool.invokeSubTasks(subTasks);
+    }).get(10, TimeUnit.SECONDS);
+    Assert.assertEquals(8, results.size());
+    Assert.assertEquals(100L, (long) results.get(3));
+    Assert.assertTrue(maxUsed.get() <= memoryGovernor.getCapacity());
+    Assert.assertEquals(0, memoryGovernor.getUsed());
+  }
+}
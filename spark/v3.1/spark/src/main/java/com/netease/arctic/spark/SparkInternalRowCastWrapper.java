@@ -123,6 +123,17 @@ public class SparkInternalRowCastWrapper extends GenericInternalRow {
     this.isMerge = false;
   }
 
+  private SparkInternalRowCastWrapper(SparkInternalRowCastWrapper other) {
+    this.row = other.row == null ? null : other.row.copy();
+    this.schema = other.schema;
+    this.middle = other.middle;
+    this.isDelete = other.isDelete;
+    this.isMerge = other.isMerge;
+    this.isKeyedTable = other.isKeyedTable;
+    this.changeAction = other.changeAction;
+    this.dataTypeList = other.dataTypeList;
+  }
+
   private boolean isUpsertRow(InternalRow row, StructType schema) {
     for (int i = 0; i < schema.size() / 2; i++) {
       if (!row.isNullAt(i)) {
@@ -340,9 +351,12 @@ public class SparkInternalRowCastWrapper extends GenericInternalRow {
     return super.toString();
   }
 
+  /**
+   * Copy the wrapped row, the copy is still a wrapper with the same change action.
+   */
   @Override
   public GenericInternalRow copy() {
-    return super.copy();
+    return new SparkInternalRowCastWrapper(this);
   }
 
   @Override
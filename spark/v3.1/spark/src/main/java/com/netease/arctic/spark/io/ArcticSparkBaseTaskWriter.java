@@ -56,4 +56,9 @@ public class ArcticSparkBaseTaskWriter extends BaseTaskWriter<InternalRow> {
   protected StructLike asStructLike(InternalRow data) {
     return new SparkInternalRowWrapper(structType).wrap(data);
   }
+
+  @Override
+  protected InternalRow copy(InternalRow row) {
+    return row.copy();
+  }
 }
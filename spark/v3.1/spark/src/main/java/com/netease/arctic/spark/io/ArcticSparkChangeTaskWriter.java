@@ -43,6 +43,12 @@ public class ArcticSparkChangeTaskWriter extends ChangeTaskWriter<InternalRow> {
     return new SparkInternalRowWrapper(SparkSchemaUtil.convert(schema)).wrap(data);
   }
 
+  @Override
+  protected InternalRow copy(InternalRow row) {
+    // rows are SparkInternalRowCastWrapper, whose copy keeps the change action
+    return row.copy();
+  }
+
   @Override
   protected InternalRow appendMetaColumns(InternalRow data, Long fileOffset) {
     SparkInternalRowCastWrapper row = (SparkInternalRowCastWrapper) data;
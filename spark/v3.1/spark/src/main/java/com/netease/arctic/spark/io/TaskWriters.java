@@ -146,10 +146,12 @@ public class TaskWriters {
           encryptionManager, partitionId, taskId, transactionId);
     }
 
-    return new ArcticSparkBaseTaskWriter(
+    ArcticSparkBaseTaskWriter writer = new ArcticSparkBaseTaskWriter(
         fileFormat, appenderFactory,
         outputFileFactory, table.io(), fileSize, mask, schema,
         table.spec(), primaryKeySpec, orderedWriter);
+    writer.limitOpenWriters(table.properties());
+    return writer;
   }
 
   public ChangeTaskWriter<InternalRow> newChangeWriter() {
@@ -180,9 +182,11 @@ public class TaskWriters {
         changeLocation, table.spec(), fileFormat, table.io(),
         encryptionManager, partitionId, taskId, transactionId);
 
-    return new ArcticSparkChangeTaskWriter(fileFormat, appenderFactory,
+    ArcticSparkChangeTaskWriter writer = new ArcticSparkChangeTaskWriter(fileFormat, appenderFactory,
         outputFileFactory,
         table.io(), fileSize, mask, schema, table.spec(), primaryKeySpec, orderedWriter);
+    writer.limitOpenWriters(table.properties());
+    return writer;
   }
 
   public TaskWriter<InternalRow> newUnkeyedUpsertWriter() {